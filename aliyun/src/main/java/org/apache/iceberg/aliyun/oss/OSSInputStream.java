@@ -22,9 +22,16 @@ import com.aliyun.oss.OSS;
 import com.aliyun.oss.model.GetObjectRequest;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
@@ -34,7 +41,7 @@ import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class OSSInputStream extends SeekableInputStream {
+class OSSInputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(OSSInputStream.class);
   private static final int SKIP_SIZE = 1024 * 1024;
 
@@ -104,6 +111,47 @@ class OSSInputStream extends SeekableInputStream {
     return bytesRead;
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    GetObjectRequest request =
+        new GetObjectRequest(uri.bucket(), uri.key()).withRange(position, position + length - 1);
+    try (InputStream rangeStream = client.getObject(request).getObjectContent()) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
+
+    readBytes.increment(length);
+    readOperations.increment();
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    // a range with start -1 requests the last bytes of the object
+    GetObjectRequest request = new GetObjectRequest(uri.bucket(), uri.key()).withRange(-1, length);
+    int bytesRead;
+    try (InputStream rangeStream = client.getObject(request).getObjectContent()) {
+      bytesRead = IOUtil.readRemaining(rangeStream, buffer, offset, length);
+    }
+
+    readBytes.increment(bytesRead);
+    readOperations.increment();
+
+    return bytesRead;
+  }
+
+  /**
+   * Reads ranges by combining nearby ranges into a single ranged GET and issuing the requests in
+   * parallel.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return VectoredReads.readVectored(ranges, this::readFully);
+  }
+
   @Override
   public void close() throws IOException {
     if (closed) {
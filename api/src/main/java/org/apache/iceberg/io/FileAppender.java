@@ -42,6 +42,15 @@ public interface FileAppender<D> extends Closeable {
   /** Returns the length of this file. */
   long length();
 
+  /**
+   * Returns the number of bytes buffered in memory that were not flushed to the file yet.
+   *
+   * <p>Appenders that write rows through to the output stream return 0.
+   */
+  default long bufferedSize() {
+    return 0L;
+  }
+
   /**
    * Returns a list of recommended split locations, if applicable, null otherwise.
    *
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.Objects;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/** A range of bytes in a file, used for vectored reads with {@link RangeReadable}. */
+public class FileRange {
+  private final long offset;
+  private final int length;
+
+  public FileRange(long offset, int length) {
+    Preconditions.checkArgument(offset >= 0, "Invalid offset: %s (must be >= 0)", offset);
+    Preconditions.checkArgument(length >= 0, "Invalid length: %s (must be >= 0)", length);
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /** Returns the position of the first byte of the range. */
+  public long offset() {
+    return offset;
+  }
+
+  /** Returns the number of bytes in the range. */
+  public int length() {
+    return length;
+  }
+
+  /** Returns the position after the last byte of the range. */
+  public long end() {
+    return offset + length;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+
+    FileRange that = (FileRange) other;
+    return offset == that.offset && length == that.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, length);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("offset", offset).add("length", length).toString();
+  }
+}
@@ -20,6 +20,10 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +81,32 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Read a list of ranges from the input source.
+   *
+   * <p>Implementations may combine nearby ranges into a single request and read ranges in
+   * parallel. The default implementation reads each range with {@link #readFully(long, byte[],
+   * int, int)}, in order, before returning.
+   *
+   * @param ranges the ranges to read
+   * @return a future for the content of each range, in the same order as the ranges
+   */
+  default List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    List<CompletableFuture<ByteBuffer>> results = Lists.newArrayListWithExpectedSize(ranges.size());
+    for (FileRange range : ranges) {
+      CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+      try {
+        byte[] buffer = new byte[range.length()];
+        readFully(range.offset(), buffer, 0, range.length());
+        result.complete(ByteBuffer.wrap(buffer));
+      } catch (IOException | RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+
+      results.add(result);
+    }
+
+    return results;
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.arrow.vector.complex.MapVector;
 import org.apache.arrow.vector.types.DateUnit;
 import org.apache.arrow.vector.types.FloatingPointPrecision;
 import org.apache.arrow.vector.types.TimeUnit;
@@ -129,7 +130,10 @@ public class ArrowSchemaUtil {
         arrowType = new ArrowType.Map(false);
         List<Field> entryFields = Lists.transform(mapType.fields(), ArrowSchemaUtil::convert);
         Field entry =
-            new Field("", new FieldType(field.isOptional(), arrowType, null), entryFields);
+            new Field(
+                MapVector.DATA_VECTOR_NAME,
+                new FieldType(false, ArrowType.Struct.INSTANCE, null),
+                entryFields);
         children.add(entry);
         break;
       default:
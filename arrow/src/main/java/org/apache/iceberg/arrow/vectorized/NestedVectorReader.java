@@ -0,0 +1,667 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.parquet.ColumnIterator;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * A {@link VectorizedArrowReader} that reads a struct, list or map column into an Arrow {@link
+ * StructVector}, {@link ListVector} or {@link MapVector}.
+ *
+ * <p>Each row is assembled from the repetition and definition levels of the leaf columns, like the
+ * row-based Parquet readers assemble nested values, but values are written directly into the child
+ * vectors instead of being materialized as objects.
+ */
+class NestedVectorReader extends VectorizedArrowReader {
+  private final Types.NestedField icebergField;
+  private final ValueReader reader;
+  private final BufferAllocator allocator;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private FieldVector vector = null;
+  private NullabilityHolder nulls = null;
+
+  private NestedVectorReader(
+      Types.NestedField icebergField, ValueReader reader, BufferAllocator allocator) {
+    this.icebergField = icebergField;
+    this.reader = reader;
+    this.allocator = allocator;
+  }
+
+  /**
+   * Creates a reader for a top-level nested field.
+   *
+   * @param icebergField the expected Iceberg field
+   * @param fileSchema the Parquet file schema
+   * @param fieldType the Parquet type of the field in the file schema
+   * @param allocator an allocator for the Arrow vectors
+   * @return a reader that produces batches of values for the field
+   */
+  static NestedVectorReader build(
+      Types.NestedField icebergField,
+      MessageType fileSchema,
+      Type fieldType,
+      BufferAllocator allocator) {
+    ValueReader reader = new ReaderBuilder(fileSchema).field(icebergField, fieldType);
+    return new NestedVectorReader(icebergField, reader, allocator);
+  }
+
+  @Override
+  public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    if (reuse == null || vector == null) {
+      allocateVector();
+    } else {
+      vector.reset();
+      nulls.reset();
+    }
+
+    for (int index = 0; index < numValsToRead; index += 1) {
+      reader.read(vector, index);
+      if (vector.isNull(index)) {
+        nulls.setNull(index);
+      } else {
+        nulls.setNotNull(index);
+      }
+    }
+
+    vector.setValueCount(numValsToRead);
+
+    return new VectorHolder.NestedVectorHolder(vector, icebergField.type(), nulls);
+  }
+
+  @Override
+  public void skip(int numValsToSkip) {
+    // nested values are assembled from the levels of all leaf columns, so skipped rows are read
+    // into the vector, which is reset by the next read
+    if (vector == null) {
+      allocateVector();
+    }
+
+    vector.reset();
+    for (int index = 0; index < numValsToSkip; index += 1) {
+      reader.read(vector, index);
+    }
+  }
+
+  private void allocateVector() {
+    if (vector != null) {
+      vector.close();
+    }
+
+    this.vector = ArrowSchemaUtil.convert(icebergField).createVector(allocator);
+    vector.setInitialCapacity(batchSize);
+    vector.allocateNew();
+    this.nulls = new NullabilityHolder(batchSize);
+  }
+
+  @Override
+  public void setRowGroupInfo(
+      PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+    reader.setPageSource(source);
+  }
+
+  @Override
+  public void setBatchSize(int newBatchSize) {
+    this.batchSize = (newBatchSize == 0) ? DEFAULT_BATCH_SIZE : newBatchSize;
+  }
+
+  @Override
+  public void close() {
+    if (vector != null) {
+      vector.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "NestedVectorReader(" + icebergField + ")";
+  }
+
+  private static class ReaderBuilder extends TypeWithSchemaVisitor<ValueReader> {
+    private final MessageType type;
+
+    private ReaderBuilder(MessageType type) {
+      this.type = type;
+    }
+
+    private ValueReader field(Types.NestedField field, Type fieldType) {
+      fieldNames.push(fieldType.getName());
+      try {
+        ValueReader fieldReader = visit(field.type(), fieldType, this);
+        int fieldD = type.getMaxDefinitionLevel(currentPath()) - 1;
+        return option(fieldType, fieldD, fieldReader);
+      } finally {
+        fieldNames.pop();
+      }
+    }
+
+    @Override
+    public ValueReader struct(
+        Types.StructType expected, GroupType struct, List<ValueReader> fieldReaders) {
+      if (expected == null) {
+        return null;
+      }
+
+      Map<Integer, ValueReader> readersById = Maps.newHashMap();
+      List<Type> fields = struct.getFields();
+      for (int i = 0; i < fields.size(); i += 1) {
+        ValueReader fieldReader = fieldReaders.get(i);
+        if (fieldReader != null) {
+          Type fieldType = fields.get(i);
+          int fieldD = type.getMaxDefinitionLevel(path(fieldType.getName())) - 1;
+          readersById.put(fieldType.getId().intValue(), option(fieldType, fieldD, fieldReader));
+        }
+      }
+
+      List<Types.NestedField> expectedFields = expected.fields();
+      ValueReader[] readers = new ValueReader[expectedFields.size()];
+      for (int i = 0; i < readers.length; i += 1) {
+        ValueReader fieldReader = readersById.get(expectedFields.get(i).fieldId());
+        readers[i] = fieldReader != null ? fieldReader : NullReader.INSTANCE;
+      }
+
+      return new StructReader(readers);
+    }
+
+    @Override
+    public ValueReader list(Types.ListType expected, GroupType array, ValueReader elementReader) {
+      if (expected == null || elementReader == null) {
+        return null;
+      }
+
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath) - 1;
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath) - 1;
+
+      Type elementType = ParquetSchemaUtil.determineListElementType(array);
+      int elementD = type.getMaxDefinitionLevel(path(elementType.getName())) - 1;
+
+      return new ListReader(repeatedD, repeatedR, option(elementType, elementD, elementReader));
+    }
+
+    @Override
+    public ValueReader map(
+        Types.MapType expected, GroupType map, ValueReader keyReader, ValueReader valueReader) {
+      if (expected == null || keyReader == null || valueReader == null) {
+        return null;
+      }
+
+      GroupType repeatedKeyValue = map.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath) - 1;
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath) - 1;
+
+      Type keyType = repeatedKeyValue.getType(0);
+      int keyD = type.getMaxDefinitionLevel(path(keyType.getName())) - 1;
+      Type valueType = repeatedKeyValue.getType(1);
+      int valueD = type.getMaxDefinitionLevel(path(valueType.getName())) - 1;
+
+      return new MapReader(
+          repeatedD,
+          repeatedR,
+          option(keyType, keyD, keyReader),
+          option(valueType, valueD, valueReader));
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public ValueReader primitive(
+        org.apache.iceberg.types.Type.PrimitiveType expected, PrimitiveType primitive) {
+      if (expected == null) {
+        return null;
+      }
+
+      ColumnDescriptor desc = type.getColumnDescription(currentPath());
+      PrimitiveType.PrimitiveTypeName typeName = primitive.getPrimitiveTypeName();
+      OriginalType originalType = primitive.getOriginalType();
+
+      switch (expected.typeId()) {
+        case BOOLEAN:
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((BitVector) vec).setSafe(idx, col.nextBoolean() ? 1 : 0));
+        case INTEGER:
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((IntVector) vec).setSafe(idx, col.nextInteger()));
+        case DATE:
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((DateDayVector) vec).setSafe(idx, col.nextInteger()));
+        case LONG:
+          if (typeName == PrimitiveType.PrimitiveTypeName.INT32) {
+            return new PrimitiveReader(
+                desc, (vec, idx, col) -> ((BigIntVector) vec).setSafe(idx, col.nextInteger()));
+          }
+
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((BigIntVector) vec).setSafe(idx, col.nextLong()));
+        case FLOAT:
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((Float4Vector) vec).setSafe(idx, col.nextFloat()));
+        case DOUBLE:
+          if (typeName == PrimitiveType.PrimitiveTypeName.FLOAT) {
+            return new PrimitiveReader(
+                desc, (vec, idx, col) -> ((Float8Vector) vec).setSafe(idx, col.nextFloat()));
+          }
+
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((Float8Vector) vec).setSafe(idx, col.nextDouble()));
+        case TIME:
+          if (originalType == OriginalType.TIME_MILLIS) {
+            return new PrimitiveReader(
+                desc,
+                (vec, idx, col) -> ((TimeMicroVector) vec).setSafe(idx, col.nextInteger() * 1000L));
+          }
+
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((TimeMicroVector) vec).setSafe(idx, col.nextLong()));
+        case TIMESTAMP:
+          if (typeName == PrimitiveType.PrimitiveTypeName.INT96) {
+            throw new UnsupportedOperationException("Unsupported type: " + primitive);
+          } else if (originalType == OriginalType.TIMESTAMP_MILLIS) {
+            return new PrimitiveReader(
+                desc,
+                (vec, idx, col) -> ((TimeStampVector) vec).setSafe(idx, col.nextLong() * 1000L));
+          }
+
+          return new PrimitiveReader(
+              desc, (vec, idx, col) -> ((TimeStampVector) vec).setSafe(idx, col.nextLong()));
+        case STRING:
+        case BINARY:
+        case FIXED:
+          return new PrimitiveReader(desc, NestedVectorReader::setBinary);
+        case UUID:
+          return new PrimitiveReader(
+              desc,
+              (vec, idx, col) ->
+                  ((FixedSizeBinaryVector) vec).setSafe(idx, col.nextBinary().getBytes()));
+        case DECIMAL:
+          switch (typeName) {
+            case INT32:
+              return new PrimitiveReader(
+                  desc, (vec, idx, col) -> ((DecimalVector) vec).setSafe(idx, col.nextInteger()));
+            case INT64:
+              return new PrimitiveReader(
+                  desc, (vec, idx, col) -> ((DecimalVector) vec).setSafe(idx, col.nextLong()));
+            case BINARY:
+            case FIXED_LEN_BYTE_ARRAY:
+              return new PrimitiveReader(
+                  desc,
+                  (vec, idx, col) ->
+                      ((DecimalVector) vec).setBigEndianSafe(idx, col.nextBinary().getBytes()));
+            default:
+              throw new UnsupportedOperationException(
+                  "Unsupported base type for decimal: " + typeName);
+          }
+        default:
+          throw new UnsupportedOperationException("Unsupported type: " + expected);
+      }
+    }
+
+    private static ValueReader option(Type type, int definitionLevel, ValueReader reader) {
+      if (reader == null) {
+        return NullReader.INSTANCE;
+      } else if (type.isRepetition(Type.Repetition.OPTIONAL)) {
+        return new OptionReader(definitionLevel, reader);
+      }
+
+      return reader;
+    }
+  }
+
+  private static void setBinary(FieldVector vector, int index, ColumnIterator<?> column) {
+    Binary binary = column.nextBinary();
+    ByteBuffer buffer = binary.toByteBuffer();
+    BaseVariableWidthVector binaryVector = (BaseVariableWidthVector) vector;
+    binaryVector.setSafe(index, buffer, buffer.position(), buffer.remaining());
+  }
+
+  private static void setNull(FieldVector vector, int index) {
+    if (vector instanceof BaseFixedWidthVector) {
+      ((BaseFixedWidthVector) vector).setNull(index);
+    } else if (vector instanceof BaseVariableWidthVector) {
+      ((BaseVariableWidthVector) vector).setNull(index);
+    } else if (vector instanceof ListVector) {
+      ((ListVector) vector).setNull(index);
+    } else if (vector instanceof StructVector) {
+      ((StructVector) vector).setNull(index);
+    } else {
+      throw new UnsupportedOperationException(
+          "Cannot set null in vector: " + vector.getClass().getName());
+    }
+  }
+
+  /** Reads one value at a time from Parquet columns into an Arrow vector. */
+  private abstract static class ValueReader {
+    /** Reads the next value of the current row into the vector at the given index. */
+    abstract void read(FieldVector vector, int index);
+
+    /** Returns the column used to check levels, or null if this reader has no columns. */
+    abstract ColumnIterator<?> column();
+
+    abstract List<ColumnIterator<?>> columns();
+
+    abstract void setPageSource(PageReadStore pageStore);
+  }
+
+  private interface ValueSetter {
+    void set(FieldVector vector, int index, ColumnIterator<?> column);
+  }
+
+  private static class NullReader extends ValueReader {
+    private static final NullReader INSTANCE = new NullReader();
+
+    @Override
+    void read(FieldVector vector, int index) {
+      setNull(vector, index);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return null;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return ImmutableList.of();
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {}
+  }
+
+  private static class PrimitiveReader extends ValueReader {
+    private final ColumnDescriptor desc;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> columns;
+    private final ValueSetter setter;
+
+    private PrimitiveReader(ColumnDescriptor desc, ValueSetter setter) {
+      this.desc = desc;
+      this.column = ColumnIterator.newIterator(desc, "");
+      this.columns = ImmutableList.of(column);
+      this.setter = setter;
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      setter.set(vector, index, column);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return columns;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      column.setPageSource(pageStore.getPageReader(desc));
+    }
+  }
+
+  private static class OptionReader extends ValueReader {
+    private final int definitionLevel;
+    private final ValueReader reader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    private OptionReader(int definitionLevel, ValueReader reader) {
+      this.definitionLevel = definitionLevel;
+      this.reader = reader;
+      this.column = reader.column();
+      this.children = reader.columns();
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      if (column != null && column.currentDefinitionLevel() > definitionLevel) {
+        reader.read(vector, index);
+        return;
+      }
+
+      for (ColumnIterator<?> child : children) {
+        child.nextNull();
+      }
+
+      setNull(vector, index);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      reader.setPageSource(pageStore);
+    }
+  }
+
+  private static class StructReader extends ValueReader {
+    private final ValueReader[] readers;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    private StructReader(ValueReader[] readers) {
+      this.readers = readers;
+      ImmutableList.Builder<ColumnIterator<?>> columnsBuilder = ImmutableList.builder();
+      for (ValueReader reader : readers) {
+        columnsBuilder.addAll(reader.columns());
+      }
+
+      this.children = columnsBuilder.build();
+      this.column = children.isEmpty() ? null : children.get(0);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      StructVector struct = (StructVector) vector;
+      struct.setIndexDefined(index);
+      for (int pos = 0; pos < readers.length; pos += 1) {
+        readers[pos].read((FieldVector) struct.getChildByOrdinal(pos), index);
+      }
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      for (ValueReader reader : readers) {
+        reader.setPageSource(pageStore);
+      }
+    }
+  }
+
+  private static class ListReader extends ValueReader {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final ValueReader elementReader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    private ListReader(int definitionLevel, int repetitionLevel, ValueReader elementReader) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.elementReader = elementReader;
+      this.column = elementReader.column();
+      this.children = elementReader.columns();
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ListVector list = (ListVector) vector;
+      FieldVector elements = list.getDataVector();
+      int offset = list.startNewValue(index);
+      int count = 0;
+
+      if (column != null) {
+        do {
+          if (column.currentDefinitionLevel() > definitionLevel) {
+            elementReader.read(elements, offset + count);
+            count += 1;
+          } else {
+            // consume the empty list triple
+            for (ColumnIterator<?> child : children) {
+              child.nextNull();
+            }
+            break;
+          }
+        } while (column.currentRepetitionLevel() > repetitionLevel);
+      }
+
+      list.endValue(index, count);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      elementReader.setPageSource(pageStore);
+    }
+  }
+
+  private static class MapReader extends ValueReader {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final ValueReader keyReader;
+    private final ValueReader valueReader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    private MapReader(
+        int definitionLevel, int repetitionLevel, ValueReader keyReader, ValueReader valueReader) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.keyReader = keyReader;
+      this.valueReader = valueReader;
+      this.column = keyReader.column();
+      this.children =
+          ImmutableList.<ColumnIterator<?>>builder()
+              .addAll(keyReader.columns())
+              .addAll(valueReader.columns())
+              .build();
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      MapVector map = (MapVector) vector;
+      StructVector entries = (StructVector) map.getDataVector();
+      FieldVector keys = (FieldVector) entries.getChildByOrdinal(0);
+      FieldVector values = (FieldVector) entries.getChildByOrdinal(1);
+      int offset = map.startNewValue(index);
+      int count = 0;
+
+      if (column != null) {
+        do {
+          if (column.currentDefinitionLevel() > definitionLevel) {
+            entries.setIndexDefined(offset + count);
+            keyReader.read(keys, offset + count);
+            valueReader.read(values, offset + count);
+            count += 1;
+          } else {
+            // consume the empty map triple
+            for (ColumnIterator<?> child : children) {
+              child.nextNull();
+            }
+            break;
+          }
+        } while (column.currentRepetitionLevel() > repetitionLevel);
+      }
+
+      map.endValue(index, count);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      keyReader.setPageSource(pageStore);
+      valueReader.setPageSource(pageStore);
+    }
+  }
+}
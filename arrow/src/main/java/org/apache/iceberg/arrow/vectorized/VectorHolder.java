@@ -153,6 +153,13 @@ public class VectorHolder {
     }
   }
 
+  /** A holder for a struct, list or map vector that is not backed by a single column. */
+  public static class NestedVectorHolder extends VectorHolder {
+    public NestedVectorHolder(FieldVector vector, Type type, NullabilityHolder nulls) {
+      super(vector, type, nulls);
+    }
+  }
+
   public static class DeletedVectorHolder extends VectorHolder {
     private final int numRows;
 
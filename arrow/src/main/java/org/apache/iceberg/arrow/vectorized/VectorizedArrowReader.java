@@ -19,6 +19,7 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.BigIntVector;
@@ -41,6 +42,7 @@ import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.arrow.ArrowSchemaUtil;
 import org.apache.iceberg.arrow.vectorized.parquet.VectorizedColumnIterator;
+import org.apache.iceberg.parquet.FilteredPageReadStore;
 import org.apache.iceberg.parquet.ParquetUtil;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -91,7 +93,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.vectorizedColumnIterator = new VectorizedColumnIterator(desc, "", setArrowValidityVector);
   }
 
-  private VectorizedArrowReader() {
+  VectorizedArrowReader() {
     this.icebergField = null;
     this.batchSize = DEFAULT_BATCH_SIZE;
     this.columnDescriptor = null;
@@ -209,6 +211,18 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         columnDescriptor, vec, dictEncoded, dictionary, nullabilityHolder, icebergField.type());
   }
 
+  /**
+   * Skips the next values without decoding them into a vector.
+   *
+   * <p>This is used when the values are known to be filtered out, for example because none of the
+   * rows in a batch match the residual filter.
+   *
+   * @param numValsToSkip the number of values to skip
+   */
+  public void skip(int numValsToSkip) {
+    vectorizedColumnIterator.skip(numValsToSkip);
+  }
+
   private void allocateFieldVector(boolean dictionaryEncodedVector) {
     if (dictionaryEncodedVector) {
       allocateDictEncodedVector();
@@ -443,6 +457,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return "NullReader";
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setBatchSize(int batchSize) {}
   }
@@ -452,6 +469,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         ArrowSchemaUtil.convert(MetadataColumns.ROW_POSITION);
     private final boolean setArrowValidityVector;
     private long rowStart;
+    // indexes of the selected rows, null when all rows are read
+    private PrimitiveIterator.OfLong rowIndexes = null;
     private int batchSize;
     private NullabilityHolder nulls;
 
@@ -470,8 +489,14 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
 
       ArrowBuf dataBuffer = vec.getDataBuffer();
-      for (int i = 0; i < numValsToRead; i += 1) {
-        dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+      if (rowIndexes != null) {
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowStart + rowIndexes.nextLong());
+        }
+      } else {
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+        }
       }
 
       if (setArrowValidityVector) {
@@ -481,12 +506,26 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         }
       }
 
-      rowStart += numValsToRead;
+      if (rowIndexes == null) {
+        rowStart += numValsToRead;
+      }
+
       vec.setValueCount(numValsToRead);
 
       return new VectorHolder.PositionVectorHolder(vec, MetadataColumns.ROW_POSITION.type(), nulls);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {
+      if (rowIndexes != null) {
+        for (int i = 0; i < numValsToSkip; i += 1) {
+          rowIndexes.nextLong();
+        }
+      } else {
+        rowStart += numValsToSkip;
+      }
+    }
+
     private static BigIntVector newVector(int valueCount) {
       BigIntVector vector =
           (BigIntVector) ROW_POSITION_ARROW_FIELD.createVector(ArrowAllocation.rootAllocator());
@@ -504,6 +543,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
       this.rowStart = rowPosition;
+      if (source instanceof FilteredPageReadStore) {
+        this.rowIndexes = ((FilteredPageReadStore) source).rowRanges().rowIndexes();
+      } else {
+        this.rowIndexes = null;
+      }
     }
 
     @Override
@@ -552,6 +596,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return String.format("ConstantReader: %s", value);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setBatchSize(int batchSize) {}
   }
@@ -577,6 +624,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return "DeletedVectorReader";
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setBatchSize(int batchSize) {}
   }
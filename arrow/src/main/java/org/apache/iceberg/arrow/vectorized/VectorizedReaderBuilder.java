@@ -67,11 +67,17 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
       Types.StructType expected, MessageType message, List<VectorizedReader<?>> fieldReaders) {
     GroupType groupType = message.asGroupType();
     Map<Integer, VectorizedReader<?>> readersById = Maps.newHashMap();
+    Map<Integer, Type> typesById = Maps.newHashMap();
     List<Type> fields = groupType.getFields();
 
     IntStream.range(0, fields.size())
         .filter(pos -> fields.get(pos).getId() != null)
-        .forEach(pos -> readersById.put(fields.get(pos).getId().intValue(), fieldReaders.get(pos)));
+        .forEach(
+            pos -> {
+              int id = fields.get(pos).getId().intValue();
+              readersById.put(id, fieldReaders.get(pos));
+              typesById.put(id, fields.get(pos));
+            });
 
     List<Types.NestedField> icebergFields =
         expected != null ? expected.fields() : ImmutableList.of();
@@ -94,6 +100,9 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
         reorderedFields.add(new VectorizedArrowReader.DeletedVectorReader());
       } else if (reader != null) {
         reorderedFields.add(reader);
+      } else if (field.type().isNestedType() && typesById.containsKey(id)) {
+        reorderedFields.add(
+            NestedVectorReader.build(field, parquetSchema, typesById.get(id), rootAllocator));
       } else {
         reorderedFields.add(VectorizedArrowReader.nulls());
       }
@@ -105,16 +114,6 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
     return readerFactory.apply(reorderedFields);
   }
 
-  @Override
-  public VectorizedReader<?> struct(
-      Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
-    if (expected != null) {
-      throw new UnsupportedOperationException(
-          "Vectorized reads are not supported yet for struct fields");
-    }
-    return null;
-  }
-
   @Override
   public VectorizedReader<?> primitive(
       org.apache.iceberg.types.Type.PrimitiveType expected, PrimitiveType primitive) {
@@ -123,12 +122,13 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
     if (primitive.getId() == null) {
       return null;
     }
-    int parquetFieldId = primitive.getId().intValue();
-    ColumnDescriptor desc = parquetSchema.getColumnDescription(currentPath());
-    // Nested types not yet supported for vectorized reads
-    if (desc.getMaxRepetitionLevel() > 0) {
+    // fields of nested types are read by NestedVectorReader
+    String[] path = currentPath();
+    if (path.length > 1) {
       return null;
     }
+    int parquetFieldId = primitive.getId().intValue();
+    ColumnDescriptor desc = parquetSchema.getColumnDescription(path);
     Types.NestedField icebergField = icebergSchema.findField(parquetFieldId);
     if (icebergField == null) {
       return null;
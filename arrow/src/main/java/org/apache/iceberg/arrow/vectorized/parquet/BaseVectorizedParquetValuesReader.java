@@ -210,6 +210,67 @@ public class BaseVectorizedParquetValuesReader extends ValuesReader {
     }
   }
 
+  /**
+   * Skips the next levels without decoding them into a vector.
+   *
+   * @param numLevels the number of levels to skip
+   * @return the number of skipped levels that are equal to the max definition level, which is the
+   *     number of non-null values to skip in the data section of the page
+   */
+  int skipDefinitionLevels(int numLevels) {
+    int numNonNull = 0;
+    int left = numLevels;
+    while (left > 0) {
+      if (this.currentCount == 0) {
+        this.readNextGroup();
+      }
+
+      int num = Math.min(left, this.currentCount);
+      switch (mode) {
+        case RLE:
+          if (currentValue == maxDefLevel) {
+            numNonNull += num;
+          }
+          break;
+        case PACKED:
+          for (int i = 0; i < num; i += 1) {
+            if (packedValuesBuffer[packedValuesBufferIdx + i] == maxDefLevel) {
+              numNonNull += 1;
+            }
+          }
+          packedValuesBufferIdx += num;
+          break;
+      }
+
+      left -= num;
+      currentCount -= num;
+    }
+
+    return numNonNull;
+  }
+
+  /**
+   * Skips the next run-length encoded or bit-packed values, like dictionary ids.
+   *
+   * @param numValues the number of values to skip
+   */
+  void skipValues(int numValues) {
+    int left = numValues;
+    while (left > 0) {
+      if (this.currentCount == 0) {
+        this.readNextGroup();
+      }
+
+      int num = Math.min(left, this.currentCount);
+      if (mode == Mode.PACKED) {
+        packedValuesBufferIdx += num;
+      }
+
+      left -= num;
+      currentCount -= num;
+    }
+  }
+
   @Override
   public boolean readBoolean() {
     return this.readInteger() != 0;
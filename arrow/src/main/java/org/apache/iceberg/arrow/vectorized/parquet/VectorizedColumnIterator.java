@@ -23,9 +23,12 @@ import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
 import org.apache.iceberg.parquet.BaseColumnIterator;
 import org.apache.iceberg.parquet.BasePageIterator;
+import org.apache.iceberg.parquet.FilteredPageReadStore.FilteredPageReader;
+import org.apache.iceberg.parquet.RowRanges;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.DataPage;
 import org.apache.parquet.column.page.PageReader;
 
 /**
@@ -37,6 +40,13 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
   private final VectorizedPageIterator vectorizedPageIterator;
   private int batchSize;
 
+  // set when only selected rows of the row group are read
+  private FilteredPageReader filteredPages = null;
+  private RowRanges rowRanges = null;
+  private int currentRange = 0;
+  // row group index of the next row in the current page
+  private long currentRow = 0L;
+
   public VectorizedColumnIterator(
       ColumnDescriptor desc, String writerVersion, boolean setArrowValidityVector) {
     super(desc);
@@ -55,10 +65,43 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
     // setPageSource can result in a data page read. If that happens, we need
     // to know in advance whether all the pages in the row group are dictionary encoded or not
     this.vectorizedPageIterator.setAllPagesDictEncoded(allPagesDictEncoded);
+    if (store instanceof FilteredPageReader) {
+      this.filteredPages = (FilteredPageReader) store;
+      this.rowRanges = filteredPages.rowRanges();
+    } else {
+      this.filteredPages = null;
+      this.rowRanges = null;
+    }
+
+    this.currentRange = 0;
     super.setPageSource(store);
+    if (rowRanges != null) {
+      // columns are not nested, so there is one triple per row
+      this.triplesCount = rowRanges.rowCount();
+    }
+
     return dictionary;
   }
 
+  @Override
+  protected void advance() {
+    if (filteredPages == null) {
+      super.advance();
+      return;
+    }
+
+    // values of rows that are not selected are not counted, so pages are read when exhausted
+    while (!vectorizedPageIterator.hasNext()) {
+      DataPage page = filteredPages.readPage();
+      if (page == null) {
+        return;
+      }
+
+      vectorizedPageIterator.setPage(page);
+      this.currentRow = filteredPages.firstRowIndex();
+    }
+  }
+
   @Override
   protected BasePageIterator pageIterator() {
     return vectorizedPageIterator;
@@ -70,6 +113,11 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
 
   public abstract class BatchReader {
     public void nextBatch(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
+      if (rowRanges != null) {
+        nextSelectedBatch(fieldVector, typeWidth, holder);
+        return;
+      }
+
       int rowsReadSoFar = 0;
       while (rowsReadSoFar < batchSize && hasNext()) {
         advance();
@@ -81,6 +129,43 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
       }
     }
 
+    /**
+     * Reads the next batch of selected rows.
+     *
+     * <p>A batch ends at the end of the selected range that contains its first row, so the rows of
+     * a batch are contiguous. Rows before the range are skipped without being decoded.
+     */
+    private void nextSelectedBatch(
+        FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
+      int rowsReadSoFar = 0;
+      long batchEnd = -1L;
+      while (hasNext()) {
+        advance();
+        Preconditions.checkState(
+            vectorizedPageIterator.hasNext(), "Missing pages for selected rows in %s", desc);
+        long rangeStart = nextSelectedRange();
+        if (currentRow < rangeStart) {
+          currentRow += vectorizedPageIterator.skip(rowsBefore(rangeStart));
+          continue;
+        }
+
+        if (batchEnd < 0) {
+          batchEnd = Math.min(rowRanges.end(currentRange) + 1, currentRow + batchSize);
+        }
+
+        int rowsInThisBatch =
+            nextBatchOf(
+                fieldVector, (int) (batchEnd - currentRow), rowsReadSoFar, typeWidth, holder);
+        rowsReadSoFar += rowsInThisBatch;
+        triplesRead += rowsInThisBatch;
+        currentRow += rowsInThisBatch;
+        fieldVector.setValueCount(rowsReadSoFar);
+        if (currentRow >= batchEnd) {
+          break;
+        }
+      }
+    }
+
     protected abstract int nextBatchOf(
         FieldVector vector,
         int expectedBatchSize,
@@ -89,6 +174,52 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
         NullabilityHolder holder);
   }
 
+  /**
+   * Skips the next rows of the row group without decoding them into a vector.
+   *
+   * <p>This is used to avoid decoding the values of rows that are known to be filtered out, like
+   * rows that do not match a residual filter. When only selected rows of the row group are read,
+   * the rows to skip are selected rows.
+   *
+   * @param numRowsToSkip the number of rows to skip
+   */
+  public void skip(int numRowsToSkip) {
+    int rowsSkipped = 0;
+    while (rowsSkipped < numRowsToSkip && hasNext()) {
+      advance();
+      int rowsToSkip = numRowsToSkip - rowsSkipped;
+      if (rowRanges != null) {
+        Preconditions.checkState(
+            vectorizedPageIterator.hasNext(), "Missing pages for selected rows in %s", desc);
+        long rangeStart = nextSelectedRange();
+        if (currentRow < rangeStart) {
+          currentRow += vectorizedPageIterator.skip(rowsBefore(rangeStart));
+          continue;
+        }
+
+        rowsToSkip = (int) Math.min(rowRanges.end(currentRange) + 1 - currentRow, rowsToSkip);
+      }
+
+      int rowsInThisPage = vectorizedPageIterator.skip(rowsToSkip);
+      rowsSkipped += rowsInThisPage;
+      triplesRead += rowsInThisPage;
+      currentRow += rowsInThisPage;
+    }
+  }
+
+  private int rowsBefore(long rangeStart) {
+    return (int) Math.min(rangeStart - currentRow, Integer.MAX_VALUE);
+  }
+
+  /** Returns the start of the first selected range that ends at or after the current row. */
+  private long nextSelectedRange() {
+    while (rowRanges.end(currentRange) < currentRow) {
+      this.currentRange += 1;
+    }
+
+    return rowRanges.start(currentRange);
+  }
+
   public class IntegerBatchReader extends BatchReader {
     @Override
     protected int nextBatchOf(
@@ -171,6 +171,70 @@ public class VectorizedPageIterator extends BasePageIterator {
     return actualBatchSize;
   }
 
+  /**
+   * Skips rows of the current page without decoding their values into a vector.
+   *
+   * <p>When the rest of the page is skipped, its levels and values are not decoded at all.
+   *
+   * @param numRowsToSkip the number of rows to skip
+   * @return the number of rows skipped, at most the number of rows left in the page
+   */
+  public int skip(int numRowsToSkip) {
+    final int numRows = getActualBatchSize(numRowsToSkip);
+    if (numRows <= 0) {
+      return 0;
+    }
+
+    if (triplesRead + numRows < triplesCount) {
+      int numValues = vectorizedDefinitionLevelReader.skipDefinitionLevels(numRows);
+      skipValues(numValues);
+    }
+
+    triplesRead += numRows;
+    this.hasNext = triplesRead < triplesCount;
+    return numRows;
+  }
+
+  private void skipValues(int numValues) {
+    if (numValues <= 0) {
+      return;
+    }
+
+    if (dictionaryDecodeMode != DictionaryDecodeMode.NONE) {
+      dictionaryEncodedValuesReader.skipValues(numValues);
+      return;
+    }
+
+    switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
+      case BOOLEAN:
+        for (int i = 0; i < numValues; i += 1) {
+          plainValuesReader.readBooleanAsInt();
+        }
+        break;
+      case INT32:
+      case FLOAT:
+        plainValuesReader.getBuffer(numValues * 4);
+        break;
+      case INT64:
+      case DOUBLE:
+        plainValuesReader.getBuffer(numValues * 8);
+        break;
+      case INT96:
+        plainValuesReader.getBuffer(numValues * 12);
+        break;
+      case FIXED_LEN_BYTE_ARRAY:
+        plainValuesReader.getBuffer(numValues * desc.getPrimitiveType().getTypeLength());
+        break;
+      case BINARY:
+        for (int i = 0; i < numValues; i += 1) {
+          plainValuesReader.getBuffer(plainValuesReader.readInteger());
+        }
+        break;
+      default:
+        throw new UnsupportedOperationException("Cannot skip values of column " + desc);
+    }
+  }
+
   abstract class BagePageReader {
     public int nextBatch(
         FieldVector vector,
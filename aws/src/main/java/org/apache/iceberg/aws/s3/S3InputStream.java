@@ -20,13 +20,18 @@ package org.apache.iceberg.aws.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
@@ -120,7 +125,9 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
   }
 
   @Override
@@ -129,7 +136,30 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=-%s", length);
 
-    return IOUtil.readRemaining(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      return IOUtil.readRemaining(rangeStream, buffer, offset, length);
+    }
+  }
+
+  /**
+   * Reads ranges by combining nearby ranges into a single ranged GET and issuing the requests in
+   * parallel.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return VectoredReads.readVectored(ranges, this::readCombinedRange);
+  }
+
+  private void readCombinedRange(long position, byte[] buffer, int offset, int length)
+      throws IOException {
+    String range = String.format("bytes=%s-%s", position, position + length - 1);
+    try (InputStream rangeStream = readRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
+
+    readBytes.increment(length);
+    readOperations.increment();
   }
 
   private InputStream readRange(String range) {
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.hadoop.HadoopCatalog;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that measures commits per second when many writers append to the same table.
+ *
+ * <p>Each benchmark thread acts as an independent writer that appends one data file per commit to
+ * a {@link HadoopCatalog} table in a local directory. Writers either commit directly with their
+ * own table instance, retrying when they conflict with another writer, or submit their appends to
+ * a shared {@link CommitCoalescer}. The table is recreated for every iteration so that the size of
+ * the manifest list does not depend on how many commits earlier iterations completed.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=CommitCoalescerBenchmark
+ *       -PjmhOutputPath=benchmark/commit-coalescer-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommitCoalescerBenchmark {
+
+  private static final int NUM_WRITERS = 16;
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final TableIdentifier IDENTIFIER = TableIdentifier.of("db", "events");
+
+  private File warehouse;
+  private HadoopCatalog catalog;
+  private CommitCoalescer coalescer;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.warehouse = Files.createTempDirectory("commit-coalescer-benchmark").toFile();
+    this.catalog = new HadoopCatalog(new Configuration(), warehouse.getAbsolutePath());
+  }
+
+  @TearDown
+  public void tearDownBenchmark() throws IOException {
+    catalog.close();
+    try (Stream<Path> paths = Files.walk(warehouse.toPath())) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setupTable() {
+    Table table =
+        catalog.createTable(
+            IDENTIFIER,
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(
+                TableProperties.COMMIT_NUM_RETRIES, "1000",
+                TableProperties.COMMIT_MIN_RETRY_WAIT_MS, "1",
+                TableProperties.COMMIT_MAX_RETRY_WAIT_MS, "100"));
+    this.coalescer = new CommitCoalescer(table);
+  }
+
+  @TearDown(Level.Iteration)
+  public void dropTable() {
+    coalescer.close();
+    catalog.dropTable(IDENTIFIER, true /* purge */);
+  }
+
+  @State(Scope.Thread)
+  public static class Writer {
+    private Table table;
+
+    @Setup(Level.Iteration)
+    public void loadTable(CommitCoalescerBenchmark benchmark) {
+      this.table = benchmark.catalog.loadTable(IDENTIFIER);
+    }
+
+    private DataFile nextFile() {
+      return DataFiles.builder(PartitionSpec.unpartitioned())
+          .withPath("/path/to/data-" + UUID.randomUUID() + ".parquet")
+          .withFormat(FileFormat.PARQUET)
+          .withFileSizeInBytes(1024 * 1024)
+          .withRecordCount(10_000)
+          .build();
+    }
+  }
+
+  @Benchmark
+  @Threads(NUM_WRITERS)
+  public void commitDirectly(Writer writer) {
+    writer.table.newFastAppend().appendFile(writer.nextFile()).commit();
+  }
+
+  @Benchmark
+  @Threads(NUM_WRITERS)
+  public void commitCoalesced(Writer writer) {
+    DataFile file = writer.nextFile();
+    coalescer.fastAppend(append -> append.appendFile(file)).join();
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that measures the latency of {@link DeleteFileIndex#forDataFile(long, DataFile)}.
+ *
+ * <p>The synthetic index contains equality deletes on an id column of an unpartitioned table. Each
+ * delete file covers a narrow id range and has its own sequence number, and each data file covers
+ * a slightly wider range so that only a few delete files match per lookup. Comparing the results
+ * for different numbers of delete files shows how lookups scale with the size of the index.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=DeleteFileIndexBenchmark
+ *       -PjmhOutputPath=benchmark/delete-file-index-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeleteFileIndexBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).build();
+  private static final int NUM_DATA_FILES = 100_000;
+  private static final long ID_RANGE = 1_000_000_000L;
+
+  @Param({"1000", "20000"})
+  private int numDeleteFiles;
+
+  private DeleteFileIndex index;
+  private DataFile[] dataFiles;
+  private long[] dataSeqs;
+  private int next = 0;
+
+  @Setup
+  public void setupBenchmark() {
+    Random random = new Random(42);
+    long deleteWidth = ID_RANGE / numDeleteFiles / 4;
+    long[] seqs = new long[numDeleteFiles];
+    DeleteFile[] deletes = new DeleteFile[numDeleteFiles];
+    for (int i = 0; i < numDeleteFiles; i += 1) {
+      long lower = (long) (random.nextDouble() * ID_RANGE);
+      seqs[i] = i;
+      deletes[i] =
+          FileMetadata.deleteFileBuilder(SPEC)
+              .ofEqualityDeletes(1)
+              .withPath("/path/to/eq-deletes-" + i + ".parquet")
+              .withFileSizeInBytes(1024)
+              .withRecordCount(100)
+              .withMetrics(idMetrics(lower, lower + deleteWidth))
+              .build();
+    }
+
+    this.index =
+        new DeleteFileIndex(
+            ImmutableMap.of(SPEC.specId(), SPEC),
+            seqs,
+            deletes,
+            ImmutableMap.of());
+
+    long dataWidth = ID_RANGE / NUM_DATA_FILES;
+    this.dataFiles = new DataFile[NUM_DATA_FILES];
+    this.dataSeqs = new long[NUM_DATA_FILES];
+    for (int i = 0; i < NUM_DATA_FILES; i += 1) {
+      long lower = (long) (random.nextDouble() * ID_RANGE);
+      dataSeqs[i] = random.nextInt(numDeleteFiles);
+      dataFiles[i] =
+          DataFiles.builder(SPEC)
+              .withPath("/path/to/data-" + i + ".parquet")
+              .withFileSizeInBytes(1024 * 1024)
+              .withRecordCount(10_000)
+              .withMetrics(idMetrics(lower, lower + dataWidth))
+              .build();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void forDataFile(Blackhole blackhole) {
+    int pos = next;
+    this.next = (pos + 1) % NUM_DATA_FILES;
+    blackhole.consume(index.forDataFile(dataSeqs[pos], dataFiles[pos]));
+  }
+
+  private static Metrics idMetrics(long lower, long upper) {
+    return new Metrics(
+        100L,
+        null,
+        null,
+        ImmutableMap.of(1, 0L),
+        null,
+        ImmutableMap.of(1, Conversions.toByteBuffer(Types.LongType.get(), lower)),
+        ImmutableMap.of(1, Conversions.toByteBuffer(Types.LongType.get(), upper)));
+  }
+}
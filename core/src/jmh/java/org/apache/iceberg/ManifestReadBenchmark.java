@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.avro.AvroIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares decoding manifest entries with the generic Avro reader against {@link
+ * ManifestEntryDecoder}.
+ *
+ * <p>The synthetic v2 manifest contains 100,000 data files of a table partitioned by date, with
+ * column sizes, value counts, null counts and bounds for every column and a few split offsets per
+ * file. Each benchmark reads all entries of the manifest with full stats, with stats for only the
+ * partition source column as a filtered scan that drops stats would, or with the projection that a
+ * scan without a row filter uses.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=ManifestReadBenchmark
+ *       -PjmhOutputPath=benchmark/manifest-read-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ManifestReadBenchmark {
+
+  private static final int NUM_FILES = 100_000;
+  private static final long SNAPSHOT_ID = 1L;
+  private static final Set<Integer> STATS_FIELD_IDS =
+      ImmutableSet.of(
+          DataFile.COLUMN_SIZES.fieldId(),
+          DataFile.VALUE_COUNTS.fieldId(),
+          DataFile.NULL_VALUE_COUNTS.fieldId(),
+          DataFile.NAN_VALUE_COUNTS.fieldId(),
+          DataFile.LOWER_BOUNDS.fieldId(),
+          DataFile.UPPER_BOUNDS.fieldId());
+
+  @Param({"10", "100"})
+  private int numColumns;
+
+  private File manifestFile;
+  private Types.StructType fullProjection;
+  private Types.StructType scanProjection;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    List<Types.NestedField> columns = Lists.newArrayList();
+    columns.add(required(1, "ts", Types.DateType.get()));
+    for (int id = 2; id <= numColumns; id += 1) {
+      columns.add(required(id, "col" + id, Types.LongType.get()));
+    }
+
+    Schema schema = new Schema(columns);
+    PartitionSpec spec = PartitionSpec.builderFor(schema).identity("ts").build();
+    this.fullProjection = DataFile.getType(spec.partitionType());
+    this.scanProjection =
+        Types.StructType.of(
+            fullProjection.fields().stream()
+                .filter(field -> !STATS_FIELD_IDS.contains(field.fieldId()))
+                .toArray(Types.NestedField[]::new));
+
+    this.manifestFile = File.createTempFile("manifest-read-benchmark", ".avro");
+    manifestFile.delete();
+
+    Random random = new Random(42);
+    ManifestWriter<DataFile> writer =
+        ManifestFiles.write(2, spec, Files.localOutput(manifestFile), SNAPSHOT_ID);
+    try {
+      for (int i = 0; i < NUM_FILES; i += 1) {
+        writer.add(
+            DataFiles.builder(spec)
+                .withPath("s3://bucket/table/data/ts=" + (i % 365) + "/file-" + i + ".parquet")
+                .withFormat(FileFormat.PARQUET)
+                .withPartition(partition(spec, i % 365))
+                .withFileSizeInBytes(128L * 1024 * 1024 + random.nextInt(1024))
+                .withMetrics(randomMetrics(random))
+                .withSplitOffsets(ImmutableList.of(4L, 32L * 1024 * 1024, 64L * 1024 * 1024))
+                .build());
+      }
+    } finally {
+      writer.close();
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    if (manifestFile != null) {
+      manifestFile.delete();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readGeneric(Blackhole blackhole) throws IOException {
+    read(fullProjection, false, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readSpecialized(Blackhole blackhole) throws IOException {
+    read(fullProjection, true, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readSpecializedFilterColumnStats(Blackhole blackhole) throws IOException {
+    read(fullProjection, true, ImmutableSet.of(1), blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readGenericWithoutStats(Blackhole blackhole) throws IOException {
+    read(scanProjection, false, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readSpecializedWithoutStats(Blackhole blackhole) throws IOException {
+    read(scanProjection, true, blackhole);
+  }
+
+  private void read(Types.StructType fileProjection, boolean specialized, Blackhole blackhole)
+      throws IOException {
+    read(fileProjection, specialized, null, blackhole);
+  }
+
+  private void read(
+      Types.StructType fileProjection,
+      boolean specialized,
+      Set<Integer> statsColumnIds,
+      Blackhole blackhole)
+      throws IOException {
+    List<Types.NestedField> fields = Lists.newArrayList(fileProjection.fields());
+    fields.add(MetadataColumns.ROW_POSITION);
+
+    InputFile input = Files.localInput(manifestFile);
+    Avro.ReadBuilder builder =
+        Avro.read(input)
+            .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
+            .rename("manifest_entry", GenericManifestEntry.class.getName())
+            .rename("partition", PartitionData.class.getName())
+            .rename("r102", PartitionData.class.getName())
+            .rename("data_file", GenericDataFile.class.getName())
+            .rename("r2", GenericDataFile.class.getName())
+            .classLoader(GenericManifestEntry.class.getClassLoader())
+            .reuseContainers();
+
+    if (specialized) {
+      builder.createReaderFunc(
+          readSchema ->
+              new ManifestEntryDecoder<DataFile>(
+                  readSchema, GenericManifestEntry.class.getClassLoader(), statsColumnIds));
+    }
+
+    try (AvroIterable<ManifestEntry<DataFile>> entries = builder.build()) {
+      for (ManifestEntry<DataFile> entry : entries) {
+        blackhole.consume(entry.file());
+      }
+    }
+  }
+
+  private static PartitionData partition(PartitionSpec spec, int day) {
+    PartitionData partition = new PartitionData(spec.partitionType());
+    partition.set(0, day);
+    return partition;
+  }
+
+  private Metrics randomMetrics(Random random) {
+    Map<Integer, Long> columnSizes = Maps.newHashMap();
+    Map<Integer, Long> valueCounts = Maps.newHashMap();
+    Map<Integer, Long> nullValueCounts = Maps.newHashMap();
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newHashMap();
+    Map<Integer, ByteBuffer> upperBounds = Maps.newHashMap();
+    for (int id = 1; id <= numColumns; id += 1) {
+      int lower = random.nextInt(1_000_000);
+      columnSizes.put(id, (long) random.nextInt(1024 * 1024));
+      valueCounts.put(id, 100_000L);
+      nullValueCounts.put(id, (long) random.nextInt(100));
+      if (id == 1) {
+        lowerBounds.put(id, Conversions.toByteBuffer(Types.DateType.get(), lower));
+        upperBounds.put(id, Conversions.toByteBuffer(Types.DateType.get(), lower + 1000));
+      } else {
+        lowerBounds.put(id, Conversions.toByteBuffer(Types.LongType.get(), (long) lower));
+        upperBounds.put(id, Conversions.toByteBuffer(Types.LongType.get(), lower + 1000L));
+      }
+    }
+
+    return new Metrics(
+        100_000L, columnSizes, valueCounts, nullValueCounts, null, lowerBounds, upperBounds);
+  }
+}
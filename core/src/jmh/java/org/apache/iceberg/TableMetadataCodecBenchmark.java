@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.FileIO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares the metadata compression codecs for a table with a long snapshot
+ * history.
+ *
+ * <p>Each benchmark reads or writes a metadata file with 10,000 snapshots, like a table load or a
+ * commit does. The size of the written file is reported as an auxiliary counter.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataCodecBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-codec-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableMetadataCodecBenchmark {
+
+  private static final int NUM_SNAPSHOTS = 10_000;
+
+  @Param({"NONE", "GZIP", "ZSTD"})
+  private String codec;
+
+  private FileIO io;
+  private TableMetadata metadata;
+  private File metadataFile;
+  private File outputFile;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.io = new HadoopFileIO(new Configuration());
+    this.metadata = TableMetadataParserBenchmark.syntheticMetadata(NUM_SNAPSHOTS);
+
+    String extension = TableMetadataParser.getFileExtension(Codec.valueOf(codec));
+    this.metadataFile = File.createTempFile("table-metadata-codec-benchmark", extension);
+    this.outputFile = File.createTempFile("table-metadata-codec-benchmark-out", extension);
+    TableMetadataParser.overwrite(metadata, io.newOutputFile(metadataFile.getAbsolutePath()));
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    if (metadataFile != null) {
+      metadataFile.delete();
+    }
+
+    if (outputFile != null) {
+      outputFile.delete();
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class SizeCounters {
+    public long fileSizeBytes = 0;
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+      this.fileSizeBytes = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void read(Blackhole blackhole) {
+    blackhole.consume(TableMetadataParser.read(io, metadataFile.getAbsolutePath()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void write(SizeCounters counters) {
+    TableMetadataParser.overwrite(metadata, io.newOutputFile(outputFile.getAbsolutePath()));
+    counters.fileSizeBytes += outputFile.length();
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that measures reading and writing a table metadata file with a long snapshot history.
+ *
+ * <p>The synthetic v2 metadata contains 10,000 snapshots, each with a typical append summary and a
+ * manifest list location, and a snapshot log entry for each of them. Reads either stream the JSON
+ * with {@link TableMetadataParser#read(FileIO, InputFile)} or read the whole document into a tree
+ * before converting it, as earlier versions of the parser did.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableMetadataParserBenchmark {
+
+  private static final int NUM_SNAPSHOTS = 10_000;
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          required(2, "ts", Types.TimestampType.withZone()),
+          required(3, "data", Types.StringType.get()));
+
+  @Param({"NONE", "GZIP"})
+  private String codec;
+
+  private FileIO io;
+  private TableMetadata metadata;
+  private File metadataFile;
+  private File outputFile;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.io = new HadoopFileIO(new Configuration());
+    this.metadata = syntheticMetadata(NUM_SNAPSHOTS);
+
+    String extension = TableMetadataParser.getFileExtension(Codec.valueOf(codec));
+    this.metadataFile = File.createTempFile("table-metadata-benchmark", extension);
+    this.outputFile = File.createTempFile("table-metadata-benchmark-out", extension);
+    TableMetadataParser.overwrite(metadata, io.newOutputFile(metadataFile.getAbsolutePath()));
+  }
+
+  /**
+   * Creates v2 metadata for an append-only table with the given number of snapshots, each with a
+   * typical append summary and a manifest list location.
+   */
+  public static TableMetadata syntheticMetadata(int numSnapshots) {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).day("ts").build();
+    TableMetadata base =
+        TableMetadata.newTableMetadata(
+            SCHEMA,
+            spec,
+            "file:/tmp/warehouse/db/table",
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"));
+
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+    long timestamp = System.currentTimeMillis() - numSnapshots * 1000L;
+    Long parentId = null;
+    for (int ordinal = 1; ordinal <= numSnapshots; ordinal += 1) {
+      long snapshotId = 1_000_000_000L + ordinal;
+      Map<String, String> summary =
+          ImmutableMap.<String, String>builder()
+              .put("added-data-files", "10")
+              .put("added-records", "100000")
+              .put("added-files-size", "52428800")
+              .put("changed-partition-count", "1")
+              .put("total-records", String.valueOf(100_000L * ordinal))
+              .put("total-files-size", String.valueOf(52_428_800L * ordinal))
+              .put("total-data-files", String.valueOf(10L * ordinal))
+              .put("total-delete-files", "0")
+              .put("total-position-deletes", "0")
+              .put("total-equality-deletes", "0")
+              .build();
+      Snapshot snapshot =
+          new BaseSnapshot(
+              ordinal,
+              snapshotId,
+              parentId,
+              timestamp + ordinal * 1000L,
+              DataOperations.APPEND,
+              summary,
+              SCHEMA.schemaId(),
+              String.format(
+                  "file:/tmp/warehouse/db/table/metadata/snap-%d-1-%s.avro",
+                  snapshotId, UUID.randomUUID()));
+      builder.setBranchSnapshot(snapshot, SnapshotRef.MAIN_BRANCH);
+      parentId = snapshotId;
+    }
+
+    return builder.build();
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    if (metadataFile != null) {
+      metadataFile.delete();
+    }
+
+    if (outputFile != null) {
+      outputFile.delete();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readStreaming(Blackhole blackhole) {
+    blackhole.consume(TableMetadataParser.read(io, metadataFile.getAbsolutePath()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readTree(Blackhole blackhole) throws IOException {
+    InputFile file = io.newInputFile(metadataFile.getAbsolutePath());
+    boolean isGzip = Codec.fromFileName(file.location()) == Codec.GZIP;
+    try (InputStream is = isGzip ? new GZIPInputStream(file.newStream()) : file.newStream()) {
+      JsonNode node = JsonUtil.mapper().readValue(is, JsonNode.class);
+      blackhole.consume(TableMetadataParser.fromJson(file.location(), node));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void write() {
+    TableMetadataParser.overwrite(metadata, io.newOutputFile(outputFile.getAbsolutePath()));
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares reading the projected column chunks of a Parquet row group with one
+ * ranged request per chunk against {@link VectoredReads}.
+ *
+ * <p>Requests go to an in-process object store stand-in that simulates S3 with a fixed first-byte
+ * latency per request and a per-request bandwidth limit. The row group has 200 column chunks of
+ * 64 KB and every fourth chunk is projected, like a wide table read with a narrow projection. The
+ * number of requests is reported as an auxiliary counter.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=VectoredReadBenchmark
+ *       -PjmhOutputPath=benchmark/vectored-read-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VectoredReadBenchmark {
+
+  private static final int NUM_CHUNKS = 200;
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int PROJECT_EVERY = 4;
+  private static final long BYTES_PER_SECOND = 100L * 1024 * 1024; // 100 MB/s per request
+
+  @Param({"20", "80"})
+  private int firstByteLatencyMs;
+
+  private SimulatedObjectStore store;
+  private List<FileRange> ranges;
+
+  @Setup
+  public void setupBenchmark() {
+    this.store = new SimulatedObjectStore(NUM_CHUNKS * CHUNK_SIZE, firstByteLatencyMs);
+    this.ranges = Lists.newArrayList();
+    for (int chunk = 0; chunk < NUM_CHUNKS; chunk += PROJECT_EVERY) {
+      ranges.add(new FileRange((long) chunk * CHUNK_SIZE, CHUNK_SIZE));
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class RequestCounters {
+    public long requests = 0;
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+      this.requests = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readPerRange(RequestCounters counters, Blackhole blackhole) {
+    long before = store.requests();
+    for (FileRange range : ranges) {
+      byte[] buffer = new byte[range.length()];
+      store.readFully(range.offset(), buffer, 0, range.length());
+      blackhole.consume(buffer);
+    }
+
+    counters.requests += store.requests() - before;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readVectored(RequestCounters counters, Blackhole blackhole) {
+    long before = store.requests();
+    List<CompletableFuture<ByteBuffer>> results = VectoredReads.readVectored(ranges, store);
+    for (CompletableFuture<ByteBuffer> result : results) {
+      blackhole.consume(result.join());
+    }
+
+    counters.requests += store.requests() - before;
+  }
+
+  /** Simulates ranged GET requests against an object store. */
+  private static class SimulatedObjectStore implements VectoredReads.RangeReader {
+    private final byte[] content;
+    private final long firstByteLatencyNanos;
+    private final AtomicLong requests = new AtomicLong(0);
+
+    private SimulatedObjectStore(int length, int firstByteLatencyMs) {
+      this.content = new byte[length];
+      this.firstByteLatencyNanos = TimeUnit.MILLISECONDS.toNanos(firstByteLatencyMs);
+    }
+
+    long requests() {
+      return requests.get();
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length) {
+      requests.incrementAndGet();
+      long transferNanos = TimeUnit.SECONDS.toNanos(length) / BYTES_PER_SECOND;
+      LockSupport.parkNanos(firstByteLatencyNanos + transferNanos);
+      System.arraycopy(content, (int) position, buffer, offset, length);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadataParserBenchmark;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that measures how many tables per second {@link HTTPClient} loads when 1,000 loads
+ * are issued concurrently.
+ *
+ * <p>Loads go to a local stand-in for a REST catalog server that returns the same table, with 100
+ * snapshots, for every request. The client's connection pool is either the size that the client
+ * used before it was configurable or large enough for the server's worker pool. Tables are either
+ * sent in full, sent compressed with gzip, or loaded with a conditional request that the server
+ * answers with 304 Not Modified because the client already has the current version.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=RESTLoadTableBenchmark
+ *       -PjmhOutputPath=benchmark/rest-load-table-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RESTLoadTableBenchmark {
+
+  private static final int NUM_LOADS = 1_000;
+  private static final int NUM_SNAPSHOTS = 100;
+  private static final int SERVER_THREADS = 64;
+  private static final String PATH = "v1/namespaces/db/tables/table";
+  private static final String ETAG = "\"v1\"";
+
+  @Param({"5", "64"})
+  private int maxConnections;
+
+  @Param({"FULL", "GZIP", "CONDITIONAL"})
+  private String loadMode;
+
+  private HttpServer server;
+  private ExecutorService serverPool;
+  private ExecutorService loadPool;
+  private RESTClient client;
+  private Map<String, String> headers;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    TableMetadata metadata =
+        TableMetadata.buildFrom(TableMetadataParserBenchmark.syntheticMetadata(NUM_SNAPSHOTS))
+            .discardChanges()
+            .withMetadataLocation("file:/tmp/warehouse/db/table/metadata/v1.metadata.json")
+            .build();
+    byte[] body =
+        RESTObjectMapper.mapper()
+            .writeValueAsBytes(LoadTableResponse.builder().withTableMetadata(metadata).build());
+    byte[] gzipBody = gzip(body);
+    boolean compress = "GZIP".equals(loadMode);
+
+    this.serverPool = Executors.newFixedThreadPool(SERVER_THREADS);
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), NUM_LOADS);
+    server.setExecutor(serverPool);
+    server.createContext(
+        "/" + PATH, exchange -> respond(exchange, compress ? gzipBody : body, compress));
+    server.start();
+
+    this.client =
+        HTTPClient.builder()
+            .uri(String.format("http://127.0.0.1:%d", server.getAddress().getPort()))
+            .withProperties(
+                ImmutableMap.of(
+                    HTTPClient.REST_MAX_CONNECTIONS, String.valueOf(maxConnections),
+                    HTTPClient.REST_MAX_CONNECTIONS_PER_ROUTE, String.valueOf(maxConnections)))
+            .build();
+    this.headers =
+        "CONDITIONAL".equals(loadMode) ? ImmutableMap.of("If-None-Match", ETAG) : ImmutableMap.of();
+    this.loadPool = Executors.newFixedThreadPool(NUM_LOADS);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() throws IOException {
+    loadPool.shutdownNow();
+    client.close();
+    server.stop(0);
+    serverPool.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(NUM_LOADS)
+  public void loadTables(Blackhole blackhole) throws Exception {
+    List<Future<LoadTableResponse>> loads = Lists.newArrayListWithExpectedSize(NUM_LOADS);
+    for (int i = 0; i < NUM_LOADS; i += 1) {
+      loads.add(
+          loadPool.submit(
+              () ->
+                  client.get(
+                      PATH,
+                      ImmutableMap.of(),
+                      LoadTableResponse.class,
+                      headers,
+                      ErrorHandlers.tableErrorHandler())));
+    }
+
+    for (Future<LoadTableResponse> load : loads) {
+      blackhole.consume(load.get());
+    }
+  }
+
+  private static void respond(HttpExchange exchange, byte[] body, boolean compressed)
+      throws IOException {
+    try {
+      exchange.getResponseHeaders().set("ETag", ETAG);
+      if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+        return;
+      }
+
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      if (compressed) {
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+      }
+
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static byte[] gzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+      out.write(bytes);
+    }
+
+    return buffer.toByteArray();
+  }
+}
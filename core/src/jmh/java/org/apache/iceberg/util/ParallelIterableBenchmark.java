@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares a bounded {@link ParallelIterable} with an effectively unbounded one,
+ * which buffers every produced item like the previous implementation did.
+ *
+ * <p>Each input simulates a manifest of a synthetic table with 10k manifests that produces small
+ * task objects. The benchmark measures the time to the first task and the heap high-water mark
+ * while a slow consumer drains all tasks.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=ParallelIterableBenchmark
+ *       -PjmhOutputPath=benchmark/parallel-iterable-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 1000, timeUnit = TimeUnit.HOURS)
+public class ParallelIterableBenchmark {
+
+  private static final int NUM_MANIFESTS = 10_000;
+  private static final int TASKS_PER_MANIFEST = 100;
+  private static final int TASK_PAYLOAD_BYTES = 128;
+
+  @Param({"10000", "2147483647"})
+  private int maxQueueSize;
+
+  private ExecutorService workerPool;
+  private Iterable<Iterable<byte[]>> manifests;
+
+  @Setup
+  public void setupBenchmark() {
+    this.workerPool = ThreadPools.newWorkerPool("parallel-iterable-benchmark");
+    List<Integer> manifestIds =
+        IntStream.range(0, NUM_MANIFESTS).boxed().collect(Collectors.toList());
+    List<Integer> taskIds =
+        IntStream.range(0, TASKS_PER_MANIFEST).boxed().collect(Collectors.toList());
+    // tasks are allocated lazily when a manifest is read, like FileScanTasks during planning
+    this.manifests =
+        Iterables.transform(
+            manifestIds,
+            manifestId ->
+                Iterables.transform(
+                    taskIds,
+                    taskId -> {
+                      byte[] task = new byte[TASK_PAYLOAD_BYTES];
+                      task[0] = (byte) (manifestId ^ taskId);
+                      return task;
+                    }));
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    workerPool.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void timeToFirstTask(Blackhole blackhole) {
+    ParallelIterable<byte[]> iterable =
+        new ParallelIterable<>(manifests, workerPool, maxQueueSize);
+    try (CloseableIterator<byte[]> iterator = iterable.iterator()) {
+      blackhole.consume(iterator.next());
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void drainWithSlowConsumer(HeapUsage heapUsage, Blackhole blackhole) {
+    ParallelIterable<byte[]> iterable =
+        new ParallelIterable<>(manifests, workerPool, maxQueueSize);
+    try (CloseableIterator<byte[]> iterator = iterable.iterator()) {
+      while (iterator.hasNext()) {
+        blackhole.consume(iterator.next());
+        // simulate per-task work done by the planner, such as split and combine
+        Blackhole.consumeCPU(50);
+      }
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+
+    heapUsage.recordPeak();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class HeapUsage {
+    public long peakHeapBytes = 0;
+
+    @Setup(Level.Invocation)
+    public void resetPeak() {
+      System.gc();
+      for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP) {
+          pool.resetPeakUsage();
+        }
+      }
+    }
+
+    void recordPeak() {
+      long peak = 0;
+      for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP) {
+          peak += pool.getPeakUsage().getUsed();
+        }
+      }
+
+      this.peakHeapBytes = Math.max(peakHeapBytes, peak);
+    }
+  }
+}
@@ -179,15 +179,7 @@ public class AllManifestsTable extends BaseMetadataTable {
 
     @Override
     public CloseableIterable<StructLike> rows() {
-      try (CloseableIterable<ManifestFile> manifests =
-          Avro.read(io.newInputFile(manifestListLocation))
-              .rename("manifest_file", GenericManifestFile.class.getName())
-              .rename("partitions", GenericPartitionFieldSummary.class.getName())
-              .rename("r508", GenericPartitionFieldSummary.class.getName())
-              .project(ManifestFile.schema())
-              .classLoader(GenericManifestFile.class.getClassLoader())
-              .reuseContainers(false)
-              .build()) {
+      try (CloseableIterable<ManifestFile> manifests = manifests()) {
 
         CloseableIterable<StructLike> rowIterable =
             CloseableIterable.transform(
@@ -204,6 +196,22 @@ public class AllManifestsTable extends BaseMetadataTable {
       }
     }
 
+    private CloseableIterable<ManifestFile> manifests() {
+      if (ManifestLists.isDelta(manifestListLocation)) {
+        // delta manifest lists are resolved against their base lists
+        return CloseableIterable.withNoopClose(ManifestLists.read(io, manifestListLocation));
+      }
+
+      return Avro.read(io.newInputFile(manifestListLocation))
+          .rename("manifest_file", GenericManifestFile.class.getName())
+          .rename("partitions", GenericPartitionFieldSummary.class.getName())
+          .rename("r508", GenericPartitionFieldSummary.class.getName())
+          .project(ManifestFile.schema())
+          .classLoader(GenericManifestFile.class.getClassLoader())
+          .reuseContainers(false)
+          .build();
+    }
+
     @Override
     public DataFile file() {
       if (lazyDataFile == null) {
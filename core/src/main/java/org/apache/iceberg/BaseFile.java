@@ -21,6 +21,7 @@ package org.apache.iceberg;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -180,12 +181,12 @@ abstract class BaseFile<F>
     this.recordCount = toCopy.recordCount;
     this.fileSizeInBytes = toCopy.fileSizeInBytes;
     if (fullCopy) {
-      this.columnSizes = SerializableMap.copyOf(toCopy.columnSizes);
-      this.valueCounts = SerializableMap.copyOf(toCopy.valueCounts);
-      this.nullValueCounts = SerializableMap.copyOf(toCopy.nullValueCounts);
-      this.nanValueCounts = SerializableMap.copyOf(toCopy.nanValueCounts);
-      this.lowerBounds = SerializableByteBufferMap.wrap(SerializableMap.copyOf(toCopy.lowerBounds));
-      this.upperBounds = SerializableByteBufferMap.wrap(SerializableMap.copyOf(toCopy.upperBounds));
+      this.columnSizes = copyMetrics(toCopy.columnSizes);
+      this.valueCounts = copyMetrics(toCopy.valueCounts);
+      this.nullValueCounts = copyMetrics(toCopy.nullValueCounts);
+      this.nanValueCounts = copyMetrics(toCopy.nanValueCounts);
+      this.lowerBounds = SerializableByteBufferMap.wrap(copyMetrics(toCopy.lowerBounds));
+      this.upperBounds = SerializableByteBufferMap.wrap(copyMetrics(toCopy.upperBounds));
     } else {
       this.columnSizes = null;
       this.valueCounts = null;
@@ -222,6 +223,18 @@ abstract class BaseFile<F>
     this.partitionSpecId = specId;
   }
 
+  void setFormat(FileFormat newFormat) {
+    this.format = newFormat;
+  }
+
+  void setSplitOffsets(long[] newSplitOffsets) {
+    this.splitOffsets = newSplitOffsets;
+  }
+
+  void setEqualityIds(int[] newEqualityIds) {
+    this.equalityIds = newEqualityIds;
+  }
+
   protected abstract Schema getAvroSchema(Types.StructType partitionStruct);
 
   @Override
@@ -450,9 +463,22 @@ abstract class BaseFile<F>
     return sortOrderId;
   }
 
+  @SuppressWarnings("unchecked")
+  private static <V> Map<Integer, V> copyMetrics(Map<Integer, V> map) {
+    if (map instanceof ColumnMetricsMap) {
+      // metrics decoded from a manifest are backed by arrays that can be shared by copies
+      return ((ColumnMetricsMap<V>) map).copy();
+    }
+
+    return SerializableMap.copyOf(map);
+  }
+
   private static <K, V> Map<K, V> toReadableMap(Map<K, V> map) {
     if (map instanceof SerializableMap) {
       return ((SerializableMap<K, V>) map).immutableMap();
+    } else if (map instanceof ColumnMetricsMap) {
+      // decoded metrics can be modified for Kryo, but not through the file's getters
+      return Collections.unmodifiableMap(map);
     } else {
       return map;
     }
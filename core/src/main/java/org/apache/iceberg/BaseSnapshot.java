@@ -145,7 +145,7 @@ class BaseSnapshot implements Snapshot {
 
     if (allManifests == null) {
       // if manifests isn't set, then the snapshotFile is set and should be read to get the list
-      this.allManifests = ManifestLists.read(fileIO.newInputFile(manifestListLocation));
+      this.allManifests = ManifestLists.read(fileIO, manifestListLocation);
     }
 
     if (dataManifests == null || deleteManifests == null) {
@@ -112,6 +112,36 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Controls whether manifest content cached in memory is stored off-heap in direct buffers.
+   *
+   * <p>Off-heap entries are not scanned by the garbage collector and are freed explicitly when they
+   * are evicted from the cache.
+   */
+  public static final String IO_MANIFEST_CACHE_OFF_HEAP_ENABLED =
+      "io.manifest.cache.off-heap-enabled";
+
+  public static final boolean IO_MANIFEST_CACHE_OFF_HEAP_ENABLED_DEFAULT = false;
+
+  /**
+   * Controls the local directory used as a second, persistent tier of the manifest cache.
+   *
+   * <p>Manifests that are not in the in-memory cache are looked up in this directory before they
+   * are read using the {@link org.apache.iceberg.io.FileIO}. Unset by default, which disables the
+   * on-disk tier.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_DIR = "io.manifest.cache.disk-dir";
+
+  /**
+   * Controls the maximum total amount of bytes stored in the on-disk manifest cache directory.
+   *
+   * <p>Must be a positive value.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES =
+      "io.manifest.cache.disk-max-total-bytes";
+
+  public static final long IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT = 1024 * 1024 * 1024;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
@@ -91,9 +91,9 @@ public class CatalogUtil {
     for (Snapshot snapshot : metadata.snapshots()) {
       // add all manifests to the delete set because both data and delete files should be removed
       Iterables.addAll(manifestsToDelete, snapshot.allManifests(io));
-      // add the manifest list to the delete set, if present
+      // add the manifest list and the base lists of delta manifest lists to the delete set
       if (snapshot.manifestListLocation() != null) {
-        manifestListsToDelete.add(snapshot.manifestListLocation());
+        manifestListsToDelete.addAll(ManifestLists.chain(io, snapshot.manifestListLocation()));
       }
     }
 
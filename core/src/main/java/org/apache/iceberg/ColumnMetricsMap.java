@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * A map of column ID to a column metric that is backed by parallel arrays.
+ *
+ * <p>Manifests store one metric entry per column, so a {@link java.util.HashMap} for a wide table
+ * holds an entry object, a boxed key and a boxed value for every column of every file. This map
+ * keeps the decoded column IDs and values in primitive arrays and only boxes a value when it is
+ * accessed. Keys are sorted so that lookups use a binary search.
+ *
+ * <p>Decoded maps are not modified by Iceberg and share their arrays when a file is copied. Any
+ * modification, which Kryo uses to deserialize maps, first copies the entries into a regular map.
+ */
+abstract class ColumnMetricsMap<V> extends AbstractMap<Integer, V> implements Serializable {
+  private int[] keys;
+  private Map<Integer, V> modified = null;
+
+  static ColumnMetricsMap<Long> ofCounts(int[] keys, long[] values) {
+    int[] order = sortOrder(keys);
+    if (order == null) {
+      return new Counts(keys, values);
+    }
+
+    int[] sortedKeys = new int[keys.length];
+    long[] sortedValues = new long[values.length];
+    for (int i = 0; i < order.length; i += 1) {
+      sortedKeys[i] = keys[order[i]];
+      sortedValues[i] = values[order[i]];
+    }
+
+    return new Counts(sortedKeys, sortedValues);
+  }
+
+  static ColumnMetricsMap<ByteBuffer> ofBounds(int[] keys, byte[][] values) {
+    int[] order = sortOrder(keys);
+    if (order == null) {
+      return new Bounds(keys, values);
+    }
+
+    int[] sortedKeys = new int[keys.length];
+    byte[][] sortedValues = new byte[values.length][];
+    for (int i = 0; i < order.length; i += 1) {
+      sortedKeys[i] = keys[order[i]];
+      sortedValues[i] = values[order[i]];
+    }
+
+    return new Bounds(sortedKeys, sortedValues);
+  }
+
+  /** Returns the positions of keys in sorted order, or null if the keys are already sorted. */
+  private static int[] sortOrder(int[] keys) {
+    boolean sorted = true;
+    for (int i = 1; i < keys.length && sorted; i += 1) {
+      sorted = keys[i - 1] < keys[i];
+    }
+
+    if (sorted) {
+      return null;
+    }
+
+    return IntStream.range(0, keys.length)
+        .boxed()
+        .sorted((left, right) -> Integer.compare(keys[left], keys[right]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  /** Constructor for Kryo serialization. */
+  ColumnMetricsMap() {
+    this.keys = new int[0];
+  }
+
+  ColumnMetricsMap(int[] keys) {
+    this.keys = keys;
+  }
+
+  protected abstract V valueAt(int index);
+
+  /** Returns an unmodified map with the given entries. */
+  protected abstract ColumnMetricsMap<V> copyOf(Map<Integer, V> entries);
+
+  /** Returns a new unmodified map with the given keys that shares the values of this map. */
+  protected abstract ColumnMetricsMap<V> withKeys(int[] sharedKeys);
+
+  /**
+   * Returns a copy of this map.
+   *
+   * <p>The arrays of a map are never written after it is created, so the copy of an unmodified map
+   * shares them. Modifying either map afterwards does not change the other.
+   */
+  ColumnMetricsMap<V> copy() {
+    return modified != null ? copyOf(modified) : withKeys(keys);
+  }
+
+  Object writeReplace() throws ObjectStreamException {
+    return modified != null ? copyOf(modified) : this;
+  }
+
+  private int indexOf(Object key) {
+    if (key instanceof Integer && keys != null) {
+      return Arrays.binarySearch(keys, (Integer) key);
+    }
+
+    return -1;
+  }
+
+  private Map<Integer, V> modifiable() {
+    if (modified == null) {
+      Map<Integer, V> entries = Maps.newLinkedHashMap();
+      int size = keys != null ? keys.length : 0;
+      for (int index = 0; index < size; index += 1) {
+        entries.put(keys[index], valueAt(index));
+      }
+
+      this.modified = entries;
+      this.keys = null;
+    }
+
+    return modified;
+  }
+
+  @Override
+  public int size() {
+    if (modified != null) {
+      return modified.size();
+    }
+
+    return keys != null ? keys.length : 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (modified != null) {
+      return modified.containsKey(key);
+    }
+
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public V get(Object key) {
+    if (modified != null) {
+      return modified.get(key);
+    }
+
+    int index = indexOf(key);
+    return index >= 0 ? valueAt(index) : null;
+  }
+
+  @Override
+  public V put(Integer key, V value) {
+    return modifiable().put(key, value);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return modifiable().remove(key);
+  }
+
+  @Override
+  public void clear() {
+    modifiable().clear();
+  }
+
+  @Override
+  public Set<Entry<Integer, V>> entrySet() {
+    if (modified != null) {
+      return modified.entrySet();
+    }
+
+    return new AbstractSet<Entry<Integer, V>>() {
+      @Override
+      public Iterator<Entry<Integer, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return ColumnMetricsMap.this.size();
+      }
+    };
+  }
+
+  private class EntryIterator implements Iterator<Entry<Integer, V>> {
+    private final int[] iterKeys = keys;
+    private int index = 0;
+
+    @Override
+    public boolean hasNext() {
+      return iterKeys != null && index < iterKeys.length;
+    }
+
+    @Override
+    public Entry<Integer, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      Entry<Integer, V> entry = new SimpleImmutableEntry<>(iterKeys[index], valueAt(index));
+      index += 1;
+      return entry;
+    }
+  }
+
+  private static class Counts extends ColumnMetricsMap<Long> {
+    private final long[] values;
+
+    /** Constructor for Kryo serialization. */
+    Counts() {
+      this.values = new long[0];
+    }
+
+    private Counts(int[] keys, long[] values) {
+      super(keys);
+      this.values = values;
+    }
+
+    @Override
+    protected Long valueAt(int index) {
+      return values[index];
+    }
+
+    @Override
+    protected ColumnMetricsMap<Long> withKeys(int[] sharedKeys) {
+      return new Counts(sharedKeys, values);
+    }
+
+    @Override
+    protected ColumnMetricsMap<Long> copyOf(Map<Integer, Long> entries) {
+      int[] keys = new int[entries.size()];
+      long[] values = new long[entries.size()];
+      int index = 0;
+      for (Entry<Integer, Long> entry : entries.entrySet()) {
+        keys[index] = entry.getKey();
+        values[index] = entry.getValue();
+        index += 1;
+      }
+
+      return ofCounts(keys, values);
+    }
+  }
+
+  private static class Bounds extends ColumnMetricsMap<ByteBuffer> {
+    private final byte[][] values;
+
+    /** Constructor for Kryo serialization. */
+    Bounds() {
+      this.values = new byte[0][];
+    }
+
+    private Bounds(int[] keys, byte[][] values) {
+      super(keys);
+      this.values = values;
+    }
+
+    @Override
+    protected ByteBuffer valueAt(int index) {
+      // the array is shared with copies of this map
+      return ByteBuffer.wrap(values[index]).asReadOnlyBuffer();
+    }
+
+    @Override
+    protected ColumnMetricsMap<ByteBuffer> withKeys(int[] sharedKeys) {
+      return new Bounds(sharedKeys, values);
+    }
+
+    @Override
+    protected ColumnMetricsMap<ByteBuffer> copyOf(Map<Integer, ByteBuffer> entries) {
+      int[] keys = new int[entries.size()];
+      byte[][] values = new byte[entries.size()][];
+      int index = 0;
+      for (Entry<Integer, ByteBuffer> entry : entries.entrySet()) {
+        keys[index] = entry.getKey();
+        values[index] = ByteBuffers.toByteArray(entry.getValue());
+        index += 1;
+      }
+
+      return ofBounds(keys, values);
+    }
+  }
+}
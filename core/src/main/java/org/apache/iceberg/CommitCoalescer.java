@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces concurrent appends and row deltas to a table into shared metadata commits.
+ *
+ * <p>Writers in the same process that commit to a table at a high rate spend most of their commit
+ * time retrying after conflicts with each other. This class queues their operations and commits
+ * all operations that are pending at the same time in a single {@link Transaction}, so that the
+ * table metadata is swapped once per batch instead of once per operation.
+ *
+ * <p>Each operation still produces its own snapshot and is validated on its own, both when it is
+ * staged and when the transaction is retried after a concurrent commit. If an operation fails
+ * validation, only the future of that operation fails and the rest of the batch is committed.
+ *
+ * <p>The callbacks passed to this class configure a new operation and may be called more than
+ * once for the same request if its batch must be retried, so they should only add files and set
+ * options on the operation that is passed in.
+ */
+public class CommitCoalescer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitCoalescer.class);
+  private static final int MAX_BATCH_SIZE_DEFAULT = 100;
+
+  private final Table table;
+  private final int maxBatchSize;
+  private final BlockingQueue<PendingCommit<?>> pendingCommits;
+  private final ExecutorService committerService;
+  private final AtomicBoolean committing = new AtomicBoolean(false);
+  private boolean closed = false;
+
+  public CommitCoalescer(Table table) {
+    this(table, MAX_BATCH_SIZE_DEFAULT);
+  }
+
+  public CommitCoalescer(Table table, int maxBatchSize) {
+    Preconditions.checkArgument(
+        maxBatchSize > 0, "Invalid max batch size: %s (must be positive)", maxBatchSize);
+    this.table = table;
+    this.maxBatchSize = maxBatchSize;
+    this.pendingCommits = Queues.newLinkedBlockingQueue();
+    this.committerService =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("commit-coalescer-" + table.name())
+                .build());
+  }
+
+  /**
+   * Queues an append that uses {@link Table#newAppend()}.
+   *
+   * @param update a callback that adds files to the append
+   * @return a future that completes with the append's snapshot once it is committed
+   */
+  public CompletableFuture<Snapshot> append(Consumer<AppendFiles> update) {
+    return submit(Transaction::newAppend, update);
+  }
+
+  /**
+   * Queues an append that uses {@link Table#newFastAppend()}.
+   *
+   * @param update a callback that adds files to the append
+   * @return a future that completes with the append's snapshot once it is committed
+   */
+  public CompletableFuture<Snapshot> fastAppend(Consumer<AppendFiles> update) {
+    return submit(Transaction::newFastAppend, update);
+  }
+
+  /**
+   * Queues a row delta.
+   *
+   * @param update a callback that adds files and sets validation options on the row delta
+   * @return a future that completes with the row delta's snapshot once it is committed
+   */
+  public CompletableFuture<Snapshot> rowDelta(Consumer<RowDelta> update) {
+    return submit(Transaction::newRowDelta, update);
+  }
+
+  private <T extends SnapshotUpdate<T>> CompletableFuture<Snapshot> submit(
+      Function<Transaction, T> newOperation, Consumer<T> update) {
+    PendingCommit<T> commit = new PendingCommit<>(newOperation, update);
+    synchronized (this) {
+      Preconditions.checkState(!closed, "Cannot submit a commit to a closed coalescer");
+      pendingCommits.add(commit);
+      if (committing.compareAndSet(false, true)) {
+        committerService.execute(this::commitPending);
+      }
+    }
+
+    return commit.future();
+  }
+
+  private void commitPending() {
+    do {
+      try {
+        List<PendingCommit<?>> batch = Lists.newArrayListWithExpectedSize(maxBatchSize);
+        while (pendingCommits.drainTo(batch, maxBatchSize) > 0) {
+          commitOrFail(batch);
+          batch.clear();
+        }
+      } finally {
+        committing.set(false);
+      }
+
+      // a commit may have been queued after the queue was drained but before the flag was reset
+    } while (!pendingCommits.isEmpty() && committing.compareAndSet(false, true));
+  }
+
+  /** Commits a batch and fails the operations that were not completed if the commit throws. */
+  private void commitOrFail(List<PendingCommit<?>> batch) {
+    try {
+      commitBatch(batch);
+    } catch (RuntimeException e) {
+      // callers wait on the futures, so an exception must not be lost on the committer thread
+      LOG.error("Failed to commit {} coalesced operations to {}", batch.size(), table.name(), e);
+      batch.forEach(commit -> commit.fail(e));
+    }
+  }
+
+  private void commitBatch(List<PendingCommit<?>> batch) {
+    List<PendingCommit<?>> remaining = Lists.newArrayList(batch);
+    while (!remaining.isEmpty()) {
+      Transaction txn = table.newTransaction();
+      List<PendingCommit<?>> staged = Lists.newArrayListWithExpectedSize(remaining.size());
+      PendingCommit<?> invalid = null;
+      for (PendingCommit<?> commit : remaining) {
+        try {
+          commit.stage(txn);
+          staged.add(commit);
+        } catch (RuntimeException e) {
+          commit.fail(e);
+          invalid = commit;
+          break;
+        }
+      }
+
+      if (invalid != null) {
+        // the transaction cannot be used after an operation fails, restage the rest without it
+        staged.forEach(PendingCommit::cleanUp);
+        remaining.remove(invalid);
+        continue;
+      }
+
+      try {
+        txn.commitTransaction();
+      } catch (CommitStateUnknownException e) {
+        staged.forEach(commit -> commit.fail(e));
+        return;
+      } catch (RuntimeException e) {
+        if (staged.size() == 1) {
+          staged.get(0).fail(e);
+        } else {
+          // an operation failed validation against a concurrent commit, so commit each operation
+          // separately to fail only the operations that conflict
+          LOG.warn(
+              "Failed to commit {} coalesced operations to {}, committing them separately",
+              staged.size(),
+              table.name(),
+              e);
+          staged.forEach(commit -> commitOrFail(Collections.singletonList(commit)));
+        }
+
+        return;
+      }
+
+      for (PendingCommit<?> commit : staged) {
+        commit.complete(txn.table());
+      }
+
+      return;
+    }
+  }
+
+  /** Commits all queued operations and stops accepting new operations. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+      committerService.shutdown();
+    }
+
+    try {
+      while (!committerService.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.info("Waiting for coalesced commits to {} to finish", table.name());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for coalesced commits", e);
+    }
+  }
+
+  private static class PendingCommit<T extends SnapshotUpdate<T>> {
+    private final Function<Transaction, T> newOperation;
+    private final Consumer<T> update;
+    private final CompletableFuture<Snapshot> future = new CompletableFuture<>();
+    private SnapshotProducer<?> operation = null;
+
+    private PendingCommit(Function<Transaction, T> newOperation, Consumer<T> update) {
+      this.newOperation = newOperation;
+      this.update = update;
+    }
+
+    private CompletableFuture<Snapshot> future() {
+      return future;
+    }
+
+    private void stage(Transaction txn) {
+      T op = newOperation.apply(txn);
+      this.operation = (SnapshotProducer<?>) op;
+      update.accept(op);
+      op.commit();
+    }
+
+    private void cleanUp() {
+      operation.cleanAll();
+    }
+
+    private void complete(Table committed) {
+      future.complete(committed.snapshot(operation.snapshotId()));
+    }
+
+    /** Fails the operation, unless its future was already completed. */
+    private void fail(Throwable cause) {
+      future.completeExceptionally(cause);
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.SnapshotUtil;
 
 public class DataTableScan extends BaseTableScan {
@@ -107,7 +108,14 @@ public class DataTableScan extends BaseTableScan {
     }
 
     if (dataManifests.size() > 1 && shouldPlanWithExecutor()) {
-      manifestGroup = manifestGroup.planWith(planExecutor());
+      manifestGroup =
+          manifestGroup
+              .planWith(planExecutor())
+              .prefetchManifests(
+                  PropertyUtil.propertyAsLong(
+                      table().properties(),
+                      TableProperties.MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT,
+                      TableProperties.MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT_DEFAULT));
     }
 
     return manifestGroup.planFiles();
@@ -23,6 +23,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -32,7 +33,6 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -69,10 +69,8 @@ class DeleteFileIndex {
   private final Map<Integer, PartitionSpec> specsById;
   private final Map<Integer, Types.StructType> partitionTypeById;
   private final Map<Integer, ThreadLocal<StructLikeWrapper>> wrapperById;
-  private final long[] globalSeqs;
-  private final DeleteFile[] globalDeletes;
-  private final Map<Pair<Integer, StructLikeWrapper>, Pair<long[], DeleteFile[]>>
-      sortedDeletesByPartition;
+  private final DeleteFileGroup globalDeletes;
+  private final Map<Pair<Integer, StructLikeWrapper>, DeleteFileGroup> deletesByPartition;
 
   DeleteFileIndex(
       Map<Integer, PartitionSpec> specsById,
@@ -84,25 +82,30 @@ class DeleteFileIndex {
     specsById.forEach((specId, spec) -> builder.put(specId, spec.partitionType()));
     this.partitionTypeById = builder.build();
     this.wrapperById = Maps.newConcurrentMap();
-    this.globalSeqs = globalSeqs;
-    this.globalDeletes = globalDeletes;
-    this.sortedDeletesByPartition = sortedDeletesByPartition;
+    this.globalDeletes =
+        globalDeletes != null ? new DeleteFileGroup(globalSeqs, globalDeletes) : null;
+    ImmutableMap.Builder<Pair<Integer, StructLikeWrapper>, DeleteFileGroup> groups =
+        ImmutableMap.builder();
+    sortedDeletesByPartition.forEach(
+        (partition, deletes) ->
+            groups.put(partition, new DeleteFileGroup(deletes.first(), deletes.second())));
+    this.deletesByPartition = groups.build();
   }
 
   public boolean isEmpty() {
-    return (globalDeletes == null || globalDeletes.length == 0)
-        && sortedDeletesByPartition.isEmpty();
+    return (globalDeletes == null || globalDeletes.files.length == 0)
+        && deletesByPartition.isEmpty();
   }
 
   public Iterable<DeleteFile> referencedDeleteFiles() {
     Iterable<DeleteFile> deleteFiles = Collections.emptyList();
 
     if (globalDeletes != null) {
-      deleteFiles = Iterables.concat(deleteFiles, Arrays.asList(globalDeletes));
+      deleteFiles = Iterables.concat(deleteFiles, Arrays.asList(globalDeletes.files));
     }
 
-    for (Pair<long[], DeleteFile[]> partitionDeletes : sortedDeletesByPartition.values()) {
-      deleteFiles = Iterables.concat(deleteFiles, Arrays.asList(partitionDeletes.second()));
+    for (DeleteFileGroup partitionDeletes : deletesByPartition.values()) {
+      deleteFiles = Iterables.concat(deleteFiles, Arrays.asList(partitionDeletes.files));
     }
 
     return deleteFiles;
@@ -124,28 +127,19 @@ class DeleteFileIndex {
 
   DeleteFile[] forDataFile(long sequenceNumber, DataFile file) {
     Pair<Integer, StructLikeWrapper> partition = partition(file.specId(), file.partition());
-    Pair<long[], DeleteFile[]> partitionDeletes = sortedDeletesByPartition.get(partition);
-
-    Stream<DeleteFile> matchingDeletes;
-    if (partitionDeletes == null) {
-      matchingDeletes = limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes);
-    } else if (globalDeletes == null) {
-      matchingDeletes =
-          limitBySequenceNumber(
-              sequenceNumber, partitionDeletes.first(), partitionDeletes.second());
-    } else {
-      matchingDeletes =
-          Stream.concat(
-              limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes),
-              limitBySequenceNumber(
-                  sequenceNumber, partitionDeletes.first(), partitionDeletes.second()));
-    }
-
-    return matchingDeletes
-        .filter(
-            deleteFile ->
-                canContainDeletesForFile(file, deleteFile, specsById.get(file.specId()).schema()))
-        .toArray(DeleteFile[]::new);
+    DeleteFileGroup partitionDeletes = deletesByPartition.get(partition);
+    Schema schema = specsById.get(file.specId()).schema();
+
+    List<DeleteFile> matchingDeletes = Lists.newArrayList();
+    if (globalDeletes != null) {
+      globalDeletes.addMatches(sequenceNumber, file, schema, matchingDeletes);
+    }
+
+    if (partitionDeletes != null) {
+      partitionDeletes.addMatches(sequenceNumber, file, schema, matchingDeletes);
+    }
+
+    return matchingDeletes.toArray(new DeleteFile[0]);
   }
 
   private static boolean canContainDeletesForFile(
@@ -327,12 +321,8 @@ class DeleteFileIndex {
     return nullValueCount > 0;
   }
 
-  private static Stream<DeleteFile> limitBySequenceNumber(
-      long sequenceNumber, long[] seqs, DeleteFile[] files) {
-    if (files == null) {
-      return Stream.empty();
-    }
-
+  /** Returns the position of the first sequence number that is greater or equal to seq. */
+  private static int firstIndex(long sequenceNumber, long[] seqs) {
     int pos = Arrays.binarySearch(seqs, sequenceNumber);
     int start;
     if (pos < 0) {
@@ -347,7 +337,303 @@ class DeleteFileIndex {
       }
     }
 
-    return Arrays.stream(files, start, files.length);
+    return start;
+  }
+
+  /**
+   * Delete files of one partition (or the global deletes), sorted by the sequence number they apply
+   * to.
+   *
+   * <p>Candidates are limited by sequence number with a binary search. When many delete files
+   * remain, an index of their bounds is used to skip delete files that cannot overlap with a data
+   * file without decoding their bounds. The index is built on first use because it needs the table
+   * schema to decode bounds.
+   */
+  private static class DeleteFileGroup {
+    // below this number of candidates, checking every delete file is cheaper than using the index
+    private static final int MIN_INDEXED_CANDIDATES = 16;
+
+    private final long[] seqs;
+    private final DeleteFile[] files;
+    private volatile BoundsIndex boundsIndex = null;
+
+    private DeleteFileGroup(long[] seqs, DeleteFile[] files) {
+      this.seqs = seqs;
+      this.files = files;
+    }
+
+    private void addMatches(
+        long sequenceNumber, DataFile file, Schema schema, List<DeleteFile> matches) {
+      int start = firstIndex(sequenceNumber, seqs);
+      if (files.length - start < MIN_INDEXED_CANDIDATES) {
+        for (int pos = start; pos < files.length; pos += 1) {
+          if (canContainDeletesForFile(file, files[pos], schema)) {
+            matches.add(files[pos]);
+          }
+        }
+
+        return;
+      }
+
+      BitSet candidates = boundsIndex(schema).candidates(sequenceNumber, file, schema);
+      for (int pos = candidates.nextSetBit(start); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+        if (canContainDeletesForFile(file, files[pos], schema)) {
+          matches.add(files[pos]);
+        }
+      }
+    }
+
+    private BoundsIndex boundsIndex(Schema schema) {
+      if (boundsIndex == null) {
+        synchronized (this) {
+          if (boundsIndex == null) {
+            this.boundsIndex = new BoundsIndex(seqs, files, schema);
+          }
+        }
+      }
+
+      return boundsIndex;
+    }
+  }
+
+  /**
+   * Index of delete files by the bounds of a single column.
+   *
+   * <p>Position deletes are indexed by the bounds of the referenced file paths. Equality deletes
+   * are indexed by the first equality field that has bounds and no null values, because only then
+   * a non-overlapping range is sufficient to skip the delete file. All other delete files are
+   * always returned as candidates.
+   */
+  private static class BoundsIndex {
+    private final int numFiles;
+    private final long[] unindexedSeqs;
+    private final int[] unindexedPositions;
+    private final RangeIndex[] ranges;
+
+    private BoundsIndex(long[] seqs, DeleteFile[] files, Schema schema) {
+      this.numFiles = files.length;
+
+      Map<Integer, List<Integer>> positionsByFieldId = Maps.newLinkedHashMap();
+      List<Integer> unindexed = Lists.newArrayList();
+      for (int pos = 0; pos < files.length; pos += 1) {
+        Integer fieldId = indexedFieldId(files[pos], schema);
+        if (fieldId != null) {
+          positionsByFieldId.computeIfAbsent(fieldId, id -> Lists.newArrayList()).add(pos);
+        } else {
+          unindexed.add(pos);
+        }
+      }
+
+      this.unindexedPositions = unindexed.stream().mapToInt(Integer::intValue).toArray();
+      this.unindexedSeqs = unindexed.stream().mapToLong(pos -> seqs[pos]).toArray();
+      this.ranges =
+          positionsByFieldId.entrySet().stream()
+              .map(
+                  entry -> {
+                    int fieldId = entry.getKey();
+                    Type.PrimitiveType type = indexedType(fieldId, schema);
+                    return new RangeIndex(fieldId, type, entry.getValue(), seqs, files);
+                  })
+              .toArray(RangeIndex[]::new);
+    }
+
+    private BitSet candidates(long sequenceNumber, DataFile file, Schema schema) {
+      BitSet candidates = new BitSet(numFiles);
+      int start = firstIndex(sequenceNumber, unindexedSeqs);
+      for (int i = start; i < unindexedPositions.length; i += 1) {
+        candidates.set(unindexedPositions[i]);
+      }
+
+      for (RangeIndex range : ranges) {
+        range.addCandidates(sequenceNumber, file, schema, candidates);
+      }
+
+      return candidates;
+    }
+
+    private static Type.PrimitiveType indexedType(int fieldId, Schema schema) {
+      if (fieldId == MetadataColumns.DELETE_FILE_PATH.fieldId()) {
+        return MetadataColumns.DELETE_FILE_PATH.type().asPrimitiveType();
+      }
+
+      return schema.findType(fieldId).asPrimitiveType();
+    }
+
+    private static Integer indexedFieldId(DeleteFile deleteFile, Schema schema) {
+      Map<Integer, ByteBuffer> lowers = deleteFile.lowerBounds();
+      Map<Integer, ByteBuffer> uppers = deleteFile.upperBounds();
+      if (lowers == null || uppers == null) {
+        return null;
+      }
+
+      switch (deleteFile.content()) {
+        case POSITION_DELETES:
+          int pathId = MetadataColumns.DELETE_FILE_PATH.fieldId();
+          return lowers.get(pathId) != null && uppers.get(pathId) != null ? pathId : null;
+
+        case EQUALITY_DELETES:
+          for (int id : deleteFile.equalityFieldIds()) {
+            Types.NestedField field = schema.findField(id);
+            if (field != null
+                && field.type().isPrimitiveType()
+                && lowers.get(id) != null
+                && uppers.get(id) != null
+                && !containsNull(deleteFile.nullValueCounts(), field)) {
+              return id;
+            }
+          }
+
+          return null;
+
+        default:
+          return null;
+      }
+    }
+  }
+
+  /**
+   * Delete files sorted by the lower bound of one column, with a segment tree over the maximum
+   * upper bound and the maximum sequence number.
+   *
+   * <p>Delete files that may overlap with [dataLower, dataUpper] are a prefix of the sorted files
+   * (lower bound &lt;= dataUpper). Within that prefix, subtrees are skipped when all of their upper
+   * bounds are below dataLower or all of their sequence numbers are below the data sequence number,
+   * so lookups only visit subtrees that contain matches.
+   */
+  private static class RangeIndex {
+    private final int fieldId;
+    private final Type.PrimitiveType type;
+    private final Comparator<Object> comparator;
+    private final int[] positions;
+    private final long[] seqs;
+    private final Object[] lowers;
+    private final Object[] maxUppers;
+    private final long[] maxSeqs;
+
+    private RangeIndex(
+        int fieldId,
+        Type.PrimitiveType type,
+        List<Integer> filePositions,
+        long[] fileSeqs,
+        DeleteFile[] files) {
+      this.fieldId = fieldId;
+      this.type = type;
+      this.comparator = Comparators.forType(type);
+
+      int size = filePositions.size();
+      Object[] fileLowers = new Object[files.length];
+      Object[] fileUppers = new Object[files.length];
+      for (int pos : filePositions) {
+        fileLowers[pos] = Conversions.fromByteBuffer(type, files[pos].lowerBounds().get(fieldId));
+        fileUppers[pos] = Conversions.fromByteBuffer(type, files[pos].upperBounds().get(fieldId));
+      }
+
+      this.positions =
+          filePositions.stream()
+              .sorted((left, right) -> comparator.compare(fileLowers[left], fileLowers[right]))
+              .mapToInt(Integer::intValue)
+              .toArray();
+      this.seqs = new long[size];
+      this.lowers = new Object[size];
+      Object[] uppers = new Object[size];
+      for (int i = 0; i < size; i += 1) {
+        seqs[i] = fileSeqs[positions[i]];
+        lowers[i] = fileLowers[positions[i]];
+        uppers[i] = fileUppers[positions[i]];
+      }
+
+      this.maxUppers = new Object[4 * size];
+      this.maxSeqs = new long[4 * size];
+      build(1, 0, size - 1, uppers);
+    }
+
+    private void build(int node, int first, int last, Object[] uppers) {
+      if (first == last) {
+        maxUppers[node] = uppers[first];
+        maxSeqs[node] = seqs[first];
+        return;
+      }
+
+      int mid = (first + last) >>> 1;
+      build(2 * node, first, mid, uppers);
+      build(2 * node + 1, mid + 1, last, uppers);
+
+      Object leftUpper = maxUppers[2 * node];
+      Object rightUpper = maxUppers[2 * node + 1];
+      maxUppers[node] = comparator.compare(leftUpper, rightUpper) >= 0 ? leftUpper : rightUpper;
+      maxSeqs[node] = Math.max(maxSeqs[2 * node], maxSeqs[2 * node + 1]);
+    }
+
+    private void addCandidates(
+        long sequenceNumber, DataFile file, Schema schema, BitSet candidates) {
+      Object dataLower;
+      Object dataUpper;
+      if (fieldId == MetadataColumns.DELETE_FILE_PATH.fieldId()) {
+        dataLower = file.path();
+        dataUpper = file.path();
+      } else {
+        ByteBuffer lowerBuf = file.lowerBounds() != null ? file.lowerBounds().get(fieldId) : null;
+        ByteBuffer upperBuf = file.upperBounds() != null ? file.upperBounds().get(fieldId) : null;
+        if (lowerBuf == null || upperBuf == null || !type.equals(schema.findType(fieldId))) {
+          // the data file has no usable bounds for this column, every delete file may match
+          for (int i = 0; i < positions.length; i += 1) {
+            if (seqs[i] >= sequenceNumber) {
+              candidates.set(positions[i]);
+            }
+          }
+
+          return;
+        }
+
+        dataLower = Conversions.fromByteBuffer(type, lowerBuf);
+        dataUpper = Conversions.fromByteBuffer(type, upperBuf);
+      }
+
+      int last = lastLowerAtMost(dataUpper);
+      if (last >= 0) {
+        addCandidates(1, 0, positions.length - 1, last, sequenceNumber, dataLower, candidates);
+      }
+    }
+
+    private void addCandidates(
+        int node,
+        int first,
+        int last,
+        int limit,
+        long sequenceNumber,
+        Object dataLower,
+        BitSet candidates) {
+      if (first > limit
+          || maxSeqs[node] < sequenceNumber
+          || comparator.compare(maxUppers[node], dataLower) < 0) {
+        return;
+      }
+
+      if (first == last) {
+        candidates.set(positions[first]);
+        return;
+      }
+
+      int mid = (first + last) >>> 1;
+      addCandidates(2 * node, first, mid, limit, sequenceNumber, dataLower, candidates);
+      addCandidates(2 * node + 1, mid + 1, last, limit, sequenceNumber, dataLower, candidates);
+    }
+
+    /** Returns the position of the last delete file with a lower bound &lt;= value, or -1. */
+    private int lastLowerAtMost(Object value) {
+      int low = 0;
+      int high = lowers.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (comparator.compare(lowers[mid], value) <= 0) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return high;
+    }
   }
 
   static Builder builderFor(FileIO io, Iterable<ManifestFile> deleteManifests) {
@@ -63,7 +63,8 @@ abstract class FileCleanupStrategy {
               "deleted_data_files_count");
 
   protected CloseableIterable<ManifestFile> readManifests(Snapshot snapshot) {
-    if (snapshot.manifestListLocation() != null) {
+    if (snapshot.manifestListLocation() != null
+        && !ManifestLists.isDelta(snapshot.manifestListLocation())) {
       return Avro.read(fileIO.newInputFile(snapshot.manifestListLocation()))
           .rename("manifest_file", GenericManifestFile.class.getName())
           .classLoader(GenericManifestFile.class.getClassLoader())
@@ -86,6 +87,43 @@ abstract class FileCleanupStrategy {
         .run(deleteFunc::accept);
   }
 
+  /**
+   * Returns the manifest lists that can be deleted after the given manifest lists have expired.
+   *
+   * <p>Delta manifest lists are read through the manifest lists they are based on. The base lists
+   * of expired delta lists are also deleted, unless a retained snapshot still depends on them.
+   *
+   * @param expiredManifestLists manifest list locations of expired snapshots
+   * @param retainedSnapshots snapshots that remain in the table
+   * @return the locations of manifest lists to delete
+   */
+  protected Set<String> deletableManifestLists(
+      Set<String> expiredManifestLists, Iterable<Snapshot> retainedSnapshots) {
+    Set<String> manifestListsToDelete = Sets.newHashSet();
+    for (String manifestList : expiredManifestLists) {
+      manifestListsToDelete.add(manifestList);
+      if (ManifestLists.isDelta(manifestList)) {
+        try {
+          manifestListsToDelete.addAll(ManifestLists.chain(fileIO, manifestList));
+        } catch (RuntimeException e) {
+          LOG.warn("Failed to read base manifest lists of {}", manifestList, e);
+        }
+      }
+    }
+
+    for (Snapshot snapshot : retainedSnapshots) {
+      String manifestList = snapshot.manifestListLocation();
+      if (manifestList != null) {
+        manifestListsToDelete.remove(manifestList);
+        if (ManifestLists.isDelta(manifestList)) {
+          manifestListsToDelete.removeAll(ManifestLists.chain(fileIO, manifestList));
+        }
+      }
+    }
+
+    return manifestListsToDelete;
+  }
+
   protected Set<String> expiredStatisticsFilesLocations(
       TableMetadata beforeExpiration, TableMetadata afterExpiration) {
     Set<String> statsFileLocationsBeforeExpiration = statsFileLocations(beforeExpiration);
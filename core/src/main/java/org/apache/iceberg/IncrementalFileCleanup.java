@@ -260,7 +260,7 @@ class IncrementalFileCleanup extends FileCleanupStrategy {
 
     deleteFiles(filesToDelete, "data");
     deleteFiles(manifestsToDelete, "manifest");
-    deleteFiles(manifestListsToDelete, "manifest list");
+    deleteFiles(deletableManifestLists(manifestListsToDelete, snapshots), "manifest list");
 
     if (!beforeExpiration.statisticsFiles().isEmpty()) {
       Set<String> expiredStatisticsFilesLocations =
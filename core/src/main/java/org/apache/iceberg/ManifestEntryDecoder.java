@@ -0,0 +1,573 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.avro.GenericAvroReader;
+import org.apache.iceberg.avro.SupportsRowPosition;
+import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * A {@link DatumReader} specialized for manifest entries.
+ *
+ * <p>The generic Avro reader resolves every record against the projection with a {@link
+ * org.apache.avro.io.ResolvingDecoder} and materializes each value before it is passed to {@link
+ * BaseFile#put(int, Object)}. Because the manifest schema is fixed for each format version, this
+ * reader instead builds a decode plan from the file schema once, keyed by field ID. The plan reads
+ * values straight from the binary decoder, skips fields that are not projected without
+ * materializing them, decodes column metrics into {@link ColumnMetricsMap array-backed maps} and
+ * split offsets and equality IDs into primitive arrays, and caches the file format of the previous
+ * entry.
+ *
+ * <p>Metrics can be limited to a set of column IDs, in which case metrics for other columns are
+ * skipped while decoding.
+ *
+ * <p>If the file schema contains a projected field with an unexpected type, this falls back to
+ * {@link GenericAvroReader}, which keeps metrics for all columns.
+ */
+class ManifestEntryDecoder<F extends ContentFile<F>>
+    implements DatumReader<ManifestEntry<F>>, SupportsRowPosition {
+  private static final Set<Integer> INT_FIELDS =
+      ImmutableSet.of(
+          ManifestEntry.STATUS.fieldId(),
+          DataFile.CONTENT.fieldId(),
+          DataFile.SPEC_ID.fieldId(),
+          DataFile.SORT_ORDER_ID.fieldId());
+  private static final Set<Integer> LONG_FIELDS =
+      ImmutableSet.of(
+          ManifestEntry.SNAPSHOT_ID.fieldId(),
+          ManifestEntry.SEQUENCE_NUMBER.fieldId(),
+          ManifestEntry.FILE_SEQUENCE_NUMBER.fieldId(),
+          DataFile.RECORD_COUNT.fieldId(),
+          DataFile.FILE_SIZE.fieldId());
+  private static final Set<Integer> COUNT_FIELDS =
+      ImmutableSet.of(
+          DataFile.COLUMN_SIZES.fieldId(),
+          DataFile.VALUE_COUNTS.fieldId(),
+          DataFile.NULL_VALUE_COUNTS.fieldId(),
+          DataFile.NAN_VALUE_COUNTS.fieldId());
+  private static final Set<Integer> BOUND_FIELDS =
+      ImmutableSet.of(DataFile.LOWER_BOUNDS.fieldId(), DataFile.UPPER_BOUNDS.fieldId());
+
+  private final Schema readSchema;
+  private final ClassLoader loader;
+  private final int[] statsColumnIds;
+  private DatumReader<ManifestEntry<F>> fallback = null;
+  private FieldDecoder[] entryDecoders = null;
+  private DynConstructors.Ctor<BaseFile<?>> fileCtor = null;
+  private Schema fileReadSchema = null;
+  private PositionDecoder positionDecoder = null;
+
+  ManifestEntryDecoder(Schema readSchema, ClassLoader loader) {
+    this(readSchema, loader, null);
+  }
+
+  /**
+   * @param readSchema the projected Avro schema
+   * @param loader a class loader for the projected record classes
+   * @param statsColumnIds IDs of the columns to keep metrics for, or null to keep all metrics
+   */
+  ManifestEntryDecoder(Schema readSchema, ClassLoader loader, Set<Integer> statsColumnIds) {
+    this.readSchema = readSchema;
+    this.loader = loader;
+    this.statsColumnIds =
+        statsColumnIds != null
+            ? statsColumnIds.stream().mapToInt(Integer::intValue).sorted().toArray()
+            : null;
+  }
+
+  @Override
+  public void setSchema(Schema fileSchema) {
+    this.fallback = null;
+    this.positionDecoder = null;
+    this.entryDecoders = buildEntryDecoders(fileSchema);
+
+    if (entryDecoders == null) {
+      GenericAvroReader<ManifestEntry<F>> reader = GenericAvroReader.create(readSchema);
+      reader.setClassLoader(loader);
+      reader.setSchema(fileSchema);
+      this.fallback = reader;
+    }
+  }
+
+  @Override
+  public void setRowPositionSupplier(Supplier<Long> posSupplier) {
+    if (fallback instanceof SupportsRowPosition) {
+      ((SupportsRowPosition) fallback).setRowPositionSupplier(posSupplier);
+    } else if (positionDecoder != null) {
+      positionDecoder.setStartingPosition(posSupplier.get());
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ManifestEntry<F> read(ManifestEntry<F> reuse, Decoder decoder) throws IOException {
+    if (fallback != null) {
+      return fallback.read(reuse, decoder);
+    }
+
+    GenericManifestEntry<F> entry;
+    BaseFile<?> file;
+    if (reuse instanceof GenericManifestEntry && isReusableFile(reuse.file())) {
+      entry = (GenericManifestEntry<F>) reuse;
+      file = (BaseFile<?>) reuse.file();
+    } else {
+      entry = new GenericManifestEntry<>(readSchema);
+      file = fileCtor.newInstance(fileReadSchema);
+    }
+
+    for (FieldDecoder fieldDecoder : entryDecoders) {
+      fieldDecoder.decode(decoder, entry, file);
+    }
+
+    return entry;
+  }
+
+  private boolean isReusableFile(Object file) {
+    return file instanceof BaseFile && ((BaseFile<?>) file).getSchema() == fileReadSchema;
+  }
+
+  /** Decodes one field of the file schema into a manifest entry or its content file. */
+  private interface FieldDecoder {
+    void decode(Decoder decoder, GenericManifestEntry<?> entry, BaseFile<?> file)
+        throws IOException;
+  }
+
+  private FieldDecoder[] buildEntryDecoders(Schema fileSchema) {
+    if (fileSchema.getType() != Schema.Type.RECORD) {
+      return null;
+    }
+
+    Map<Integer, Integer> readPositions = positionsById(readSchema);
+    Set<Integer> decodedIds = Sets.newHashSet();
+    List<FieldDecoder> decoders = Lists.newArrayList();
+    for (Schema.Field field : fileSchema.getFields()) {
+      Integer id = fieldId(field);
+      if (id == null) {
+        return null;
+      }
+
+      Integer readPos = readPositions.get(id);
+      if (readPos == null) {
+        decoders.add(skip(field.schema()));
+        continue;
+      }
+
+      int pos = readPos;
+
+      FieldDecoder fieldDecoder;
+      if (id == ManifestEntry.DATA_FILE_ID) {
+        Schema fileType = field.schema();
+        if (fileType.getType() != Schema.Type.RECORD) {
+          return null;
+        }
+
+        fieldDecoder = dataFileDecoder(pos, fileType);
+      } else {
+        FieldDecoder nullDecoder = (d, e, f) -> e.put(pos, null);
+        fieldDecoder = option(field.schema(), id, pos, nullDecoder, this::entryValue);
+      }
+
+      if (fieldDecoder == null) {
+        return null;
+      }
+
+      decoders.add(fieldDecoder);
+      decodedIds.add(id);
+    }
+
+    for (Map.Entry<Integer, Integer> projected : readPositions.entrySet()) {
+      if (!decodedIds.contains(projected.getKey())) {
+        if (projected.getKey() == ManifestEntry.DATA_FILE_ID) {
+          return null;
+        }
+
+        // the field is not in the file, which the generic reader fills with null
+        int pos = projected.getValue();
+        decoders.add((d, e, f) -> e.put(pos, null));
+      }
+    }
+
+    return decoders.toArray(new FieldDecoder[0]);
+  }
+
+  private FieldDecoder entryValue(int id, int pos, Schema type) {
+    if (INT_FIELDS.contains(id) && type.getType() == Schema.Type.INT) {
+      return (d, e, f) -> e.put(pos, d.readInt());
+    } else if (LONG_FIELDS.contains(id) && type.getType() == Schema.Type.LONG) {
+      return (d, e, f) -> e.put(pos, d.readLong());
+    }
+
+    return null;
+  }
+
+  private FieldDecoder dataFileDecoder(int entryPos, Schema fileType) {
+    this.fileReadSchema = readSchema.getFields().get(entryPos).schema();
+    if (fileReadSchema.getType() != Schema.Type.RECORD) {
+      return null;
+    }
+
+    try {
+      this.fileCtor =
+          DynConstructors.builder(BaseFile.class)
+              .loader(loader)
+              .hiddenImpl(fileReadSchema.getFullName(), Schema.class)
+              .buildChecked();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+
+    Map<Integer, Integer> readPositions = positionsById(fileReadSchema);
+    Set<Integer> decodedIds = Sets.newHashSet();
+    List<FieldDecoder> decoders = Lists.newArrayList();
+    for (Schema.Field field : fileType.getFields()) {
+      Integer id = fieldId(field);
+      if (id == null) {
+        return null;
+      }
+
+      Integer readPos = readPositions.get(id);
+      if (readPos == null) {
+        decoders.add(skip(field.schema()));
+        continue;
+      }
+
+      int pos = readPos;
+
+      FieldDecoder fieldDecoder;
+      if (id == DataFile.PARTITION_ID) {
+        fieldDecoder = partitionDecoder(pos, field.schema());
+      } else {
+        FieldDecoder nullDecoder = (d, e, f) -> f.put(pos, null);
+        fieldDecoder = option(field.schema(), id, pos, nullDecoder, this::fileValue);
+      }
+
+      if (fieldDecoder == null) {
+        return null;
+      }
+
+      decoders.add(fieldDecoder);
+      decodedIds.add(id);
+    }
+
+    for (Map.Entry<Integer, Integer> projected : readPositions.entrySet()) {
+      int id = projected.getKey();
+      int pos = projected.getValue();
+      if (id == MetadataColumns.ROW_POSITION.fieldId()) {
+        this.positionDecoder = new PositionDecoder(pos);
+        decoders.add(positionDecoder);
+      } else if (!decodedIds.contains(id)) {
+        // the field is not in the file, which the generic reader fills with null
+        decoders.add((d, e, f) -> f.put(pos, null));
+      }
+    }
+
+    FieldDecoder[] fileDecoders = decoders.toArray(new FieldDecoder[0]);
+    return (d, e, f) -> {
+      for (FieldDecoder fileDecoder : fileDecoders) {
+        fileDecoder.decode(d, e, f);
+      }
+
+      e.put(entryPos, f);
+    };
+  }
+
+  private FieldDecoder fileValue(int id, int pos, Schema type) {
+    Schema.Type avroType = type.getType();
+    if (INT_FIELDS.contains(id) && avroType == Schema.Type.INT) {
+      return (d, e, f) -> f.put(pos, d.readInt());
+    } else if (LONG_FIELDS.contains(id) && avroType == Schema.Type.LONG) {
+      return (d, e, f) -> f.put(pos, d.readLong());
+    } else if (id == DataFile.FILE_PATH.fieldId() && avroType == Schema.Type.STRING) {
+      return (d, e, f) -> f.put(pos, d.readString());
+    } else if (id == DataFile.FILE_FORMAT.fieldId() && avroType == Schema.Type.STRING) {
+      return new FormatDecoder();
+    } else if (id == DataFile.KEY_METADATA.fieldId() && avroType == Schema.Type.BYTES) {
+      return (d, e, f) -> f.put(pos, d.readBytes(null));
+    } else if (COUNT_FIELDS.contains(id) && isIntKeyedMap(type, Schema.Type.LONG)) {
+      return (d, e, f) -> f.put(pos, readCounts(d));
+    } else if (BOUND_FIELDS.contains(id) && isIntKeyedMap(type, Schema.Type.BYTES)) {
+      return (d, e, f) -> f.put(pos, readBounds(d));
+    } else if (id == DataFile.SPLIT_OFFSETS.fieldId() && isArrayOf(type, Schema.Type.LONG)) {
+      return (d, e, f) -> f.setSplitOffsets(readLongs(d));
+    } else if (id == DataFile.EQUALITY_IDS.fieldId() && isArrayOf(type, Schema.Type.INT)) {
+      return (d, e, f) -> f.setEqualityIds(readInts(d));
+    }
+
+    return null;
+  }
+
+  private FieldDecoder partitionDecoder(int pos, Schema partitionType) {
+    if (partitionType.getType() != Schema.Type.RECORD) {
+      return null;
+    }
+
+    // partition tuples are small and may use any primitive type, so they use the generic reader
+    Schema partitionReadSchema = fileReadSchema.getFields().get(pos).schema();
+    GenericAvroReader<PartitionData> partitionReader =
+        GenericAvroReader.create(partitionReadSchema);
+    partitionReader.setClassLoader(loader);
+    partitionReader.setSchema(partitionType);
+
+    return (d, e, f) -> f.put(pos, partitionReader.read((PartitionData) f.partition(), d));
+  }
+
+  private interface ValueDecoderFactory {
+    FieldDecoder create(int id, int pos, Schema type);
+  }
+
+  /** Returns a decoder for a required or optional field, or null if its type is unexpected. */
+  private static FieldDecoder option(
+      Schema fieldType,
+      int id,
+      int pos,
+      FieldDecoder nullDecoder,
+      ValueDecoderFactory valueDecoders) {
+    if (fieldType.getType() != Schema.Type.UNION) {
+      return valueDecoders.create(id, pos, fieldType);
+    }
+
+    List<Schema> options = fieldType.getTypes();
+    if (options.size() != 2) {
+      return null;
+    }
+
+    int nullIndex = options.get(0).getType() == Schema.Type.NULL ? 0 : 1;
+    if (options.get(nullIndex).getType() != Schema.Type.NULL) {
+      return null;
+    }
+
+    FieldDecoder valueDecoder = valueDecoders.create(id, pos, options.get(1 - nullIndex));
+    if (valueDecoder == null) {
+      return null;
+    }
+
+    return (d, e, f) -> {
+      if (d.readIndex() == nullIndex) {
+        nullDecoder.decode(d, e, f);
+      } else {
+        valueDecoder.decode(d, e, f);
+      }
+    };
+  }
+
+  private static FieldDecoder skip(Schema type) {
+    return (d, e, f) -> GenericDatumReader.skip(type, d);
+  }
+
+  private static boolean isIntKeyedMap(Schema type, Schema.Type valueType) {
+    if (type.getType() != Schema.Type.ARRAY
+        || type.getElementType().getType() != Schema.Type.RECORD) {
+      return false;
+    }
+
+    List<Schema.Field> keyValue = type.getElementType().getFields();
+    return keyValue.size() == 2
+        && keyValue.get(0).schema().getType() == Schema.Type.INT
+        && keyValue.get(1).schema().getType() == valueType;
+  }
+
+  private static boolean isArrayOf(Schema type, Schema.Type elementType) {
+    return type.getType() == Schema.Type.ARRAY
+        && type.getElementType().getType() == elementType;
+  }
+
+  private static Integer fieldId(Schema.Field field) {
+    Object id = field.getObjectProp(AvroSchemaUtil.FIELD_ID_PROP);
+    return id instanceof Number ? ((Number) id).intValue() : null;
+  }
+
+  private static Map<Integer, Integer> positionsById(Schema record) {
+    Map<Integer, Integer> positions = Maps.newLinkedHashMap();
+    List<Schema.Field> fields = record.getFields();
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      Integer id = fieldId(fields.get(pos));
+      if (id != null) {
+        positions.put(id, pos);
+      }
+    }
+
+    return positions;
+  }
+
+  private boolean keepStats(int columnId) {
+    return statsColumnIds == null || Arrays.binarySearch(statsColumnIds, columnId) >= 0;
+  }
+
+  private Map<Integer, Long> readCounts(Decoder decoder) throws IOException {
+    long chunkLength = decoder.readArrayStart();
+    int[] keys = new int[(int) chunkLength];
+    long[] values = new long[(int) chunkLength];
+    int size = 0;
+    while (chunkLength > 0) {
+      if (size + chunkLength > keys.length) {
+        keys = Arrays.copyOf(keys, size + (int) chunkLength);
+        values = Arrays.copyOf(values, size + (int) chunkLength);
+      }
+
+      for (long i = 0; i < chunkLength; i += 1) {
+        int key = decoder.readInt();
+        long value = decoder.readLong();
+        if (keepStats(key)) {
+          keys[size] = key;
+          values[size] = value;
+          size += 1;
+        }
+      }
+
+      chunkLength = decoder.arrayNext();
+    }
+
+    if (size < keys.length) {
+      keys = Arrays.copyOf(keys, size);
+      values = Arrays.copyOf(values, size);
+    }
+
+    return ColumnMetricsMap.ofCounts(keys, values);
+  }
+
+  private Map<Integer, ByteBuffer> readBounds(Decoder decoder) throws IOException {
+    long chunkLength = decoder.readArrayStart();
+    int[] keys = new int[(int) chunkLength];
+    byte[][] values = new byte[(int) chunkLength][];
+    int size = 0;
+    while (chunkLength > 0) {
+      if (size + chunkLength > keys.length) {
+        keys = Arrays.copyOf(keys, size + (int) chunkLength);
+        values = Arrays.copyOf(values, size + (int) chunkLength);
+      }
+
+      for (long i = 0; i < chunkLength; i += 1) {
+        int key = decoder.readInt();
+        if (keepStats(key)) {
+          keys[size] = key;
+          values[size] = ByteBuffers.toByteArray(decoder.readBytes(null));
+          size += 1;
+        } else {
+          decoder.skipBytes();
+        }
+      }
+
+      chunkLength = decoder.arrayNext();
+    }
+
+    if (size < keys.length) {
+      keys = Arrays.copyOf(keys, size);
+      values = Arrays.copyOf(values, size);
+    }
+
+    return ColumnMetricsMap.ofBounds(keys, values);
+  }
+
+  private static long[] readLongs(Decoder decoder) throws IOException {
+    long chunkLength = decoder.readArrayStart();
+    long[] values = new long[(int) chunkLength];
+    int size = 0;
+    while (chunkLength > 0) {
+      if (size + chunkLength > values.length) {
+        values = Arrays.copyOf(values, size + (int) chunkLength);
+      }
+
+      for (long i = 0; i < chunkLength; i += 1) {
+        values[size] = decoder.readLong();
+        size += 1;
+      }
+
+      chunkLength = decoder.arrayNext();
+    }
+
+    return values;
+  }
+
+  private static int[] readInts(Decoder decoder) throws IOException {
+    long chunkLength = decoder.readArrayStart();
+    int[] values = new int[(int) chunkLength];
+    int size = 0;
+    while (chunkLength > 0) {
+      if (size + chunkLength > values.length) {
+        values = Arrays.copyOf(values, size + (int) chunkLength);
+      }
+
+      for (long i = 0; i < chunkLength; i += 1) {
+        values[size] = decoder.readInt();
+        size += 1;
+      }
+
+      chunkLength = decoder.arrayNext();
+    }
+
+    return values;
+  }
+
+  /** Reads the file format, reusing the previous entry's format when the name is unchanged. */
+  private static class FormatDecoder implements FieldDecoder {
+    private Utf8 buffer = null;
+    private Utf8 lastName = null;
+    private FileFormat lastFormat = null;
+
+    @Override
+    public void decode(Decoder decoder, GenericManifestEntry<?> entry, BaseFile<?> file)
+        throws IOException {
+      this.buffer = decoder.readString(buffer);
+      if (!buffer.equals(lastName)) {
+        this.lastName = new Utf8(buffer);
+        this.lastFormat = FileFormat.fromString(buffer.toString());
+      }
+
+      file.setFormat(lastFormat);
+    }
+  }
+
+  /** Sets the ordinal position of each entry in the manifest, which is not stored in the file. */
+  private static class PositionDecoder implements FieldDecoder {
+    private final int pos;
+    private long nextPosition = 0L;
+
+    private PositionDecoder(int pos) {
+      this.pos = pos;
+    }
+
+    private void setStartingPosition(long startingPosition) {
+      this.nextPosition = startingPosition;
+    }
+
+    @Override
+    public void decode(Decoder decoder, GenericManifestEntry<?> entry, BaseFile<?> file) {
+      file.put(pos, nextPosition);
+      nextPosition += 1;
+    }
+  }
+}
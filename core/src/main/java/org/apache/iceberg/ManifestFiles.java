@@ -21,6 +21,7 @@ package org.apache.iceberg;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 import org.apache.iceberg.ManifestReader.FileType;
 import org.apache.iceberg.avro.AvroEncoderUtil;
@@ -28,6 +29,7 @@ import org.apache.iceberg.avro.AvroSchemaUtil;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.ContentCache;
+import org.apache.iceberg.io.DiskContentCache;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
@@ -35,6 +37,7 @@ import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTest
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,13 +71,47 @@ public class ManifestFiles {
   private static final Cache<FileIO, ContentCache> CONTENT_CACHES =
       newManifestCacheBuilder().build();
 
+  // on-disk tiers are shared by all FileIO instances that use the same directory, keyed by the
+  // normalized absolute path. the first FileIO to use a directory sets its size limit.
+  private static final Map<String, DiskContentCache> DISK_CACHES = Maps.newConcurrentMap();
+
   @VisibleForTesting
   static ContentCache contentCache(FileIO io) {
     return CONTENT_CACHES.get(
         io,
         fileIO ->
             new ContentCache(
-                cacheDurationMs(fileIO), cacheTotalBytes(fileIO), cacheMaxContentLength(fileIO)));
+                cacheDurationMs(fileIO),
+                cacheTotalBytes(fileIO),
+                cacheMaxContentLength(fileIO),
+                diskCache(fileIO),
+                cacheOffHeapEnabled(fileIO)));
+  }
+
+  @VisibleForTesting
+  static DiskContentCache diskCache(FileIO io) {
+    String directory = cacheDiskDir(io);
+    if (directory == null) {
+      return null;
+    }
+
+    long maxTotalBytes = cacheDiskTotalBytes(io);
+    DiskContentCache diskCache =
+        DISK_CACHES.computeIfAbsent(
+            Paths.get(directory).toAbsolutePath().normalize().toString(),
+            dir -> new DiskContentCache(directory, maxTotalBytes));
+
+    if (diskCache.maxTotalBytes() != maxTotalBytes) {
+      LOG.warn(
+          "Ignoring {}={} for {}: manifest cache directory {} is already limited to {} bytes",
+          CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES,
+          maxTotalBytes,
+          io,
+          directory,
+          diskCache.maxTotalBytes());
+    }
+
+    return diskCache;
   }
 
   /** Drop manifest file cache object for a FileIO if exists. */
@@ -121,11 +158,16 @@ public class ManifestFiles {
    */
   public static ManifestReader<DataFile> read(
       ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    InputFile file = newInputFile(io, manifest.path(), manifest.length());
+    return read(manifest, file, specsById);
+  }
+
+  static ManifestReader<DataFile> read(
+      ManifestFile manifest, InputFile file, Map<Integer, PartitionSpec> specsById) {
     Preconditions.checkArgument(
         manifest.content() == ManifestContent.DATA,
         "Cannot read a delete manifest with a ManifestReader: %s",
         manifest);
-    InputFile file = newInputFile(io, manifest.path(), manifest.length());
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
     return new ManifestReader<>(
         file, manifest.partitionSpecId(), specsById, inheritableMetadata, FileType.DATA_FILES);
@@ -344,17 +386,8 @@ public class ManifestFiles {
     return writer.toManifestFile();
   }
 
-  private static InputFile newInputFile(FileIO io, String path, long length) {
-    boolean enabled;
-
-    try {
-      enabled = cachingEnabled(io);
-    } catch (UnsupportedOperationException e) {
-      // There is an issue reading io.properties(). Disable caching.
-      enabled = false;
-    }
-
-    if (enabled) {
+  static InputFile newInputFile(FileIO io, String path, long length) {
+    if (safeCachingEnabled(io)) {
       ContentCache cache = contentCache(io);
       Preconditions.checkNotNull(
           cache,
@@ -367,6 +400,20 @@ public class ManifestFiles {
     return io.newInputFile(path, length);
   }
 
+  /** Returns whether the content of a manifest with the given length is kept in the cache. */
+  static boolean isCacheable(FileIO io, long length) {
+    return safeCachingEnabled(io) && length <= contentCache(io).maxContentLength();
+  }
+
+  private static boolean safeCachingEnabled(FileIO io) {
+    try {
+      return cachingEnabled(io);
+    } catch (UnsupportedOperationException e) {
+      // There is an issue reading io.properties(). Disable caching.
+      return false;
+    }
+  }
+
   private static int maxFileIO() {
     String value = System.getProperty(SystemProperties.IO_MANIFEST_CACHE_MAX_FILEIO);
     if (value != null) {
@@ -400,6 +447,24 @@ public class ManifestFiles {
         CatalogProperties.IO_MANIFEST_CACHE_MAX_TOTAL_BYTES_DEFAULT);
   }
 
+  static boolean cacheOffHeapEnabled(FileIO io) {
+    return PropertyUtil.propertyAsBoolean(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_CACHE_OFF_HEAP_ENABLED,
+        CatalogProperties.IO_MANIFEST_CACHE_OFF_HEAP_ENABLED_DEFAULT);
+  }
+
+  static String cacheDiskDir(FileIO io) {
+    return io.properties().get(CatalogProperties.IO_MANIFEST_CACHE_DISK_DIR);
+  }
+
+  static long cacheDiskTotalBytes(FileIO io) {
+    return PropertyUtil.propertyAsLong(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES,
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT);
+  }
+
   static long cacheMaxContentLength(FileIO io) {
     return PropertyUtil.propertyAsLong(
         io.properties(),
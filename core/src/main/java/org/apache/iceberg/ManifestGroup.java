@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -36,7 +37,9 @@ import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.relocated.com.google.common.base.Suppliers;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -62,6 +65,7 @@ class ManifestGroup {
   private boolean caseSensitive;
   private ExecutorService executorService;
   private ScanMetrics scanMetrics;
+  private long prefetchBytesInFlight;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this(
@@ -86,6 +90,7 @@ class ManifestGroup {
     this.manifestPredicate = m -> true;
     this.manifestEntryPredicate = e -> true;
     this.scanMetrics = ScanMetrics.noop();
+    this.prefetchBytesInFlight = 0L;
   }
 
   ManifestGroup specsById(Map<Integer, PartitionSpec> newSpecsById) {
@@ -159,6 +164,17 @@ class ManifestGroup {
     return this;
   }
 
+  /**
+   * Reads data manifests ahead of parsing them when planning with an executor.
+   *
+   * @param maxBytesInFlight the maximum size of manifests that are read but not yet parsed
+   * @return this for method chaining
+   */
+  ManifestGroup prefetchManifests(long maxBytesInFlight) {
+    this.prefetchBytesInFlight = maxBytesInFlight;
+    return this;
+  }
+
   /**
    * Returns an iterable of scan tasks. It is safe to add entries of this iterable to a collection
    * as {@link DataFile} in each {@link FileScanTask} is defensively copied.
@@ -195,15 +211,27 @@ class ManifestGroup {
                   return new TaskContext(spec, deleteFiles, residuals, dropStats, scanMetrics);
                 });
 
+    ManifestPrefetcher prefetcher =
+        executorService != null && prefetchBytesInFlight > 0
+            ? new ManifestPrefetcher(io, prefetchBytesInFlight)
+            : null;
+
     Iterable<CloseableIterable<T>> tasks =
         entries(
             (manifest, entries) -> {
               int specId = manifest.partitionSpecId();
               TaskContext taskContext = taskContextCache.get(specId);
               return createTasksFunc.apply(entries, taskContext);
-            });
-
-    if (executorService != null) {
+            },
+            prefetcher,
+            // stats are only needed to evaluate the data filter if they are dropped from tasks
+            dropStats && deleteFiles.isEmpty());
+
+    if (prefetcher != null) {
+      ParallelIterable<T> parallelTasks = new ParallelIterable<>(tasks, executorService);
+      parallelTasks.addCloseable(prefetcher);
+      return parallelTasks;
+    } else if (executorService != null) {
       return new ParallelIterable<>(tasks, executorService);
     } else {
       return CloseableIterable.concat(tasks);
@@ -219,12 +247,14 @@ class ManifestGroup {
    * @return a CloseableIterable of manifest entries.
    */
   public CloseableIterable<ManifestEntry<DataFile>> entries() {
-    return CloseableIterable.concat(entries((manifest, entries) -> entries));
+    return CloseableIterable.concat(entries((manifest, entries) -> entries, null, false));
   }
 
   private <T> Iterable<CloseableIterable<T>> entries(
       BiFunction<ManifestFile, CloseableIterable<ManifestEntry<DataFile>>, CloseableIterable<T>>
-          entryFn) {
+          entryFn,
+      ManifestPrefetcher prefetcher,
+      boolean filterColumnStatsOnly) {
     LoadingCache<Integer, ManifestEvaluator> evalCache =
         specsById == null
             ? null
@@ -285,20 +315,38 @@ class ManifestGroup {
     matchingManifests =
         CloseableIterable.count(scanMetrics.scannedDataManifests(), matchingManifests);
 
+    Iterable<ManifestFile> manifestsToScan = matchingManifests;
+    if (prefetcher != null) {
+      // filter the manifests once when iteration starts so that reads can start ahead of readers
+      CloseableIterable<ManifestFile> manifestsToFilter = matchingManifests;
+      Supplier<List<ManifestFile>> prefetchedManifests =
+          Suppliers.memoize(
+              () -> {
+                List<ManifestFile> manifests = Lists.newArrayList(manifestsToFilter);
+                prefetcher.prefetch(manifests);
+                return manifests;
+              });
+      manifestsToScan = () -> prefetchedManifests.get().iterator();
+    }
+
     return Iterables.transform(
-        matchingManifests,
+        manifestsToScan,
         manifest ->
             new CloseableIterable<T>() {
               private CloseableIterable<T> iterable;
 
               @Override
               public CloseableIterator<T> iterator() {
+                InputFile prefetched = prefetcher != null ? prefetcher.take(manifest) : null;
                 ManifestReader<DataFile> reader =
-                    ManifestFiles.read(manifest, io, specsById)
+                    (prefetched != null
+                            ? ManifestFiles.read(manifest, prefetched, specsById)
+                            : ManifestFiles.read(manifest, io, specsById))
                         .filterRows(dataFilter)
                         .filterPartitions(partitionFilter)
                         .caseSensitive(caseSensitive)
                         .select(columns)
+                        .keepStatsForFilterColumnsOnly(filterColumnStatsOnly)
                         .scanMetrics(scanMetrics);
 
                 CloseableIterable<ManifestEntry<DataFile>> entries;
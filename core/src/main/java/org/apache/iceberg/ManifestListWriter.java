@@ -74,13 +74,24 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
     private final V2Metadata.IndexedManifestFile wrapper;
 
     V2Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId, long sequenceNumber) {
+      this(snapshotFile, snapshotId, parentSnapshotId, sequenceNumber, ImmutableMap.of());
+    }
+
+    V2Writer(
+        OutputFile snapshotFile,
+        long snapshotId,
+        Long parentSnapshotId,
+        long sequenceNumber,
+        Map<String, String> deltaMeta) {
       super(
           snapshotFile,
-          ImmutableMap.of(
-              "snapshot-id", String.valueOf(snapshotId),
-              "parent-snapshot-id", String.valueOf(parentSnapshotId),
-              "sequence-number", String.valueOf(sequenceNumber),
-              "format-version", "2"));
+          ImmutableMap.<String, String>builder()
+              .put("snapshot-id", String.valueOf(snapshotId))
+              .put("parent-snapshot-id", String.valueOf(parentSnapshotId))
+              .put("sequence-number", String.valueOf(sequenceNumber))
+              .put("format-version", "2")
+              .putAll(deltaMeta)
+              .build());
       this.wrapper = new V2Metadata.IndexedManifestFile(snapshotId, sequenceNumber);
     }
 
@@ -109,12 +120,22 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
     private final V1Metadata.IndexedManifestFile wrapper = new V1Metadata.IndexedManifestFile();
 
     V1Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId) {
+      this(snapshotFile, snapshotId, parentSnapshotId, ImmutableMap.of());
+    }
+
+    V1Writer(
+        OutputFile snapshotFile,
+        long snapshotId,
+        Long parentSnapshotId,
+        Map<String, String> deltaMeta) {
       super(
           snapshotFile,
-          ImmutableMap.of(
-              "snapshot-id", String.valueOf(snapshotId),
-              "parent-snapshot-id", String.valueOf(parentSnapshotId),
-              "format-version", "1"));
+          ImmutableMap.<String, String>builder()
+              .put("snapshot-id", String.valueOf(snapshotId))
+              .put("parent-snapshot-id", String.valueOf(parentSnapshotId))
+              .put("format-version", "1")
+              .putAll(deltaMeta)
+              .build());
     }
 
     @Override
@@ -19,28 +19,45 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.util.JsonUtil;
 
+/**
+ * Reads and writes manifest lists.
+ *
+ * <p>A manifest list is either a full list of the manifests in a snapshot or a delta manifest list.
+ * A delta manifest list contains only the manifests that were added since a base manifest list,
+ * usually the list of the parent snapshot, and stores the location of the base list and the paths
+ * of the removed manifests in its key-value metadata. Delta manifest lists are identified by the
+ * suffix of their file name, so that full lists can be read without reading the file metadata
+ * first.
+ */
 class ManifestLists {
   private ManifestLists() {}
 
+  private static final String DELTA_SUFFIX = FileFormat.AVRO.addExtension("-delta");
+  private static final String DELTA_BASE_PROP = "delta-base-manifest-list";
+  private static final String DELTA_REMOVED_PROP = "delta-removed-manifests";
+  private static final String DELTA_DEPTH_PROP = "delta-depth";
+
   static List<ManifestFile> read(InputFile manifestList) {
-    try (CloseableIterable<ManifestFile> files =
-        Avro.read(manifestList)
-            .rename("manifest_file", GenericManifestFile.class.getName())
-            .rename("partitions", GenericPartitionFieldSummary.class.getName())
-            .rename("r508", GenericPartitionFieldSummary.class.getName())
-            .classLoader(GenericManifestFile.class.getClassLoader())
-            .project(ManifestFile.schema())
-            .reuseContainers(false)
-            .build()) {
+    try (CloseableIterable<ManifestFile> files = open(manifestList)) {
 
       return Lists.newLinkedList(files);
 
@@ -50,24 +67,231 @@ class ManifestLists {
     }
   }
 
+  /**
+   * Reads the manifests of a full or delta manifest list.
+   *
+   * <p>For a delta manifest list, the chain of base lists is read back to the last full list and
+   * the deltas are applied in order. Added manifests come first, followed by the manifests of the
+   * base list that were not removed.
+   *
+   * @param io a {@link FileIO} to read the manifest list and its base lists
+   * @param manifestList location of a manifest list
+   * @return the manifests of the snapshot
+   */
+  static List<ManifestFile> read(FileIO io, String manifestList) {
+    if (!isDelta(manifestList)) {
+      return read(io.newInputFile(manifestList));
+    }
+
+    Deque<Delta> deltas = Queues.newArrayDeque();
+    String location = manifestList;
+    while (isDelta(location)) {
+      Delta delta = readDelta(io.newInputFile(location));
+      deltas.push(delta);
+      location = delta.base;
+    }
+
+    List<ManifestFile> manifests = read(io.newInputFile(location));
+    while (!deltas.isEmpty()) {
+      manifests = deltas.pop().applyTo(manifests);
+    }
+
+    return manifests;
+  }
+
+  /**
+   * Returns the locations of all manifest lists that are needed to read a manifest list.
+   *
+   * <p>Only the metadata of delta manifest lists is read.
+   *
+   * @param io a {@link FileIO} to read the manifest list metadata
+   * @param manifestList location of a manifest list
+   * @return the given location followed by the locations of its base lists
+   */
+  static List<String> chain(FileIO io, String manifestList) {
+    List<String> chain = Lists.newArrayList(manifestList);
+    String location = manifestList;
+    while (isDelta(location)) {
+      location = readMetadata(io.newInputFile(location)).get(DELTA_BASE_PROP);
+      chain.add(location);
+    }
+
+    return chain;
+  }
+
+  static boolean isDelta(String manifestList) {
+    return manifestList.endsWith(DELTA_SUFFIX);
+  }
+
+  /**
+   * Returns the number of delta manifest lists that must be applied to read a manifest list.
+   *
+   * @param io a {@link FileIO} to read the manifest list metadata
+   * @param manifestList location of a manifest list
+   * @return 0 for a full manifest list, or the number of deltas in its chain
+   */
+  static int depth(FileIO io, String manifestList) {
+    if (!isDelta(manifestList)) {
+      return 0;
+    }
+
+    return Integer.parseInt(readMetadata(io.newInputFile(manifestList)).get(DELTA_DEPTH_PROP));
+  }
+
+  static String deltaFileName(String fileName) {
+    return fileName + DELTA_SUFFIX;
+  }
+
   static ManifestListWriter write(
       int formatVersion,
       OutputFile manifestListFile,
       long snapshotId,
       Long parentSnapshotId,
       long sequenceNumber) {
+    return write(
+        formatVersion,
+        manifestListFile,
+        snapshotId,
+        parentSnapshotId,
+        sequenceNumber,
+        ImmutableMap.of());
+  }
+
+  /**
+   * Creates a writer for a delta manifest list.
+   *
+   * <p>Only the added manifests should be written. The output file name must be created with
+   * {@link #deltaFileName(String)}.
+   *
+   * @param formatVersion table format version
+   * @param manifestListFile an output file for the delta manifest list
+   * @param snapshotId the ID of the snapshot
+   * @param parentSnapshotId the ID of the parent snapshot
+   * @param sequenceNumber the sequence number of the snapshot
+   * @param baseManifestList location of the manifest list the delta applies to
+   * @param baseDepth the {@link #depth(FileIO, String) depth} of the base manifest list
+   * @param removedManifests paths of manifests in the base list that are not in the snapshot
+   * @return a writer for the added manifests
+   */
+  static ManifestListWriter writeDelta(
+      int formatVersion,
+      OutputFile manifestListFile,
+      long snapshotId,
+      Long parentSnapshotId,
+      long sequenceNumber,
+      String baseManifestList,
+      int baseDepth,
+      Collection<String> removedManifests) {
+    Preconditions.checkArgument(
+        isDelta(manifestListFile.location()),
+        "Invalid delta manifest list location: %s",
+        manifestListFile.location());
+
+    String removed =
+        JsonUtil.generate(
+            gen -> {
+              gen.writeStartArray();
+              for (String path : removedManifests) {
+                gen.writeString(path);
+              }
+              gen.writeEndArray();
+            },
+            false);
+
+    return write(
+        formatVersion,
+        manifestListFile,
+        snapshotId,
+        parentSnapshotId,
+        sequenceNumber,
+        ImmutableMap.of(
+            DELTA_BASE_PROP, baseManifestList,
+            DELTA_REMOVED_PROP, removed,
+            DELTA_DEPTH_PROP, String.valueOf(baseDepth + 1)));
+  }
+
+  private static ManifestListWriter write(
+      int formatVersion,
+      OutputFile manifestListFile,
+      long snapshotId,
+      Long parentSnapshotId,
+      long sequenceNumber,
+      Map<String, String> deltaMeta) {
     switch (formatVersion) {
       case 1:
         Preconditions.checkArgument(
             sequenceNumber == TableMetadata.INITIAL_SEQUENCE_NUMBER,
             "Invalid sequence number for v1 manifest list: %s",
             sequenceNumber);
-        return new ManifestListWriter.V1Writer(manifestListFile, snapshotId, parentSnapshotId);
+        return new ManifestListWriter.V1Writer(
+            manifestListFile, snapshotId, parentSnapshotId, deltaMeta);
       case 2:
         return new ManifestListWriter.V2Writer(
-            manifestListFile, snapshotId, parentSnapshotId, sequenceNumber);
+            manifestListFile, snapshotId, parentSnapshotId, sequenceNumber, deltaMeta);
     }
     throw new UnsupportedOperationException(
         "Cannot write manifest list for table version: " + formatVersion);
   }
+
+  private static AvroIterable<ManifestFile> open(InputFile manifestList) {
+    return Avro.read(manifestList)
+        .rename("manifest_file", GenericManifestFile.class.getName())
+        .rename("partitions", GenericPartitionFieldSummary.class.getName())
+        .rename("r508", GenericPartitionFieldSummary.class.getName())
+        .classLoader(GenericManifestFile.class.getClassLoader())
+        .project(ManifestFile.schema())
+        .reuseContainers(false)
+        .build();
+  }
+
+  private static Map<String, String> readMetadata(InputFile manifestList) {
+    try (AvroIterable<ManifestFile> files = open(manifestList)) {
+      return files.getMetadata();
+    } catch (IOException e) {
+      throw new RuntimeIOException(
+          e, "Cannot read manifest list file: %s", manifestList.location());
+    }
+  }
+
+  private static Delta readDelta(InputFile manifestList) {
+    try (AvroIterable<ManifestFile> files = open(manifestList)) {
+      // read the manifests first so that the metadata is loaded by the same reader
+      List<ManifestFile> added = Lists.newArrayList(files);
+      Map<String, String> meta = files.getMetadata();
+      String base = meta.get(DELTA_BASE_PROP);
+      Preconditions.checkState(
+          base != null, "Invalid delta manifest list, missing base: %s", manifestList.location());
+      Set<String> removed =
+          ImmutableSet.copyOf(
+              JsonUtil.parse(meta.get(DELTA_REMOVED_PROP), JsonUtil::getStringArray));
+      return new Delta(base, added, removed);
+
+    } catch (IOException e) {
+      throw new RuntimeIOException(
+          e, "Cannot read manifest list file: %s", manifestList.location());
+    }
+  }
+
+  private static class Delta {
+    private final String base;
+    private final List<ManifestFile> added;
+    private final Set<String> removed;
+
+    private Delta(String base, List<ManifestFile> added, Set<String> removed) {
+      this.base = base;
+      this.added = added;
+      this.removed = removed;
+    }
+
+    private List<ManifestFile> applyTo(List<ManifestFile> baseManifests) {
+      List<ManifestFile> manifests = Lists.newLinkedList(added);
+      for (ManifestFile manifest : baseManifests) {
+        if (!removed.contains(manifest.path())) {
+          manifests.add(manifest);
+        }
+      }
+
+      return manifests;
+    }
+  }
 }
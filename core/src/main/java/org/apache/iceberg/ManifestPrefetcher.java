@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.ByteBufferInputStream;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads manifests ahead of the readers that parse them.
+ *
+ * <p>Manifests are read in the order they are passed to {@link #prefetch(List)} while the total
+ * size of manifests that were read but not yet taken by a reader stays within a byte limit. This
+ * overlaps the latency of opening a manifest with decoding other manifests. Manifests that are
+ * larger than the limit, or that are taken by a reader before their read was started, are read by
+ * the reader itself. A failed prefetch is also retried by the reader.
+ *
+ * <p>Manifests that fit in the manifest content cache of the {@link FileIO} are loaded into that
+ * cache instead of being kept by the prefetcher, so that readers open them through the cache.
+ */
+class ManifestPrefetcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ManifestPrefetcher.class);
+
+  private final FileIO io;
+  private final long maxBytesInFlight;
+  private final ExecutorService executorService;
+  private final Map<String, Future<byte[]>> prefetches = Maps.newConcurrentMap();
+  private final Set<String> taken = Sets.newHashSet();
+  private Iterator<ManifestFile> remaining = Collections.emptyIterator();
+  private ManifestFile next = null;
+  private long bytesInFlight = 0L;
+  private boolean closed = false;
+
+  ManifestPrefetcher(FileIO io, long maxBytesInFlight) {
+    this(io, maxBytesInFlight, PrefetchPool.POOL);
+  }
+
+  ManifestPrefetcher(FileIO io, long maxBytesInFlight, ExecutorService executorService) {
+    Preconditions.checkArgument(
+        maxBytesInFlight > 0, "Invalid max bytes in flight: %s (must be > 0)", maxBytesInFlight);
+    this.io = io;
+    this.maxBytesInFlight = maxBytesInFlight;
+    this.executorService = executorService;
+  }
+
+  /** Starts reading the given manifests, in order. */
+  synchronized void prefetch(List<ManifestFile> manifests) {
+    this.remaining =
+        manifests.stream()
+            .filter(manifest -> manifest.length() > 0 && manifest.length() <= maxBytesInFlight)
+            .iterator();
+    this.next = null;
+    issue();
+  }
+
+  /**
+   * Returns an {@link InputFile} for the prefetched content of a manifest, or null if the manifest
+   * must be read through the {@link FileIO}.
+   *
+   * <p>When a manifest was prefetched into the content cache, this waits for the cache to be loaded
+   * and returns null.
+   */
+  InputFile take(ManifestFile manifest) {
+    Future<byte[]> prefetch;
+    synchronized (this) {
+      prefetch = prefetches.remove(manifest.path());
+      if (prefetch == null) {
+        // make sure the manifest is not read again after the reader opened it
+        taken.add(manifest.path());
+        return null;
+      }
+    }
+
+    try {
+      byte[] bytes = prefetch.get();
+      return bytes != null ? new PrefetchedInputFile(manifest.path(), bytes) : null;
+    } catch (ExecutionException | CancellationException e) {
+      LOG.warn("Failed to prefetch manifest {}, reading it directly", manifest.path(), e);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for manifest " + manifest.path(), e);
+    } finally {
+      release(manifest.length());
+    }
+  }
+
+  synchronized long bytesInFlight() {
+    return bytesInFlight;
+  }
+
+  @Override
+  public synchronized void close() {
+    this.closed = true;
+    prefetches.values().forEach(prefetch -> prefetch.cancel(true));
+    prefetches.clear();
+    this.bytesInFlight = 0L;
+  }
+
+  private synchronized void release(long bytes) {
+    if (!closed) {
+      this.bytesInFlight -= bytes;
+      issue();
+    }
+  }
+
+  private synchronized void issue() {
+    while (!closed) {
+      if (next == null) {
+        if (!remaining.hasNext()) {
+          return;
+        }
+
+        this.next = remaining.next();
+      }
+
+      if (taken.remove(next.path())) {
+        // the reader already opened the manifest directly
+        this.next = null;
+        continue;
+      }
+
+      if (bytesInFlight + next.length() > maxBytesInFlight) {
+        return;
+      }
+
+      ManifestFile manifest = next;
+      this.next = null;
+      this.bytesInFlight += manifest.length();
+      prefetches.put(manifest.path(), executorService.submit(() -> read(manifest)));
+    }
+  }
+
+  /** Reads a manifest, returning its content or null if it was loaded into the content cache. */
+  private byte[] read(ManifestFile manifest) {
+    InputFile file = ManifestFiles.newInputFile(io, manifest.path(), manifest.length());
+    boolean cacheable = ManifestFiles.isCacheable(io, manifest.length());
+    byte[] bytes = cacheable ? null : new byte[(int) manifest.length()];
+    try (InputStream stream = file.newStream()) {
+      // opening a stream over a cacheable manifest loads its content into the cache
+      if (bytes != null) {
+        IOUtil.readFully(stream, bytes, 0, bytes.length);
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to prefetch manifest %s", manifest.path());
+    }
+
+    return bytes;
+  }
+
+  private static class PrefetchedInputFile implements InputFile {
+    private final String location;
+    private final byte[] bytes;
+
+    private PrefetchedInputFile(String location, byte[] bytes) {
+      this.location = location;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public long getLength() {
+      return bytes.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return ByteBufferInputStream.wrap(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public String location() {
+      return location;
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+  }
+
+  private static class PrefetchPool {
+    private static final ExecutorService POOL =
+        ThreadPools.newWorkerPool("iceberg-manifest-prefetch", poolSize());
+
+    private static int poolSize() {
+      String value = System.getProperty(SystemProperties.IO_MANIFEST_PREFETCH_NUM_THREADS);
+      if (value != null) {
+        try {
+          return Integer.parseUnsignedInt(value);
+        } catch (NumberFormatException e) {
+          // will return the default
+        }
+      }
+
+      return SystemProperties.IO_MANIFEST_PREFETCH_NUM_THREADS_DEFAULT;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.Set;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -92,6 +93,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   private Schema fileProjection = null;
   private Collection<String> columns = null;
   private boolean caseSensitive = true;
+  private boolean filterColumnStatsOnly = false;
   private ScanMetrics scanMetrics = ScanMetrics.noop();
 
   // lazily initialized
@@ -197,6 +199,21 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     return this;
   }
 
+  /**
+   * Keeps column-level stats only for the columns referenced by the row filter.
+   *
+   * <p>Stats for other columns are skipped while the manifest is decoded, so files returned by this
+   * reader have only the stats needed to evaluate the row filter. Use this when the caller drops
+   * column stats after filtering to avoid materializing stats for every column of wide tables.
+   *
+   * @param keepFilterColumnsOnly whether to keep stats only for columns in the row filter
+   * @return this for method chaining
+   */
+  public ManifestReader<F> keepStatsForFilterColumnsOnly(boolean keepFilterColumnsOnly) {
+    this.filterColumnStatsOnly = keepFilterColumnsOnly;
+    return this;
+  }
+
   ManifestReader<F> scanMetrics(ScanMetrics newScanMetrics) {
     this.scanMetrics = newScanMetrics;
     return this;
@@ -252,7 +269,12 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
                 .rename("r102", PartitionData.class.getName())
                 .rename("data_file", content.fileClass())
                 .rename("r2", content.fileClass())
-                .classLoader(GenericManifestEntry.class.getClassLoader())
+                .createReaderFunc(
+                    readSchema ->
+                        new ManifestEntryDecoder<F>(
+                            readSchema,
+                            GenericManifestEntry.class.getClassLoader(),
+                            statsColumnIds()))
                 .reuseContainers()
                 .build();
 
@@ -296,6 +318,16 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     return schema;
   }
 
+  private Set<Integer> statsColumnIds() {
+    if (filterColumnStatsOnly) {
+      Expression filter = rowFilter != null ? rowFilter : alwaysTrue();
+      return Binder.boundReferences(
+          spec.schema().asStruct(), ImmutableList.of(filter), caseSensitive);
+    }
+
+    return null;
+  }
+
   private Evaluator evaluator() {
     if (lazyEvaluator == null) {
       Expression projected = Projections.inclusive(spec, caseSensitive).project(rowFilter);
@@ -80,7 +80,8 @@ class ReachableFileCleanup extends FileCleanupStrategy {
       }
     }
 
-    deleteFiles(manifestListsToDelete, "manifest list");
+    deleteFiles(
+        deletableManifestLists(manifestListsToDelete, snapshotsAfterExpiration), "manifest list");
 
     if (!beforeExpiration.statisticsFiles().isEmpty()) {
       deleteFiles(
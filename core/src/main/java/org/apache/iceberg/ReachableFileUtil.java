@@ -110,6 +110,8 @@ public class ReachableFileUtil {
   /**
    * Returns locations of manifest lists in a table.
    *
+   * <p>The base manifest lists that delta manifest lists depend on are included.
+   *
    * @param table table for which manifestList needs to be fetched
    * @param snapshotIds ids of snapshots for which manifest lists will be returned
    * @return the location of manifest lists
@@ -120,14 +122,14 @@ public class ReachableFileUtil {
       snapshots = Iterables.filter(snapshots, s -> snapshotIds.contains(s.snapshotId()));
     }
 
-    List<String> manifestListLocations = Lists.newArrayList();
+    Set<String> manifestListLocations = Sets.newLinkedHashSet();
     for (Snapshot snapshot : snapshots) {
       String manifestListLocation = snapshot.manifestListLocation();
       if (manifestListLocation != null) {
-        manifestListLocations.add(manifestListLocation);
+        manifestListLocations.addAll(ManifestLists.chain(table.io(), manifestListLocation));
       }
     }
-    return manifestListLocations;
+    return Lists.newArrayList(manifestListLocations);
   }
 
   /**
@@ -35,7 +35,7 @@ class SerializableByteBufferMap implements Map<Integer, ByteBuffer>, Serializabl
       return null;
     }
 
-    if (map instanceof SerializableByteBufferMap) {
+    if (map instanceof SerializableByteBufferMap || map instanceof ColumnMetricsMap) {
       return map;
     }
 
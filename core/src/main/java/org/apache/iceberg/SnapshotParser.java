@@ -19,9 +19,12 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
@@ -30,6 +33,7 @@ import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.JsonUtil;
 
 public class SnapshotParser {
@@ -172,6 +176,116 @@ public class SnapshotParser {
     }
   }
 
+  /**
+   * Reads a snapshot from a streaming parser that is positioned at the snapshot's start object
+   * token, without materializing the snapshot as a tree first.
+   *
+   * <p>When this returns, the parser is positioned at the snapshot's end object token.
+   */
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  static Snapshot fromJson(JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_OBJECT,
+        "Cannot parse table version from a non-object: %s",
+        parser.getText());
+
+    long sequenceNumber = TableMetadata.INITIAL_SEQUENCE_NUMBER;
+    Long snapshotId = null;
+    Long parentId = null;
+    Long timestamp = null;
+    Map<String, String> summary = null;
+    String operation = null;
+    Integer schemaId = null;
+    String manifestList = null;
+    List<String> manifests = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case SEQUENCE_NUMBER:
+          sequenceNumber = JsonUtil.readLong(SEQUENCE_NUMBER, parser);
+          break;
+        case SNAPSHOT_ID:
+          snapshotId = JsonUtil.readLong(SNAPSHOT_ID, parser);
+          break;
+        case PARENT_SNAPSHOT_ID:
+          parentId = JsonUtil.readLong(PARENT_SNAPSHOT_ID, parser);
+          break;
+        case TIMESTAMP_MS:
+          timestamp = JsonUtil.readLong(TIMESTAMP_MS, parser);
+          break;
+        case SUMMARY:
+          Preconditions.checkArgument(
+              value == JsonToken.START_OBJECT,
+              "Cannot parse summary from non-object value: %s",
+              parser.getText());
+          ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String summaryField = parser.getCurrentName();
+            parser.nextToken();
+            if (summaryField.equals(OPERATION)) {
+              operation = JsonUtil.readString(OPERATION, parser);
+            } else {
+              builder.put(summaryField, JsonUtil.readString(summaryField, parser));
+            }
+          }
+          summary = builder.build();
+          break;
+        case SCHEMA_ID:
+          if (value != JsonToken.VALUE_NULL) {
+            schemaId = JsonUtil.readInt(SCHEMA_ID, parser);
+          }
+          break;
+        case MANIFEST_LIST:
+          manifestList = JsonUtil.readString(MANIFEST_LIST, parser);
+          break;
+        case MANIFESTS:
+          Preconditions.checkArgument(
+              value == JsonToken.START_ARRAY,
+              "Cannot parse from non-array value: %s: %s",
+              MANIFESTS,
+              parser.getText());
+          manifests = Lists.newArrayList();
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            manifests.add(JsonUtil.readString(MANIFESTS, parser));
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long: %s", SNAPSHOT_ID);
+    Preconditions.checkArgument(timestamp != null, "Cannot parse missing long: %s", TIMESTAMP_MS);
+
+    if (manifestList != null) {
+      // the manifest list is stored in a manifest list file
+      return new BaseSnapshot(
+          sequenceNumber,
+          snapshotId,
+          parentId,
+          timestamp,
+          operation,
+          summary,
+          schemaId,
+          manifestList);
+
+    } else {
+      Preconditions.checkArgument(manifests != null, "Cannot parse missing list: %s", MANIFESTS);
+      // fall back to an embedded manifest list
+      return new BaseSnapshot(
+          sequenceNumber,
+          snapshotId,
+          parentId,
+          timestamp,
+          operation,
+          summary,
+          schemaId,
+          manifests.toArray(new String[0]));
+    }
+  }
+
   public static Snapshot fromJson(String json) {
     return JsonUtil.parse(json, SnapshotParser::fromJson);
   }
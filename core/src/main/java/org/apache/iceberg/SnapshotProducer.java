@@ -218,28 +218,39 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     validate(base, parentSnapshot);
     List<ManifestFile> manifests = apply(base, parentSnapshot);
 
-    OutputFile manifestList = manifestListPath();
+    ManifestFile[] manifestFiles = new ManifestFile[manifests.size()];
+
+    Tasks.range(manifestFiles.length)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(workerPool)
+        .run(index -> manifestFiles[index] = manifestsWithMetadata.get(manifests.get(index)));
+
+    ManifestListDelta delta = manifestListDelta(parentSnapshot, Arrays.asList(manifestFiles));
+    OutputFile manifestList = delta != null ? deltaManifestListPath() : manifestListPath();
 
     try (ManifestListWriter writer =
-        ManifestLists.write(
-            ops.current().formatVersion(),
-            manifestList,
-            snapshotId(),
-            parentSnapshotId,
-            sequenceNumber)) {
+        delta != null
+            ? ManifestLists.writeDelta(
+                ops.current().formatVersion(),
+                manifestList,
+                snapshotId(),
+                parentSnapshotId,
+                sequenceNumber,
+                delta.base,
+                delta.baseDepth,
+                delta.removed)
+            : ManifestLists.write(
+                ops.current().formatVersion(),
+                manifestList,
+                snapshotId(),
+                parentSnapshotId,
+                sequenceNumber)) {
 
       // keep track of the manifest lists created
       manifestLists.add(manifestList.location());
 
-      ManifestFile[] manifestFiles = new ManifestFile[manifests.size()];
-
-      Tasks.range(manifestFiles.length)
-          .stopOnFailure()
-          .throwFailureWhenFinished()
-          .executeWith(workerPool)
-          .run(index -> manifestFiles[index] = manifestsWithMetadata.get(manifests.get(index)));
-
-      writer.addAll(Arrays.asList(manifestFiles));
+      writer.addAll(delta != null ? delta.added : Arrays.asList(manifestFiles));
 
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to write manifest list file");
@@ -479,6 +490,85 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
                         "snap-%d-%d-%s", snapshotId(), attempt.incrementAndGet(), commitUUID))));
   }
 
+  private OutputFile deltaManifestListPath() {
+    return ops.io()
+        .newOutputFile(
+            ops.metadataFileLocation(
+                ManifestLists.deltaFileName(
+                    String.format(
+                        "snap-%d-%d-%s", snapshotId(), attempt.incrementAndGet(), commitUUID))));
+  }
+
+  /**
+   * Returns the changes from the parent snapshot's manifest list if the new manifest list should
+   * be written as a delta, or null if a full manifest list should be written.
+   *
+   * <p>A full list is written once the chain of deltas reaches the checkpoint interval or when the
+   * changes are large enough that a delta would not be much smaller than a full list. Reading a
+   * delta returns the added manifests followed by the parent's manifests that were kept, which may
+   * not be the order of the manifests passed in.
+   */
+  private ManifestListDelta manifestListDelta(Snapshot parent, List<ManifestFile> manifests) {
+    if (parent == null
+        || parent.manifestListLocation() == null
+        || !base.propertyAsBoolean(
+            TableProperties.MANIFEST_LIST_DELTA_ENABLED,
+            TableProperties.MANIFEST_LIST_DELTA_ENABLED_DEFAULT)) {
+      return null;
+    }
+
+    int checkpointInterval =
+        base.propertyAsInt(
+            TableProperties.MANIFEST_LIST_CHECKPOINT_INTERVAL,
+            TableProperties.MANIFEST_LIST_CHECKPOINT_INTERVAL_DEFAULT);
+    int parentDepth = ManifestLists.depth(ops.io(), parent.manifestListLocation());
+    if (parentDepth >= checkpointInterval) {
+      return null;
+    }
+
+    Set<String> paths = Sets.newHashSetWithExpectedSize(manifests.size());
+    for (ManifestFile manifest : manifests) {
+      paths.add(manifest.path());
+    }
+
+    Set<String> parentPaths = Sets.newHashSet();
+    List<String> removed = Lists.newArrayList();
+    for (ManifestFile manifest : parent.allManifests(ops.io())) {
+      parentPaths.add(manifest.path());
+      if (!paths.contains(manifest.path())) {
+        removed.add(manifest.path());
+      }
+    }
+
+    List<ManifestFile> added = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      if (!parentPaths.contains(manifest.path())) {
+        added.add(manifest);
+      }
+    }
+
+    if (added.size() + removed.size() > manifests.size() / 2) {
+      return null;
+    }
+
+    return new ManifestListDelta(parent.manifestListLocation(), parentDepth, added, removed);
+  }
+
+  private static class ManifestListDelta {
+    private final String base;
+    private final int baseDepth;
+    private final List<ManifestFile> added;
+    private final List<String> removed;
+
+    private ManifestListDelta(
+        String base, int baseDepth, List<ManifestFile> added, List<String> removed) {
+      this.base = base;
+      this.baseDepth = baseDepth;
+      this.added = added;
+      this.removed = removed;
+    }
+  }
+
   protected OutputFile newManifestOutput() {
     return ops.io()
         .newOutputFile(
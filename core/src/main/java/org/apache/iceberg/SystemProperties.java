@@ -33,6 +33,15 @@ public class SystemProperties {
   /** Whether to use the shared worker pool when planning table scans. */
   public static final String SCAN_THREAD_POOL_ENABLED = "iceberg.scan.plan-in-worker-pool";
 
+  /**
+   * Maximum number of items buffered by a {@link org.apache.iceberg.util.ParallelIterable} before
+   * its producers, for example manifest readers during scan planning, pause until the consumer
+   * catches up.
+   */
+  public static final String SCAN_PARALLEL_QUEUE_SIZE = "iceberg.scan.parallel-queue-size";
+
+  public static final int SCAN_PARALLEL_QUEUE_SIZE_DEFAULT = 10_000;
+
   /**
    * Maximum number of distinct {@link org.apache.iceberg.io.FileIO} that is allowed to have
    * associated {@link org.apache.iceberg.io.ContentCache} in memory at a time.
@@ -41,6 +50,39 @@ public class SystemProperties {
 
   public static final int IO_MANIFEST_CACHE_MAX_FILEIO_DEFAULT = 8;
 
+  /**
+   * Sets the size of the thread pool that reads manifests ahead of scan planning when a table sets
+   * {@link TableProperties#MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT}.
+   */
+  public static final String IO_MANIFEST_PREFETCH_NUM_THREADS =
+      "iceberg.io.manifest.prefetch.num-threads";
+
+  public static final int IO_MANIFEST_PREFETCH_NUM_THREADS_DEFAULT = 16;
+
+  /**
+   * Sets the size of the thread pool that issues combined range requests for vectored reads, see
+   * {@link org.apache.iceberg.io.VectoredReads}.
+   */
+  public static final String IO_VECTORED_READ_NUM_THREADS = "iceberg.io.vectored-read.num-threads";
+
+  public static final int IO_VECTORED_READ_NUM_THREADS_DEFAULT = 16;
+
+  /**
+   * Maximum estimated size in bytes of position delete indexes that are shared by all scan tasks
+   * in the JVM, see {@link org.apache.iceberg.deletes.PositionDeleteIndexCache}. Setting this to 0
+   * disables sharing.
+   */
+  public static final String DELETES_POSITION_INDEX_CACHE_MAX_TOTAL_BYTES =
+      "iceberg.deletes.position-index-cache.max-total-bytes";
+
+  public static final long DELETES_POSITION_INDEX_CACHE_MAX_TOTAL_BYTES_DEFAULT = 64 * 1024 * 1024;
+
+  /**
+   * Local directory for equality delete keys that are spilled to disk when a table enables {@link
+   * TableProperties#DELETE_EQUALITY_SPILL_ENABLED}. Defaults to {@code java.io.tmpdir}.
+   */
+  public static final String DELETES_SPILL_DIR = "iceberg.deletes.spill-dir";
+
   static boolean getBoolean(String systemProperty, boolean defaultValue) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
@@ -18,14 +18,21 @@
  */
 package org.apache.iceberg;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airlift.compress.zstd.ZstdCompressor;
+import io.airlift.compress.zstd.ZstdDecompressor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -42,13 +49,15 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.util.JsonUtil;
 
 public class TableMetadataParser {
 
   public enum Codec {
     NONE(""),
-    GZIP(".gz");
+    GZIP(".gz"),
+    ZSTD(".zst");
 
     private final String extension;
 
@@ -75,6 +84,8 @@ public class TableMetadataParser {
       String fileNameWithoutSuffix = fileName.substring(0, fileName.lastIndexOf(".metadata.json"));
       if (fileNameWithoutSuffix.endsWith(Codec.GZIP.extension)) {
         return Codec.GZIP;
+      } else if (fileNameWithoutSuffix.endsWith(Codec.ZSTD.extension)) {
+        return Codec.ZSTD;
       } else {
         return Codec.NONE;
       }
@@ -120,11 +131,10 @@ public class TableMetadataParser {
 
   public static void internalWrite(
       TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
-    try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream;
-        OutputStreamWriter writer = new OutputStreamWriter(ou, StandardCharsets.UTF_8)) {
-      JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
+    try (OutputStream ou = compress(codec, stream);
+        JsonGenerator generator = JsonUtil.factory().createGenerator(ou, JsonEncoding.UTF8)) {
       generator.useDefaultPrettyPrinter();
       toJson(metadata, generator);
       generator.flush();
@@ -133,6 +143,75 @@ public class TableMetadataParser {
     }
   }
 
+  private static OutputStream compress(Codec codec, OutputStream stream) throws IOException {
+    switch (codec) {
+      case GZIP:
+        return new GZIPOutputStream(stream);
+      case ZSTD:
+        return new ZstdFrameOutputStream(stream);
+      default:
+        return stream;
+    }
+  }
+
+  private static InputStream decompress(Codec codec, InputStream stream) throws IOException {
+    switch (codec) {
+      case GZIP:
+        return new GZIPInputStream(stream);
+      case ZSTD:
+        return decompressZstd(stream);
+      default:
+        return stream;
+    }
+  }
+
+  private static InputStream decompressZstd(InputStream stream) throws IOException {
+    byte[] compressed;
+    try (InputStream in = stream) {
+      compressed = ByteStreams.toByteArray(in);
+    }
+
+    long size = ZstdDecompressor.getDecompressedSize(compressed, 0, compressed.length);
+    Preconditions.checkState(
+        size >= 0 && size <= Integer.MAX_VALUE, "Invalid decompressed size: %s", size);
+
+    byte[] decompressed = new byte[(int) size];
+    int length =
+        new ZstdDecompressor()
+            .decompress(compressed, 0, compressed.length, decompressed, 0, decompressed.length);
+    Preconditions.checkState(length == decompressed.length, "Invalid decompressed length");
+
+    return new ByteArrayInputStream(decompressed);
+  }
+
+  /**
+   * Buffers metadata JSON and writes it to the underlying stream as a single Zstandard frame on
+   * close, because aircompressor only provides a block compressor for Zstandard.
+   */
+  private static class ZstdFrameOutputStream extends ByteArrayOutputStream {
+    private final OutputStream stream;
+    private boolean closed = false;
+
+    private ZstdFrameOutputStream(OutputStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+      try (OutputStream out = stream) {
+        ZstdCompressor compressor = new ZstdCompressor();
+        byte[] compressed = new byte[compressor.maxCompressedLength(count)];
+        int length = compressor.compress(buf, 0, count, compressed, 0, compressed.length);
+        out.write(compressed, 0, length);
+      }
+    }
+  }
+
   public static String getFileExtension(String codecName) {
     return getFileExtension(Codec.fromName(codecName));
   }
@@ -268,9 +347,9 @@ public class TableMetadataParser {
 
   public static TableMetadata read(FileIO io, InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
-    try (InputStream is =
-        codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+    try (InputStream is = decompress(codec, file.newStream());
+        JsonParser parser = JsonUtil.factory().createParser(is)) {
+      return fromJson(file.location(), parser);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
@@ -296,7 +375,55 @@ public class TableMetadataParser {
    * @return a TableMetadata object
    */
   public static TableMetadata fromJson(String metadataLocation, String json) {
-    return JsonUtil.parse(json, node -> TableMetadataParser.fromJson(metadataLocation, node));
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      return fromJson(metadataLocation, parser);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Read TableMetadata from a streaming JSON parser.
+   *
+   * <p>Snapshots and the snapshot and metadata logs, which grow with the table's history, are read
+   * directly from the token stream. Only the remaining top-level fields, which are small, are read
+   * into a tree.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param parser a JSON parser that has not yet consumed the metadata object
+   * @return a TableMetadata object
+   */
+  static TableMetadata fromJson(String metadataLocation, JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    Preconditions.checkArgument(
+        token == JsonToken.START_OBJECT,
+        "Cannot parse metadata from a non-object: %s",
+        parser.getText());
+
+    ObjectNode node = JsonUtil.mapper().createObjectNode();
+    List<Snapshot> snapshots = null;
+    List<HistoryEntry> snapshotLog = ImmutableList.of();
+    List<MetadataLogEntry> metadataLog = ImmutableList.of();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case SNAPSHOTS:
+          snapshots = snapshotsFromJson(parser);
+          break;
+        case SNAPSHOT_LOG:
+          snapshotLog = snapshotLogFromJson(parser);
+          break;
+        case METADATA_LOG:
+          metadataLog = metadataLogFromJson(parser);
+          break;
+        default:
+          node.set(field, JsonUtil.mapper().readTree(parser));
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots, snapshotLog, metadataLog);
   }
 
   static TableMetadata fromJson(InputFile file, JsonNode node) {
@@ -307,11 +434,57 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   static TableMetadata fromJson(String metadataLocation, JsonNode node) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
+    List<Snapshot> snapshots = null;
+    if (node.hasNonNull(SNAPSHOTS)) {
+      JsonNode snapshotArray = node.get(SNAPSHOTS);
+      Preconditions.checkArgument(
+          snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
+
+      snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
+      Iterator<JsonNode> iterator = snapshotArray.elements();
+      while (iterator.hasNext()) {
+        snapshots.add(SnapshotParser.fromJson(iterator.next()));
+      }
+    }
+
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    if (node.has(SNAPSHOT_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        entries.add(
+            new SnapshotLogEntry(
+                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
+                JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
+      }
+    }
+
+    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
+    if (node.has(METADATA_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        metadataEntries.add(
+            new MetadataLogEntry(
+                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
+                JsonUtil.getString(METADATA_FILE, entryNode)));
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots, entries.build(), metadataEntries.build());
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation,
+      JsonNode node,
+      List<Snapshot> snapshots,
+      List<HistoryEntry> snapshotLog,
+      List<MetadataLogEntry> metadataLog) {
     int formatVersion = JsonUtil.getInt(FORMAT_VERSION, node);
     Preconditions.checkArgument(
         formatVersion <= TableMetadata.SUPPORTED_TABLE_FORMAT_VERSION,
@@ -448,15 +621,7 @@ public class TableMetadataParser {
       refs = ImmutableMap.of();
     }
 
-    JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
-    Preconditions.checkArgument(
-        snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
-
-    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
-    Iterator<JsonNode> iterator = snapshotArray.elements();
-    while (iterator.hasNext()) {
-      snapshots.add(SnapshotParser.fromJson(iterator.next()));
-    }
+    Preconditions.checkArgument(snapshots != null, "Cannot parse missing field: %s", SNAPSHOTS);
 
     List<StatisticsFile> statisticsFiles;
     if (node.has(STATISTICS)) {
@@ -465,30 +630,6 @@ public class TableMetadataParser {
       statisticsFiles = ImmutableList.of();
     }
 
-    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
-    if (node.has(SNAPSHOT_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        entries.add(
-            new SnapshotLogEntry(
-                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
-                JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
-      }
-    }
-
-    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
-    if (node.has(METADATA_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        metadataEntries.add(
-            new MetadataLogEntry(
-                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
-                JsonUtil.getString(METADATA_FILE, entryNode)));
-      }
-    }
-
     return new TableMetadata(
         metadataLocation,
         formatVersion,
@@ -508,13 +649,103 @@ public class TableMetadataParser {
         currentSnapshotId,
         snapshots,
         null,
-        entries.build(),
-        metadataEntries.build(),
+        snapshotLog,
+        metadataLog,
         refs,
         statisticsFiles,
         ImmutableList.of() /* no changes from the file */);
   }
 
+  private static List<Snapshot> snapshotsFromJson(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      // reported as a missing field once the rest of the metadata is validated
+      return null;
+    }
+
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshots from non-array: %s",
+        parser.getText());
+
+    List<Snapshot> snapshots = Lists.newArrayList();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      snapshots.add(SnapshotParser.fromJson(parser));
+    }
+
+    return snapshots;
+  }
+
+  private static List<HistoryEntry> snapshotLogFromJson(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return ImmutableList.of();
+    }
+
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse %s from non-array: %s",
+        SNAPSHOT_LOG,
+        parser.getText());
+
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Long timestamp = null;
+      Long snapshotId = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (TIMESTAMP_MS.equals(field)) {
+          timestamp = JsonUtil.readLong(TIMESTAMP_MS, parser);
+        } else if (SNAPSHOT_ID.equals(field)) {
+          snapshotId = JsonUtil.readLong(SNAPSHOT_ID, parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(timestamp != null, "Cannot parse missing long: %s", TIMESTAMP_MS);
+      Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long: %s", SNAPSHOT_ID);
+      entries.add(new SnapshotLogEntry(timestamp, snapshotId));
+    }
+
+    return entries.build();
+  }
+
+  private static List<MetadataLogEntry> metadataLogFromJson(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return ImmutableList.of();
+    }
+
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse %s from non-array: %s",
+        METADATA_LOG,
+        parser.getText());
+
+    ImmutableList.Builder<MetadataLogEntry> entries = ImmutableList.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Long timestamp = null;
+      String file = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (TIMESTAMP_MS.equals(field)) {
+          timestamp = JsonUtil.readLong(TIMESTAMP_MS, parser);
+        } else if (METADATA_FILE.equals(field)) {
+          file = JsonUtil.readString(METADATA_FILE, parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(timestamp != null, "Cannot parse missing long: %s", TIMESTAMP_MS);
+      Preconditions.checkArgument(file != null, "Cannot parse missing string: %s", METADATA_FILE);
+      entries.add(new MetadataLogEntry(timestamp, file));
+    }
+
+    return entries.build();
+  }
+
   private static Map<String, SnapshotRef> refsFromJson(JsonNode refMap) {
     Preconditions.checkArgument(refMap.isObject(), "Cannot parse refs from non-object: %s", refMap);
 
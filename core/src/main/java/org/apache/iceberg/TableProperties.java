@@ -117,6 +117,13 @@ public class TableProperties {
   public static final String MANIFEST_MERGE_ENABLED = "commit.manifest-merge.enabled";
   public static final boolean MANIFEST_MERGE_ENABLED_DEFAULT = true;
 
+  public static final String MANIFEST_LIST_DELTA_ENABLED = "commit.manifest-list.delta.enabled";
+  public static final boolean MANIFEST_LIST_DELTA_ENABLED_DEFAULT = false;
+
+  public static final String MANIFEST_LIST_CHECKPOINT_INTERVAL =
+      "commit.manifest-list.checkpoint-interval";
+  public static final int MANIFEST_LIST_CHECKPOINT_INTERVAL_DEFAULT = 20;
+
   public static final String DEFAULT_FILE_FORMAT = "write.format.default";
   public static final String DELETE_DEFAULT_FILE_FORMAT = "write.delete.format.default";
   public static final String DEFAULT_FILE_FORMAT_DEFAULT = "parquet";
@@ -149,6 +156,12 @@ public class TableProperties {
       "write.delete.parquet.compression-level";
   public static final String PARQUET_COMPRESSION_LEVEL_DEFAULT = null;
 
+  public static final String PARQUET_COMPRESSION_PARALLELISM =
+      "write.parquet.compression-parallelism";
+  public static final String DELETE_PARQUET_COMPRESSION_PARALLELISM =
+      "write.delete.parquet.compression-parallelism";
+  public static final int PARQUET_COMPRESSION_PARALLELISM_DEFAULT = 1;
+
   public static final String PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
       "write.parquet.row-group-check-min-record-count";
   public static final String DELETE_PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
@@ -216,18 +229,33 @@ public class TableProperties {
   public static final String SPLIT_OPEN_FILE_COST = "read.split.open-file-cost";
   public static final long SPLIT_OPEN_FILE_COST_DEFAULT = 4 * 1024 * 1024; // 4MB
 
+  public static final String MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT =
+      "read.manifest.prefetch.max-bytes-in-flight";
+  public static final long MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT_DEFAULT = 0L; // disabled
+
   public static final String PARQUET_VECTORIZATION_ENABLED = "read.parquet.vectorization.enabled";
   public static final boolean PARQUET_VECTORIZATION_ENABLED_DEFAULT = true;
 
   public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
   public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARQUET_LATE_MATERIALIZATION_ENABLED =
+      "read.parquet.vectorization.late-materialization.enabled";
+  public static final boolean PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT = false;
+
   public static final String ORC_VECTORIZATION_ENABLED = "read.orc.vectorization.enabled";
   public static final boolean ORC_VECTORIZATION_ENABLED_DEFAULT = false;
 
   public static final String ORC_BATCH_SIZE = "read.orc.vectorization.batch-size";
   public static final int ORC_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String DELETE_EQUALITY_SPILL_ENABLED = "read.delete.equality.spill.enabled";
+  public static final boolean DELETE_EQUALITY_SPILL_ENABLED_DEFAULT = false;
+
+  public static final String DELETE_EQUALITY_SPILL_MAX_IN_MEMORY_KEYS =
+      "read.delete.equality.spill.max-in-memory-keys";
+  public static final long DELETE_EQUALITY_SPILL_MAX_IN_MEMORY_KEYS_DEFAULT = 1_000_000L;
+
   public static final String OBJECT_STORE_ENABLED = "write.object-storage.enabled";
   public static final boolean OBJECT_STORE_ENABLED_DEFAULT = false;
 
@@ -293,6 +321,10 @@ public class TableProperties {
   public static final String SPARK_WRITE_PARTITIONED_FANOUT_ENABLED = "write.spark.fanout.enabled";
   public static final boolean SPARK_WRITE_PARTITIONED_FANOUT_ENABLED_DEFAULT = false;
 
+  public static final String SPARK_WRITE_PARTITIONED_FANOUT_MAX_BUFFERED_BYTES =
+      "write.spark.fanout.max-buffered-bytes";
+  public static final long SPARK_WRITE_PARTITIONED_FANOUT_MAX_BUFFERED_BYTES_DEFAULT = 0L;
+
   public static final String SPARK_WRITE_ACCEPT_ANY_SCHEMA = "write.spark.accept-any-schema";
   public static final boolean SPARK_WRITE_ACCEPT_ANY_SCHEMA_DEFAULT = false;
 
@@ -30,13 +30,17 @@ import org.apache.avro.io.Decoder;
 import org.apache.iceberg.common.DynClasses;
 import org.apache.iceberg.data.avro.DecoderResolver;
 
-class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
+public class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
 
   private final Schema readSchema;
   private ClassLoader loader = Thread.currentThread().getContextClassLoader();
   private Schema fileSchema = null;
   private ValueReader<T> reader = null;
 
+  public static <D> GenericAvroReader<D> create(Schema schema) {
+    return new GenericAvroReader<>(schema);
+  }
+
   GenericAvroReader(Schema readSchema) {
     this.readSchema = readSchema;
   }
@@ -18,9 +18,10 @@
  */
 package org.apache.iceberg.deletes;
 
+import java.io.Serializable;
 import org.roaringbitmap.longlong.Roaring64Bitmap;
 
-class BitmapPositionDeleteIndex implements PositionDeleteIndex {
+class BitmapPositionDeleteIndex implements PositionDeleteIndex, Serializable {
   private final Roaring64Bitmap roaring64Bitmap;
 
   BitmapPositionDeleteIndex() {
@@ -46,4 +47,14 @@ class BitmapPositionDeleteIndex implements PositionDeleteIndex {
   public boolean isEmpty() {
     return roaring64Bitmap.isEmpty();
   }
+
+  /** Converts runs of deleted positions to a compressed run-length representation. */
+  void optimize() {
+    roaring64Bitmap.runOptimize();
+  }
+
+  /** Returns the estimated size of this index in memory. */
+  long sizeInBytes() {
+    return roaring64Bitmap.getLongSizeInBytes();
+  }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.deletes;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
@@ -120,6 +121,47 @@ public class Deletes {
     }
   }
 
+  /**
+   * Builds an equality delete set that keeps at most a given number of keys in memory.
+   *
+   * <p>Keys beyond the limit are spilled to sorted files in the spill directory, see {@link
+   * SpillableStructLikeSet}. Callers should close the returned set when it is no longer used.
+   *
+   * @param eqDeletes equality delete keys
+   * @param eqType the struct type of the keys
+   * @param maxInMemoryKeys the maximum number of keys to keep in memory, including keys buffered
+   *     to be spilled
+   * @param spillDirectory a local directory for spill files
+   * @return a set of the delete keys
+   */
+  public static SpillableStructLikeSet toEqualitySet(
+      CloseableIterable<StructLike> eqDeletes,
+      Types.StructType eqType,
+      long maxInMemoryKeys,
+      File spillDirectory) {
+    SpillableStructLikeSet deleteSet =
+        new SpillableStructLikeSet(eqType, maxInMemoryKeys, spillDirectory);
+    try (CloseableIterable<StructLike> deletes = eqDeletes) {
+      deletes.forEach(deleteSet::add);
+      deleteSet.finish();
+      return deleteSet;
+    } catch (IOException e) {
+      closeQuietly(deleteSet);
+      throw new UncheckedIOException("Failed to close equality delete source", e);
+    } catch (RuntimeException e) {
+      closeQuietly(deleteSet);
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(SpillableStructLikeSet deleteSet) {
+    try {
+      deleteSet.close();
+    } catch (IOException e) {
+      // ignore, the original failure is more useful
+    }
+  }
+
   public static <T extends StructLike> PositionDeleteIndex toPositionIndex(
       CharSequence dataLocation, List<CloseableIterable<T>> deleteFiles) {
     DataFileFilter<T> locationFilter = new DataFileFilter<>(dataLocation);
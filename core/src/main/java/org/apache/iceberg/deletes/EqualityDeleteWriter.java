@@ -72,6 +72,11 @@ public class EqualityDeleteWriter<T> implements FileWriter<T, DeleteWriteResult>
     return appender.length();
   }
 
+  @Override
+  public long bufferedSize() {
+    return appender.bufferedSize();
+  }
+
   @Override
   public void close() throws IOException {
     if (deleteFile == null) {
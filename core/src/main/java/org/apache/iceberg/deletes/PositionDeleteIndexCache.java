@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A process-wide cache of {@link PositionDeleteIndex} for data files.
+ *
+ * <p>When a data file is split into several scan tasks, each task needs the position deletes for
+ * the same data file. This cache allows tasks that run in the same JVM to share an index instead of
+ * reading and parsing the position delete files again for every split.
+ *
+ * <p>Indexes are keyed by the data file location and the location and size of every delete file
+ * that was used to build them. Data and delete files are immutable, so a cached index never goes
+ * stale. Cached indexes are compressed, read-only, and evicted based on their estimated size in
+ * memory, bounded by the {@code iceberg.deletes.position-index-cache.max-total-bytes} Java system
+ * property. Setting it to 0 disables the cache.
+ */
+public class PositionDeleteIndexCache {
+  private static final Logger LOG = LoggerFactory.getLogger(PositionDeleteIndexCache.class);
+
+  private static final PositionDeleteIndexCache INSTANCE =
+      new PositionDeleteIndexCache(maxTotalBytesFromSystemProperty());
+
+  private final long maxTotalBytes;
+  private final Cache<Key, PositionDeleteIndex> cache;
+
+  /**
+   * Returns the process-wide cache.
+   *
+   * @return the shared PositionDeleteIndexCache
+   */
+  public static PositionDeleteIndexCache get() {
+    return INSTANCE;
+  }
+
+  PositionDeleteIndexCache(long maxTotalBytes) {
+    this.maxTotalBytes = maxTotalBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(Math.max(maxTotalBytes, 0L))
+            .weigher(
+                (Weigher<Key, PositionDeleteIndex>)
+                    (key, index) -> (int) Math.min(weight(index), Integer.MAX_VALUE))
+            .removalListener(
+                (key, index, cause) ->
+                    LOG.debug("Evicted position delete index for {} ({})", key, cause))
+            .recordStats()
+            .build();
+  }
+
+  public boolean enabled() {
+    return maxTotalBytes > 0;
+  }
+
+  public long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedCacheSize() {
+    return cache.estimatedSize();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Returns the position delete index for a data file, loading it if it is not cached.
+   *
+   * <p>Concurrent calls for the same data file and delete files wait for a single load. The
+   * returned index must not be modified.
+   *
+   * @param dataLocation location of the data file
+   * @param deleteFiles position delete files that apply to the data file
+   * @param loader a supplier that builds the index by reading the delete files
+   * @return a read-only position delete index
+   */
+  public PositionDeleteIndex get(
+      CharSequence dataLocation,
+      List<DeleteFile> deleteFiles,
+      Supplier<PositionDeleteIndex> loader) {
+    if (!enabled()) {
+      return loader.get();
+    }
+
+    Key key = new Key(dataLocation.toString(), deleteFiles);
+    return cache.get(key, ignored -> freeze(loader.get()));
+  }
+
+  private static PositionDeleteIndex freeze(PositionDeleteIndex index) {
+    if (index instanceof BitmapPositionDeleteIndex) {
+      ((BitmapPositionDeleteIndex) index).optimize();
+    }
+
+    return new ReadOnlyPositionDeleteIndex(index);
+  }
+
+  private static long weight(PositionDeleteIndex index) {
+    PositionDeleteIndex wrapped = ((ReadOnlyPositionDeleteIndex) index).wrapped;
+    if (wrapped instanceof BitmapPositionDeleteIndex) {
+      return ((BitmapPositionDeleteIndex) wrapped).sizeInBytes();
+    }
+
+    // other implementations are not produced by Deletes, weigh them as if they were large
+    return Integer.MAX_VALUE;
+  }
+
+  private static long maxTotalBytesFromSystemProperty() {
+    String value =
+        System.getProperty(SystemProperties.DELETES_POSITION_INDEX_CACHE_MAX_TOTAL_BYTES);
+    if (value != null) {
+      try {
+        return Long.parseUnsignedLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return SystemProperties.DELETES_POSITION_INDEX_CACHE_MAX_TOTAL_BYTES_DEFAULT;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxTotalBytes", maxTotalBytes)
+        .add("cacheStats", cache.stats())
+        .toString();
+  }
+
+  private static class ReadOnlyPositionDeleteIndex implements PositionDeleteIndex, Serializable {
+    private final PositionDeleteIndex wrapped;
+
+    private ReadOnlyPositionDeleteIndex(PositionDeleteIndex wrapped) {
+      this.wrapped = wrapped;
+    }
+
+    @Override
+    public void delete(long position) {
+      throw new UnsupportedOperationException("Cannot modify a cached position delete index");
+    }
+
+    @Override
+    public void delete(long posStart, long posEnd) {
+      throw new UnsupportedOperationException("Cannot modify a cached position delete index");
+    }
+
+    @Override
+    public boolean isDeleted(long position) {
+      return wrapped.isDeleted(position);
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return wrapped.isEmpty();
+    }
+  }
+
+  private static class Key {
+    private final String dataLocation;
+    // delete file location to size in bytes
+    private final Map<String, Long> deleteFiles;
+
+    private Key(String dataLocation, List<DeleteFile> deleteFiles) {
+      this.dataLocation = dataLocation;
+      Map<String, Long> sizesByLocation = Maps.newHashMap();
+      for (DeleteFile deleteFile : deleteFiles) {
+        sizesByLocation.put(deleteFile.path().toString(), deleteFile.fileSizeInBytes());
+      }
+      this.deleteFiles = ImmutableMap.copyOf(sizesByLocation);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return dataLocation.equals(that.dataLocation) && deleteFiles.equals(that.deleteFiles);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(dataLocation, deleteFiles);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("dataLocation", dataLocation)
+          .add("deleteFiles", deleteFiles.keySet())
+          .toString();
+    }
+  }
+}
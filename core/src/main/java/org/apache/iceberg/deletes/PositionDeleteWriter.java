@@ -69,6 +69,11 @@ public class PositionDeleteWriter<T> implements FileWriter<PositionDelete<T>, De
     return appender.length();
   }
 
+  @Override
+  public long bufferedSize() {
+    return appender.bufferedSize();
+  }
+
   @Override
   public void close() throws IOException {
     if (deleteFile == null) {
@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.hash.BloomFilter;
+import org.apache.iceberg.relocated.com.google.common.hash.Funnels;
+import org.apache.iceberg.relocated.com.google.common.primitives.UnsignedBytes;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.StructLikeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A set of equality delete keys that keeps a bounded number of keys in memory.
+ *
+ * <p>The memory budget is a number of keys, not bytes, so the memory used depends on the size of
+ * the keys. The budget is shared by the first keys added, which are held in a {@link
+ * StructLikeSet}, and a buffer for the current run. Once the set is full, further keys are encoded
+ * to bytes, buffered and spilled to sorted runs in a local directory, so no more than the budget of
+ * keys is held in memory at any time (at least one key is buffered for a budget of 0).
+ *
+ * <p>When all keys are added, runs are merged into a single sorted file of fixed-size blocks. Only
+ * the first key of each block and a bloom filter of the spilled keys stay in memory, so a lookup
+ * that misses the in-memory keys is usually rejected by the bloom filter and otherwise reads a
+ * single block.
+ *
+ * <p>The merged file is unlinked as soon as it is opened, so its disk space is released when this
+ * set is closed or garbage collected. Lookups are thread-safe once all keys are added.
+ */
+public class SpillableStructLikeSet implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SpillableStructLikeSet.class);
+  private static final int DEFAULT_MAX_KEYS_PER_RUN = 100_000;
+  private static final int KEYS_PER_BLOCK = 128;
+  private static final double BLOOM_FILTER_FPP = 0.01;
+  private static final Comparator<byte[]> KEY_COMPARATOR =
+      UnsignedBytes.lexicographicalComparator();
+
+  private final Types.StructType type;
+  private final long maxSetKeys;
+  private final int maxKeysPerRun;
+  private final File spillDirectory;
+  private final StructLikeSet inMemoryKeys;
+  private final List<byte[]> spillBuffer = Lists.newArrayList();
+  private final List<File> runs = Lists.newArrayList();
+  private long spillCount = 0L;
+  private long spilledBytes = 0L;
+  private long spilledKeys = 0L;
+  private boolean finished = false;
+
+  // set when spilled keys are merged
+  private FileInputStream mergedStream = null;
+  private FileChannel merged = null;
+  private byte[][] blockFirstKeys = null;
+  private long[] blockOffsets = null;
+  private BloomFilter<byte[]> bloomFilter = null;
+
+  public SpillableStructLikeSet(Types.StructType type, long maxInMemoryKeys, File spillDirectory) {
+    this(
+        type,
+        maxInMemoryKeys,
+        // half of the budget buffers spilled keys, the rest is used by the in-memory set
+        (int) Math.max(1L, Math.min(maxInMemoryKeys / 2, DEFAULT_MAX_KEYS_PER_RUN)),
+        spillDirectory);
+  }
+
+  @VisibleForTesting
+  SpillableStructLikeSet(
+      Types.StructType type, long maxInMemoryKeys, int maxKeysPerRun, File spillDirectory) {
+    Preconditions.checkArgument(
+        maxInMemoryKeys >= 0, "Invalid max in-memory keys: %s", maxInMemoryKeys);
+    Preconditions.checkArgument(maxKeysPerRun > 0, "Invalid max keys per run: %s", maxKeysPerRun);
+    Preconditions.checkArgument(spillDirectory != null, "Invalid spill directory: null");
+    this.type = type;
+    this.maxSetKeys = Math.max(0L, maxInMemoryKeys - maxKeysPerRun);
+    this.maxKeysPerRun = maxKeysPerRun;
+    this.spillDirectory = spillDirectory;
+    this.inMemoryKeys = StructLikeSet.create(type);
+  }
+
+  /**
+   * Adds a key to this set.
+   *
+   * <p>Keys held in memory are not copied, so callers must not reuse the struct.
+   *
+   * @param key a key struct
+   */
+  public void add(StructLike key) {
+    Preconditions.checkState(!finished, "Cannot add keys after the set is finished");
+    if (inMemoryKeys.size() < maxSetKeys || inMemoryKeys.contains(key)) {
+      inMemoryKeys.add(key);
+      return;
+    }
+
+    spillBuffer.add(encode(key));
+    if (spillBuffer.size() >= maxKeysPerRun) {
+      spill();
+    }
+  }
+
+  /** Completes this set after all keys are added, merging spilled keys if there are any. */
+  public void finish() {
+    Preconditions.checkState(!finished, "Set is already finished");
+    this.finished = true;
+    if (!spillBuffer.isEmpty()) {
+      spill();
+    }
+
+    if (!runs.isEmpty()) {
+      merge();
+    }
+  }
+
+  public boolean contains(StructLike key) {
+    Preconditions.checkState(finished, "Cannot check keys before the set is finished");
+    if (inMemoryKeys.contains(key)) {
+      return true;
+    } else if (merged == null || key == null) {
+      return false;
+    }
+
+    byte[] encoded = encode(key);
+    if (!bloomFilter.mightContain(encoded)) {
+      return false;
+    }
+
+    int block = findBlock(encoded);
+    return block >= 0 && blockContains(block, encoded);
+  }
+
+  /** Returns the number of keys held in memory. */
+  public int inMemorySize() {
+    return inMemoryKeys.size();
+  }
+
+  /** Returns the number of keys written to spill runs, including duplicates. */
+  public long spilledKeys() {
+    return spilledKeys;
+  }
+
+  /** Returns the number of sorted runs that were spilled to disk. */
+  public long spillCount() {
+    return spillCount;
+  }
+
+  /** Returns the total number of bytes written to disk, including the merged file. */
+  public long spilledBytes() {
+    return spilledBytes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    spillBuffer.clear();
+    deleteRuns();
+    if (mergedStream != null) {
+      mergedStream.close();
+      this.mergedStream = null;
+      this.merged = null;
+    }
+  }
+
+  private void spill() {
+    spillBuffer.sort(KEY_COMPARATOR);
+    File run = newSpillFile("run");
+    runs.add(run);
+
+    try (DataOutputStream out = newOutputStream(run)) {
+      for (byte[] key : spillBuffer) {
+        out.writeInt(key.length);
+        out.write(key);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write equality delete spill file: " + run, e);
+    }
+
+    LOG.debug("Spilled {} equality delete keys to {}", spillBuffer.size(), run);
+    this.spillCount += 1;
+    this.spilledKeys += spillBuffer.size();
+    this.spilledBytes += run.length();
+    spillBuffer.clear();
+  }
+
+  private void merge() {
+    File mergedFile = newSpillFile("merged");
+    BloomFilter<byte[]> bloom =
+        BloomFilter.create(Funnels.byteArrayFunnel(), Math.max(spilledKeys, 1L), BLOOM_FILTER_FPP);
+    List<byte[]> firstKeys = Lists.newArrayList();
+    List<Long> offsets = Lists.newArrayList();
+
+    List<RunReader> readers = Lists.newArrayList();
+    PriorityQueue<RunReader> queue =
+        new PriorityQueue<>((left, right) -> KEY_COMPARATOR.compare(left.key, right.key));
+    try (DataOutputStream out = newOutputStream(mergedFile)) {
+      for (File run : runs) {
+        RunReader reader = new RunReader(run);
+        readers.add(reader);
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+      }
+
+      long offset = 0L;
+      int keysInBlock = 0;
+      byte[] lastKey = null;
+      while (!queue.isEmpty()) {
+        RunReader reader = queue.poll();
+        byte[] key = reader.key;
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+
+        if (lastKey != null && Arrays.equals(lastKey, key)) {
+          continue;
+        }
+
+        if (keysInBlock == 0) {
+          firstKeys.add(key);
+          offsets.add(offset);
+        }
+
+        out.writeInt(key.length);
+        out.write(key);
+        bloom.put(key);
+        offset += Integer.BYTES + key.length;
+        keysInBlock = (keysInBlock + 1) % KEYS_PER_BLOCK;
+        lastKey = key;
+      }
+
+      offsets.add(offset);
+    } catch (IOException e) {
+      if (!mergedFile.delete()) {
+        LOG.warn("Failed to delete equality delete spill file: {}", mergedFile);
+      }
+
+      throw new UncheckedIOException("Failed to merge equality delete spill files", e);
+    } finally {
+      for (RunReader reader : readers) {
+        reader.close();
+      }
+
+      deleteRuns();
+    }
+
+    this.spilledBytes += mergedFile.length();
+    this.blockFirstKeys = firstKeys.toArray(new byte[0][]);
+    this.blockOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+    this.bloomFilter = bloom;
+
+    try {
+      this.mergedStream = new FileInputStream(mergedFile);
+      this.merged = mergedStream.getChannel();
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to open merged equality delete file: " + mergedFile, e);
+    }
+
+    // the open stream keeps the content readable, this fails on platforms that lock open files
+    if (!mergedFile.delete()) {
+      mergedFile.deleteOnExit();
+    }
+  }
+
+  // finds the last block with a first key that is less than or equal to the key
+  private int findBlock(byte[] key) {
+    int low = 0;
+    int high = blockFirstKeys.length - 1;
+    int result = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (KEY_COMPARATOR.compare(blockFirstKeys[mid], key) <= 0) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return result;
+  }
+
+  private boolean blockContains(int block, byte[] key) {
+    long start = blockOffsets[block];
+    int length = (int) (blockOffsets[block + 1] - start);
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    try {
+      while (buffer.hasRemaining()) {
+        int bytesRead = merged.read(buffer, start + buffer.position());
+        if (bytesRead < 0) {
+          throw new EOFException("Reached the end of the merged file while reading block " + block);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read merged equality delete file", e);
+    }
+
+    ((Buffer) buffer).flip();
+    while (buffer.hasRemaining()) {
+      int keyLength = buffer.getInt();
+      int cmp = compare(buffer, keyLength, key);
+      if (cmp == 0) {
+        return true;
+      } else if (cmp > 0) {
+        // keys are sorted, so the key cannot be later in the block
+        return false;
+      }
+
+      ((Buffer) buffer).position(buffer.position() + keyLength);
+    }
+
+    return false;
+  }
+
+  // compares the next keyLength bytes of the buffer with the key, without consuming them
+  private static int compare(ByteBuffer buffer, int keyLength, byte[] key) {
+    int pos = buffer.position();
+    int length = Math.min(keyLength, key.length);
+    for (int i = 0; i < length; i += 1) {
+      int cmp = UnsignedBytes.compare(buffer.get(pos + i), key[i]);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+
+    return Integer.compare(keyLength, key.length);
+  }
+
+  private byte[] encode(StructLike key) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      encode(out, type, key);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode equality delete key", e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  // encodes every value with a null marker and its single-value serialization, which is equal for
+  // two structs only if they are equal according to the type's comparator
+  private static void encode(DataOutputStream out, Types.StructType struct, StructLike row)
+      throws IOException {
+    List<Types.NestedField> fields = struct.fields();
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      Type fieldType = fields.get(pos).type();
+      Object value = row.get(pos, fieldType.typeId().javaClass());
+      if (value == null) {
+        out.writeByte(0);
+      } else if (fieldType.isStructType()) {
+        out.writeByte(1);
+        encode(out, fieldType.asStructType(), (StructLike) value);
+      } else {
+        out.writeByte(1);
+        byte[] valueBytes = ByteBuffers.toByteArray(Conversions.toByteBuffer(fieldType, value));
+        out.writeInt(valueBytes.length);
+        out.write(valueBytes);
+      }
+    }
+  }
+
+  private File newSpillFile(String kind) {
+    try {
+      // the directory may have been removed by a temp file cleaner
+      spillDirectory.mkdirs();
+      return File.createTempFile("eq-deletes-" + kind + "-", ".bin", spillDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to create equality delete spill file in " + spillDirectory, e);
+    }
+  }
+
+  private static DataOutputStream newOutputStream(File file) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+  }
+
+  private void deleteRuns() {
+    for (File run : runs) {
+      if (run.exists() && !run.delete()) {
+        LOG.warn("Failed to delete equality delete spill file: {}", run);
+      }
+    }
+
+    runs.clear();
+  }
+
+  private static class RunReader implements Closeable {
+    private final File run;
+    private final DataInputStream in;
+    private long remaining;
+    private byte[] key = null;
+
+    private RunReader(File run) throws IOException {
+      this.run = run;
+      this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+      this.remaining = run.length();
+    }
+
+    private boolean advance() throws IOException {
+      if (remaining <= 0) {
+        this.key = null;
+        return false;
+      }
+
+      int length = in.readInt();
+      this.key = new byte[length];
+      in.readFully(key);
+      this.remaining -= Integer.BYTES + length;
+      return true;
+    }
+
+    @Override
+    public void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close equality delete spill file: {}", run, e);
+      }
+    }
+  }
+}
@@ -253,8 +253,8 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
   }
 
   private abstract class BaseRollingWriter<W extends Closeable> implements Closeable {
-    private static final int ROWS_DIVISOR = 1000;
     private final StructLike partitionKey;
+    private final TargetFileSizeTracker sizeTracker = new TargetFileSizeTracker(targetFileSize);
 
     private EncryptedOutputFile currentFile = null;
     private W currentWriter = null;
@@ -302,10 +302,11 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       }
       this.currentWriter = newWriter(currentFile, partitionKey);
       this.currentRows = 0;
+      sizeTracker.newFile();
     }
 
     private boolean shouldRollToNewFile() {
-      return currentRows % ROWS_DIVISOR == 0 && length(currentWriter) >= targetFileSize;
+      return sizeTracker.shouldRollToNewFile(currentRows, () -> length(currentWriter));
     }
 
     private void closeCurrent() throws IOException {
@@ -20,14 +20,18 @@ package org.apache.iceberg.io;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ValidationException;
@@ -48,15 +52,27 @@ import org.slf4j.LoggerFactory;
  * does not exist in the cache yet, a regular InputFile will be instantiated, read-ahead, and loaded
  * into the cache before returning ByteBufferInputStream. The regular InputFile is also used as a
  * fallback if cache loading fail.
+ *
+ * <p>An optional {@link ContentCacheTier}, such as {@link DiskContentCache}, can be configured as a
+ * second tier. It is consulted when content is not in memory, before reading from the FileIO, and
+ * content read from the FileIO is added to it.
+ *
+ * <p>When off-heap mode is enabled, cached content is stored in direct buffers that are freed
+ * explicitly when an entry is evicted and no stream is reading from it anymore. Streams returned
+ * for off-heap entries must be closed to release the entry.
  */
 public class ContentCache {
   private static final Logger LOG = LoggerFactory.getLogger(ContentCache.class);
   private static final int BUFFER_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+  private static final int COPY_CHUNK_SIZE = 64 * 1024; // 64KB
 
   private final long expireAfterAccessMs;
   private final long maxTotalBytes;
   private final long maxContentLength;
   private final Cache<String, CacheEntry> cache;
+  private final ContentCacheTier secondTier;
+  private final boolean offHeap;
+  private final AtomicLong offHeapBytes = new AtomicLong(0L);
 
   /**
    * Constructor for ContentCache class.
@@ -70,28 +86,80 @@ public class ContentCache {
    *     be greater than 0.
    */
   public ContentCache(long expireAfterAccessMs, long maxTotalBytes, long maxContentLength) {
+    this(expireAfterAccessMs, maxTotalBytes, maxContentLength, null);
+  }
+
+  /**
+   * Constructor for ContentCache class with a second cache tier.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries in the ContentCache are hold
+   *     since last access. Must be greater or equal than 0. Setting 0 means cache entries expire
+   *     only if it gets evicted due to memory pressure.
+   * @param maxTotalBytes controls the maximum total amount of bytes to cache in ContentCache. Must
+   *     be greater than 0.
+   * @param maxContentLength controls the maximum length of file to be considered for caching. Must
+   *     be greater than 0.
+   * @param secondTier a {@link ContentCacheTier} consulted before reading from FileIO, or null
+   */
+  public ContentCache(
+      long expireAfterAccessMs,
+      long maxTotalBytes,
+      long maxContentLength,
+      ContentCacheTier secondTier) {
+    this(expireAfterAccessMs, maxTotalBytes, maxContentLength, secondTier, false);
+  }
+
+  /**
+   * Constructor for ContentCache class with a second cache tier and a choice of memory type.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries in the ContentCache are hold
+   *     since last access. Must be greater or equal than 0. Setting 0 means cache entries expire
+   *     only if it gets evicted due to memory pressure.
+   * @param maxTotalBytes controls the maximum total amount of bytes to cache in ContentCache. Must
+   *     be greater than 0.
+   * @param maxContentLength controls the maximum length of file to be considered for caching. Must
+   *     be greater than 0.
+   * @param secondTier a {@link ContentCacheTier} consulted before reading from FileIO, or null
+   * @param offHeap whether to store cached content in direct buffers instead of the heap
+   */
+  public ContentCache(
+      long expireAfterAccessMs,
+      long maxTotalBytes,
+      long maxContentLength,
+      ContentCacheTier secondTier,
+      boolean offHeap) {
     ValidationException.check(expireAfterAccessMs >= 0, "expireAfterAccessMs is less than 0");
     ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
     ValidationException.check(maxContentLength > 0, "maxContentLength is equal or less than 0");
     this.expireAfterAccessMs = expireAfterAccessMs;
     this.maxTotalBytes = maxTotalBytes;
     this.maxContentLength = maxContentLength;
+    this.secondTier = secondTier;
+    this.offHeap = offHeap;
 
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
     if (expireAfterAccessMs > 0) {
       builder = builder.expireAfterAccess(Duration.ofMillis(expireAfterAccessMs));
     }
 
+    if (!offHeap) {
+      // off-heap entries must be released explicitly, which is not possible once collected
+      builder = builder.softValues();
+    }
+
     this.cache =
         builder
             .maximumWeight(maxTotalBytes)
             .weigher(
                 (Weigher<String, CacheEntry>)
                     (key, value) -> (int) Math.min(value.length, Integer.MAX_VALUE))
-            .softValues()
             .removalListener(
-                (location, cacheEntry, cause) ->
-                    LOG.debug("Evicted {} from ContentCache ({})", location, cause))
+                (String location, CacheEntry cacheEntry, RemovalCause cause) -> {
+                  LOG.debug("Evicted {} from ContentCache ({})", location, cause);
+                  if (cacheEntry != null) {
+                    cacheEntry.release();
+                  }
+                })
             .recordStats()
             .build();
   }
@@ -108,6 +176,23 @@ public class ContentCache {
     return maxTotalBytes;
   }
 
+  public ContentCacheTier secondTier() {
+    return secondTier;
+  }
+
+  public boolean offHeap() {
+    return offHeap;
+  }
+
+  /**
+   * Returns the number of bytes in direct buffers that are allocated by this cache and not freed.
+   *
+   * <p>This includes entries that were evicted but are still read by an open stream.
+   */
+  public long offHeapBytes() {
+    return offHeapBytes.get();
+  }
+
   public CacheStats stats() {
     return cache.stats();
   }
@@ -163,17 +248,144 @@ public class ContentCache {
         .add("maxContentLength", maxContentLength)
         .add("maxTotalBytes", maxTotalBytes)
         .add("cacheStats", cache.stats())
+        .add("secondTier", secondTier)
+        .add("offHeap", offHeap)
+        .add("offHeapBytes", offHeapBytes.get())
         .toString();
   }
 
+  private List<ByteBuffer> toOffHeap(List<ByteBuffer> buffers) {
+    List<ByteBuffer> directBuffers = Lists.newArrayListWithCapacity(buffers.size());
+    for (ByteBuffer buffer : buffers) {
+      ByteBuffer direct = allocateDirect(buffer.remaining());
+      direct.put(buffer.duplicate());
+      ((Buffer) direct).flip();
+      directBuffers.add(direct);
+    }
+
+    return directBuffers;
+  }
+
+  private ByteBuffer allocateDirect(int size) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+    offHeapBytes.addAndGet(size);
+    return buffer;
+  }
+
+  private void free(List<ByteBuffer> buffers) {
+    for (ByteBuffer buffer : buffers) {
+      if (buffer.isDirect()) {
+        offHeapBytes.addAndGet(-buffer.capacity());
+        DirectBuffers.free(buffer);
+      }
+    }
+  }
+
+  /**
+   * Cached content of a file.
+   *
+   * <p>Entries are reference counted. The cache holds one reference until the entry is evicted and
+   * each open stream over an off-heap entry holds another. Off-heap buffers are freed when the last
+   * reference is released.
+   */
   private static class CacheEntry {
+    private final ContentCache owner;
     private final long length;
     private final List<ByteBuffer> buffers;
+    private final AtomicInteger refCount = new AtomicInteger(1);
 
-    private CacheEntry(long length, List<ByteBuffer> buffers) {
+    private CacheEntry(ContentCache owner, long length, List<ByteBuffer> buffers) {
+      this.owner = owner;
       this.length = length;
       this.buffers = buffers;
     }
+
+    /**
+     * Adds a reference to this entry.
+     *
+     * @return true if a reference was added, false if the entry was already released
+     */
+    private boolean retain() {
+      while (true) {
+        int current = refCount.get();
+        if (current <= 0) {
+          return false;
+        } else if (refCount.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    private void release() {
+      if (refCount.decrementAndGet() == 0) {
+        owner.free(buffers);
+      }
+    }
+  }
+
+  /**
+   * A {@link SeekableInputStream} that reads directly from the buffers of an off-heap {@link
+   * CacheEntry} and releases its reference to the entry when closed.
+   */
+  private static class CacheEntryInputStream extends SeekableInputStream {
+    private final CacheEntry entry;
+    private final ByteBufferInputStream delegate;
+    private boolean closed = false;
+
+    private CacheEntryInputStream(CacheEntry entry) {
+      this.entry = entry;
+      this.delegate = ByteBufferInputStream.wrap(entry.buffers);
+    }
+
+    private void checkOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Stream is closed");
+      }
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      checkOpen();
+      return delegate.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      checkOpen();
+      delegate.seek(newPos);
+    }
+
+    @Override
+    public int read() throws IOException {
+      checkOpen();
+      return delegate.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      checkOpen();
+      return delegate.read(bytes, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      checkOpen();
+      return delegate.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      checkOpen();
+      return delegate.available();
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        this.closed = true;
+        entry.release();
+      }
+    }
   }
 
   /**
@@ -262,31 +474,57 @@ public class ContentCache {
 
     private CacheEntry cacheEntry() {
       long start = System.currentTimeMillis();
+      ContentCacheTier secondTier = contentCache.secondTier();
+      if (secondTier != null) {
+        List<ByteBuffer> buffers = secondTier.get(location, getLength());
+        if (buffers != null) {
+          LOG.debug(
+              "cacheEntry took {} ms for {} from {}",
+              (System.currentTimeMillis() - start),
+              location,
+              secondTier);
+          List<ByteBuffer> content =
+              contentCache.offHeap() ? contentCache.toOffHeap(buffers) : buffers;
+          return new CacheEntry(contentCache, getLength(), content);
+        }
+      }
+
       try (SeekableInputStream stream = wrappedInputFile().newStream()) {
         long fileLength = getLength();
         long totalBytesToRead = fileLength;
         List<ByteBuffer> buffers = Lists.newArrayList();
 
-        while (totalBytesToRead > 0) {
-          // read the stream in 4MB chunk
-          int bytesToRead = (int) Math.min(BUFFER_CHUNK_SIZE, totalBytesToRead);
-          byte[] buf = new byte[bytesToRead];
-          int bytesRead = IOUtil.readRemaining(stream, buf, 0, bytesToRead);
-          totalBytesToRead -= bytesRead;
-
-          if (bytesRead < bytesToRead) {
-            // Read less than it should be, possibly hitting EOF. Abandon caching by throwing
-            // IOException and let the caller fallback to non-caching input file.
-            throw new IOException(
-                String.format(
-                    "Expected to read %d bytes, but only %d bytes read.",
-                    fileLength, fileLength - totalBytesToRead));
-          } else {
-            buffers.add(ByteBuffer.wrap(buf));
+        try {
+          while (totalBytesToRead > 0) {
+            // read the stream in 4MB chunk
+            int bytesToRead = (int) Math.min(BUFFER_CHUNK_SIZE, totalBytesToRead);
+            ByteBuffer buffer =
+                contentCache.offHeap()
+                    ? readDirect(stream, bytesToRead)
+                    : readHeap(stream, bytesToRead);
+            int bytesRead = buffer.remaining();
+            totalBytesToRead -= bytesRead;
+            buffers.add(buffer);
+
+            if (bytesRead < bytesToRead) {
+              // Read less than it should be, possibly hitting EOF. Abandon caching by throwing
+              // IOException and let the caller fallback to non-caching input file.
+              throw new IOException(
+                  String.format(
+                      "Expected to read %d bytes, but only %d bytes read.",
+                      fileLength, fileLength - totalBytesToRead));
+            }
           }
+        } catch (IOException | RuntimeException e) {
+          contentCache.free(buffers);
+          throw e;
+        }
+
+        CacheEntry newEntry = new CacheEntry(contentCache, fileLength, buffers);
+        if (secondTier != null) {
+          secondTier.put(location, fileLength, buffers);
         }
 
-        CacheEntry newEntry = new CacheEntry(fileLength, buffers);
         LOG.debug("cacheEntry took {} ms for {}", (System.currentTimeMillis() - start), location);
         return newEntry;
       } catch (IOException ex) {
@@ -294,13 +532,42 @@ public class ContentCache {
       }
     }
 
+    private ByteBuffer readHeap(SeekableInputStream stream, int bytesToRead) throws IOException {
+      byte[] buf = new byte[bytesToRead];
+      int bytesRead = IOUtil.readRemaining(stream, buf, 0, bytesToRead);
+      return ByteBuffer.wrap(buf, 0, bytesRead);
+    }
+
+    private ByteBuffer readDirect(SeekableInputStream stream, int bytesToRead) throws IOException {
+      ByteBuffer buffer = contentCache.allocateDirect(bytesToRead);
+      byte[] chunk = new byte[Math.min(COPY_CHUNK_SIZE, bytesToRead)];
+      while (buffer.hasRemaining()) {
+        int chunkSize = Math.min(chunk.length, buffer.remaining());
+        int bytesRead = IOUtil.readRemaining(stream, chunk, 0, chunkSize);
+        buffer.put(chunk, 0, bytesRead);
+        if (bytesRead < chunkSize) {
+          break;
+        }
+      }
+
+      ((Buffer) buffer).flip();
+      return buffer;
+    }
+
     private SeekableInputStream cachedStream() throws IOException {
       try {
         CacheEntry entry = contentCache.get(location, k -> cacheEntry());
         Preconditions.checkNotNull(
             entry, "CacheEntry should not be null when there is no RuntimeException occurs");
         LOG.debug("Cache stats: {}", contentCache.stats());
-        return ByteBufferInputStream.wrap(entry.buffers);
+        if (!contentCache.offHeap()) {
+          return ByteBufferInputStream.wrap(entry.buffers);
+        } else if (entry.retain()) {
+          return new CacheEntryInputStream(entry);
+        }
+
+        // the entry was evicted and freed concurrently
+        return wrappedInputFile().newStream();
       } catch (UncheckedIOException ex) {
         throw ex.getCause();
       } catch (RuntimeException ex) {
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A second cache tier that is consulted by {@link ContentCache} before file content is read from a
+ * {@link FileIO}.
+ *
+ * <p>Content is keyed by location and length. Files that are cached, such as manifests, are
+ * immutable so a location and length pair always identifies the same content.
+ */
+public interface ContentCacheTier {
+
+  /**
+   * Returns the cached content of a file, or null if the content is not cached.
+   *
+   * @param location URL/path of the file
+   * @param length the known length of the file
+   * @return a list of buffers with the file content or null if it is not cached
+   */
+  List<ByteBuffer> get(String location, long length);
+
+  /**
+   * Adds the content of a file to this tier.
+   *
+   * <p>Implementations may choose not to cache the content, and must not fail the read if caching
+   * fails.
+   *
+   * @param location URL/path of the file
+   * @param length the length of the file
+   * @param buffers buffers with the file content; buffers must not be modified
+   */
+  void put(String location, long length, List<ByteBuffer> buffers);
+}
@@ -76,6 +76,11 @@ public class DataWriter<T> implements FileWriter<T, DataWriteResult> {
     return appender.length();
   }
 
+  @Override
+  public long bufferedSize() {
+    return appender.bufferedSize();
+  }
+
   @Override
   public void close() throws IOException {
     if (dataFile == null) {
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import org.apache.iceberg.common.DynFields;
+import org.apache.iceberg.common.DynMethods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Frees the memory of direct {@link ByteBuffer}s without waiting for garbage collection.
+ *
+ * <p>This uses {@code sun.misc.Unsafe#invokeCleaner}, which is available in Java 9 and later. On
+ * older JVMs freeing is a no-op and the memory is released when the buffer is collected.
+ */
+class DirectBuffers {
+  private static final Logger LOG = LoggerFactory.getLogger(DirectBuffers.class);
+
+  private static final DynMethods.BoundMethod INVOKE_CLEANER = loadInvokeCleaner();
+
+  private DirectBuffers() {}
+
+  private static DynMethods.BoundMethod loadInvokeCleaner() {
+    try {
+      Object unsafe =
+          DynFields.builder().hiddenImpl("sun.misc.Unsafe", "theUnsafe").buildStatic().get();
+      return DynMethods.builder("invokeCleaner")
+          .impl("sun.misc.Unsafe", ByteBuffer.class)
+          .buildChecked(unsafe);
+    } catch (NoSuchMethodException | RuntimeException e) {
+      LOG.debug("Cannot free direct buffers explicitly, falling back to garbage collection", e);
+      return null;
+    }
+  }
+
+  /**
+   * Frees the memory of a direct buffer.
+   *
+   * <p>The buffer and any buffers derived from it must not be used after this call.
+   *
+   * @param buffer a direct buffer that was allocated by {@link ByteBuffer#allocateDirect(int)}
+   */
+  static void free(ByteBuffer buffer) {
+    if (INVOKE_CLEANER != null && buffer.isDirect()) {
+      INVOKE_CLEANER.invoke(buffer);
+    }
+  }
+}
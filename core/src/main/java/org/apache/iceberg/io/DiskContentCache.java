@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ContentCacheTier} that stores file content in a local directory.
+ *
+ * <p>Each cached file is stored in its own local file that starts with a header containing the
+ * location and length of the cached file and ends with a CRC32 checksum of the content. Entries
+ * that fail validation are deleted and treated as a cache miss.
+ *
+ * <p>The total size of the directory is bounded by evicting the least recently used entries.
+ * Entries found in the directory when the cache is created are reused, which allows the content to
+ * survive JVM restarts. The access order of these entries is restored from file modification times.
+ * Entries written by other processes after this cache was created are not visible, so a directory
+ * should be used by one process at a time.
+ */
+public class DiskContentCache implements ContentCacheTier {
+  private static final Logger LOG = LoggerFactory.getLogger(DiskContentCache.class);
+  private static final int MAGIC = 0x49434331; // ICC1
+  private static final String FILE_SUFFIX = ".cache";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int BUFFER_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+
+  private final Path directory;
+  private final long maxTotalBytes;
+  // file name to file size in access order, guarded by this
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes = 0L;
+
+  private final AtomicLong hitCount = new AtomicLong(0L);
+  private final AtomicLong missCount = new AtomicLong(0L);
+  private final AtomicLong evictionCount = new AtomicLong(0L);
+
+  /**
+   * Constructor for DiskContentCache class.
+   *
+   * @param directory a local directory to store cached content in. It is created if it does not
+   *     exist.
+   * @param maxTotalBytes controls the maximum total amount of bytes to store in the directory. Must
+   *     be greater than 0.
+   */
+  public DiskContentCache(String directory, long maxTotalBytes) {
+    ValidationException.check(directory != null, "directory is null");
+    ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
+    this.directory = Paths.get(directory);
+    this.maxTotalBytes = maxTotalBytes;
+
+    try {
+      Files.createDirectories(this.directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to create cache directory %s", directory), e);
+    }
+
+    loadExistingEntries();
+  }
+
+  public String directory() {
+    return directory.toString();
+  }
+
+  public long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  public synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  public synchronized long estimatedCacheSize() {
+    return entries.size();
+  }
+
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  public long missCount() {
+    return missCount.get();
+  }
+
+  public long evictionCount() {
+    return evictionCount.get();
+  }
+
+  @Override
+  public List<ByteBuffer> get(String location, long length) {
+    String name = fileName(location, length);
+    synchronized (this) {
+      // also marks the entry as recently used
+      if (entries.get(name) == null) {
+        missCount.incrementAndGet();
+        return null;
+      }
+    }
+
+    File file = directory.resolve(name).toFile();
+    try {
+      List<ByteBuffer> content = readEntry(file, location, length);
+      if (content != null) {
+        // keep the access order across restarts
+        file.setLastModified(System.currentTimeMillis());
+        hitCount.incrementAndGet();
+        return content;
+      }
+
+      LOG.warn("Invalid cache entry {} for {}, removing it", file, location);
+
+    } catch (IOException e) {
+      LOG.warn("Failed to read cache entry {} for {}, removing it", file, location, e);
+    }
+
+    invalidate(name);
+    missCount.incrementAndGet();
+    return null;
+  }
+
+  @Override
+  public void put(String location, long length, List<ByteBuffer> buffers) {
+    if (length > maxTotalBytes) {
+      return;
+    }
+
+    String name = fileName(location, length);
+    synchronized (this) {
+      if (entries.containsKey(name)) {
+        return;
+      }
+    }
+
+    Path path = directory.resolve(name);
+    Path tempPath = directory.resolve(name + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+    try {
+      writeEntry(tempPath.toFile(), location, length, buffers);
+      Files.move(
+          tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      long size = Files.size(path);
+
+      synchronized (this) {
+        Long previous = entries.put(name, size);
+        this.totalBytes += size - (previous != null ? previous : 0L);
+        evictIfNeeded();
+      }
+
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to add {} to cache directory {}", location, directory, e);
+      deleteQuietly(tempPath.toFile());
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    for (String name : entries.keySet()) {
+      deleteQuietly(directory.resolve(name).toFile());
+    }
+
+    entries.clear();
+    this.totalBytes = 0L;
+  }
+
+  private synchronized void invalidate(String name) {
+    Long size = entries.remove(name);
+    if (size != null) {
+      this.totalBytes -= size;
+    }
+
+    deleteQuietly(directory.resolve(name).toFile());
+  }
+
+  private synchronized void loadExistingEntries() {
+    File[] files = directory.toFile().listFiles();
+    if (files == null) {
+      return;
+    }
+
+    Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+    for (File file : files) {
+      String name = file.getName();
+      if (name.endsWith(FILE_SUFFIX)) {
+        entries.put(name, file.length());
+        this.totalBytes += file.length();
+      } else if (name.endsWith(TEMP_SUFFIX)) {
+        // left behind by an interrupted write
+        deleteQuietly(file);
+      }
+    }
+
+    evictIfNeeded();
+  }
+
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+    while (totalBytes > maxTotalBytes && iterator.hasNext()) {
+      Map.Entry<String, Long> eldest = iterator.next();
+      iterator.remove();
+      this.totalBytes -= eldest.getValue();
+      deleteQuietly(directory.resolve(eldest.getKey()).toFile());
+      evictionCount.incrementAndGet();
+      LOG.debug("Evicted {} from cache directory {}", eldest.getKey(), directory);
+    }
+  }
+
+  private static void writeEntry(File file, String location, long length, List<ByteBuffer> buffers)
+      throws IOException {
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+      byte[] locationBytes = location.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(MAGIC);
+      out.writeInt(locationBytes.length);
+      out.write(locationBytes);
+      out.writeLong(length);
+
+      CRC32 crc = new CRC32();
+      long written = 0L;
+      for (ByteBuffer buffer : buffers) {
+        crc.update(buffer.duplicate());
+        written += buffer.remaining();
+        IOUtil.writeFully(out, buffer.duplicate());
+      }
+
+      ValidationException.check(
+          written == length, "Expected %s bytes of content but got %s", length, written);
+
+      out.writeLong(crc.getValue());
+    }
+  }
+
+  private static List<ByteBuffer> readEntry(File file, String location, long length)
+      throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != MAGIC) {
+        return null;
+      }
+
+      int locationLength = in.readInt();
+      if (locationLength < 0 || locationLength > file.length()) {
+        return null;
+      }
+
+      byte[] locationBytes = new byte[locationLength];
+      in.readFully(locationBytes);
+      if (!location.equals(new String(locationBytes, StandardCharsets.UTF_8))
+          || in.readLong() != length) {
+        return null;
+      }
+
+      CRC32 crc = new CRC32();
+      List<ByteBuffer> buffers = Lists.newArrayList();
+      long remaining = length;
+      while (remaining > 0) {
+        int chunkSize = (int) Math.min(BUFFER_CHUNK_SIZE, remaining);
+        byte[] chunk = new byte[chunkSize];
+        in.readFully(chunk);
+        crc.update(chunk, 0, chunkSize);
+        buffers.add(ByteBuffer.wrap(chunk));
+        remaining -= chunkSize;
+      }
+
+      if (in.readLong() != crc.getValue()) {
+        return null;
+      }
+
+      return buffers;
+    }
+  }
+
+  private static String fileName(String location, long length) {
+    return Hashing.sha256()
+            .newHasher()
+            .putString(location, StandardCharsets.UTF_8)
+            .putLong(length)
+            .hash()
+            .toString()
+        + FILE_SUFFIX;
+  }
+
+  private static void deleteQuietly(File file) {
+    if (file.exists() && !file.delete()) {
+      LOG.warn("Failed to delete {}", file);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("directory", directory)
+        .add("maxTotalBytes", maxTotalBytes)
+        .add("totalBytes", totalBytes())
+        .add("hitCount", hitCount())
+        .add("missCount", missCount())
+        .add("evictionCount", evictionCount())
+        .toString();
+  }
+}
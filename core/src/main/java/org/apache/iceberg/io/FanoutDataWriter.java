@@ -41,6 +41,20 @@ public class FanoutDataWriter<T> extends FanoutWriter<T, DataWriteResult> {
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSizeInBytes) {
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, 0L);
+  }
+
+  /**
+   * Creates a fanout data writer that closes the files of the least recently written partitions
+   * when the files that are open buffer more than the given number of bytes.
+   */
+  public FanoutDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      long bufferedBytesLimit) {
+    super(bufferedBytesLimit);
     this.writerFactory = writerFactory;
     this.fileFactory = fileFactory;
     this.io = io;
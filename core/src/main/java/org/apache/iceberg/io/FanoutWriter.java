@@ -19,7 +19,12 @@
 package org.apache.iceberg.io;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
@@ -35,12 +40,50 @@ import org.apache.iceberg.util.StructLikeMap;
  * clustered by partition spec and partition as all files are kept open. As a consequence, this
  * writer may potentially consume substantially more memory compared to {@link ClusteredWriter}. Use
  * this writer only when clustering by spec/partition is not possible (e.g. streaming).
+ *
+ * <p>The memory used by open files can be bounded by passing a limit on the number of bytes
+ * buffered by all open files. When the limit is exceeded, files of the least recently written
+ * spec/partition pairs are closed until the estimate is below the limit again. A new file is opened
+ * if more records arrive for a closed spec/partition pair. The estimate for each open file is the
+ * number of bytes its writer buffers in memory and did not flush yet (e.g. the current Parquet row
+ * group or ORC stripe), which is refreshed periodically while records are written. Bytes already
+ * flushed to the file are not counted. Writers that do not buffer rows (e.g. Avro) report 0 and do
+ * not count towards the limit.
  */
 abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
-
-  private final Map<Integer, StructLikeMap<FileWriter<T, R>>> writers = Maps.newHashMap();
+  // the number of rows written to a file between refreshes of its buffered bytes estimate
+  private static final int BUFFERED_BYTES_CHECK_ROWS = 100;
+
+  private final Map<Integer, StructLikeMap<PartitionWriter<T, R>>> writers = Maps.newHashMap();
+  // open writers from least to most recently written, only maintained if buffered bytes are bounded
+  private final Set<PartitionWriter<T, R>> recentlyWritten =
+      Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true));
+  private final long bufferedBytesLimit;
+  private int openWriters = 0;
+  private int peakOpenWriters = 0;
+  private long bufferedBytes = 0L;
+  private long peakBufferedBytes = 0L;
+  private long evictedWriters = 0L;
   private boolean closed = false;
 
+  protected FanoutWriter() {
+    this(0L);
+  }
+
+  /**
+   * Creates a fanout writer that bounds the memory used by open files.
+   *
+   * @param bufferedBytesLimit the max number of bytes buffered by all open files, or 0 to keep all
+   *     files open until this writer is closed
+   */
+  protected FanoutWriter(long bufferedBytesLimit) {
+    Preconditions.checkArgument(
+        bufferedBytesLimit >= 0,
+        "Invalid buffered bytes limit: %s (must be >= 0)",
+        bufferedBytesLimit);
+    this.bufferedBytesLimit = bufferedBytesLimit;
+  }
+
   protected abstract FileWriter<T, R> newWriter(PartitionSpec spec, StructLike partition);
 
   protected abstract void addResult(R result);
@@ -49,25 +92,108 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
 
   @Override
   public void write(T row, PartitionSpec spec, StructLike partition) {
-    FileWriter<T, R> writer = writer(spec, partition);
-    writer.write(row);
+    PartitionWriter<T, R> writer = writer(spec, partition);
+    writer.delegate.write(row);
+
+    if (bufferedBytesLimit > 0) {
+      // the set is backed by an access-ordered map, adding a writer again moves it to the end
+      recentlyWritten.add(writer);
+      writer.rowsSinceCheck += 1;
+
+      if (writer.rowsSinceCheck >= BUFFERED_BYTES_CHECK_ROWS) {
+        updateBufferedBytes(writer);
+
+        if (bufferedBytes > bufferedBytesLimit) {
+          closeLeastRecentlyWritten(writer);
+        }
+      }
+    }
   }
 
-  private FileWriter<T, R> writer(PartitionSpec spec, StructLike partition) {
-    Map<StructLike, FileWriter<T, R>> specWriters =
+  private PartitionWriter<T, R> writer(PartitionSpec spec, StructLike partition) {
+    Map<StructLike, PartitionWriter<T, R>> specWriters =
         writers.computeIfAbsent(spec.specId(), id -> StructLikeMap.create(spec.partitionType()));
-    FileWriter<T, R> writer = specWriters.get(partition);
+    PartitionWriter<T, R> writer = specWriters.get(partition);
 
     if (writer == null) {
       // copy the partition key as the key object may be reused
       StructLike copiedPartition = StructCopy.copy(partition);
-      writer = newWriter(spec, copiedPartition);
+      FileWriter<T, R> delegate = newWriter(spec, copiedPartition);
+      writer = new PartitionWriter<>(spec.specId(), copiedPartition, delegate);
       specWriters.put(copiedPartition, writer);
+
+      openWriters += 1;
+      this.peakOpenWriters = Math.max(peakOpenWriters, openWriters);
     }
 
     return writer;
   }
 
+  private void updateBufferedBytes(PartitionWriter<T, R> writer) {
+    long size = writer.delegate.bufferedSize();
+    this.bufferedBytes += size - writer.bufferedBytes;
+    this.peakBufferedBytes = Math.max(peakBufferedBytes, bufferedBytes);
+    writer.bufferedBytes = size;
+    writer.rowsSinceCheck = 0;
+  }
+
+  private void closeLeastRecentlyWritten(PartitionWriter<T, R> current) {
+    Iterator<PartitionWriter<T, R>> candidates = recentlyWritten.iterator();
+    while (bufferedBytes > bufferedBytesLimit && candidates.hasNext()) {
+      PartitionWriter<T, R> writer = candidates.next();
+      if (writer == current) {
+        // the current writer is kept open, it rolls to new files based on the target file size
+        continue;
+      }
+
+      candidates.remove();
+      writers.get(writer.specId).remove(writer.partition);
+      closeWriter(writer);
+      evictedWriters += 1;
+    }
+  }
+
+  private void closeWriter(PartitionWriter<T, R> writer) {
+    try {
+      writer.delegate.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close writer", e);
+    }
+
+    addResult(writer.delegate.result());
+    this.bufferedBytes -= writer.bufferedBytes;
+    this.openWriters -= 1;
+  }
+
+  /** Returns the number of files that are currently open. */
+  public int openWriters() {
+    return openWriters;
+  }
+
+  /** Returns the max number of files that were open at the same time. */
+  public int peakOpenWriters() {
+    return peakOpenWriters;
+  }
+
+  /**
+   * Returns the estimated number of bytes buffered by open files.
+   *
+   * <p>The estimate is only maintained if this writer bounds the bytes buffered by open files.
+   */
+  public long bufferedBytes() {
+    return bufferedBytes;
+  }
+
+  /** Returns the max estimated number of bytes buffered by open files at the same time. */
+  public long peakBufferedBytes() {
+    return peakBufferedBytes;
+  }
+
+  /** Returns the number of files that were closed early to stay within the buffered bytes limit. */
+  public long evictedWriters() {
+    return evictedWriters;
+  }
+
   @Override
   public void close() throws IOException {
     if (!closed) {
@@ -77,16 +203,19 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
   }
 
   private void closeWriters() throws IOException {
-    for (Map<StructLike, FileWriter<T, R>> specWriters : writers.values()) {
-      for (FileWriter<T, R> writer : specWriters.values()) {
-        writer.close();
-        addResult(writer.result());
+    for (Map<StructLike, PartitionWriter<T, R>> specWriters : writers.values()) {
+      for (PartitionWriter<T, R> writer : specWriters.values()) {
+        writer.delegate.close();
+        addResult(writer.delegate.result());
       }
 
       specWriters.clear();
     }
 
     writers.clear();
+    recentlyWritten.clear();
+    this.openWriters = 0;
+    this.bufferedBytes = 0L;
   }
 
   @Override
@@ -104,4 +233,18 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
         ? fileFactory.newOutputFile()
         : fileFactory.newOutputFile(spec, partition);
   }
+
+  private static class PartitionWriter<T, R> {
+    private final int specId;
+    private final StructLike partition;
+    private final FileWriter<T, R> delegate;
+    private long bufferedBytes = 0L;
+    private int rowsSinceCheck = BUFFERED_BYTES_CHECK_ROWS - 1; // refresh after the first row
+
+    private PartitionWriter(int specId, StructLike partition, FileWriter<T, R> delegate) {
+      this.specId = specId;
+      this.partition = partition;
+      this.delegate = delegate;
+    }
+  }
 }
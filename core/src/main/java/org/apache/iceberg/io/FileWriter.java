@@ -61,6 +61,15 @@ public interface FileWriter<T, R> extends Closeable {
    */
   long length();
 
+  /**
+   * Returns the number of bytes buffered in memory by this writer that were not flushed yet.
+   *
+   * @return the number of buffered bytes, or 0 if the writer does not buffer rows
+   */
+  default long bufferedSize() {
+    return 0L;
+  }
+
   /**
    * Returns a result that contains information about written {@link DataFile}s or {@link
    * DeleteFile}s. The result is valid only after the writer is closed.
@@ -30,13 +30,11 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
  * spec/partition based on the target file size.
  */
 abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements FileWriter<T, R> {
-  private static final int ROWS_DIVISOR = 1000;
-
   private final OutputFileFactory fileFactory;
   private final FileIO io;
-  private final long targetFileSizeInBytes;
   private final PartitionSpec spec;
   private final StructLike partition;
+  private final TargetFileSizeTracker sizeTracker;
 
   private EncryptedOutputFile currentFile = null;
   private long currentFileRows = 0;
@@ -52,9 +50,9 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
       StructLike partition) {
     this.fileFactory = fileFactory;
     this.io = io;
-    this.targetFileSizeInBytes = targetFileSizeInBytes;
     this.spec = spec;
     this.partition = partition;
+    this.sizeTracker = new TargetFileSizeTracker(targetFileSizeInBytes);
   }
 
   protected abstract W newWriter(EncryptedOutputFile file);
@@ -85,6 +83,12 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
         this.getClass().getName() + " does not implement length");
   }
 
+  @Override
+  public long bufferedSize() {
+    // only the current file is open, the previous files are already flushed and closed
+    return currentWriter != null ? currentWriter.bufferedSize() : 0L;
+  }
+
   @Override
   public void write(T row) {
     currentWriter.write(row);
@@ -97,7 +101,7 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
   }
 
   private boolean shouldRollToNewFile() {
-    return currentFileRows % ROWS_DIVISOR == 0 && currentWriter.length() >= targetFileSizeInBytes;
+    return sizeTracker.shouldRollToNewFile(currentFileRows, currentWriter::length);
   }
 
   protected void openCurrentWriter() {
@@ -106,6 +110,7 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
     this.currentFile = newFile();
     this.currentFileRows = 0;
     this.currentWriter = newWriter(currentFile);
+    sizeTracker.newFile();
   }
 
   private EncryptedOutputFile newFile() {
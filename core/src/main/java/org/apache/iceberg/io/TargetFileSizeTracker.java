@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when a rolling writer checks the length of its current file against the target file
+ * size.
+ *
+ * <p>Getting the length of a file that is being written may be expensive, so it is not checked
+ * after every row. Instead of checking at a fixed interval of rows, this tracks the average number
+ * of bytes per row of the files written so far and schedules the next check at half of the rows
+ * that are predicted to remain until the target size is reached. Checks become more frequent as
+ * the file gets closer to the target size, so the file is closed within a few rows of reaching it
+ * when rows have similar sizes. The length reported by file writers includes data that is buffered
+ * in memory and not yet flushed, so the estimate accounts for it.
+ *
+ * <p>For small target sizes, the length is checked every {@link #ROWS_DIVISOR} rows, because the
+ * fixed overhead of a file makes estimates per row unreliable.
+ */
+class TargetFileSizeTracker {
+  static final int ROWS_DIVISOR = 1000;
+  static final long MIN_ADAPTIVE_TARGET_SIZE = 1024L * 1024;
+  static final long INITIAL_CHECK_ROWS = 100;
+  static final long MIN_CHECK_ROWS = 10;
+  static final long MAX_CHECK_ROWS = 100_000;
+
+  private final long targetFileSize;
+  private final boolean adaptive;
+  private double bytesPerRow = -1;
+  private long nextCheckRows;
+
+  TargetFileSizeTracker(long targetFileSize) {
+    this.targetFileSize = targetFileSize;
+    this.adaptive = targetFileSize >= MIN_ADAPTIVE_TARGET_SIZE;
+    this.nextCheckRows = firstCheckRows();
+  }
+
+  /** Resets the schedule for a new file, keeping the estimate of bytes per row. */
+  void newFile() {
+    this.nextCheckRows = firstCheckRows();
+  }
+
+  /**
+   * Returns whether the current file has reached the target size.
+   *
+   * @param currentRows the number of rows written to the current file
+   * @param length a supplier of the current length of the file, called only when it is checked
+   * @return true if the writer should roll to a new file
+   */
+  boolean shouldRollToNewFile(long currentRows, LongSupplier length) {
+    if (currentRows < nextCheckRows) {
+      return false;
+    }
+
+    long currentLength = length.getAsLong();
+    if (currentLength > 0 && currentRows > 0) {
+      this.bytesPerRow = (double) currentLength / currentRows;
+    }
+
+    if (currentLength >= targetFileSize) {
+      return true;
+    }
+
+    this.nextCheckRows = currentRows + rowsUntilNextCheck(targetFileSize - currentLength);
+    return false;
+  }
+
+  private long firstCheckRows() {
+    return rowsUntilNextCheck(targetFileSize);
+  }
+
+  private long rowsUntilNextCheck(long remainingBytes) {
+    if (!adaptive) {
+      return ROWS_DIVISOR;
+    } else if (bytesPerRow <= 0) {
+      return INITIAL_CHECK_ROWS;
+    }
+
+    long remainingRows = (long) Math.ceil(remainingBytes / bytesPerRow);
+    if (remainingRows <= MIN_CHECK_ROWS) {
+      // check when the target size is expected to be reached
+      return Math.max(1, remainingRows);
+    }
+
+    return Math.max(MIN_CHECK_ROWS, Math.min(MAX_CHECK_ROWS, remainingRows / 2));
+  }
+}
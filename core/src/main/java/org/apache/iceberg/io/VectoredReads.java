@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * Helpers to implement {@link RangeReadable#readVectored(List)} for object stores.
+ *
+ * <p>Ranges are sorted and ranges that are separated by less than a maximum gap are combined into
+ * a single request, as long as the combined request stays below a maximum size. Reading the bytes
+ * in a small gap is cheaper than the latency of another request. Combined requests are then
+ * issued in parallel and each range is returned as a slice of its combined request.
+ *
+ * <p>Cancelling the futures of all ranges in a combined request cancels the request if it has not
+ * started yet. A request that is already running is not interrupted.
+ */
+public class VectoredReads {
+  public static final int MAX_GAP_BYTES_DEFAULT = 1024 * 1024; // 1 MB
+  public static final int MAX_COMBINED_BYTES_DEFAULT = 8 * 1024 * 1024; // 8 MB
+
+  private VectoredReads() {}
+
+  /** Reads a range of bytes from a file. Implementations must be safe to call concurrently. */
+  @FunctionalInterface
+  public interface RangeReader {
+    void readFully(long position, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  /**
+   * Reads ranges with the default limits, using a shared thread pool.
+   *
+   * @param ranges the ranges to read
+   * @param reader reads a single combined range
+   * @return a future for the content of each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> readVectored(
+      List<FileRange> ranges, RangeReader reader) {
+    return readVectored(
+        ranges, reader, ReadPool.POOL, MAX_GAP_BYTES_DEFAULT, MAX_COMBINED_BYTES_DEFAULT);
+  }
+
+  /**
+   * Reads ranges by combining nearby ranges and issuing combined reads in parallel.
+   *
+   * @param ranges the ranges to read
+   * @param reader reads a single combined range
+   * @param executorService an executor service for the combined reads
+   * @param maxGapBytes the maximum number of unrequested bytes between two combined ranges
+   * @param maxCombinedBytes the maximum size of a combined read
+   * @return a future for the content of each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> readVectored(
+      List<FileRange> ranges,
+      RangeReader reader,
+      ExecutorService executorService,
+      int maxGapBytes,
+      int maxCombinedBytes) {
+    List<CompletableFuture<ByteBuffer>> results = Lists.newArrayListWithExpectedSize(ranges.size());
+    ranges.forEach(range -> results.add(null));
+
+    for (CombinedRange combined : combine(ranges, maxGapBytes, maxCombinedBytes)) {
+      CompletableFuture<byte[]> read =
+          CompletableFuture.supplyAsync(
+              () -> {
+                byte[] bytes = new byte[combined.length()];
+                try {
+                  reader.readFully(combined.offset(), bytes, 0, bytes.length);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+
+                return bytes;
+              },
+              executorService);
+
+      List<CompletableFuture<ByteBuffer>> slices =
+          Lists.newArrayListWithExpectedSize(combined.indexes().size());
+      for (int index : combined.indexes()) {
+        FileRange range = ranges.get(index);
+        int offset = (int) (range.offset() - combined.offset());
+        CompletableFuture<ByteBuffer> slice =
+            read.thenApply(bytes -> ByteBuffer.wrap(bytes, offset, range.length()).slice());
+        slices.add(slice);
+        results.set(index, slice);
+      }
+
+      // a combined read that has not started is skipped once all of its ranges are cancelled
+      for (CompletableFuture<ByteBuffer> slice : slices) {
+        slice.whenComplete(
+            (buffer, error) -> {
+              if (slices.stream().allMatch(CompletableFuture::isCancelled)) {
+                read.cancel(false);
+              }
+            });
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * Combines ranges that are separated by at most maxGapBytes, while combined ranges are at most
+   * maxCombinedBytes. Ranges that are larger than maxCombinedBytes are never split.
+   */
+  static List<CombinedRange> combine(
+      List<FileRange> ranges, int maxGapBytes, int maxCombinedBytes) {
+    Preconditions.checkArgument(maxGapBytes >= 0, "Invalid max gap: %s", maxGapBytes);
+    List<Integer> sorted =
+        IntStream.range(0, ranges.size())
+            .boxed()
+            .sorted(Comparator.comparingLong(index -> ranges.get(index).offset()))
+            .collect(Collectors.toList());
+
+    List<CombinedRange> combined = Lists.newArrayList();
+    CombinedRange current = null;
+    for (int index : sorted) {
+      FileRange range = ranges.get(index);
+      if (current != null
+          && range.offset() <= current.end() + maxGapBytes
+          && Math.max(current.end(), range.end()) - current.offset() <= maxCombinedBytes) {
+        current.add(index, range);
+      } else {
+        current = new CombinedRange(index, range);
+        combined.add(current);
+      }
+    }
+
+    return combined;
+  }
+
+  static class CombinedRange {
+    private final long offset;
+    private final List<Integer> indexes = Lists.newArrayList();
+    private long end;
+
+    private CombinedRange(int index, FileRange range) {
+      this.offset = range.offset();
+      this.end = range.end();
+      indexes.add(index);
+    }
+
+    private void add(int index, FileRange range) {
+      this.end = Math.max(end, range.end());
+      indexes.add(index);
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long end() {
+      return end;
+    }
+
+    int length() {
+      return (int) (end - offset);
+    }
+
+    /** Returns the positions of the combined ranges in the list of requested ranges. */
+    List<Integer> indexes() {
+      return indexes;
+    }
+  }
+
+  private static class ReadPool {
+    private static final ExecutorService POOL =
+        ThreadPools.newWorkerPool("iceberg-vectored-read", poolSize());
+
+    private static int poolSize() {
+      String value = System.getProperty(SystemProperties.IO_VECTORED_READ_NUM_THREADS);
+      if (value != null) {
+        try {
+          return Integer.parseUnsignedInt(value);
+        } catch (NumberFormatException e) {
+          // will return the default
+        }
+      }
+
+      return SystemProperties.IO_VECTORED_READ_NUM_THREADS_DEFAULT;
+    }
+  }
+}
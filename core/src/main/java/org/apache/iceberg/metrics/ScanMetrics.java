@@ -40,6 +40,8 @@ public abstract class ScanMetrics {
   public static final String INDEXED_DELETE_FILES = "indexed-delete-files";
   public static final String EQUALITY_DELETE_FILES = "equality-delete-files";
   public static final String POSITIONAL_DELETE_FILES = "positional-delete-files";
+  public static final String EQUALITY_DELETE_SPILLS = "equality-delete-spills";
+  public static final String EQUALITY_DELETE_SPILL_BYTES = "equality-delete-spill-bytes";
 
   public static ScanMetrics noop() {
     return ScanMetrics.of(MetricsContext.nullMetrics());
@@ -127,6 +129,22 @@ public abstract class ScanMetrics {
     return metricsContext().counter(POSITIONAL_DELETE_FILES);
   }
 
+  /**
+   * Counts equality delete sets that spilled keys to disk.
+   *
+   * <p>This and {@link #equalityDeleteSpillBytes()} are updated by readers that apply deletes, not
+   * by scan planning, so they are not part of {@link ScanMetricsResult}.
+   */
+  @Value.Derived
+  public Counter equalityDeleteSpills() {
+    return metricsContext().counter(EQUALITY_DELETE_SPILLS);
+  }
+
+  @Value.Derived
+  public Counter equalityDeleteSpillBytes() {
+    return metricsContext().counter(EQUALITY_DELETE_SPILL_BYTES, MetricsContext.Unit.BYTES);
+  }
+
   public static ScanMetrics of(MetricsContext metricsContext) {
     return ImmutableScanMetrics.builder().metricsContext(metricsContext).build();
   }
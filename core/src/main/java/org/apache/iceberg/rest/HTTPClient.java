@@ -24,15 +24,22 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.entity.GzipCompressingEntity;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
@@ -49,6 +56,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,16 +69,78 @@ public class HTTPClient implements RESTClient {
   @VisibleForTesting
   static final String CLIENT_GIT_COMMIT_SHORT_HEADER = "X-Client-Git-Commit-Short";
 
+  public static final String REST_MAX_CONNECTIONS = "rest.client.max-connections";
+  public static final int REST_MAX_CONNECTIONS_DEFAULT = 100;
+
+  public static final String REST_MAX_CONNECTIONS_PER_ROUTE = "rest.client.connections-per-route";
+  public static final int REST_MAX_CONNECTIONS_PER_ROUTE_DEFAULT = 100;
+
+  public static final String REST_CONNECTION_TIMEOUT_MS = "rest.client.connection-timeout-ms";
+  public static final String REST_SOCKET_TIMEOUT_MS = "rest.client.socket-timeout-ms";
+
+  public static final String REST_REQUEST_COMPRESSION = "rest.client.request-compression";
+  public static final String REST_REQUEST_COMPRESSION_DEFAULT = "none";
+
   private final String uri;
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
   private final Map<String, String> baseHeaders;
+  private final boolean gzipRequests;
 
-  private HTTPClient(String uri, Map<String, String> baseHeaders, ObjectMapper objectMapper) {
+  private HTTPClient(
+      String uri,
+      Map<String, String> baseHeaders,
+      ObjectMapper objectMapper,
+      Map<String, String> properties) {
     this.uri = uri;
-    this.httpClient = HttpClients.createDefault();
+    // responses compressed with gzip or deflate are decompressed by the client's default
+    // content compression handling, which also advertises both in Accept-Encoding
+    this.httpClient =
+        HttpClients.custom().setConnectionManager(configureConnectionManager(properties)).build();
     this.baseHeaders = baseHeaders != null ? baseHeaders : ImmutableMap.of();
     this.mapper = objectMapper;
+    this.gzipRequests = gzipRequestsEnabled(properties);
+  }
+
+  @VisibleForTesting
+  static HttpClientConnectionManager configureConnectionManager(Map<String, String> properties) {
+    ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+    Long connectionTimeoutMs =
+        PropertyUtil.propertyAsNullableLong(properties, REST_CONNECTION_TIMEOUT_MS);
+    if (connectionTimeoutMs != null) {
+      connectionConfig.setConnectTimeout(connectionTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    Long socketTimeoutMs = PropertyUtil.propertyAsNullableLong(properties, REST_SOCKET_TIMEOUT_MS);
+    if (socketTimeoutMs != null) {
+      connectionConfig.setSocketTimeout(socketTimeoutMs.intValue(), TimeUnit.MILLISECONDS);
+    }
+
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .useSystemProperties()
+        .setDefaultConnectionConfig(connectionConfig.build())
+        .setMaxConnTotal(
+            PropertyUtil.propertyAsInt(
+                properties, REST_MAX_CONNECTIONS, REST_MAX_CONNECTIONS_DEFAULT))
+        .setMaxConnPerRoute(
+            PropertyUtil.propertyAsInt(
+                properties, REST_MAX_CONNECTIONS_PER_ROUTE, REST_MAX_CONNECTIONS_PER_ROUTE_DEFAULT))
+        .build();
+  }
+
+  private static boolean gzipRequestsEnabled(Map<String, String> properties) {
+    String compression =
+        PropertyUtil.propertyAsString(
+            properties, REST_REQUEST_COMPRESSION, REST_REQUEST_COMPRESSION_DEFAULT);
+    switch (compression.toLowerCase(Locale.ROOT)) {
+      case "none":
+        return false;
+      case "gzip":
+        return true;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Unsupported request compression: %s", compression));
+    }
   }
 
   private static String extractResponseBodyAsString(CloseableHttpResponse response) {
@@ -234,7 +304,8 @@ public class HTTPClient implements RESTClient {
     } else if (requestBody != null) {
       // other request bodies are serialized as JSON, application/json
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
-      request.setEntity(toJson(requestBody));
+      HttpEntity entity = toJson(requestBody);
+      request.setEntity(gzipRequests ? new GzipCompressingEntity(entity) : entity);
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
@@ -248,7 +319,9 @@ public class HTTPClient implements RESTClient {
       responseHeaders.accept(respHeaders);
 
       // Skip parsing the response stream for any successful request not expecting a response body
+      // and for conditional requests whose cached response is still current
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
+          || response.getCode() == HttpStatus.SC_NOT_MODIFIED
           || (responseType == null && isSuccessful(response))) {
         return null;
       }
@@ -295,6 +368,18 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return execute(
+        Method.GET, path, queryParams, null, responseType, headers, errorHandler, responseHeaders);
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
@@ -367,6 +452,7 @@ public class HTTPClient implements RESTClient {
 
   public static class Builder {
     private final Map<String, String> baseHeaders = Maps.newHashMap();
+    private final Map<String, String> properties = Maps.newHashMap();
     private String uri;
     private ObjectMapper mapper = RESTObjectMapper.mapper();
 
@@ -393,10 +479,21 @@ public class HTTPClient implements RESTClient {
       return this;
     }
 
+    /**
+     * Configures the client from catalog properties, such as connection pool sizes, timeouts and
+     * request compression. Properties that do not configure the client are ignored.
+     */
+    public Builder withProperties(Map<String, String> props) {
+      if (props != null) {
+        properties.putAll(props);
+      }
+      return this;
+    }
+
     public HTTPClient build() {
       withHeader(CLIENT_VERSION_HEADER, IcebergBuild.fullVersion());
       withHeader(CLIENT_GIT_COMMIT_SHORT_HEADER, IcebergBuild.gitCommitShortId());
-      return new HTTPClient(uri, baseHeaders, mapper);
+      return new HTTPClient(uri, baseHeaders, mapper, properties);
     }
   }
 
@@ -49,7 +49,11 @@ public class RESTCatalog
   public RESTCatalog() {
     this(
         SessionCatalog.SessionContext.createEmpty(),
-        config -> HTTPClient.builder().uri(config.get(CatalogProperties.URI)).build());
+        config ->
+            HTTPClient.builder()
+                .uri(config.get(CatalogProperties.URI))
+                .withProperties(config)
+                .build());
   }
 
   public RESTCatalog(Function<Map<String, String>, RESTClient> clientBuilder) {
@@ -103,6 +103,34 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Supplier<Map<String, String>> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers.get(), errorHandler, responseHeaders);
+  }
+
+  /**
+   * Sends a GET request and passes the response headers to a consumer.
+   *
+   * <p>Unlike post, clients that do not return response headers ignore the consumer instead of
+   * failing, because response headers are only used to make later requests conditional. A client
+   * that supports conditional requests returns null when the server responds that the resource is
+   * not modified.
+   */
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers, errorHandler);
+  }
+
   default <T extends RESTResponse> T post(
       String path,
       RESTRequest body,
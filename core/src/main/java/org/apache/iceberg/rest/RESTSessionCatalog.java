@@ -32,6 +32,8 @@ import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.hadoop.conf.Configuration;
@@ -123,7 +125,12 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   }
 
   public RESTSessionCatalog() {
-    this(config -> HTTPClient.builder().uri(config.get(CatalogProperties.URI)).build());
+    this(
+        config ->
+            HTTPClient.builder()
+                .uri(config.get(CatalogProperties.URI))
+                .withProperties(config)
+                .build());
   }
 
   RESTSessionCatalog(Function<Map<String, String>, RESTClient> clientBuilder) {
@@ -284,12 +291,21 @@ public class RESTSessionCatalog extends BaseSessionCatalog
 
   private LoadTableResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    return loadInternal(context, identifier, mode, responseHeaders -> {});
+  }
+
+  private LoadTableResponse loadInternal(
+      SessionContext context,
+      TableIdentifier identifier,
+      SnapshotMode mode,
+      Consumer<Map<String, String>> responseHeaders) {
     return client.get(
         paths.table(identifier),
         mode.params(),
         LoadTableResponse.class,
         headers(context),
-        ErrorHandlers.tableErrorHandler());
+        ErrorHandlers.tableErrorHandler(),
+        responseHeaders);
   }
 
   @Override
@@ -299,8 +315,11 @@ public class RESTSessionCatalog extends BaseSessionCatalog
     MetadataTableType metadataType;
     LoadTableResponse response;
     TableIdentifier loadedIdent;
+    AtomicReference<String> etag = new AtomicReference<>();
+    Consumer<Map<String, String>> etagConsumer =
+        responseHeaders -> etag.set(RESTTableOperations.etag(responseHeaders));
     try {
-      response = loadInternal(context, identifier, snapshotMode);
+      response = loadInternal(context, identifier, snapshotMode, etagConsumer);
       loadedIdent = identifier;
       metadataType = null;
 
@@ -310,7 +329,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
         // attempt to load a metadata table using the identifier's namespace as the base table
         TableIdentifier baseIdent = TableIdentifier.of(identifier.namespace().levels());
         try {
-          response = loadInternal(context, baseIdent, snapshotMode);
+          response = loadInternal(context, baseIdent, snapshotMode, etagConsumer);
           loadedIdent = baseIdent;
         } catch (NoSuchTableException ignored) {
           // the base table does not exist
@@ -339,13 +358,15 @@ public class RESTSessionCatalog extends BaseSessionCatalog
       tableMetadata = response.tableMetadata();
     }
 
+    // refresh loads all snapshots, so an ETag for a refs-only response cannot be reused
     RESTTableOperations ops =
         new RESTTableOperations(
             client,
             paths.table(loadedIdent),
             session::headers,
             tableFileIO(response.config()),
-            tableMetadata);
+            tableMetadata,
+            snapshotMode == SnapshotMode.ALL ? etag.get() : null);
 
     TableIdentifier tableIdentifier = loadedIdent;
     BaseTable table =
@@ -21,6 +21,7 @@ package org.apache.iceberg.rest;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.iceberg.LocationProviders;
@@ -33,7 +34,9 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -41,6 +44,8 @@ import org.apache.iceberg.util.LocationUtil;
 
 class RESTTableOperations implements TableOperations {
   private static final String METADATA_FOLDER_NAME = "metadata";
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
 
   enum UpdateType {
     CREATE,
@@ -56,6 +61,7 @@ class RESTTableOperations implements TableOperations {
   private final TableMetadata replaceBase;
   private UpdateType updateType;
   private TableMetadata current;
+  private String etag;
 
   RESTTableOperations(
       RESTClient client,
@@ -63,7 +69,18 @@ class RESTTableOperations implements TableOperations {
       Supplier<Map<String, String>> headers,
       FileIO io,
       TableMetadata current) {
+    this(client, path, headers, io, current, null);
+  }
+
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      TableMetadata current,
+      String etag) {
     this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current);
+    this.etag = etag;
   }
 
   RESTTableOperations(
@@ -95,8 +112,30 @@ class RESTTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
-    return updateCurrentMetadata(
-        client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    Map<String, String> requestHeaders = headers.get();
+    if (current != null && etag != null) {
+      // ask the server to skip sending the table if it has not changed since the last load
+      requestHeaders = Maps.newHashMap(requestHeaders);
+      requestHeaders.put(IF_NONE_MATCH_HEADER, etag);
+    }
+
+    AtomicReference<String> responseEtag = new AtomicReference<>();
+    LoadTableResponse response =
+        client.get(
+            path,
+            ImmutableMap.of(),
+            LoadTableResponse.class,
+            requestHeaders,
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders -> responseEtag.set(etag(responseHeaders)));
+
+    if (response == null) {
+      // not modified, the current metadata is still the latest
+      return current;
+    }
+
+    this.etag = responseEtag.get();
+    return updateCurrentMetadata(response);
   }
 
   @Override
@@ -145,6 +184,8 @@ class RESTTableOperations implements TableOperations {
 
     // all future commits should be simple commits
     this.updateType = UpdateType.SIMPLE;
+    // the commit changed the table, so the next refresh must load it again
+    this.etag = null;
 
     updateCurrentMetadata(response);
   }
@@ -166,6 +207,18 @@ class RESTTableOperations implements TableOperations {
     return current;
   }
 
+  /** Returns the ETag from a map of response headers, or null if there is none. */
+  static String etag(Map<String, String> responseHeaders) {
+    for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+      // header names are case-insensitive
+      if (ETAG_HEADER.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+
+    return null;
+  }
+
   private static String metadataFileLocation(TableMetadata metadata, String filename) {
     String metadataLocation = metadata.properties().get(TableProperties.WRITE_METADATA_LOCATION);
 
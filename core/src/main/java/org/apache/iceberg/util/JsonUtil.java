@@ -20,6 +20,8 @@ package org.apache.iceberg.util;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -173,6 +175,56 @@ public class JsonUtil {
     return getString(property, node);
   }
 
+  /**
+   * Reads an int from the current value token of a streaming parser.
+   *
+   * @param property the name of the field that is being read, used in error messages
+   * @param parser a parser positioned at the field's value
+   * @return the int value
+   */
+  public static int readInt(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+            && parser.getNumberType() == JsonParser.NumberType.INT,
+        "Cannot parse to an integer value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getIntValue();
+  }
+
+  /**
+   * Reads a long from the current value token of a streaming parser.
+   *
+   * @param property the name of the field that is being read, used in error messages
+   * @param parser a parser positioned at the field's value
+   * @return the long value
+   */
+  public static long readLong(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+            && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER,
+        "Cannot parse to a long value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getLongValue();
+  }
+
+  /**
+   * Reads a string from the current value token of a streaming parser.
+   *
+   * @param property the name of the field that is being read, used in error messages
+   * @param parser a parser positioned at the field's value
+   * @return the string value
+   */
+  public static String readString(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_STRING,
+        "Cannot parse to a string value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getText();
+  }
+
   public static Map<String, String> getStringMap(String property, JsonNode node) {
     Preconditions.checkArgument(node.has(property), "Cannot parse missing map: %s", property);
     JsonNode pNode = node.get(property);
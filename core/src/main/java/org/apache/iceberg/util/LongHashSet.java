@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Arrays;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A set of primitive long values backed by an open-addressing hash table.
+ *
+ * <p>Values are stored in a single {@code long[]} without boxing, which makes this set much smaller
+ * and faster to probe than a {@code Set<Long>}. This class is not thread-safe for concurrent
+ * modification, but concurrent calls to {@link #contains(long)} are safe once it is populated.
+ */
+public class LongHashSet {
+  private static final int MIN_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.5f;
+  // 0 marks an empty slot in the table, so it is tracked separately
+  private static final long EMPTY = 0L;
+
+  private long[] table;
+  private int mask;
+  private int size = 0;
+  private boolean containsEmpty = false;
+  private int resizeThreshold;
+
+  public LongHashSet() {
+    this(MIN_CAPACITY);
+  }
+
+  public LongHashSet(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Invalid expected size: %s", expectedSize);
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  /**
+   * Adds a value to this set.
+   *
+   * @param value a long value
+   * @return true if the value was added, false if it was already present
+   */
+  public boolean add(long value) {
+    if (value == EMPTY) {
+      if (containsEmpty) {
+        return false;
+      }
+
+      this.containsEmpty = true;
+      this.size += 1;
+      return true;
+    }
+
+    int slot = slot(value);
+    while (table[slot] != EMPTY) {
+      if (table[slot] == value) {
+        return false;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+
+    table[slot] = value;
+    this.size += 1;
+    if (size > resizeThreshold) {
+      resize(table.length * 2);
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether this set contains a value.
+   *
+   * @param value a long value
+   * @return true if the value is in this set
+   */
+  public boolean contains(long value) {
+    if (value == EMPTY) {
+      return containsEmpty;
+    }
+
+    int slot = slot(value);
+    long current;
+    while ((current = table[slot]) != EMPTY) {
+      if (current == value) {
+        return true;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+
+    return false;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Returns the approximate size of this set in memory. */
+  public long sizeInBytes() {
+    return (long) table.length * Long.BYTES;
+  }
+
+  public void clear() {
+    Arrays.fill(table, EMPTY);
+    this.containsEmpty = false;
+    this.size = 0;
+  }
+
+  private int slot(long value) {
+    return (int) mix(value) & mask;
+  }
+
+  private void resize(int newCapacity) {
+    long[] oldTable = table;
+    allocate(newCapacity);
+    for (long value : oldTable) {
+      if (value != EMPTY) {
+        int slot = slot(value);
+        while (table[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+
+        table[slot] = value;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    this.table = new long[capacity];
+    this.mask = capacity - 1;
+    this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    long minCapacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+    Preconditions.checkArgument(
+        minCapacity <= (1 << 30), "Cannot allocate a set for %s values", expectedSize);
+    return Integer.highestOneBit((int) minCapacity - 1) << 1;
+  }
+
+  // the finalization step of MurmurHash3, spreads the bits of sequential values
+  private static long mix(long value) {
+    long hash = value;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
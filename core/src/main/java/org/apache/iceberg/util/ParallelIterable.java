@@ -20,63 +20,137 @@ package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
+/**
+ * A {@link CloseableIterable} that consumes several iterables in parallel using a worker pool.
+ *
+ * <p>Items produced by workers are handed to the consumer in small batches through a bounded
+ * queue. When the queue holds at least {@code maxQueueSize} items, producers stop reading their
+ * input and yield their worker thread; the paused producers are resumed once the consumer has
+ * drained the queue. The consumer blocks on a condition that is signalled by producers instead of
+ * polling.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
+  static final int DEFAULT_BATCH_SIZE = 64;
+  static final int DEFAULT_MAX_QUEUE_SIZE =
+      getMaxQueueSize(
+          SystemProperties.SCAN_PARALLEL_QUEUE_SIZE,
+          SystemProperties.SCAN_PARALLEL_QUEUE_SIZE_DEFAULT);
+
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
+  private final int batchSize;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+    this(iterables, workerPool, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
+    this(iterables, workerPool, maxQueueSize, DEFAULT_BATCH_SIZE);
+  }
+
+  ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables,
+      ExecutorService workerPool,
+      int maxQueueSize,
+      int batchSize) {
+    Preconditions.checkArgument(
+        maxQueueSize > 0, "Invalid max queue size: %s (must be positive)", maxQueueSize);
+    Preconditions.checkArgument(
+        batchSize > 0, "Invalid batch size: %s (must be positive)", batchSize);
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
+    this.batchSize = Math.min(batchSize, maxQueueSize);
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter =
+        new ParallelIterator<>(iterables, workerPool, maxQueueSize, batchSize);
     addCloseable(iter);
     return iter;
   }
 
+  private static int getMaxQueueSize(String systemProperty, int defaultSize) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        int size = Integer.parseUnsignedInt(value);
+        if (size > 0) {
+          return size;
+        }
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultSize;
+  }
+
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    // upper bound on a single wait, protects against missed wakeups from external cancellation
+    private static final long MAX_WAIT_MS = 100;
+
+    private final Iterator<Task<T>> tasks;
+    private final Deque<Task<T>> yieldedTasks = new ConcurrentLinkedDeque<>();
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
-    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Optional<Task<T>>>[] taskFutures;
+    private final int maxQueueSize;
+    private final int batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+    // guarded by lock
+    private final Deque<List<T>> queue = new ArrayDeque<>();
+    // guarded by lock
+    private int queuedItems = 0;
+    // guarded by lock, set when a batch is added or a task completes
+    private boolean signalled = false;
+
+    // only accessed by the consumer
+    private List<T> currentBatch = Collections.emptyList();
+    private int currentPos = 0;
+
     private volatile boolean closed = false;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(
-        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+        Iterable<? extends Iterable<T>> iterables,
+        ExecutorService workerPool,
+        int maxQueueSize,
+        int batchSize) {
       this.tasks =
-          Iterables.transform(
-                  iterables,
-                  iterable ->
-                      (Runnable)
-                          () -> {
-                            try (Closeable ignored =
-                                (iterable instanceof Closeable) ? (Closeable) iterable : () -> {}) {
-                              for (T item : iterable) {
-                                queue.add(item);
-                              }
-                            } catch (IOException e) {
-                              throw new RuntimeIOException(e, "Failed to close iterable");
-                            }
-                          })
-              .iterator();
+          Iterables.transform(iterables, iterable -> new Task<>(iterable, this)).iterator();
       this.workerPool = workerPool;
+      this.maxQueueSize = maxQueueSize;
+      this.batchSize = batchSize;
       // submit 2 tasks per worker at a time
-      this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
+      this.taskFutures = new CompletableFuture[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
     }
 
     @Override
@@ -84,14 +158,34 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       // close first, avoid new task submit
       this.closed = true;
 
-      // cancel background tasks
-      for (Future<?> taskFuture : taskFutures) {
+      // cancel background tasks, running tasks stop after their current item and close their input
+      for (CompletableFuture<Optional<Task<T>>> taskFuture : taskFutures) {
         if (taskFuture != null && !taskFuture.isDone()) {
           taskFuture.cancel(true);
+        } else if (taskFuture != null && !taskFuture.isCompletedExceptionally()) {
+          // tasks that paused but were not collected by checkTasks
+          taskFuture.getNow(Optional.empty()).ifPresent(yieldedTasks::add);
         }
       }
+
+      // release the inputs of tasks that were paused
+      Task<T> yielded;
+      while ((yielded = yieldedTasks.poll()) != null) {
+        yielded.closeInput();
+      }
+
       // clean queue
-      this.queue.clear();
+      lock.lock();
+      try {
+        queue.clear();
+        this.queuedItems = 0;
+        progress.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      this.currentBatch = Collections.emptyList();
+      this.currentPos = 0;
     }
 
     /**
@@ -109,7 +203,7 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
           if (taskFutures[i] != null) {
             // check for task failure and re-throw any exception
             try {
-              taskFutures[i].get();
+              taskFutures[i].get().ifPresent(yieldedTasks::add);
             } catch (ExecutionException e) {
               if (e.getCause() instanceof RuntimeException) {
                 // rethrow a runtime exception
@@ -130,51 +224,157 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
         }
       }
 
-      return !closed && (tasks.hasNext() || hasRunningTask);
+      return !closed && (tasks.hasNext() || !yieldedTasks.isEmpty() || hasRunningTask);
     }
 
-    private Future<?> submitNextTask() {
-      if (!closed && tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
+    private CompletableFuture<Optional<Task<T>>> submitNextTask() {
+      // a full queue would make the task yield immediately, wait for the consumer to catch up
+      if (closed || queueIsFull()) {
+        return null;
+      }
+
+      // resume paused tasks before opening new inputs
+      Task<T> task = yieldedTasks.poll();
+      if (task == null && tasks.hasNext()) {
+        task = tasks.next();
       }
+
+      if (task != null) {
+        Task<T> toRun = task;
+        CompletableFuture<Optional<Task<T>>> future = new CompletableFuture<>();
+        workerPool.execute(
+            () -> {
+              try {
+                Optional<Task<T>> result = toRun.get();
+                future.complete(result);
+                if (closed) {
+                  // the task paused while the iterator was closing and close may have missed it
+                  result.ifPresent(Task::closeInput);
+                }
+              } catch (Throwable e) {
+                future.completeExceptionally(e);
+              } finally {
+                // wake the consumer after the future is done so that checkTasks observes the result
+                signal();
+              }
+            });
+        return future;
+      }
+
       return null;
     }
 
+    private int queuedItems() {
+      lock.lock();
+      try {
+        return queuedItems;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean queueIsFull() {
+      return queuedItems() >= maxQueueSize;
+    }
+
+    private void offer(List<T> batch) {
+      lock.lock();
+      try {
+        if (!closed) {
+          queue.add(batch);
+          this.queuedItems += batch.size();
+          this.signalled = true;
+          progress.signal();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void signal() {
+      lock.lock();
+      try {
+        this.signalled = true;
+        progress.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Takes the next batch from the queue.
+     *
+     * @param wait whether to wait for producers to make progress if the queue is empty
+     * @return the next batch or null if none is available
+     */
+    private List<T> takeBatch(boolean wait) {
+      lock.lock();
+      try {
+        if (wait && queue.isEmpty() && !signalled) {
+          progress.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+        }
+
+        this.signalled = false;
+
+        List<T> batch = queue.poll();
+        if (batch != null) {
+          this.queuedItems -= batch.size();
+        }
+
+        return batch;
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } finally {
+        lock.unlock();
+      }
+    }
+
     @Override
     public synchronized boolean hasNext() {
       Preconditions.checkState(!closed, "Already closed");
 
-      // if the consumer is processing records more slowly than the producers, then this check will
-      // prevent tasks from being submitted. while the producers are running, this will always
-      // return here before running checkTasks. when enough of the tasks are finished that the
-      // consumer catches up, then lots of new tasks will be submitted at once. this behavior is
-      // okay because it ensures that records are not stacking up waiting to be consumed and taking
-      // up memory.
+      if (currentPos < currentBatch.size()) {
+        return true;
+      }
+
+      // if the consumer is processing records more slowly than the producers, then the queue fills
+      // up and producers pause until the consumer has caught up. a paused producer keeps its input
+      // open and is resubmitted by checkTasks, so records never stack up beyond the queue bound.
       //
       // consumers that process results quickly will periodically exhaust the queue and submit new
       // tasks when checkTasks runs. fast consumers should not be delayed.
-      if (!queue.isEmpty()) {
-        return true;
+      List<T> batch = takeBatch(false /* do not wait */);
+      if (batch != null) {
+        // resume paused producers and start new ones once the consumer has drained half of the
+        // queue instead of waiting until it is empty. paused tasks may not be collected yet, so
+        // let checkTasks find them along with tasks that have not started
+        if (queuedItems() < maxQueueSize / 2) {
+          checkTasks();
+        }
+
+        return useBatch(batch);
       }
 
       // this cannot conclude that there are no more records until tasks have finished. while some
-      // are running, return true when there is at least one item to return.
+      // are running, return true when there is at least one batch to return.
       while (checkTasks()) {
-        if (!queue.isEmpty()) {
-          return true;
-        }
-
-        try {
-          Thread.sleep(10);
-
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new RuntimeException(e);
+        batch = takeBatch(true /* wait for progress */);
+        if (batch != null) {
+          return useBatch(batch);
         }
       }
 
       // when tasks are no longer running, return whether the queue has items
-      return !queue.isEmpty();
+      batch = takeBatch(false /* do not wait */);
+      return batch != null && useBatch(batch);
+    }
+
+    private boolean useBatch(List<T> batch) {
+      this.currentBatch = batch;
+      this.currentPos = 0;
+      return true;
     }
 
     @Override
@@ -183,7 +383,87 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      return queue.poll();
+
+      T item = currentBatch.get(currentPos);
+      // release the reference so that consumed items can be collected
+      currentBatch.set(currentPos, null);
+      this.currentPos += 1;
+
+      return item;
+    }
+  }
+
+  /**
+   * Produces the items of one input iterable into the queue of a {@link ParallelIterator}.
+   *
+   * <p>A task returns itself when it paused because the queue was full, and returns empty when its
+   * input was exhausted. Paused tasks keep their input open until they are resumed or the iterator
+   * is closed.
+   */
+  private static class Task<T> implements Supplier<Optional<Task<T>>> {
+    private final Iterable<T> input;
+    private final ParallelIterator<T> parent;
+    private Iterator<T> iterator = null;
+    private boolean inputClosed = false;
+
+    private Task(Iterable<T> input, ParallelIterator<T> parent) {
+      this.input = input;
+      this.parent = parent;
+    }
+
+    @Override
+    public Optional<Task<T>> get() {
+      boolean paused = false;
+      try {
+        if (iterator == null) {
+          this.iterator = input.iterator();
+        }
+
+        while (!parent.closed) {
+          if (parent.queueIsFull()) {
+            // keep the input open only if the iterator was not closed concurrently
+            paused = !parent.closed;
+            return paused ? Optional.of(this) : Optional.empty();
+          }
+
+          List<T> batch = Lists.newArrayListWithCapacity(parent.batchSize);
+          // check for close after each item so that a closed iterator's inputs are released quickly
+          while (batch.size() < parent.batchSize && !parent.closed && iterator.hasNext()) {
+            batch.add(iterator.next());
+          }
+
+          if (!batch.isEmpty()) {
+            parent.offer(batch);
+          }
+
+          if (batch.size() < parent.batchSize) {
+            // the input is exhausted
+            break;
+          }
+        }
+
+        return Optional.empty();
+
+      } finally {
+        if (!paused) {
+          closeInput();
+        }
+      }
+    }
+
+    private synchronized void closeInput() {
+      if (inputClosed) {
+        return;
+      }
+
+      this.inputClosed = true;
+      try {
+        if (input instanceof Closeable) {
+          ((Closeable) input).close();
+        }
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close iterable");
+      }
     }
   }
 }
@@ -0,0 +1,703 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Types;
+
+/**
+ * An open-addressing hash table for structs with a single int, long, or string field.
+ *
+ * <p>This backs {@link StructLikeSet} and {@link StructLikeMap} for single-column keys. Key values
+ * are stored directly in a {@code long[]} or {@code String[]} instead of wrapping each struct in a
+ * {@link StructLikeWrapper}, so there are no per-entry objects and probes do not go through the
+ * generic comparator and hash function. The structs that were added are not kept. Iteration returns
+ * new serializable structs that hold the stored key values.
+ *
+ * <p>This class is not thread-safe for concurrent modification, but concurrent lookups are safe
+ * once it is populated.
+ */
+abstract class SingleColumnKeyTable {
+  private static final int MIN_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  // keys that are not stored in the hash table, their indexes follow the table slots
+  protected static final int NULL_STRUCT = 0;
+  protected static final int NULL_FIELD = 1;
+  protected static final int EMPTY_KEY = 2;
+  private static final int NUM_SPECIAL_KEYS = 3;
+
+  /**
+   * Creates a table for a struct type if it has a single field with a supported type.
+   *
+   * @param type a struct type
+   * @param withValues whether the table stores a value for each key
+   * @return a table for the key type, or null if the type is not supported
+   */
+  static SingleColumnKeyTable forType(Types.StructType type, boolean withValues) {
+    if (type.fields().size() != 1) {
+      return null;
+    }
+
+    switch (type.fields().get(0).type().typeId()) {
+      case INTEGER:
+      case DATE:
+        return new IntKeys(withValues);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return new LongKeys(withValues);
+      case STRING:
+        return new StringKeys(withValues);
+      default:
+        return null;
+    }
+  }
+
+  private final boolean withValues;
+  private final boolean[] specialKeys = new boolean[NUM_SPECIAL_KEYS];
+  private final Object[] specialValues = new Object[NUM_SPECIAL_KEYS];
+  private Object[] values = null;
+  private int capacity;
+  private int mask;
+  private int size = 0;
+  private int resizeThreshold;
+
+  protected SingleColumnKeyTable(boolean withValues) {
+    this.withValues = withValues;
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * Finds the index of a key.
+   *
+   * @param struct a key struct
+   * @return the index of the key if it is present, otherwise the complement of the index where it
+   *     would be inserted
+   */
+  protected abstract int find(StructLike struct);
+
+  protected abstract void store(int slot, StructLike struct);
+
+  protected abstract boolean isOccupied(int slot);
+
+  /** Returns the key value stored in a slot, as the Java class of the key type. */
+  protected abstract Object keyAt(int slot);
+
+  protected abstract void removeAt(int slot);
+
+  protected abstract void allocateKeys(int newCapacity);
+
+  protected abstract void clearKeys();
+
+  /**
+   * Moves the keys to new tables.
+   *
+   * @param newCapacity the new number of slots, must be a power of 2
+   */
+  protected abstract void resize(int newCapacity);
+
+  /** Returns the key value that is stored as {@link #EMPTY_KEY} outside the table. */
+  protected Object emptyKey() {
+    throw new IllegalStateException("Empty key is not used by " + getClass().getSimpleName());
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean containsKey(StructLike key) {
+    return find(key) >= 0;
+  }
+
+  boolean containsValue(Object value) {
+    for (int index = 0; index < capacity + NUM_SPECIAL_KEYS; index += 1) {
+      if (isOccupiedIndex(index) && Objects.equals(value, valueAt(index))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  Object get(StructLike key) {
+    int index = find(key);
+    return index >= 0 ? valueAt(index) : null;
+  }
+
+  boolean add(StructLike key) {
+    int index = find(key);
+    if (index >= 0) {
+      return false;
+    }
+
+    insert(~index, key, null);
+    return true;
+  }
+
+  Object put(StructLike key, Object value) {
+    int index = find(key);
+    if (index >= 0) {
+      Object oldValue = valueAt(index);
+      setValueAt(index, value);
+      return oldValue;
+    }
+
+    insert(~index, key, value);
+    return null;
+  }
+
+  boolean remove(StructLike key) {
+    int index = find(key);
+    if (index < 0) {
+      return false;
+    }
+
+    removeIndex(index);
+    return true;
+  }
+
+  Object removeValue(StructLike key) {
+    int index = find(key);
+    if (index < 0) {
+      return null;
+    }
+
+    Object oldValue = valueAt(index);
+    removeIndex(index);
+    return oldValue;
+  }
+
+  void clear() {
+    clearKeys();
+    Arrays.fill(specialKeys, false);
+    Arrays.fill(specialValues, null);
+    if (values != null) {
+      Arrays.fill(values, null);
+    }
+
+    this.size = 0;
+  }
+
+  Iterator<StructLike> keys() {
+    return new IndexIterator<StructLike>() {
+      @Override
+      protected StructLike at(int index) {
+        return keyAtIndex(index);
+      }
+    };
+  }
+
+  Iterator<Object> values() {
+    return new IndexIterator<Object>() {
+      @Override
+      protected Object at(int index) {
+        return valueAt(index);
+      }
+    };
+  }
+
+  Iterator<Map.Entry<StructLike, Object>> entries() {
+    return new IndexIterator<Map.Entry<StructLike, Object>>() {
+      @Override
+      protected Map.Entry<StructLike, Object> at(int index) {
+        return new AbstractMap.SimpleImmutableEntry<>(keyAtIndex(index), valueAt(index));
+      }
+    };
+  }
+
+  protected int mask() {
+    return mask;
+  }
+
+  protected int findSpecial(int special) {
+    int index = capacity + special;
+    return specialKeys[special] ? index : ~index;
+  }
+
+  /**
+   * Allocates new tables for keys and values.
+   *
+   * @param newCapacity the new number of slots, must be a power of 2
+   * @return the previous table of values, or null if the table does not store values
+   */
+  protected Object[] allocate(int newCapacity) {
+    Object[] oldValues = values;
+    allocateKeys(newCapacity);
+    if (withValues) {
+      this.values = new Object[newCapacity];
+    }
+
+    this.capacity = newCapacity;
+    this.mask = newCapacity - 1;
+    this.resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+
+    return oldValues;
+  }
+
+  /** Copies the value of an entry from the previous table of values after a resize. */
+  protected void copyValue(Object[] oldValues, int oldSlot, int slot) {
+    if (oldValues != null) {
+      values[slot] = oldValues[oldSlot];
+    }
+  }
+
+  private void setValueAt(int index, Object value) {
+    if (index >= capacity) {
+      specialValues[index - capacity] = value;
+    } else if (values != null) {
+      values[index] = value;
+    }
+  }
+
+  /** Moves the value of an entry after its key was moved from one slot to another. */
+  protected void moveEntry(int fromSlot, int toSlot) {
+    if (values != null) {
+      values[toSlot] = values[fromSlot];
+    }
+  }
+
+  /** Clears the value of a slot after its key was removed. */
+  protected void clearEntry(int slot) {
+    if (values != null) {
+      values[slot] = null;
+    }
+  }
+
+  private Object valueAt(int index) {
+    if (index >= capacity) {
+      return specialValues[index - capacity];
+    } else if (values != null) {
+      return values[index];
+    } else {
+      return null;
+    }
+  }
+
+  private boolean isOccupiedIndex(int index) {
+    return index >= capacity ? specialKeys[index - capacity] : isOccupied(index);
+  }
+
+  private StructLike keyAtIndex(int index) {
+    if (index < capacity) {
+      return new KeyStruct(keyAt(index));
+    }
+
+    switch (index - capacity) {
+      case NULL_STRUCT:
+        return null;
+      case NULL_FIELD:
+        return new KeyStruct(null);
+      default:
+        return new KeyStruct(emptyKey());
+    }
+  }
+
+  private void insert(int index, StructLike key, Object value) {
+    if (index >= capacity) {
+      specialKeys[index - capacity] = true;
+    } else {
+      store(index, key);
+    }
+
+    setValueAt(index, value);
+    this.size += 1;
+
+    if (size > resizeThreshold) {
+      int newCapacity = capacity * 2;
+      if (newCapacity < 0) {
+        throw new IllegalStateException("Cannot grow table beyond " + capacity + " slots");
+      }
+
+      resize(newCapacity);
+    }
+  }
+
+  private void removeIndex(int index) {
+    if (index >= capacity) {
+      specialKeys[index - capacity] = false;
+      specialValues[index - capacity] = null;
+    } else {
+      removeAt(index);
+    }
+
+    this.size -= 1;
+  }
+
+  protected static int slot(long hash, int mask) {
+    // the finalization step of MurmurHash3, spreads the bits of sequential values
+    long mixed = hash;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb9fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return (int) mixed & mask;
+  }
+
+  // whether an entry at slot, which hashes to ideal, can be moved back to hole
+  protected static boolean canMove(int ideal, int hole, int slot, int mask) {
+    return ((slot - ideal) & mask) >= ((slot - hole) & mask);
+  }
+
+  /**
+   * Iterates over the table slots starting after an empty slot, then over the special keys.
+   *
+   * <p>Removal shifts entries back towards their ideal slot but never across an empty slot, so when
+   * iteration starts at an empty slot, entries are only moved to positions that come earlier in the
+   * iteration order. The only entry that could be skipped after {@link #remove()} is one that moved
+   * into the removed slot, which is visited again.
+   */
+  private abstract class IndexIterator<E> implements Iterator<E> {
+    private final int start;
+    private int nextPos = -1;
+    private int lastPos = -1;
+
+    private IndexIterator() {
+      // the load factor guarantees that there is an empty slot
+      int emptySlot = 0;
+      while (isOccupied(emptySlot)) {
+        emptySlot += 1;
+      }
+
+      this.start = emptySlot;
+      advance();
+    }
+
+    protected abstract E at(int index);
+
+    private int indexAt(int pos) {
+      return pos < capacity ? (start + pos) & mask : pos;
+    }
+
+    private void advance() {
+      do {
+        nextPos += 1;
+      } while (nextPos < capacity + NUM_SPECIAL_KEYS && !isOccupiedIndex(indexAt(nextPos)));
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextPos < capacity + NUM_SPECIAL_KEYS;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      E result = at(indexAt(nextPos));
+      this.lastPos = nextPos;
+      advance();
+      return result;
+    }
+
+    @Override
+    public void remove() {
+      Preconditions.checkState(lastPos >= 0, "No entry to remove");
+      int index = indexAt(lastPos);
+      removeIndex(index);
+      if (index < capacity && isOccupied(index)) {
+        // an entry that was not visited yet was moved into the removed slot
+        this.nextPos = lastPos;
+      }
+
+      this.lastPos = -1;
+    }
+  }
+
+  /** A struct with the value of a single-column key, returned by iteration. */
+  private static class KeyStruct implements StructLike, Serializable {
+    private Object value;
+
+    private KeyStruct(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      checkPosition(pos);
+      return javaClass.cast(value);
+    }
+
+    @Override
+    public <T> void set(int pos, T newValue) {
+      checkPosition(pos);
+      this.value = newValue;
+    }
+
+    private static void checkPosition(int pos) {
+      if (pos != 0) {
+        throw new IndexOutOfBoundsException("Invalid position for single-column key: " + pos);
+      }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      return Objects.equals(value, ((KeyStruct) other).value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return "{" + value + "}";
+    }
+  }
+
+  private static class LongKeys extends SingleColumnKeyTable {
+    // 0 marks an empty slot in the table, so it is stored as a special key
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+
+    private LongKeys(boolean withValues) {
+      super(withValues);
+    }
+
+    @Override
+    protected int find(StructLike struct) {
+      if (struct == null) {
+        return findSpecial(NULL_STRUCT);
+      }
+
+      // int values are accepted for long keys, like the comparator for long types
+      Number value = struct.get(0, Number.class);
+      return value != null ? findValue(value.longValue()) : findSpecial(NULL_FIELD);
+    }
+
+    private int findValue(long value) {
+      if (value == EMPTY) {
+        return findSpecial(EMPTY_KEY);
+      }
+
+      int mask = mask();
+      int slot = slot(value, mask);
+      long current;
+      while ((current = keys[slot]) != EMPTY) {
+        if (current == value) {
+          return slot;
+        }
+
+        slot = (slot + 1) & mask;
+      }
+
+      return ~slot;
+    }
+
+    /** Returns a key value as the Java class of the key type. */
+    protected Object toKey(long value) {
+      return value;
+    }
+
+    @Override
+    protected void store(int slot, StructLike struct) {
+      keys[slot] = struct.get(0, Number.class).longValue();
+    }
+
+    @Override
+    protected boolean isOccupied(int slot) {
+      return keys[slot] != EMPTY;
+    }
+
+    @Override
+    protected Object keyAt(int slot) {
+      return toKey(keys[slot]);
+    }
+
+    @Override
+    protected Object emptyKey() {
+      return toKey(EMPTY);
+    }
+
+    @Override
+    protected void removeAt(int slot) {
+      int mask = mask();
+      int hole = slot;
+      int next = (hole + 1) & mask;
+      long current;
+      while ((current = keys[next]) != EMPTY) {
+        if (canMove(slot(current, mask), hole, next, mask)) {
+          keys[hole] = current;
+          moveEntry(next, hole);
+          hole = next;
+        }
+
+        next = (next + 1) & mask;
+      }
+
+      keys[hole] = EMPTY;
+      clearEntry(hole);
+    }
+
+    @Override
+    protected void allocateKeys(int newCapacity) {
+      this.keys = new long[newCapacity];
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+      long[] oldKeys = keys;
+      Object[] oldValues = allocate(newCapacity);
+      for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot += 1) {
+        long key = oldKeys[oldSlot];
+        if (key != EMPTY) {
+          int slot = ~findValue(key);
+          keys[slot] = key;
+          copyValue(oldValues, oldSlot, slot);
+        }
+      }
+    }
+
+    @Override
+    protected void clearKeys() {
+      Arrays.fill(keys, EMPTY);
+    }
+  }
+
+  private static class IntKeys extends LongKeys {
+    private IntKeys(boolean withValues) {
+      super(withValues);
+    }
+
+    @Override
+    protected Object toKey(long value) {
+      return (int) value;
+    }
+  }
+
+  private static class StringKeys extends SingleColumnKeyTable {
+    private String[] keys;
+
+    private StringKeys(boolean withValues) {
+      super(withValues);
+    }
+
+    private static String asString(CharSequence value) {
+      return value instanceof String ? (String) value : value.toString();
+    }
+
+    @Override
+    protected int find(StructLike struct) {
+      if (struct == null) {
+        return findSpecial(NULL_STRUCT);
+      }
+
+      CharSequence value = struct.get(0, CharSequence.class);
+      return value != null ? findValue(asString(value)) : findSpecial(NULL_FIELD);
+    }
+
+    private int findValue(String value) {
+      int mask = mask();
+      int slot = slot(value.hashCode(), mask);
+      String current;
+      while ((current = keys[slot]) != null) {
+        if (current.equals(value)) {
+          return slot;
+        }
+
+        slot = (slot + 1) & mask;
+      }
+
+      return ~slot;
+    }
+
+    @Override
+    protected void store(int slot, StructLike struct) {
+      keys[slot] = asString(struct.get(0, CharSequence.class));
+    }
+
+    @Override
+    protected boolean isOccupied(int slot) {
+      return keys[slot] != null;
+    }
+
+    @Override
+    protected Object keyAt(int slot) {
+      return keys[slot];
+    }
+
+    @Override
+    protected void removeAt(int slot) {
+      int mask = mask();
+      int hole = slot;
+      int next = (hole + 1) & mask;
+      String current;
+      while ((current = keys[next]) != null) {
+        if (canMove(slot(current.hashCode(), mask), hole, next, mask)) {
+          keys[hole] = current;
+          moveEntry(next, hole);
+          hole = next;
+        }
+
+        next = (next + 1) & mask;
+      }
+
+      keys[hole] = null;
+      clearEntry(hole);
+    }
+
+    @Override
+    protected void allocateKeys(int newCapacity) {
+      this.keys = new String[newCapacity];
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+      String[] oldKeys = keys;
+      Object[] oldValues = allocate(newCapacity);
+      for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot += 1) {
+        String key = oldKeys[oldSlot];
+        if (key != null) {
+          int slot = ~findValue(key);
+          keys[slot] = key;
+          copyValue(oldValues, oldSlot, slot);
+        }
+      }
+    }
+
+    @Override
+    protected void clearKeys() {
+      Arrays.fill(keys, null);
+    }
+  }
+}
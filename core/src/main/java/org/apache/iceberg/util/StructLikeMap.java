@@ -18,16 +18,25 @@
  */
 package org.apache.iceberg.util;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
 
+/**
+ * A map with {@link StructLike} keys of a struct type.
+ *
+ * <p>When the struct type has a single int, long, or string field, keys are stored without wrapping
+ * each struct, see {@link StructLikeSet}.
+ */
 public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<StructLike, T> {
 
   public static <T> StructLikeMap<T> create(Types.StructType type) {
@@ -35,28 +44,39 @@ public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<
   }
 
   private final Types.StructType type;
+  private final SingleColumnKeyTable keyTable;
   private final Map<StructLikeWrapper, T> wrapperMap;
   private final ThreadLocal<StructLikeWrapper> wrappers;
 
   private StructLikeMap(Types.StructType type) {
     this.type = type;
-    this.wrapperMap = Maps.newHashMap();
-    this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
+    this.keyTable = SingleColumnKeyTable.forType(type, true /* with values */);
+    if (keyTable != null) {
+      this.wrapperMap = null;
+      this.wrappers = null;
+    } else {
+      this.wrapperMap = Maps.newHashMap();
+      this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
+    }
   }
 
   @Override
   public int size() {
-    return wrapperMap.size();
+    return keyTable != null ? keyTable.size() : wrapperMap.size();
   }
 
   @Override
   public boolean isEmpty() {
-    return wrapperMap.isEmpty();
+    return size() == 0;
   }
 
   @Override
   public boolean containsKey(Object key) {
     if (key instanceof StructLike || key == null) {
+      if (keyTable != null) {
+        return keyTable.containsKey((StructLike) key);
+      }
+
       StructLikeWrapper wrapper = wrappers.get();
       boolean result = wrapperMap.containsKey(wrapper.set((StructLike) key));
       wrapper.set(null); // don't hold a reference to the key.
@@ -67,12 +87,21 @@ public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<
 
   @Override
   public boolean containsValue(Object value) {
+    if (keyTable != null) {
+      return keyTable.containsValue(value);
+    }
+
     return wrapperMap.containsValue(value);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public T get(Object key) {
     if (key instanceof StructLike || key == null) {
+      if (keyTable != null) {
+        return (T) keyTable.get((StructLike) key);
+      }
+
       StructLikeWrapper wrapper = wrappers.get();
       T value = wrapperMap.get(wrapper.set((StructLike) key));
       wrapper.set(null); // don't hold a reference to the key.
@@ -82,13 +111,23 @@ public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public T put(StructLike key, T value) {
+    if (keyTable != null) {
+      return (T) keyTable.put(key, value);
+    }
+
     return wrapperMap.put(wrappers.get().copyFor(key), value);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public T remove(Object key) {
     if (key instanceof StructLike || key == null) {
+      if (keyTable != null) {
+        return (T) keyTable.removeValue((StructLike) key);
+      }
+
       StructLikeWrapper wrapper = wrappers.get();
       T value = wrapperMap.remove(wrapper.set((StructLike) key));
       wrapper.set(null); // don't hold a reference to the key.
@@ -99,12 +138,21 @@ public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<
 
   @Override
   public void clear() {
-    wrapperMap.clear();
+    if (keyTable != null) {
+      keyTable.clear();
+    } else {
+      wrapperMap.clear();
+    }
   }
 
   @Override
   public Set<StructLike> keySet() {
     StructLikeSet keySet = StructLikeSet.create(type);
+    if (keyTable != null) {
+      Iterators.addAll(keySet, keyTable.keys());
+      return keySet;
+    }
+
     for (StructLikeWrapper wrapper : wrapperMap.keySet()) {
       keySet.add(wrapper.get());
     }
@@ -112,35 +160,67 @@ public class StructLikeMap<T> extends AbstractMap<StructLike, T> implements Map<
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Collection<T> values() {
+    if (keyTable != null) {
+      return new AbstractCollection<T>() {
+        @Override
+        public Iterator<T> iterator() {
+          return (Iterator<T>) (Iterator<?>) keyTable.values();
+        }
+
+        @Override
+        public int size() {
+          return keyTable.size();
+        }
+
+        @Override
+        public void clear() {
+          keyTable.clear();
+        }
+      };
+    }
+
     return wrapperMap.values();
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Set<Entry<StructLike, T>> entrySet() {
     Set<Entry<StructLike, T>> entrySet = Sets.newHashSet();
+    if (keyTable != null) {
+      Iterator<Entry<StructLike, Object>> entries = keyTable.entries();
+      while (entries.hasNext()) {
+        Entry<StructLike, Object> entry = entries.next();
+        entrySet.add(new StructLikeEntry<>(entry.getKey(), (T) entry.getValue()));
+      }
+      return entrySet;
+    }
+
     for (Entry<StructLikeWrapper, T> entry : wrapperMap.entrySet()) {
-      entrySet.add(new StructLikeEntry<>(entry));
+      entrySet.add(new StructLikeEntry<>(entry.getKey().get(), entry.getValue()));
     }
     return entrySet;
   }
 
   private static class StructLikeEntry<R> implements Entry<StructLike, R> {
 
-    private Map.Entry<StructLikeWrapper, R> inner;
+    private final StructLike key;
+    private final R value;
 
-    private StructLikeEntry(Map.Entry<StructLikeWrapper, R> inner) {
-      this.inner = inner;
+    private StructLikeEntry(StructLike key, R value) {
+      this.key = key;
+      this.value = value;
     }
 
     @Override
     public StructLike getKey() {
-      return inner.getKey().get();
+      return key;
     }
 
     @Override
     public R getValue() {
-      return inner.getValue();
+      return value;
     }
 
     @Override
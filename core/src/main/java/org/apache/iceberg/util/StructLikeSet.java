@@ -29,34 +29,51 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
 
+/**
+ * A set of {@link StructLike} values of a struct type.
+ *
+ * <p>When the struct type has a single int, long, or string field, values are stored without
+ * wrapping each struct.
+ */
 public class StructLikeSet extends AbstractSet<StructLike> implements Set<StructLike> {
   public static StructLikeSet create(Types.StructType type) {
     return new StructLikeSet(type);
   }
 
   private final Types.StructType type;
+  private final SingleColumnKeyTable keyTable;
   private final Set<StructLikeWrapper> wrapperSet;
   private final ThreadLocal<StructLikeWrapper> wrappers;
 
   private StructLikeSet(Types.StructType type) {
     this.type = type;
-    this.wrapperSet = Sets.newHashSet();
-    this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
+    this.keyTable = SingleColumnKeyTable.forType(type, false /* no values */);
+    if (keyTable != null) {
+      this.wrapperSet = null;
+      this.wrappers = null;
+    } else {
+      this.wrapperSet = Sets.newHashSet();
+      this.wrappers = ThreadLocal.withInitial(() -> StructLikeWrapper.forType(type));
+    }
   }
 
   @Override
   public int size() {
-    return wrapperSet.size();
+    return keyTable != null ? keyTable.size() : wrapperSet.size();
   }
 
   @Override
   public boolean isEmpty() {
-    return wrapperSet.isEmpty();
+    return size() == 0;
   }
 
   @Override
   public boolean contains(Object obj) {
     if (obj instanceof StructLike || obj == null) {
+      if (keyTable != null) {
+        return keyTable.containsKey((StructLike) obj);
+      }
+
       StructLikeWrapper wrapper = wrappers.get();
       boolean result = wrapperSet.contains(wrapper.set((StructLike) obj));
       wrapper.set(null); // don't hold a reference to the value
@@ -67,6 +84,10 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
 
   @Override
   public Iterator<StructLike> iterator() {
+    if (keyTable != null) {
+      return keyTable.keys();
+    }
+
     return Iterators.transform(wrapperSet.iterator(), StructLikeWrapper::get);
   }
 
@@ -78,7 +99,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
   @Override
   @SuppressWarnings("unchecked")
   public <T> T[] toArray(T[] destArray) {
-    int size = wrapperSet.size();
+    int size = size();
     if (destArray.length < size) {
       return (T[]) toArray();
     }
@@ -99,12 +120,20 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
 
   @Override
   public boolean add(StructLike struct) {
+    if (keyTable != null) {
+      return keyTable.add(struct);
+    }
+
     return wrapperSet.add(wrappers.get().copyFor(struct));
   }
 
   @Override
   public boolean remove(Object obj) {
     if (obj instanceof StructLike || obj == null) {
+      if (keyTable != null) {
+        return keyTable.remove((StructLike) obj);
+      }
+
       StructLikeWrapper wrapper = wrappers.get();
       boolean result = wrapperSet.remove(wrapper.set((StructLike) obj));
       wrapper.set(null); // don't hold a reference to the value
@@ -123,7 +152,13 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
 
   @Override
   public boolean addAll(Collection<? extends StructLike> structs) {
-    if (structs != null) {
+    if (structs != null && keyTable != null) {
+      boolean changed = false;
+      for (StructLike struct : structs) {
+        changed |= keyTable.add(struct);
+      }
+      return changed;
+    } else if (structs != null) {
       return Iterables.addAll(
           wrapperSet, Iterables.transform(structs, struct -> wrappers.get().copyFor(struct)));
     }
@@ -148,7 +183,11 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
 
   @Override
   public void clear() {
-    wrapperSet.clear();
+    if (keyTable != null) {
+      keyTable.clear();
+    } else {
+      wrapperSet.clear();
+    }
   }
 
   @Override
@@ -166,7 +205,7 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
       return false;
     }
 
-    if (wrapperSet.size() != that.wrapperSet.size()) {
+    if (size() != that.size()) {
       return false;
     }
 
@@ -175,6 +214,16 @@ public class StructLikeSet extends AbstractSet<StructLike> implements Set<Struct
 
   @Override
   public int hashCode() {
+    if (keyTable != null) {
+      // hash keys the same way as the wrappers so that equal sets have equal hash codes
+      StructLikeWrapper wrapper = StructLikeWrapper.forType(type);
+      int hashCode = Objects.hashCode(type);
+      for (StructLike key : this) {
+        hashCode += wrapper.set(key).hashCode();
+      }
+      return hashCode;
+    }
+
     return Objects.hashCode(type) + wrapperSet.stream().mapToInt(StructLikeWrapper::hashCode).sum();
   }
 }
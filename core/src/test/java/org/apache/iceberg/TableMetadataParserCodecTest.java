@@ -32,6 +32,10 @@ public class TableMetadataParserCodecTest {
     Assert.assertEquals(Codec.GZIP, Codec.fromFileName("v3.gz.metadata.json"));
     Assert.assertEquals(Codec.GZIP, Codec.fromFileName("v3-f326-4b66-a541-7b1c.gz.metadata.json"));
     Assert.assertEquals(Codec.GZIP, Codec.fromFileName("v3-f326-4b66-a541-7b1c.metadata.json.gz"));
+    Assert.assertEquals(Codec.ZSTD, Codec.fromName("zstd"));
+    Assert.assertEquals(Codec.ZSTD, Codec.fromName("ZsTd"));
+    Assert.assertEquals(Codec.ZSTD, Codec.fromFileName("v3.zst.metadata.json"));
+    Assert.assertEquals(Codec.ZSTD, Codec.fromFileName("v3-f326-4b66-a541-7b1c.zst.metadata.json"));
     Assert.assertEquals(Codec.NONE, Codec.fromName("none"));
     Assert.assertEquals(Codec.NONE, Codec.fromName("nOnE"));
     Assert.assertEquals(Codec.NONE, Codec.fromFileName("v3.metadata.json"));
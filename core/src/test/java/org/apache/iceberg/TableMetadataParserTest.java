@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipException;
@@ -50,7 +51,7 @@ public class TableMetadataParserTest {
 
   @Parameterized.Parameters(name = "codecName = {0}")
   public static Object[] parameters() {
-    return new Object[] {"none", "gzip"};
+    return new Object[] {"none", "gzip", "zstd"};
   }
 
   private final String codecName;
@@ -71,6 +72,7 @@ public class TableMetadataParserTest {
     TableMetadata metadata = newTableMetadata(SCHEMA, unpartitioned(), location, properties);
     TableMetadataParser.write(metadata, outputFile);
     Assert.assertEquals(codec == Codec.GZIP, isCompressed(fileName));
+    Assert.assertEquals(codec == Codec.ZSTD, isZstdCompressed(fileName));
     TableMetadata actualMetadata =
         TableMetadataParser.read((FileIO) null, Files.localInput(new File(fileName)));
     verifyMetadata(metadata, actualMetadata);
@@ -101,4 +103,12 @@ public class TableMetadataParserTest {
       }
     }
   }
+
+  private boolean isZstdCompressed(String path) throws IOException {
+    byte[] magic = new byte[4];
+    try (InputStream in = new FileInputStream(new File(path))) {
+      return in.read(magic) == magic.length
+          && Arrays.equals(magic, new byte[] {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD});
+    }
+  }
 }
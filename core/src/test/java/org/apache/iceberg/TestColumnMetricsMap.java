@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestColumnMetricsMap {
+  private static final Map<Integer, Long> COUNTS = ImmutableMap.of(1, 10L, 2, 20L, 5, 50L);
+  private static final Map<Integer, ByteBuffer> BOUNDS =
+      ImmutableMap.of(1, bytes(1, 2), 3, bytes(3), 4, bytes());
+
+  @Test
+  public void testCounts() {
+    Map<Integer, Long> counts =
+        ColumnMetricsMap.ofCounts(new int[] {5, 1, 2}, new long[] {50L, 10L, 20L});
+
+    Assert.assertEquals("Should contain all entries", COUNTS, counts);
+    Assert.assertEquals("Should be equal to a hash map", counts, Maps.newHashMap(COUNTS));
+    Assert.assertEquals("Should have the same hash code", COUNTS.hashCode(), counts.hashCode());
+    Assert.assertEquals("Should look up by column ID", (Long) 20L, counts.get(2));
+    Assert.assertNull("Should not contain missing column", counts.get(3));
+    Assert.assertNull("Should not contain non-integer keys", counts.get("2"));
+    Assert.assertTrue("Should contain column", counts.containsKey(5));
+    Assert.assertEquals(
+        "Should iterate in column ID order",
+        Lists.newArrayList(1, 2, 5),
+        Lists.newArrayList(counts.keySet()));
+  }
+
+  @Test
+  public void testBounds() {
+    Map<Integer, ByteBuffer> bounds =
+        ColumnMetricsMap.ofBounds(
+            new int[] {1, 3, 4}, new byte[][] {new byte[] {1, 2}, new byte[] {3}, new byte[0]});
+
+    Assert.assertEquals("Should contain all entries", BOUNDS, bounds);
+
+    ByteBuffer lower = bounds.get(1);
+    lower.get();
+    Assert.assertEquals("Should return an independent buffer", bytes(1, 2), bounds.get(1));
+    Assert.assertTrue("Should not expose the shared array", bounds.get(1).isReadOnly());
+  }
+
+  @Test
+  public void testEmpty() {
+    Map<Integer, Long> counts = ColumnMetricsMap.ofCounts(new int[0], new long[0]);
+    Assert.assertTrue("Should be empty", counts.isEmpty());
+    Assert.assertEquals("Should be equal to an empty map", ImmutableMap.of(), counts);
+  }
+
+  @Test
+  public void testModification() {
+    ColumnMetricsMap<Long> counts =
+        ColumnMetricsMap.ofCounts(new int[] {1, 2, 5}, new long[] {10L, 20L, 50L});
+    ColumnMetricsMap<Long> copy = counts.copy();
+
+    Assert.assertEquals("Should replace the value", (Long) 20L, counts.put(2, 21L));
+    Assert.assertEquals("Should remove the value", (Long) 50L, counts.remove(5));
+    Assert.assertEquals("Should apply modifications", ImmutableMap.of(1, 10L, 2, 21L), counts);
+    Assert.assertEquals("Should not modify copies", COUNTS, copy);
+    Assert.assertEquals(
+        "Should copy modified entries", ImmutableMap.of(1, 10L, 2, 21L), counts.copy());
+
+    counts.clear();
+    Assert.assertTrue("Should be empty", counts.isEmpty());
+  }
+
+  @Test
+  public void testModifyCopy() {
+    ColumnMetricsMap<Long> counts =
+        ColumnMetricsMap.ofCounts(new int[] {1, 2, 5}, new long[] {10L, 20L, 50L});
+    ColumnMetricsMap<Long> copy = counts.copy();
+    Assert.assertNotSame("Should return a new map", counts, copy);
+
+    copy.put(3, 30L);
+    copy.remove(1);
+    Assert.assertEquals("Should modify the copy", ImmutableMap.of(2, 20L, 3, 30L, 5, 50L), copy);
+    Assert.assertEquals("Should not modify the original", COUNTS, counts);
+
+    ColumnMetricsMap<Long> secondCopy = counts.copy();
+    counts.clear();
+    Assert.assertEquals("Should not modify earlier copies", COUNTS, secondCopy);
+  }
+
+  @Test
+  public void testJavaSerialization() throws IOException, ClassNotFoundException {
+    Map<Integer, Long> counts =
+        ColumnMetricsMap.ofCounts(new int[] {1, 2, 5}, new long[] {10L, 20L, 50L});
+    Map<Integer, ByteBuffer> bounds =
+        ColumnMetricsMap.ofBounds(
+            new int[] {1, 3, 4}, new byte[][] {new byte[] {1, 2}, new byte[] {3}, new byte[0]});
+
+    Assert.assertEquals(COUNTS, TestHelpers.roundTripSerialize(counts));
+    Assert.assertEquals(BOUNDS, TestHelpers.roundTripSerialize(bounds));
+
+    bounds.put(6, bytes(6));
+    Map<Integer, ByteBuffer> expected = Maps.newHashMap(BOUNDS);
+    expected.put(6, bytes(6));
+    Assert.assertEquals(expected, TestHelpers.roundTripSerialize(bounds));
+  }
+
+  @Test
+  public void testKryoSerialization() throws IOException {
+    Map<Integer, Long> counts =
+        ColumnMetricsMap.ofCounts(new int[] {1, 2, 5}, new long[] {10L, 20L, 50L});
+    Assert.assertEquals(COUNTS, TestHelpers.KryoHelpers.roundTripSerialize(counts));
+  }
+
+  private static ByteBuffer bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i += 1) {
+      bytes[i] = (byte) values[i];
+    }
+
+    return ByteBuffer.wrap(bytes);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.mockito.Mockito;
+
+@RunWith(Parameterized.class)
+public class TestCommitCoalescer extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestCommitCoalescer(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testSingleCommit() throws Exception {
+    Assert.assertEquals("Table should be on version 0", 0, (int) version());
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(table)) {
+      Snapshot snapshot = coalescer.fastAppend(append -> append.appendFile(FILE_A)).get();
+
+      table.refresh();
+      Assert.assertEquals("Table should be on version 1", 1, (int) version());
+      Assert.assertEquals(
+          "Should return the committed snapshot",
+          table.currentSnapshot().snapshotId(),
+          snapshot.snapshotId());
+      validateSnapshot(null, snapshot, FILE_A);
+    }
+  }
+
+  @Test
+  public void testCoalescedCommits() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(table)) {
+      // block the committer so that the next operations are queued together
+      CompletableFuture<Snapshot> first =
+          coalescer.fastAppend(append -> awaitRelease(started, release, append).appendFile(FILE_A));
+      started.await();
+
+      CompletableFuture<Snapshot> second = coalescer.append(append -> append.appendFile(FILE_B));
+      CompletableFuture<Snapshot> third = coalescer.fastAppend(append -> append.appendFile(FILE_C));
+      release.countDown();
+
+      Snapshot firstSnapshot = first.get();
+      Snapshot secondSnapshot = second.get();
+      Snapshot thirdSnapshot = third.get();
+
+      table.refresh();
+      Assert.assertEquals("Queued operations should be committed together", 2, (int) version());
+      Assert.assertEquals(
+          "Should have a snapshot per operation", 3, Iterables.size(table.snapshots()));
+      Assert.assertEquals(
+          "Last operation should be current",
+          table.currentSnapshot().snapshotId(),
+          thirdSnapshot.snapshotId());
+
+      validateSnapshot(null, firstSnapshot, FILE_A);
+      validateSnapshot(firstSnapshot, secondSnapshot, FILE_B);
+      validateSnapshot(secondSnapshot, thirdSnapshot, FILE_C);
+    }
+  }
+
+  @Test
+  public void testFailedOperationDoesNotFailBatch() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(table)) {
+      CompletableFuture<Snapshot> first =
+          coalescer.fastAppend(append -> awaitRelease(started, release, append).appendFile(FILE_A));
+      started.await();
+
+      CompletableFuture<Snapshot> second =
+          coalescer.fastAppend(append -> append.appendFile(FILE_B));
+      CompletableFuture<Snapshot> invalid =
+          coalescer.rowDelta(
+              delta -> {
+                throw new ValidationException("Invalid operation");
+              });
+      CompletableFuture<Snapshot> third = coalescer.fastAppend(append -> append.appendFile(FILE_C));
+      release.countDown();
+
+      Assertions.assertThatThrownBy(invalid::get)
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(ValidationException.class)
+          .hasMessageContaining("Invalid operation");
+
+      Snapshot secondSnapshot = second.get();
+      Snapshot thirdSnapshot = third.get();
+
+      table.refresh();
+      Assert.assertEquals("Valid operations should be committed together", 2, (int) version());
+      validateSnapshot(first.get(), secondSnapshot, FILE_B);
+      validateSnapshot(secondSnapshot, thirdSnapshot, FILE_C);
+    }
+  }
+
+  @Test
+  public void testBatchSizeLimit() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, 2)) {
+      coalescer.fastAppend(append -> awaitRelease(started, release, append).appendFile(FILE_A));
+      started.await();
+
+      coalescer.fastAppend(append -> append.appendFile(FILE_B));
+      coalescer.fastAppend(append -> append.appendFile(FILE_C));
+      CompletableFuture<Snapshot> last = coalescer.fastAppend(append -> append.appendFile(FILE_D));
+      release.countDown();
+
+      last.get();
+
+      table.refresh();
+      Assert.assertEquals("Should commit at most 2 operations at once", 3, (int) version());
+      Assert.assertEquals(
+          "Should have a snapshot per operation", 4, Iterables.size(table.snapshots()));
+    }
+  }
+
+  @Test
+  public void testFailedBatchCompletesFutures() throws Exception {
+    Table spyTable = Mockito.spy(table);
+    Mockito.doCallRealMethod()
+        .doThrow(new IllegalStateException("Cannot start transaction"))
+        .doCallRealMethod()
+        .when(spyTable)
+        .newTransaction();
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(spyTable)) {
+      CompletableFuture<Snapshot> first =
+          coalescer.fastAppend(append -> awaitRelease(started, release, append).appendFile(FILE_A));
+      started.await();
+
+      CompletableFuture<Snapshot> second =
+          coalescer.fastAppend(append -> append.appendFile(FILE_B));
+      CompletableFuture<Snapshot> third = coalescer.fastAppend(append -> append.appendFile(FILE_C));
+      release.countDown();
+
+      Snapshot firstSnapshot = first.get();
+      for (CompletableFuture<Snapshot> failed : Arrays.asList(second, third)) {
+        Assertions.assertThatThrownBy(failed::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Cannot start transaction");
+      }
+
+      Snapshot lastSnapshot = coalescer.fastAppend(append -> append.appendFile(FILE_D)).get();
+      validateSnapshot(firstSnapshot, lastSnapshot, FILE_D);
+    }
+  }
+
+  @Test
+  public void testSubmitAfterClose() {
+    CommitCoalescer coalescer = new CommitCoalescer(table);
+    coalescer.close();
+
+    Assertions.assertThatThrownBy(() -> coalescer.fastAppend(append -> append.appendFile(FILE_A)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot submit a commit to a closed coalescer");
+  }
+
+  private static AppendFiles awaitRelease(
+      CountDownLatch started, CountDownLatch release, AppendFiles append) {
+    started.countDown();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+
+    return append;
+  }
+}
@@ -23,12 +23,15 @@ import static org.apache.iceberg.expressions.Expressions.equal;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeWrapper;
 import org.junit.Assert;
@@ -188,6 +191,123 @@ public class TestDeleteFileIndex extends TableTestBase {
         index.forDataFile(0, unpartitionedFileA).length);
   }
 
+  @Test
+  public void testIndexedDeleteBounds() {
+    // 100 equality deletes for id ranges [10 * i, 10 * i + 9] and 100 position deletes for a single
+    // data file each, alternating and applied at sequence number i
+    int numDeletes = 100;
+    long[] seqs = new long[2 * numDeletes];
+    DeleteFile[] deletes = new DeleteFile[2 * numDeletes];
+    for (int i = 0; i < numDeletes; i += 1) {
+      seqs[2 * i] = i;
+      deletes[2 * i] = eqDeletesForIdRange(i, 10 * i, 10 * i + 9);
+      seqs[2 * i + 1] = i;
+      deletes[2 * i + 1] = posDeletesForPath(i, dataPath(i));
+    }
+
+    DeleteFileIndex index =
+        new DeleteFileIndex(
+            ImmutableMap.of(SPEC.specId(), SPEC),
+            null,
+            null,
+            ImmutableMap.of(
+                Pair.of(
+                    SPEC.specId(),
+                    StructLikeWrapper.forType(SPEC.partitionType()).set(FILE_A.partition())),
+                Pair.of(seqs, deletes)));
+
+    DataFile dataFile = dataFileForIdRange(dataPath(40), 255, 265);
+    Assert.assertArrayEquals(
+        "Should match overlapping equality deletes and position deletes for the file",
+        new DeleteFile[] {deletes[2 * 25], deletes[2 * 26], deletes[2 * 40 + 1]},
+        index.forDataFile(0, dataFile));
+    Assert.assertArrayEquals(
+        "Should match only deletes with a higher sequence number",
+        new DeleteFile[] {deletes[2 * 26], deletes[2 * 40 + 1]},
+        index.forDataFile(26, dataFile));
+    Assert.assertArrayEquals(
+        "Should match no deletes after the last sequence number",
+        new DeleteFile[0],
+        index.forDataFile(41, dataFile));
+
+    DataFile fileWithoutBounds =
+        DataFiles.builder(SPEC)
+            .withPath(dataPath(99))
+            .withFileSizeInBytes(10)
+            .withPartition(FILE_A.partition())
+            .withRecordCount(1)
+            .build();
+    List<DeleteFile> expected = Lists.newArrayList();
+    for (int i = 90; i < numDeletes; i += 1) {
+      expected.add(deletes[2 * i]);
+    }
+    expected.add(deletes[2 * 99 + 1]);
+
+    Assert.assertArrayEquals(
+        "Should match all equality deletes if the data file has no bounds",
+        expected.toArray(new DeleteFile[0]),
+        index.forDataFile(90, fileWithoutBounds));
+  }
+
+  private static String dataPath(int ordinal) {
+    return String.format("/path/to/data-%03d.parquet", ordinal);
+  }
+
+  private static DataFile dataFileForIdRange(String path, int lower, int upper) {
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(
+            new Metrics(
+                1L,
+                null,
+                null,
+                null,
+                null,
+                ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+                ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper))))
+        .build();
+  }
+
+  private static DeleteFile eqDeletesForIdRange(int ordinal, int lower, int upper) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofEqualityDeletes(3)
+        .withPath("/path/to/eq-deletes-" + ordinal + ".parquet")
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(
+            new Metrics(
+                1L,
+                null,
+                null,
+                null,
+                null,
+                ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+                ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper))))
+        .build();
+  }
+
+  private static DeleteFile posDeletesForPath(int ordinal, String path) {
+    ByteBuffer pathBound = Conversions.toByteBuffer(Types.StringType.get(), path);
+    int pathId = MetadataColumns.DELETE_FILE_PATH.fieldId();
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofPositionDeletes()
+        .withPath("/path/to/pos-deletes-" + ordinal + ".parquet")
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(
+            new Metrics(
+                1L,
+                null,
+                null,
+                null,
+                null,
+                ImmutableMap.of(pathId, pathBound),
+                ImmutableMap.of(pathId, pathBound)))
+        .build();
+  }
+
   @Test
   public void testUnpartitionedTableScan() throws IOException {
     File location = temp.newFolder();
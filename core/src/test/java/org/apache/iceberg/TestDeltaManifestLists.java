@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestDeltaManifestLists extends TableTestBase {
+  private final boolean incrementalCleanup;
+
+  @Parameterized.Parameters(name = "formatVersion = {0}, incrementalCleanup = {1}")
+  public static Object[][] parameters() {
+    return new Object[][] {
+      new Object[] {1, true},
+      new Object[] {1, false},
+      new Object[] {2, true},
+      new Object[] {2, false}
+    };
+  }
+
+  public TestDeltaManifestLists(int formatVersion, boolean incrementalCleanup) {
+    super(formatVersion);
+    this.incrementalCleanup = incrementalCleanup;
+  }
+
+  @Before
+  public void enableDeltas() {
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_LIST_DELTA_ENABLED, "true")
+        .set(TableProperties.MANIFEST_LIST_CHECKPOINT_INTERVAL, "3")
+        .commit();
+  }
+
+  @Test
+  public void testAppendsWriteDeltas() {
+    List<Snapshot> snapshots = Lists.newArrayList();
+    for (DataFile file : ImmutableList.of(FILE_A, FILE_B, FILE_C, FILE_D, FILE_A2)) {
+      table.newFastAppend().appendFile(file).commit();
+      snapshots.add(table.currentSnapshot());
+    }
+
+    Assert.assertEquals(
+        "Should write deltas until the checkpoint interval is reached",
+        ImmutableList.of(false, true, true, true, false),
+        snapshots.stream()
+            .map(snapshot -> ManifestLists.isDelta(snapshot.manifestListLocation()))
+            .collect(Collectors.toList()));
+
+    List<String> expected = Lists.newArrayList();
+    for (Snapshot snapshot : snapshots) {
+      ManifestFile added =
+          Iterables.getOnlyElement(
+              ManifestLists.read(table.io(), snapshot.manifestListLocation()).stream()
+                  .filter(manifest -> manifest.snapshotId() == snapshot.snapshotId())
+                  .collect(Collectors.toList()));
+      expected.add(0, added.path());
+
+      Assert.assertEquals(
+          "Should read all manifests of the snapshot",
+          expected,
+          paths(ManifestLists.read(table.io(), snapshot.manifestListLocation())));
+    }
+
+    Assert.assertEquals(
+        "Should scan all appended files", 5, Iterables.size(table.newScan().planFiles()));
+  }
+
+  @Test
+  public void testDeltaWithRemovedManifests() {
+    table.updateProperties().set(TableProperties.MANIFEST_LIST_CHECKPOINT_INTERVAL, "10").commit();
+
+    for (DataFile file : ImmutableList.of(FILE_A, FILE_B, FILE_C, FILE_D)) {
+      table.newFastAppend().appendFile(file).commit();
+    }
+
+    Snapshot parent = table.currentSnapshot();
+
+    table.newDelete().deleteFile(FILE_B).commit();
+
+    Snapshot snapshot = table.currentSnapshot();
+    Assert.assertTrue(
+        "Should write a delta manifest list",
+        ManifestLists.isDelta(snapshot.manifestListLocation()));
+
+    List<ManifestFile> manifests = ManifestLists.read(table.io(), snapshot.manifestListLocation());
+    Set<String> parentPaths = Sets.newHashSet(paths(parent.allManifests(table.io())));
+    Set<String> paths = Sets.newHashSet(paths(manifests));
+    Assert.assertEquals(
+        "Should replace one manifest", 1, Sets.difference(parentPaths, paths).size());
+    Assert.assertEquals("Should add one manifest", 1, Sets.difference(paths, parentPaths).size());
+
+    Assert.assertEquals(
+        "Should remove FILE_B",
+        ImmutableSet.of(FILE_B.path()),
+        snapshot.removedDataFiles(table.io()).stream()
+            .map(ContentFile::path)
+            .collect(Collectors.toSet()));
+    Assert.assertEquals(
+        "Should scan the remaining files", 3, Iterables.size(table.newScan().planFiles()));
+  }
+
+  @Test
+  public void testExpireKeepsBaseManifestLists() {
+    List<Snapshot> snapshots = Lists.newArrayList();
+    for (DataFile file : ImmutableList.of(FILE_A, FILE_B, FILE_C, FILE_D)) {
+      table.newFastAppend().appendFile(file).commit();
+      snapshots.add(table.currentSnapshot());
+    }
+
+    Set<String> deletedFiles = Sets.newHashSet();
+    removeSnapshots()
+        .expireSnapshotId(snapshots.get(0).snapshotId())
+        .expireSnapshotId(snapshots.get(1).snapshotId())
+        .expireSnapshotId(snapshots.get(2).snapshotId())
+        .deleteWith(deletedFiles::add)
+        .commit();
+
+    Assert.assertEquals(
+        "Should not delete manifest lists used by the retained delta",
+        ImmutableSet.of(),
+        deletedFiles);
+
+    // the last delta is at the checkpoint interval, so the next list is a full list
+    table.newFastAppend().appendFile(FILE_A2).commit();
+    Assert.assertFalse(
+        "Should write a full manifest list",
+        ManifestLists.isDelta(table.currentSnapshot().manifestListLocation()));
+
+    removeSnapshots()
+        .expireSnapshotId(snapshots.get(3).snapshotId())
+        .deleteWith(deletedFiles::add)
+        .commit();
+
+    Assert.assertEquals(
+        "Should delete the expired delta and its base manifest lists",
+        snapshots.stream().map(Snapshot::manifestListLocation).collect(Collectors.toSet()),
+        deletedFiles);
+  }
+
+  private RemoveSnapshots removeSnapshots() {
+    RemoveSnapshots removeSnapshots = (RemoveSnapshots) table.expireSnapshots();
+    return (RemoveSnapshots) removeSnapshots.withIncrementalCleanup(incrementalCleanup);
+  }
+
+  private static List<String> paths(List<ManifestFile> manifests) {
+    return manifests.stream().map(ManifestFile::path).collect(Collectors.toList());
+  }
+}
@@ -26,6 +26,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.apache.hadoop.conf.Configuration;
@@ -33,6 +35,8 @@ import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.hadoop.HadoopCatalog;
 import org.apache.iceberg.hadoop.HadoopFileIO;
 import org.apache.iceberg.io.ContentCache;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DiskContentCache;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -119,6 +123,95 @@ public class TestManifestCaching {
     ManifestFiles.dropCache(scan.table().io());
   }
 
+  @Test
+  public void testPlanWithPrefetchingThroughCache() throws Exception {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED,
+            "true");
+    Table table = createTable(properties);
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT, String.valueOf(1024 * 1024))
+        .commit();
+    ContentCache cache = ManifestFiles.contentCache(table.io());
+
+    int numFiles = 4;
+    appendFiles(newFiles(numFiles, 16 * 1024 * 1024), table);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().planWith(executorService).planFiles()) {
+      Assert.assertEquals(
+          "Should not prefetch manifests before iterating", 0, cache.estimatedCacheSize());
+
+      Assert.assertEquals("Should get 1 tasks per file", numFiles, Iterables.size(tasks));
+      Assert.assertEquals(
+          "All manifest files should be cached", numFiles, cache.estimatedCacheSize());
+      Assert.assertEquals(
+          "Manifest files should be loaded once", numFiles, cache.stats().loadCount());
+      Assert.assertTrue(
+          "Readers should open prefetched manifests from the cache",
+          cache.stats().hitCount() >= numFiles);
+    } finally {
+      executorService.shutdown();
+      ManifestFiles.dropCache(table.io());
+    }
+  }
+
+  @Test
+  public void testPlanWithDiskCache() throws Exception {
+    String diskDir = temp.newFolder().getAbsolutePath();
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL, HadoopFileIO.class.getName(),
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED, "true",
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_DIR, diskDir);
+    Table table = createTable(properties);
+
+    int numFiles = 4;
+    List<DataFile> files16Mb = newFiles(numFiles, 16 * 1024 * 1024);
+    appendFiles(files16Mb, table);
+
+    TableScan scan1 = table.newScan();
+    Assert.assertEquals("Should get 1 tasks per file", numFiles, Iterables.size(scan1.planFiles()));
+    DiskContentCache diskCache = ManifestFiles.diskCache(table.io());
+    Assert.assertEquals(diskDir, diskCache.directory());
+    Assert.assertEquals(
+        "All manifest files should be stored on disk", numFiles, diskCache.estimatedCacheSize());
+    Assert.assertEquals("No manifest should be read from disk", 0, diskCache.hitCount());
+
+    // drop the in-memory cache, manifests should now be served by the on-disk tier
+    ManifestFiles.dropCache(table.io());
+    ContentCache cache = ManifestFiles.contentCache(table.io());
+    Assert.assertSame(diskCache, cache.secondTier());
+
+    TableScan scan2 = table.newScan();
+    Assert.assertEquals("Should get 1 tasks per file", numFiles, Iterables.size(scan2.planFiles()));
+    Assert.assertEquals(
+        "All manifest files should be read from disk", numFiles, diskCache.hitCount());
+    Assert.assertEquals(
+        "All manifest files should be cached in memory", numFiles, cache.estimatedCacheSize());
+
+    ManifestFiles.dropCache(table.io());
+  }
+
+  @Test
+  public void testDiskCacheSharedByDirectory() throws Exception {
+    String diskDir = temp.newFolder().getAbsolutePath();
+    FileIO io1 = diskCacheHadoopFileIO(diskDir, 1024 * 1024);
+    FileIO io2 = diskCacheHadoopFileIO(diskDir + "/.", 2 * 1024 * 1024);
+
+    DiskContentCache diskCache = ManifestFiles.diskCache(io1);
+    Assert.assertEquals(1024 * 1024, diskCache.maxTotalBytes());
+
+    // the directory is shared, the later FileIO's limit is ignored with a warning
+    Assert.assertSame(diskCache, ManifestFiles.diskCache(io2));
+    Assert.assertEquals(1024 * 1024, diskCache.maxTotalBytes());
+  }
+
   @Test
   public void testUniqueCache() throws Exception {
     Map<String, String> properties1 =
@@ -226,6 +319,20 @@ public class TestManifestCaching {
     return io;
   }
 
+  private FileIO diskCacheHadoopFileIO(String diskDir, long maxTotalBytes) {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED,
+            "true",
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_DIR,
+            diskDir,
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES,
+            String.valueOf(maxTotalBytes));
+    HadoopFileIO io = new HadoopFileIO(new Configuration());
+    io.initialize(properties);
+    return io;
+  }
+
   private Table createTable(Map<String, String> properties) throws Exception {
     TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
     return hadoopCatalog(properties)
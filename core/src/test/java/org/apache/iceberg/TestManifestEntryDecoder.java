@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.avro.AvroIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestEntryDecoder extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  private static final DataFile FILE_WITH_STATS =
+      DataFiles.builder(SPEC)
+          .withPath("/path/to/data-with-stats.parquet")
+          .withFileSizeInBytes(4096)
+          .withPartitionPath("data_bucket=3")
+          .withMetrics(
+              new Metrics(
+                  100L,
+                  ImmutableMap.of(3, 400L, 4, 1200L), // sizes
+                  ImmutableMap.of(3, 100L, 4, 100L), // value counts
+                  ImmutableMap.of(3, 0L, 4, 12L), // null value counts
+                  ImmutableMap.of(), // nan value counts
+                  ImmutableMap.of(
+                      3, Conversions.toByteBuffer(Types.IntegerType.get(), 1),
+                      4, Conversions.toByteBuffer(Types.StringType.get(), "a")), // lower bounds
+                  ImmutableMap.of(
+                      3, Conversions.toByteBuffer(Types.IntegerType.get(), 100),
+                      4, Conversions.toByteBuffer(Types.StringType.get(), "z")))) // upper bounds
+          .withSplitOffsets(ImmutableList.of(4L, 1024L, 2048L))
+          .build();
+
+  public TestManifestEntryDecoder(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testMatchesGenericReader() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_WITH_STATS, FILE_B);
+    Types.StructType fileType = DataFile.getType(SPEC.partitionType());
+
+    List<ManifestEntry<DataFile>> expected = readEntries(manifest, fileType, false);
+    List<ManifestEntry<DataFile>> actual = readEntries(manifest, fileType, true);
+
+    Assert.assertEquals("Should read all entries", 3, actual.size());
+    for (int i = 0; i < expected.size(); i += 1) {
+      assertEntryEquals(expected.get(i), actual.get(i));
+      Assert.assertEquals("Row position", (long) i, (long) actual.get(i).file().pos());
+    }
+  }
+
+  @Test
+  public void testMatchesGenericReaderForDeleteFiles() throws IOException {
+    Assume.assumeTrue("Delete files are only supported in v2", formatVersion > 1);
+    ManifestFile manifest = writeDeleteManifest(formatVersion, 1000L, FILE_A2_DELETES);
+    Types.StructType fileType = DataFile.getType(SPEC.partitionType());
+
+    List<ManifestEntry<DeleteFile>> expected = readEntries(manifest, fileType, false);
+    List<ManifestEntry<DeleteFile>> actual = readEntries(manifest, fileType, true);
+
+    Assert.assertEquals("Should read all entries", 1, actual.size());
+    assertEntryEquals(expected.get(0), actual.get(0));
+    Assert.assertEquals(
+        "Should read equality field IDs",
+        ImmutableList.of(1),
+        actual.get(0).file().equalityFieldIds());
+  }
+
+  @Test
+  public void testProjection() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_WITH_STATS);
+    Types.StructType projection =
+        Types.StructType.of(DataFile.FILE_PATH, DataFile.RECORD_COUNT, DataFile.UPPER_BOUNDS);
+
+    List<ManifestEntry<DataFile>> expected = readEntries(manifest, projection, false);
+    List<ManifestEntry<DataFile>> actual = readEntries(manifest, projection, true);
+
+    Assert.assertEquals("Should read all entries", 2, actual.size());
+    for (int i = 0; i < expected.size(); i += 1) {
+      assertEntryEquals(expected.get(i), actual.get(i));
+    }
+
+    DataFile file = actual.get(1).file();
+    Assert.assertEquals("Should read path", FILE_WITH_STATS.path(), file.path());
+    Assert.assertEquals(
+        "Should read upper bounds", FILE_WITH_STATS.upperBounds(), file.upperBounds());
+    Assert.assertNull("Should not read value counts", file.valueCounts());
+    Assert.assertNull("Should not read split offsets", file.splitOffsets());
+  }
+
+  @Test
+  public void testManifestReader() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_WITH_STATS);
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      List<DataFile> files = Lists.newArrayList();
+      for (DataFile file : reader) {
+        files.add(file.copy());
+      }
+
+      Assert.assertEquals("Should read all files", 2, files.size());
+      DataFile file = files.get(1);
+      Assert.assertEquals("Path", FILE_WITH_STATS.path(), file.path());
+      Assert.assertEquals("Format", FILE_WITH_STATS.format(), file.format());
+      Assert.assertEquals("Partition", FILE_WITH_STATS.partition(), file.partition());
+      Assert.assertEquals("Record count", FILE_WITH_STATS.recordCount(), file.recordCount());
+      Assert.assertEquals("Column sizes", FILE_WITH_STATS.columnSizes(), file.columnSizes());
+      Assert.assertEquals("Value counts", FILE_WITH_STATS.valueCounts(), file.valueCounts());
+      Assert.assertEquals("Lower bounds", FILE_WITH_STATS.lowerBounds(), file.lowerBounds());
+      Assert.assertEquals("Upper bounds", FILE_WITH_STATS.upperBounds(), file.upperBounds());
+      Assert.assertEquals("Split offsets", FILE_WITH_STATS.splitOffsets(), file.splitOffsets());
+      Assert.assertEquals("Spec ID", table.spec().specId(), file.specId());
+    }
+  }
+
+  private <F extends ContentFile<F>> List<ManifestEntry<F>> readEntries(
+      ManifestFile manifest, Types.StructType fileProjection, boolean specialized)
+      throws IOException {
+    String fileClass =
+        manifest.content() == ManifestContent.DATA
+            ? GenericDataFile.class.getName()
+            : GenericDeleteFile.class.getName();
+
+    List<Types.NestedField> fields = Lists.newArrayList(fileProjection.fields());
+    fields.add(MetadataColumns.ROW_POSITION);
+
+    Avro.ReadBuilder builder =
+        Avro.read(FILE_IO.newInputFile(manifest.path()))
+            .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
+            .rename("manifest_entry", GenericManifestEntry.class.getName())
+            .rename("partition", PartitionData.class.getName())
+            .rename("r102", PartitionData.class.getName())
+            .rename("data_file", fileClass)
+            .rename("r2", fileClass)
+            .classLoader(GenericManifestEntry.class.getClassLoader())
+            .reuseContainers();
+
+    if (specialized) {
+      builder.createReaderFunc(
+          readSchema ->
+              new ManifestEntryDecoder<F>(readSchema, GenericManifestEntry.class.getClassLoader()));
+    }
+
+    List<ManifestEntry<F>> entries = Lists.newArrayList();
+    try (AvroIterable<ManifestEntry<F>> reader = builder.build()) {
+      for (ManifestEntry<F> entry : reader) {
+        entries.add(entry.copy());
+      }
+    }
+
+    return entries;
+  }
+
+  private static void assertEntryEquals(ManifestEntry<?> expected, ManifestEntry<?> actual) {
+    Assert.assertEquals("Status", expected.status(), actual.status());
+    Assert.assertEquals("Snapshot ID", expected.snapshotId(), actual.snapshotId());
+    Assert.assertEquals(
+        "Data sequence number", expected.dataSequenceNumber(), actual.dataSequenceNumber());
+    Assert.assertEquals(
+        "File sequence number", expected.fileSequenceNumber(), actual.fileSequenceNumber());
+
+    ContentFile<?> expectedFile = expected.file();
+    ContentFile<?> actualFile = actual.file();
+    Assert.assertEquals("File class", expectedFile.getClass(), actualFile.getClass());
+    Assert.assertEquals("Position", expectedFile.pos(), actualFile.pos());
+    Assert.assertEquals("Spec ID", expectedFile.specId(), actualFile.specId());
+    Assert.assertEquals("Content", expectedFile.content(), actualFile.content());
+    Assert.assertEquals("Path", expectedFile.path(), actualFile.path());
+    Assert.assertEquals("Format", expectedFile.format(), actualFile.format());
+    Assert.assertEquals("Partition", expectedFile.partition(), actualFile.partition());
+    Assert.assertEquals("Record count", expectedFile.recordCount(), actualFile.recordCount());
+    Assert.assertEquals("File size", expectedFile.fileSizeInBytes(), actualFile.fileSizeInBytes());
+    Assert.assertEquals("Column sizes", expectedFile.columnSizes(), actualFile.columnSizes());
+    Assert.assertEquals("Value counts", expectedFile.valueCounts(), actualFile.valueCounts());
+    Assert.assertEquals(
+        "Null value counts", expectedFile.nullValueCounts(), actualFile.nullValueCounts());
+    Assert.assertEquals(
+        "NaN value counts", expectedFile.nanValueCounts(), actualFile.nanValueCounts());
+    Assert.assertEquals("Lower bounds", expectedFile.lowerBounds(), actualFile.lowerBounds());
+    Assert.assertEquals("Upper bounds", expectedFile.upperBounds(), actualFile.upperBounds());
+    Assert.assertEquals("Key metadata", expectedFile.keyMetadata(), actualFile.keyMetadata());
+    Assert.assertEquals("Split offsets", expectedFile.splitOffsets(), actualFile.splitOffsets());
+    Assert.assertEquals(
+        "Equality field IDs", expectedFile.equalityFieldIds(), actualFile.equalityFieldIds());
+    Assert.assertEquals("Sort order ID", expectedFile.sortOrderId(), actualFile.sortOrderId());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestManifestPrefetcher extends TableTestBase {
+  public TestManifestPrefetcher() {
+    super(2 /* table format version */);
+  }
+
+  @Test
+  public void testPrefetchedManifests() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    long totalLength = manifests.stream().mapToLong(ManifestFile::length).sum();
+
+    try (ManifestPrefetcher prefetcher =
+        new ManifestPrefetcher(
+            table.io(), Long.MAX_VALUE, MoreExecutors.newDirectExecutorService())) {
+      prefetcher.prefetch(manifests);
+      Assertions.assertThat(prefetcher.bytesInFlight()).isEqualTo(totalLength);
+
+      for (ManifestFile manifest : manifests) {
+        InputFile prefetched = prefetcher.take(manifest);
+        Assertions.assertThat(prefetched).isNotNull();
+        Assertions.assertThat(prefetched.getLength()).isEqualTo(manifest.length());
+        Assertions.assertThat(paths(ManifestFiles.read(manifest, prefetched, table.specs())))
+            .isEqualTo(paths(ManifestFiles.read(manifest, table.io(), table.specs())));
+      }
+
+      Assertions.assertThat(prefetcher.bytesInFlight()).isZero();
+      Assertions.assertThat(prefetcher.take(manifests.get(0)))
+          .as("Manifests can only be taken once")
+          .isNull();
+    }
+  }
+
+  @Test
+  public void testBytesInFlightLimit() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    long maxLength = manifests.stream().mapToLong(ManifestFile::length).max().getAsLong();
+
+    try (ManifestPrefetcher prefetcher =
+        new ManifestPrefetcher(table.io(), maxLength, MoreExecutors.newDirectExecutorService())) {
+      prefetcher.prefetch(manifests);
+      Assertions.assertThat(prefetcher.bytesInFlight()).isEqualTo(manifests.get(0).length());
+
+      Assertions.assertThat(prefetcher.take(manifests.get(1)))
+          .as("Manifests that are not prefetched yet should be read directly")
+          .isNull();
+
+      Assertions.assertThat(prefetcher.take(manifests.get(0))).isNotNull();
+      Assertions.assertThat(prefetcher.bytesInFlight())
+          .as("Should skip the manifest that was already read and prefetch the next one")
+          .isEqualTo(manifests.get(2).length());
+
+      Assertions.assertThat(prefetcher.take(manifests.get(2))).isNotNull();
+      Assertions.assertThat(prefetcher.bytesInFlight()).isZero();
+    }
+  }
+
+  @Test
+  public void testPlanWithPrefetching() throws IOException {
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_PREFETCH_MAX_BYTES_IN_FLIGHT, String.valueOf(1024 * 1024))
+        .commit();
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().planWith(executorService).planFiles()) {
+      Set<CharSequence> paths = Sets.newHashSet();
+      tasks.forEach(task -> paths.add(task.file().path().toString()));
+      Assertions.assertThat(paths)
+          .containsExactlyInAnyOrder(
+              FILE_A.path().toString(), FILE_B.path().toString(), FILE_C.path().toString());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  private static Set<String> paths(ManifestReader<DataFile> reader) throws IOException {
+    Set<String> paths = Sets.newHashSet();
+    try (ManifestReader<DataFile> closeable = reader) {
+      closeable.forEach(file -> paths.add(file.path().toString()));
+    }
+
+    return paths;
+  }
+}
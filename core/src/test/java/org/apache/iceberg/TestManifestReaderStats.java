@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Map;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
@@ -211,6 +212,57 @@ public class TestManifestReaderStats extends TableTestBase {
     }
   }
 
+  @Test
+  public void testReadEntriesKeepsStatsForFilterColumnsOnly() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.equal("id", 3))
+            .keepStatsForFilterColumnsOnly(true)) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+
+      // all stats are for the id column, which is referenced by the filter
+      assertFullStats(dataFile);
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.equal("data", "a"))
+            .keepStatsForFilterColumnsOnly(true)) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+
+      Assert.assertEquals(3, dataFile.recordCount());
+      Assert.assertEquals(ImmutableMap.of(), dataFile.valueCounts());
+      Assert.assertEquals(ImmutableMap.of(), dataFile.nullValueCounts());
+      Assert.assertEquals(ImmutableMap.of(), dataFile.nanValueCounts());
+      Assert.assertEquals(ImmutableMap.of(), dataFile.lowerBounds());
+      Assert.assertEquals(ImmutableMap.of(), dataFile.upperBounds());
+    }
+  }
+
+  @Test
+  public void testReadEntriesReturnsUnmodifiableStats() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE);
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+
+      AssertHelpers.assertThrows(
+          "Should not modify the value counts of the file",
+          UnsupportedOperationException.class,
+          () -> dataFile.valueCounts().put(3, 0L));
+      AssertHelpers.assertThrows(
+          "Should not modify the lower bounds of the file",
+          UnsupportedOperationException.class,
+          () -> dataFile.lowerBounds().clear());
+      AssertHelpers.assertThrows(
+          "Should not modify the bytes of the upper bounds",
+          ReadOnlyBufferException.class,
+          () -> dataFile.upperBounds().get(3).put(0, (byte) 0));
+
+      assertFullStats(dataFile);
+    }
+  }
+
   private void assertFullStats(DataFile dataFile) {
     Assert.assertEquals(3, dataFile.recordCount());
     Assert.assertNull(dataFile.columnSizes());
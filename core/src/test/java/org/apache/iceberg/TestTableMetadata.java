@@ -31,6 +31,7 @@ import static org.apache.iceberg.TableMetadataParser.SNAPSHOTS;
 import static org.apache.iceberg.TestHelpers.assertSameSchemaList;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -1057,6 +1058,76 @@ public class TestTableMetadata {
         () -> TableMetadataParser.fromJson(unsupported));
   }
 
+  @Test
+  public void testStreamingParserMatchesTreeParser() throws Exception {
+    for (String fileName :
+        ImmutableList.of(
+            "TableMetadataV1Valid.json",
+            "TableMetadataV2Valid.json",
+            "TableMetadataStatisticsFiles.json")) {
+      String json = readTableMetadataInputFile(fileName);
+      TableMetadata streamed = TableMetadataParser.fromJson("s3://bucket/metadata.json", json);
+      TableMetadata tree =
+          TableMetadataParser.fromJson(
+              "s3://bucket/metadata.json", JsonUtil.mapper().readValue(json, JsonNode.class));
+
+      Assert.assertEquals(
+          "Metadata location should match",
+          tree.metadataFileLocation(),
+          streamed.metadataFileLocation());
+      Assert.assertEquals("Snapshots should match", tree.snapshots(), streamed.snapshots());
+      Assert.assertEquals("Snapshot log should match", tree.snapshotLog(), streamed.snapshotLog());
+      Assert.assertEquals(
+          "Metadata log should match", tree.previousFiles(), streamed.previousFiles());
+      Assert.assertEquals(
+          "Metadata JSON should match",
+          TableMetadataParser.toJson(tree),
+          TableMetadataParser.toJson(streamed));
+    }
+  }
+
+  @Test
+  public void testStreamingParserSnapshotFields() {
+    String json =
+        "{\"format-version\":1,\"table-uuid\":\"d20125c8-7284-442c-9aea-15fee620737c\","
+            + "\"location\":\"s3://bucket/test/location\",\"last-updated-ms\":1602638573874,"
+            + "\"last-column-id\":1,\"schema\":{\"type\":\"struct\",\"fields\":"
+            + "[{\"id\":1,\"name\":\"x\",\"required\":true,\"type\":\"long\"}]},"
+            + "\"partition-spec\":[],\"properties\":{},\"current-snapshot-id\":1,"
+            + "\"snapshots\":[{\"snapshot-id\":1,\"timestamp-ms\":1515100955770,"
+            + "\"summary\":{\"operation\":\"append\",\"added-data-files\":\"1\"},"
+            + "\"manifests\":[\"s3://bucket/manifest.avro\"],\"schema-id\":null,"
+            + "\"unknown-field\":{\"nested\":[1,2,3]}}],"
+            + "\"snapshot-log\":null,\"metadata-log\":[{\"timestamp-ms\":1515100955770,"
+            + "\"metadata-file\":\"s3://bucket/v1.metadata.json\"}]}";
+
+    TableMetadata metadata = TableMetadataParser.fromJson(json);
+    Snapshot snapshot = metadata.currentSnapshot();
+    Assert.assertEquals("Should read the snapshot ID", 1L, snapshot.snapshotId());
+    Assert.assertEquals("Should read the operation", DataOperations.APPEND, snapshot.operation());
+    Assert.assertEquals(
+        "Should read the summary without the operation",
+        ImmutableMap.of("added-data-files", "1"),
+        snapshot.summary());
+    Assert.assertNull("Should read a null schema ID", snapshot.schemaId());
+    Assert.assertNull("Should not have a manifest list", snapshot.manifestListLocation());
+    Assert.assertEquals(
+        "Should read embedded manifests",
+        ImmutableList.of("s3://bucket/manifest.avro"),
+        Lists.transform(snapshot.allManifests(ops.io()), ManifestFile::path));
+    Assert.assertEquals("Should read an empty snapshot log", 0, metadata.snapshotLog().size());
+    Assert.assertEquals(
+        "Should read the metadata log",
+        ImmutableList.of(new MetadataLogEntry(1515100955770L, "s3://bucket/v1.metadata.json")),
+        metadata.previousFiles());
+
+    AssertHelpers.assertThrows(
+        "Should reject metadata without snapshots",
+        IllegalArgumentException.class,
+        "Cannot parse missing field: snapshots",
+        () -> TableMetadataParser.fromJson(json.replace("\"snapshots\"", "\"other-snapshots\"")));
+  }
+
   private String readTableMetadataInputFile(String fileName) throws Exception {
     Path path = Paths.get(getClass().getClassLoader().getResource(fileName).toURI());
     return String.join("", java.nio.file.Files.readAllLines(path));
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.TestHelpers;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestPositionDeleteIndexCache {
+  private static final String DATA_LOCATION = "s3://bucket/data/file_a.parquet";
+  private static final DeleteFile DELETES_1 = positionDeletes("s3://bucket/data/deletes-1.parquet");
+  private static final DeleteFile DELETES_2 = positionDeletes("s3://bucket/data/deletes-2.parquet");
+
+  @Test
+  public void testLoadOncePerDataFileAndDeletes() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+    Supplier<PositionDeleteIndex> loader = countingLoader(loads, 3L, 7L);
+
+    PositionDeleteIndex first = cache.get(DATA_LOCATION, ImmutableList.of(DELETES_1), loader);
+    PositionDeleteIndex second = cache.get(DATA_LOCATION, ImmutableList.of(DELETES_1), loader);
+    Assertions.assertThat(second).isSameAs(first);
+    Assertions.assertThat(loads.get()).isEqualTo(1);
+    Assertions.assertThat(first.isDeleted(3L)).isTrue();
+    Assertions.assertThat(first.isDeleted(4L)).isFalse();
+
+    // the order of delete files does not matter
+    List<DeleteFile> both = ImmutableList.of(DELETES_1, DELETES_2);
+    PositionDeleteIndex third = cache.get(DATA_LOCATION, both, loader);
+    PositionDeleteIndex fourth =
+        cache.get(DATA_LOCATION, ImmutableList.of(DELETES_2, DELETES_1), loader);
+    Assertions.assertThat(third).isNotSameAs(first).isSameAs(fourth);
+    Assertions.assertThat(loads.get()).isEqualTo(2);
+
+    cache.get("s3://bucket/data/file_b.parquet", ImmutableList.of(DELETES_1), loader);
+    Assertions.assertThat(loads.get()).isEqualTo(3);
+    Assertions.assertThat(cache.estimatedCacheSize()).isEqualTo(3);
+  }
+
+  @Test
+  public void testCachedIndexIsReadOnly() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1024 * 1024);
+    PositionDeleteIndex index =
+        cache.get(
+            DATA_LOCATION, ImmutableList.of(DELETES_1), countingLoader(new AtomicInteger(), 1L));
+
+    Assertions.assertThatThrownBy(() -> index.delete(5L))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot modify a cached position delete index");
+    Assertions.assertThatThrownBy(() -> index.delete(5L, 10L))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot modify a cached position delete index");
+  }
+
+  @Test
+  public void testCachedIndexIsSerializable() throws IOException, ClassNotFoundException {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1024 * 1024);
+    PositionDeleteIndex index =
+        cache.get(
+            DATA_LOCATION,
+            ImmutableList.of(DELETES_1),
+            countingLoader(new AtomicInteger(), 3L, 7L));
+
+    PositionDeleteIndex copy = TestHelpers.roundTripSerialize(index);
+    Assertions.assertThat(copy.isDeleted(3L)).isTrue();
+    Assertions.assertThat(copy.isDeleted(4L)).isFalse();
+    Assertions.assertThat(copy.isDeleted(7L)).isTrue();
+    Assertions.assertThatThrownBy(() -> copy.delete(5L))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot modify a cached position delete index");
+  }
+
+  @Test
+  public void testDisabledCache() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(0);
+    AtomicInteger loads = new AtomicInteger(0);
+    Supplier<PositionDeleteIndex> loader = countingLoader(loads, 3L);
+
+    Assertions.assertThat(cache.enabled()).isFalse();
+    PositionDeleteIndex first = cache.get(DATA_LOCATION, ImmutableList.of(DELETES_1), loader);
+    PositionDeleteIndex second = cache.get(DATA_LOCATION, ImmutableList.of(DELETES_1), loader);
+    Assertions.assertThat(second).isNotSameAs(first);
+    Assertions.assertThat(loads.get()).isEqualTo(2);
+  }
+
+  private static Supplier<PositionDeleteIndex> countingLoader(
+      AtomicInteger loads, Long... positions) {
+    return () -> {
+      loads.incrementAndGet();
+      return Deletes.toPositionIndex(
+          CloseableIterable.withNoopClose(ImmutableList.copyOf(positions)));
+    };
+  }
+
+  private static DeleteFile positionDeletes(String location) {
+    return FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+        .ofPositionDeletes()
+        .withPath(location)
+        .withFileSizeInBytes(100)
+        .withRecordCount(2)
+        .build();
+  }
+}
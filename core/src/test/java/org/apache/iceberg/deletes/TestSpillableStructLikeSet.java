@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestSpillableStructLikeSet {
+  private static final Types.StructType KEY_TYPE =
+      Types.StructType.of(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testInMemoryOnly() throws IOException {
+    File spillDir = temp.newFolder();
+    try (SpillableStructLikeSet set = new SpillableStructLikeSet(KEY_TYPE, 100, spillDir)) {
+      for (long id = 0; id < 10; id += 1) {
+        set.add(key(id, "data-" + id));
+      }
+
+      set.finish();
+
+      Assertions.assertThat(set.spillCount()).isEqualTo(0);
+      Assertions.assertThat(set.spilledBytes()).isEqualTo(0);
+      Assertions.assertThat(set.contains(key(3, "data-3"))).isTrue();
+      Assertions.assertThat(set.contains(key(3, "data-4"))).isFalse();
+      Assertions.assertThat(spillDir.list()).isEmpty();
+    }
+  }
+
+  @Test
+  public void testSpilledKeys() throws IOException {
+    File spillDir = temp.newFolder();
+    try (SpillableStructLikeSet set = new SpillableStructLikeSet(KEY_TYPE, 100, 64, spillDir)) {
+      // add keys in reverse order with duplicates so that runs must be sorted and merged
+      for (long id = 999; id >= 0; id -= 1) {
+        set.add(key(id, id % 7 == 0 ? null : "data-" + id));
+        if (id % 5 == 0) {
+          set.add(key(id, id % 7 == 0 ? null : "data-" + id));
+        }
+      }
+
+      set.finish();
+
+      // the buffer for a run uses 64 keys of the budget
+      Assertions.assertThat(set.inMemorySize()).isEqualTo(36);
+      Assertions.assertThat(set.spillCount()).isGreaterThan(1);
+      Assertions.assertThat(set.spilledBytes()).isGreaterThan(0);
+      Assertions.assertThat(set.spilledKeys()).isGreaterThanOrEqualTo(964);
+      Assertions.assertThat(spillDir.list())
+          .as("Runs should be deleted and the merged file unlinked")
+          .isEmpty();
+
+      for (long id = 0; id < 1000; id += 1) {
+        String data = id % 7 == 0 ? null : "data-" + id;
+        Assertions.assertThat(set.contains(key(id, data))).as("Should contain %s", id).isTrue();
+        Assertions.assertThat(set.contains(key(id, "other"))).isFalse();
+      }
+
+      Assertions.assertThat(set.contains(key(-1, "data--1"))).isFalse();
+      Assertions.assertThat(set.contains(key(1000, "data-1000"))).isFalse();
+    }
+  }
+
+  @Test
+  public void testToEqualitySet() throws IOException {
+    List<StructLike> keys = Lists.newArrayList();
+    for (long id = 0; id < 50; id += 1) {
+      keys.add(key(id, "data-" + id));
+    }
+
+    try (SpillableStructLikeSet set =
+        Deletes.toEqualitySet(
+            CloseableIterable.withNoopClose(keys), KEY_TYPE, 10, temp.newFolder())) {
+      // half of the budget is used to buffer runs of 5 keys
+      Assertions.assertThat(set.inMemorySize()).isEqualTo(5);
+      Assertions.assertThat(set.spillCount()).isEqualTo(9);
+      for (StructLike key : keys) {
+        Assertions.assertThat(set.contains(key)).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void testAddAfterFinish() throws IOException {
+    try (SpillableStructLikeSet set = new SpillableStructLikeSet(KEY_TYPE, 1, temp.newFolder())) {
+      set.finish();
+      Assertions.assertThatThrownBy(() -> set.add(key(1, "a")))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Cannot add keys after the set is finished");
+    }
+  }
+
+  private static Record key(long id, String data) {
+    return GenericRecord.create(KEY_TYPE).copy("id", id, "data", data);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestContentCache {
+  private static final String LOCATION = "s3://bucket/metadata/snap-1.avro";
+
+  @Test
+  public void testOffHeapEntries() throws IOException, InterruptedException {
+    byte[] content = randomBytes(1000);
+    InMemoryFileIO io = new InMemoryFileIO();
+    io.addFile(LOCATION, content);
+
+    ContentCache cache = new ContentCache(0, 1024 * 1024, 1024 * 1024, null, true);
+    Assertions.assertThat(cache.offHeap()).isTrue();
+    Assertions.assertThat(cache.offHeapBytes()).isEqualTo(0);
+
+    InputFile inputFile = cache.tryCache(io, LOCATION, content.length);
+    try (SeekableInputStream stream = inputFile.newStream()) {
+      Assertions.assertThat(readAll(stream, content.length)).isEqualTo(content);
+    }
+
+    Assertions.assertThat(cache.estimatedCacheSize()).isEqualTo(1);
+    Assertions.assertThat(cache.offHeapBytes()).isEqualTo(content.length);
+
+    // an open stream keeps the evicted entry alive until it is closed
+    SeekableInputStream openStream = inputFile.newStream();
+    cache.invalidateAll();
+    cache.cleanUp();
+    openStream.seek(500);
+    Assertions.assertThat(openStream.read()).isEqualTo(content[500] & 0xFF);
+    Assertions.assertThat(cache.offHeapBytes()).isEqualTo(content.length);
+
+    openStream.close();
+    waitUntil(() -> cache.offHeapBytes() == 0);
+    Assertions.assertThat(cache.offHeapBytes()).isEqualTo(0);
+    Assertions.assertThatThrownBy(openStream::read)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Stream is closed");
+  }
+
+  @Test
+  public void testHeapEntries() throws IOException {
+    byte[] content = randomBytes(1000);
+    InMemoryFileIO io = new InMemoryFileIO();
+    io.addFile(LOCATION, content);
+
+    ContentCache cache = new ContentCache(0, 1024 * 1024, 1024 * 1024);
+    InputFile inputFile = cache.tryCache(io, LOCATION, content.length);
+    try (SeekableInputStream stream = inputFile.newStream()) {
+      Assertions.assertThat(stream).isInstanceOf(ByteBufferInputStream.class);
+      Assertions.assertThat(readAll(stream, content.length)).isEqualTo(content);
+    }
+
+    Assertions.assertThat(cache.offHeap()).isFalse();
+    Assertions.assertThat(cache.offHeapBytes()).isEqualTo(0);
+  }
+
+  private static byte[] readAll(SeekableInputStream stream, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    IOUtil.readFully(stream, bytes, 0, length);
+    Assertions.assertThat(stream.read()).isEqualTo(-1);
+    return bytes;
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
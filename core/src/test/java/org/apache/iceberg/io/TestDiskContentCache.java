@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestDiskContentCache {
+  private static final String LOCATION = "s3://bucket/metadata/snap-1.avro";
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    DiskContentCache cache = new DiskContentCache(temp.newFolder().getAbsolutePath(), 1024);
+    byte[] content = randomBytes(100);
+
+    Assertions.assertThat(cache.get(LOCATION, content.length)).isNull();
+    cache.put(LOCATION, content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    Assertions.assertThat(toBytes(cache.get(LOCATION, content.length))).isEqualTo(content);
+    Assertions.assertThat(cache.get(LOCATION, content.length + 1)).isNull();
+    Assertions.assertThat(cache.get("s3://bucket/other.avro", content.length)).isNull();
+    Assertions.assertThat(cache.hitCount()).isEqualTo(1);
+    Assertions.assertThat(cache.missCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void testMultipleBuffers() throws IOException {
+    DiskContentCache cache = new DiskContentCache(temp.newFolder().getAbsolutePath(), 1024);
+    byte[] content = randomBytes(100);
+    List<ByteBuffer> buffers =
+        ImmutableList.of(ByteBuffer.wrap(content, 0, 60).slice(), ByteBuffer.wrap(content, 60, 40));
+
+    cache.put(LOCATION, content.length, buffers);
+
+    Assertions.assertThat(toBytes(cache.get(LOCATION, content.length))).isEqualTo(content);
+    Assertions.assertThat(buffers.get(0).remaining()).isEqualTo(60);
+    Assertions.assertThat(buffers.get(1).remaining()).isEqualTo(40);
+  }
+
+  @Test
+  public void testPersistAcrossInstances() throws IOException {
+    String dir = temp.newFolder().getAbsolutePath();
+    byte[] content = randomBytes(100);
+    new DiskContentCache(dir, 1024)
+        .put(LOCATION, content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    DiskContentCache reopened = new DiskContentCache(dir, 1024);
+    Assertions.assertThat(reopened.estimatedCacheSize()).isEqualTo(1);
+    Assertions.assertThat(toBytes(reopened.get(LOCATION, content.length))).isEqualTo(content);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() throws IOException {
+    DiskContentCache cache = new DiskContentCache(temp.newFolder().getAbsolutePath(), 350);
+    byte[] content = randomBytes(100);
+
+    cache.put("file-1", content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+    cache.put("file-2", content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+    Assertions.assertThat(cache.get("file-1", content.length)).isNotNull();
+    cache.put("file-3", content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    Assertions.assertThat(cache.evictionCount()).isEqualTo(1);
+    Assertions.assertThat(cache.totalBytes()).isLessThanOrEqualTo(350);
+    Assertions.assertThat(cache.get("file-1", content.length)).isNotNull();
+    Assertions.assertThat(cache.get("file-2", content.length)).isNull();
+    Assertions.assertThat(cache.get("file-3", content.length)).isNotNull();
+  }
+
+  @Test
+  public void testSkipContentLargerThanCache() throws IOException {
+    File dir = temp.newFolder();
+    DiskContentCache cache = new DiskContentCache(dir.getAbsolutePath(), 50);
+    byte[] content = randomBytes(100);
+
+    cache.put(LOCATION, content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    Assertions.assertThat(cache.estimatedCacheSize()).isEqualTo(0);
+    Assertions.assertThat(dir.listFiles()).isEmpty();
+  }
+
+  @Test
+  public void testCorruptedEntryIsRemoved() throws IOException {
+    File dir = temp.newFolder();
+    DiskContentCache cache = new DiskContentCache(dir.getAbsolutePath(), 1024);
+    byte[] content = randomBytes(100);
+    cache.put(LOCATION, content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    File[] files = dir.listFiles();
+    Assertions.assertThat(files).hasSize(1);
+    try (RandomAccessFile file = new RandomAccessFile(files[0], "rw")) {
+      // flip a byte in the content
+      long pos = file.length() - Long.BYTES - 1;
+      file.seek(pos);
+      int value = file.read();
+      file.seek(pos);
+      file.write(value ^ 0xFF);
+    }
+
+    Assertions.assertThat(cache.get(LOCATION, content.length)).isNull();
+    Assertions.assertThat(cache.estimatedCacheSize()).isEqualTo(0);
+    Assertions.assertThat(dir.listFiles()).isEmpty();
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+
+  private static byte[] toBytes(List<ByteBuffer> buffers) {
+    int length = buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+    ByteBuffer result = ByteBuffer.allocate(length);
+    buffers.forEach(buffer -> result.put(buffer.duplicate()));
+    return result.array();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestTargetFileSizeTracker {
+  private static final long TARGET_SIZE = 128L * 1024 * 1024;
+
+  @Test
+  public void testSmallTargetChecksEveryThousandRows() {
+    TargetFileSizeTracker tracker = new TargetFileSizeTracker(4L);
+    List<Long> checkedRows = Lists.newArrayList();
+
+    for (long rows = 1; rows <= 3000; rows += 1) {
+      long currentRows = rows;
+      boolean roll =
+          tracker.shouldRollToNewFile(
+              currentRows,
+              () -> {
+                checkedRows.add(currentRows);
+                return 2L;
+              });
+      Assertions.assertThat(roll).isFalse();
+    }
+
+    Assertions.assertThat(checkedRows).containsExactly(1000L, 2000L, 3000L);
+  }
+
+  @Test
+  public void testWideRowsRollNearTargetSize() {
+    // 1 MB rows used to overshoot the target by up to 1000 rows
+    SimulatedWriter writer = new SimulatedWriter(1024 * 1024);
+    writer.writeFiles(3);
+
+    for (long fileSize : writer.fileSizes) {
+      Assertions.assertThat(fileSize)
+          .isGreaterThanOrEqualTo(TARGET_SIZE)
+          .isLessThanOrEqualTo(TARGET_SIZE + TargetFileSizeTracker.MIN_CHECK_ROWS * 1024 * 1024);
+    }
+  }
+
+  @Test
+  public void testNarrowRowsCheckLengthRarely() {
+    SimulatedWriter writer = new SimulatedWriter(16);
+    writer.writeFiles(2);
+
+    long rowsPerFile = TARGET_SIZE / 16;
+    for (long fileSize : writer.fileSizes) {
+      Assertions.assertThat(fileSize)
+          .isGreaterThanOrEqualTo(TARGET_SIZE)
+          .isLessThanOrEqualTo(TARGET_SIZE + TargetFileSizeTracker.MIN_CHECK_ROWS * 16);
+    }
+
+    // checking every 1000 rows would need thousands of length calls per file
+    Assertions.assertThat(writer.lengthCalls).isLessThan(2 * rowsPerFile / 1000 / 10);
+  }
+
+  /** Simulates a writer that produces the same number of bytes for every row. */
+  private static class SimulatedWriter {
+    private final long bytesPerRow;
+    private final TargetFileSizeTracker tracker = new TargetFileSizeTracker(TARGET_SIZE);
+    private final List<Long> fileSizes = Lists.newArrayList();
+    private long lengthCalls = 0;
+
+    private SimulatedWriter(long bytesPerRow) {
+      this.bytesPerRow = bytesPerRow;
+    }
+
+    private void writeFiles(int numFiles) {
+      long rows = 0;
+      tracker.newFile();
+      while (fileSizes.size() < numFiles) {
+        rows += 1;
+        long currentRows = rows;
+        boolean roll =
+            tracker.shouldRollToNewFile(
+                currentRows,
+                () -> {
+                  lengthCalls += 1;
+                  return currentRows * bytesPerRow;
+                });
+        if (roll) {
+          fileSizes.add(rows * bytesPerRow);
+          rows = 0;
+          tracker.newFile();
+        }
+      }
+    }
+  }
+}
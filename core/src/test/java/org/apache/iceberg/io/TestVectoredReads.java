@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestVectoredReads {
+  private static final byte[] CONTENT = new byte[10_000];
+
+  static {
+    for (int i = 0; i < CONTENT.length; i += 1) {
+      CONTENT[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void testCombineNearbyRanges() {
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(5000, 100),
+            new FileRange(0, 100),
+            new FileRange(150, 100),
+            new FileRange(1000, 100),
+            new FileRange(220, 10));
+
+    List<VectoredReads.CombinedRange> combined = VectoredReads.combine(ranges, 100, 1000);
+
+    Assertions.assertThat(combined).hasSize(3);
+    Assertions.assertThat(combined.get(0).offset()).isEqualTo(0);
+    Assertions.assertThat(combined.get(0).end()).isEqualTo(250);
+    Assertions.assertThat(combined.get(0).indexes()).containsExactly(1, 2, 4);
+    Assertions.assertThat(combined.get(1).offset()).isEqualTo(1000);
+    Assertions.assertThat(combined.get(1).indexes()).containsExactly(3);
+    Assertions.assertThat(combined.get(2).offset()).isEqualTo(5000);
+    Assertions.assertThat(combined.get(2).indexes()).containsExactly(0);
+  }
+
+  @Test
+  public void testCombinedRangeSizeLimit() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 600), new FileRange(600, 600), new FileRange(1200, 10));
+
+    List<VectoredReads.CombinedRange> combined = VectoredReads.combine(ranges, 100, 1000);
+
+    List<List<Integer>> indexes =
+        combined.stream().map(VectoredReads.CombinedRange::indexes).collect(Collectors.toList());
+    Assertions.assertThat(indexes).containsExactly(ImmutableList.of(0), ImmutableList.of(1, 2));
+  }
+
+  @Test
+  public void testReadVectored() {
+    AtomicInteger requests = new AtomicInteger(0);
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(9000, 1000),
+            new FileRange(10, 20),
+            new FileRange(40, 30),
+            new FileRange(50, 10),
+            new FileRange(5000, 0));
+
+    List<CompletableFuture<ByteBuffer>> results =
+        VectoredReads.readVectored(
+            ranges,
+            (position, buffer, offset, length) -> {
+              requests.incrementAndGet();
+              System.arraycopy(CONTENT, (int) position, buffer, offset, length);
+            },
+            MoreExecutors.newDirectExecutorService(),
+            100,
+            1000);
+
+    Assertions.assertThat(requests.get()).isEqualTo(3);
+    Assertions.assertThat(results).hasSameSizeAs(ranges);
+    for (int i = 0; i < ranges.size(); i += 1) {
+      FileRange range = ranges.get(i);
+      ByteBuffer expected =
+          ByteBuffer.wrap(Arrays.copyOfRange(CONTENT, (int) range.offset(), (int) range.end()));
+      Assertions.assertThat(results.get(i).join()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void testCancelPendingCombinedRead() throws InterruptedException {
+    AtomicInteger requests = new AtomicInteger(0);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      // block the only thread so that the combined reads are queued
+      executorService.submit(
+          () -> {
+            release.await();
+            return null;
+          });
+
+      List<CompletableFuture<ByteBuffer>> results =
+          VectoredReads.readVectored(
+              ImmutableList.of(
+                  new FileRange(0, 10), new FileRange(20, 10), new FileRange(5000, 10)),
+              (position, buffer, offset, length) -> {
+                requests.incrementAndGet();
+                System.arraycopy(CONTENT, (int) position, buffer, offset, length);
+              },
+              executorService,
+              100,
+              1000);
+
+      // cancel all ranges of the first combined read
+      results.get(0).cancel(false);
+      results.get(1).cancel(false);
+      release.countDown();
+
+      Assertions.assertThat(results.get(2).join())
+          .isEqualTo(ByteBuffer.wrap(Arrays.copyOfRange(CONTENT, 5000, 5010)));
+    } finally {
+      executorService.shutdown();
+      executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    Assertions.assertThat(requests.get())
+        .as("Should skip the combined read with only cancelled ranges")
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void testFailedCombinedRead() {
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 10), new FileRange(20, 10));
+
+    List<CompletableFuture<ByteBuffer>> results =
+        VectoredReads.readVectored(
+            ranges,
+            (position, buffer, offset, length) -> {
+              throw new EOFException("Reached the end of stream");
+            },
+            MoreExecutors.newDirectExecutorService(),
+            100,
+            1000);
+
+    for (CompletableFuture<ByteBuffer> result : results) {
+      Assertions.assertThatThrownBy(result::join)
+          .isInstanceOf(CompletionException.class)
+          .hasRootCauseInstanceOf(EOFException.class);
+    }
+  }
+}
@@ -29,8 +29,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.apache.iceberg.io.InMemoryInputFile;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
@@ -98,9 +102,21 @@ public class TestPuffinReader {
     testReadMetricData("v1/sample-metric-data-compressed-zstd.bin", ZSTD);
   }
 
+  @Test
+  public void testReadMetricDataWithRangeReadableStream() throws Exception {
+    RangeReadableInputFile inputFile =
+        new RangeReadableInputFile(readTestResource("v1/sample-metric-data-compressed-zstd.bin"));
+    testReadMetricData(inputFile, ZSTD);
+    assertThat(inputFile.positionalReads()).as("footer should use positional reads").isEqualTo(2);
+  }
+
   private void testReadMetricData(String resourceName, PuffinCompressionCodec expectedCodec)
       throws Exception {
-    InMemoryInputFile inputFile = new InMemoryInputFile(readTestResource(resourceName));
+    testReadMetricData(new InMemoryInputFile(readTestResource(resourceName)), expectedCodec);
+  }
+
+  private void testReadMetricData(InputFile inputFile, PuffinCompressionCodec expectedCodec)
+      throws Exception {
     try (PuffinReader reader = Puffin.read(inputFile).build()) {
       FileMetadata fileMetadata = reader.fileMetadata();
       assertThat(fileMetadata.properties())
@@ -154,4 +170,76 @@ public class TestPuffinReader {
           .isEqualTo(ImmutableMap.of("created-by", "Test 1234"));
     }
   }
+
+  /** A file with streams that count positional reads, like object store streams. */
+  private static class RangeReadableInputFile implements InputFile {
+    private final byte[] contents;
+    private final AtomicInteger positionalReads = new AtomicInteger(0);
+
+    private RangeReadableInputFile(byte[] contents) {
+      this.contents = contents;
+    }
+
+    int positionalReads() {
+      return positionalReads.get();
+    }
+
+    @Override
+    public long getLength() {
+      return contents.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new RangeReadableStream();
+    }
+
+    @Override
+    public String location() {
+      return "memory:range-readable";
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    private class RangeReadableStream extends SeekableInputStream implements RangeReadable {
+      private int pos = 0;
+
+      @Override
+      public long getPos() {
+        return pos;
+      }
+
+      @Override
+      public void seek(long newPos) {
+        this.pos = Math.toIntExact(newPos);
+      }
+
+      @Override
+      public int read() {
+        if (pos >= contents.length) {
+          return -1;
+        }
+
+        int value = contents[pos] & 0xFF;
+        pos += 1;
+        return value;
+      }
+
+      @Override
+      public void readFully(long position, byte[] buffer, int offset, int length) {
+        positionalReads.incrementAndGet();
+        System.arraycopy(contents, (int) position, buffer, offset, length);
+      }
+
+      @Override
+      public int readTail(byte[] buffer, int offset, int length) {
+        int tailLength = Math.min(length, contents.length);
+        readFully(contents.length - tailLength, buffer, offset, tailLength);
+        return tailLength;
+      }
+    }
+  }
 }
@@ -35,9 +35,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.iceberg.AssertHelpers;
 import org.apache.iceberg.IcebergBuild;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.ErrorResponseParser;
 import org.junit.AfterClass;
@@ -118,6 +121,80 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(HttpMethod.HEAD);
   }
 
+  @Test
+  public void testGetNotModified() {
+    String path = "GET_not_modified";
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("If-None-Match", "\"etag-1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"etag-1\""));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    Map<String, String> responseHeaders = Maps.newHashMap();
+    Item item =
+        restClient.get(
+            path,
+            ImmutableMap.of(),
+            Item.class,
+            ImmutableMap.of("If-None-Match", "\"etag-1\""),
+            onError,
+            responseHeaders::putAll);
+
+    Assert.assertNull("Should not return a body for a not modified response", item);
+    Assert.assertEquals(
+        "Should pass the ETag to the consumer",
+        "\"etag-1\"",
+        RESTTableOperations.etag(responseHeaders));
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testGzipRequestCompression() throws Exception {
+    Item body = new Item(1L, "gzip");
+    String path = "POST_gzip";
+    mockServer
+        .when(request("/" + path).withMethod("POST").withHeader("Content-Encoding", "gzip"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+    try (RESTClient client =
+        HTTPClient.builder()
+            .uri(URI)
+            .withProperties(ImmutableMap.of(HTTPClient.REST_REQUEST_COMPRESSION, "gzip"))
+            .build()) {
+      ErrorHandler onError = mock(ErrorHandler.class);
+      Item response = client.post(path, body, Item.class, ImmutableMap.of(), onError);
+      Assert.assertEquals("Should send a gzip compressed request", body, response);
+      verify(onError, never()).accept(any());
+    }
+  }
+
+  @Test
+  public void testInvalidRequestCompression() {
+    AssertHelpers.assertThrows(
+        "Should reject an unknown request compression",
+        IllegalArgumentException.class,
+        "Unsupported request compression: lz4",
+        () ->
+            HTTPClient.builder()
+                .uri(URI)
+                .withProperties(ImmutableMap.of(HTTPClient.REST_REQUEST_COMPRESSION, "lz4"))
+                .build());
+  }
+
+  @Test
+  public void testConnectionPoolProperties() {
+    HttpClientConnectionManager manager =
+        HTTPClient.configureConnectionManager(
+            ImmutableMap.of(
+                HTTPClient.REST_MAX_CONNECTIONS, "32",
+                HTTPClient.REST_MAX_CONNECTIONS_PER_ROUTE, "16"));
+    assertThat(manager).isInstanceOf(PoolingHttpClientConnectionManager.class);
+
+    PoolingHttpClientConnectionManager pool = (PoolingHttpClientConnectionManager) manager;
+    Assert.assertEquals("Should use the configured pool size", 32, pool.getMaxTotal());
+    Assert.assertEquals(
+        "Should use the configured connections per route", 16, pool.getDefaultMaxPerRoute());
+  }
+
   public static void testHttpMethodOnSuccess(HttpMethod method) throws JsonProcessingException {
     Item body = new Item(0L, "hank");
     int statusCode = 200;
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestRESTTableOperations {
+  private static final String PATH = "v1/namespaces/ns/tables/table";
+  private static final Map<String, String> HEADERS =
+      ImmutableMap.of("Authorization", "Bearer token");
+  private static final Schema SCHEMA = new Schema(required(1, "id", Types.LongType.get()));
+
+  @Test
+  public void testRefreshSkipsUnmodifiedTable() {
+    TableMetadata base = metadata("v1.metadata.json");
+    List<Map<String, String>> requests = Lists.newArrayList();
+    RESTClient client = client(requests, notModified());
+
+    RESTTableOperations ops = new RESTTableOperations(client, PATH, () -> HEADERS, null, base, "1");
+
+    Assert.assertSame("Should keep the current metadata", base, ops.refresh());
+    Assert.assertEquals(
+        "Should send the ETag of the loaded table",
+        ImmutableMap.<String, String>builder().putAll(HEADERS).put("If-None-Match", "1").build(),
+        requests.get(0));
+  }
+
+  @Test
+  public void testRefreshUpdatesEtag() {
+    TableMetadata base = metadata("v1.metadata.json");
+    TableMetadata updated = metadata("v2.metadata.json");
+    List<Map<String, String>> requests = Lists.newArrayList();
+    RESTClient client = client(requests, loaded(updated, "2"), notModified());
+
+    RESTTableOperations ops = new RESTTableOperations(client, PATH, () -> HEADERS, null, base);
+
+    Assert.assertEquals(
+        "Should load the new metadata",
+        updated.metadataFileLocation(),
+        ops.refresh().metadataFileLocation());
+    Assert.assertEquals("Should not send an ETag before one is known", HEADERS, requests.get(0));
+
+    Assert.assertEquals(
+        "Should keep the loaded metadata",
+        updated.metadataFileLocation(),
+        ops.refresh().metadataFileLocation());
+    Assert.assertEquals(
+        "Should send the ETag of the last response",
+        ImmutableMap.<String, String>builder().putAll(HEADERS).put("If-None-Match", "2").build(),
+        requests.get(1));
+  }
+
+  @Test
+  public void testEtagHeaderIsCaseInsensitive() {
+    Assert.assertEquals("1", RESTTableOperations.etag(ImmutableMap.of("etag", "1")));
+    Assert.assertEquals("1", RESTTableOperations.etag(ImmutableMap.of("ETag", "1")));
+    Assert.assertNull(RESTTableOperations.etag(ImmutableMap.of("Content-Type", "text/plain")));
+  }
+
+  private static TableMetadata metadata(String fileName) {
+    TableMetadata metadata =
+        TableMetadata.newTableMetadata(
+            SCHEMA, PartitionSpec.unpartitioned(), "file:/tmp/table", ImmutableMap.of());
+    return TableMetadata.buildFrom(metadata)
+        .discardChanges()
+        .withMetadataLocation("file:/tmp/table/metadata/" + fileName)
+        .build();
+  }
+
+  /** A response that is either not modified (a null body) or a loaded table and its ETag. */
+  private static class Response {
+    private final LoadTableResponse body;
+    private final String etag;
+
+    private Response(LoadTableResponse body, String etag) {
+      this.body = body;
+      this.etag = etag;
+    }
+  }
+
+  private static Response notModified() {
+    return new Response(null, null);
+  }
+
+  private static Response loaded(TableMetadata metadata, String etag) {
+    return new Response(LoadTableResponse.builder().withTableMetadata(metadata).build(), etag);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RESTClient client(List<Map<String, String>> requests, Response... responses) {
+    Deque<Response> remaining = Lists.newLinkedList(Arrays.asList(responses));
+    RESTClient client = mock(RESTClient.class);
+    when(client.get(
+            eq(PATH), anyMap(), eq(LoadTableResponse.class), anyMap(), any(), any(Consumer.class)))
+        .thenAnswer(
+            invocation -> {
+              requests.add(invocation.getArgument(3));
+              Response response = remaining.removeFirst();
+              Consumer<Map<String, String>> responseHeaders = invocation.getArgument(5);
+              if (response.etag != null) {
+                responseHeaders.accept(ImmutableMap.of("ETag", response.etag));
+              } else {
+                responseHeaders.accept(ImmutableMap.of());
+              }
+
+              return response.body;
+            });
+    return client;
+  }
+}
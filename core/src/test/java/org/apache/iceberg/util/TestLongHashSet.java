@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Random;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestLongHashSet {
+  @Test
+  public void testAddAndContains() {
+    LongHashSet set = new LongHashSet();
+    Assertions.assertThat(set.isEmpty()).isTrue();
+
+    Assertions.assertThat(set.add(1L)).isTrue();
+    Assertions.assertThat(set.add(1L)).isFalse();
+    Assertions.assertThat(set.add(0L)).isTrue();
+    Assertions.assertThat(set.add(0L)).isFalse();
+    Assertions.assertThat(set.add(-1L)).isTrue();
+    Assertions.assertThat(set.add(Long.MIN_VALUE)).isTrue();
+    Assertions.assertThat(set.add(Long.MAX_VALUE)).isTrue();
+
+    Assertions.assertThat(set.size()).isEqualTo(5);
+    Assertions.assertThat(set.contains(0L)).isTrue();
+    Assertions.assertThat(set.contains(1L)).isTrue();
+    Assertions.assertThat(set.contains(-1L)).isTrue();
+    Assertions.assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+    Assertions.assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+    Assertions.assertThat(set.contains(2L)).isFalse();
+
+    set.clear();
+    Assertions.assertThat(set.isEmpty()).isTrue();
+    Assertions.assertThat(set.contains(0L)).isFalse();
+    Assertions.assertThat(set.contains(1L)).isFalse();
+  }
+
+  @Test
+  public void testGrowMatchesHashSet() {
+    Random random = new Random(42);
+    LongHashSet set = new LongHashSet(4);
+    Set<Long> expected = Sets.newHashSet();
+    for (int i = 0; i < 100_000; i += 1) {
+      // use a small range to produce duplicates and sequential values
+      long value = i % 2 == 0 ? random.nextInt(50_000) : random.nextLong();
+      Assertions.assertThat(set.add(value)).isEqualTo(expected.add(value));
+    }
+
+    Assertions.assertThat(set.size()).isEqualTo(expected.size());
+    for (long value : expected) {
+      Assertions.assertThat(set.contains(value)).isTrue();
+    }
+
+    for (int i = 0; i < 1_000; i += 1) {
+      long value = random.nextLong();
+      Assertions.assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+    }
+  }
+}
@@ -23,9 +23,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -35,8 +42,9 @@ import org.junit.Test;
 public class TestParallelIterable {
   @Test
   public void closeParallelIteratorWithoutCompleteIteration()
-      throws IOException, IllegalAccessException, NoSuchFieldException {
+      throws IOException, IllegalAccessException, NoSuchFieldException, InterruptedException {
     ExecutorService executor = Executors.newFixedThreadPool(1);
+    CountDownLatch inputsClosed = new CountDownLatch(2);
 
     Iterable<CloseableIterable<Integer>> transform =
         Iterables.transform(
@@ -44,7 +52,10 @@ public class TestParallelIterable {
             item ->
                 new CloseableIterable<Integer>() {
                   @Override
-                  public void close() {}
+                  public void close() {
+                    // tasks close their input after adding its items to the queue
+                    inputsClosed.countDown();
+                  }
 
                   @Override
                   public CloseableIterator<Integer> iterator() {
@@ -56,13 +67,202 @@ public class TestParallelIterable {
     CloseableIterator<Integer> iterator = parallelIterable.iterator();
     Field queueField = iterator.getClass().getDeclaredField("queue");
     queueField.setAccessible(true);
-    ConcurrentLinkedQueue<?> queue = (ConcurrentLinkedQueue<?>) queueField.get(iterator);
+    Deque<?> queue = (Deque<?>) queueField.get(iterator);
 
     assertThat(iterator.hasNext()).isTrue();
     assertThat(iterator.next()).isNotNull();
+    assertThat(inputsClosed.await(5, TimeUnit.SECONDS)).isTrue();
     assertThat(queue).isNotEmpty();
 
     iterator.close();
     assertThat(queue).isEmpty();
   }
+
+  @Test
+  public void limitBufferedItemsWithSlowConsumer() throws Exception {
+    int numThreads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    AtomicInteger produced = new AtomicInteger(0);
+    int numIterables = 20;
+    int itemsPerIterable = 1000;
+    int maxQueueSize = 100;
+    int batchSize = 10;
+
+    Iterable<Iterable<Integer>> iterables =
+        Iterables.transform(
+            Lists.newArrayList(IntStream.range(0, numIterables).iterator()),
+            ignored ->
+                Iterables.transform(
+                    Lists.newArrayList(IntStream.range(0, itemsPerIterable).iterator()),
+                    item -> {
+                      produced.incrementAndGet();
+                      return item;
+                    }));
+
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, maxQueueSize, batchSize);
+
+    try (CloseableIterator<Integer> iterator = parallelIterable.iterator()) {
+      assertThat(iterator.hasNext()).isTrue();
+      assertThat(iterator.next()).isNotNull();
+
+      // wait for producers to fill the queue, they must pause instead of reading all input
+      awaitIdle(executor, numThreads);
+      int maxInFlight = 2 * ThreadPools.WORKER_THREAD_POOL_SIZE * batchSize;
+      assertThat(produced.get()).isLessThanOrEqualTo(1 + maxQueueSize + maxInFlight);
+
+      long count = 1;
+      while (iterator.hasNext()) {
+        iterator.next();
+        count += 1;
+      }
+
+      assertThat(count).isEqualTo((long) numIterables * itemsPerIterable);
+      assertThat(produced.get()).isEqualTo(numIterables * itemsPerIterable);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void resumeProducersBeforeQueueIsEmpty() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    AtomicInteger produced = new AtomicInteger(0);
+    int numIterables = 40;
+    int itemsPerIterable = 5;
+    int total = numIterables * itemsPerIterable;
+
+    Iterable<Iterable<Integer>> iterables =
+        Iterables.transform(
+            Lists.newArrayList(IntStream.range(0, numIterables).iterator()),
+            ignored ->
+                Iterables.transform(
+                    Lists.newArrayList(IntStream.range(0, itemsPerIterable).iterator()),
+                    item -> {
+                      produced.incrementAndGet();
+                      return item;
+                    }));
+
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, 20, 10);
+
+    try (CloseableIterator<Integer> iterator = parallelIterable.iterator()) {
+      Field queueField = iterator.getClass().getDeclaredField("queue");
+      queueField.setAccessible(true);
+      Deque<?> queue = (Deque<?>) queueField.get(iterator);
+
+      int count = 0;
+      while (iterator.hasNext()) {
+        iterator.next();
+        count += 1;
+
+        // each input is a single batch, check the queue after the consumer finishes a batch
+        if (count % itemsPerIterable == 0 && count < total) {
+          awaitIdle(executor, 1);
+          assertThat(queue)
+              .as("Producers should refill the queue before the consumer drains it")
+              .isNotEmpty();
+        }
+      }
+
+      assertThat(count).isEqualTo(total);
+      assertThat(produced.get()).isEqualTo(total);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void closeReleasesInputOfRunningTask() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    AtomicInteger produced = new AtomicInteger(0);
+    CountDownLatch producing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch inputClosed = new CountDownLatch(1);
+
+    // an unbounded input that blocks while producing its third item
+    CloseableIterable<Integer> input =
+        new CloseableIterable<Integer>() {
+          @Override
+          public void close() {
+            inputClosed.countDown();
+          }
+
+          @Override
+          public CloseableIterator<Integer> iterator() {
+            return CloseableIterator.withClose(
+                new Iterator<Integer>() {
+                  @Override
+                  public boolean hasNext() {
+                    return true;
+                  }
+
+                  @Override
+                  public Integer next() {
+                    int item = produced.getAndIncrement();
+                    if (item == 2) {
+                      producing.countDown();
+                      await(release);
+                    }
+
+                    return item;
+                  }
+                });
+          }
+        };
+
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(Collections.singletonList(input), executor, 100, 2);
+
+    try {
+      CloseableIterator<Integer> iterator = parallelIterable.iterator();
+      assertThat(iterator.hasNext()).isTrue();
+      assertThat(iterator.next()).isEqualTo(0);
+      assertThat(producing.await(5, TimeUnit.SECONDS)).isTrue();
+
+      iterator.close();
+      release.countDown();
+
+      // the running task must stop after its current item instead of finishing the batch
+      assertThat(inputClosed.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(produced.get()).isEqualTo(3);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Waits until all tasks submitted to a fixed-size executor so far have completed.
+   *
+   * <p>The executor runs tasks in submission order, so once every worker thread has reached the
+   * barrier, no earlier task is queued or running.
+   */
+  private static void awaitIdle(ExecutorService executor, int numThreads) throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(numThreads + 1);
+    for (int i = 0; i < numThreads; i += 1) {
+      executor.execute(() -> await(barrier));
+    }
+
+    barrier.await(5, TimeUnit.SECONDS);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (BrokenBarrierException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
@@ -164,4 +164,64 @@ public class TestStructLikeMap {
 
     Assert.assertEquals("aaa", map.remove(record3));
   }
+
+  @Test
+  public void testSingleColumnKeys() {
+    Types.StructType longType =
+        Types.StructType.of(Types.NestedField.optional(1, "id", Types.LongType.get()));
+    Record template = GenericRecord.create(longType);
+
+    Map<StructLike, String> map = StructLikeMap.create(longType);
+    for (long id = 0; id < 100; id += 1) {
+      Assert.assertNull(map.put(template.copy("id", id), "v" + id));
+    }
+
+    Assert.assertEquals("v0", map.put(template.copy("id", 0L), "zero"));
+    Assert.assertNull(map.put(template.copy("id", null), "null"));
+    Assert.assertEquals(101, map.size());
+
+    Assert.assertEquals("zero", map.get(template.copy("id", 0L)));
+    Assert.assertEquals("v42", map.get(template.copy("id", 42L)));
+    Assert.assertEquals("null", map.get(template.copy("id", null)));
+    Assert.assertNull(map.get(template.copy("id", 100L)));
+    Assert.assertTrue(map.containsValue("v99"));
+
+    for (long id = 1; id < 100; id += 3) {
+      Assert.assertEquals("v" + id, map.remove(template.copy("id", id)));
+    }
+
+    for (long id = 1; id < 100; id += 1) {
+      String expected = (id - 1) % 3 == 0 ? null : "v" + id;
+      Assert.assertEquals(expected, map.get(template.copy("id", id)));
+    }
+
+    Assert.assertEquals(map.size(), map.keySet().size());
+    Assert.assertEquals(map.size(), map.values().size());
+    for (Map.Entry<StructLike, String> entry : map.entrySet()) {
+      Assert.assertEquals(entry.getValue(), map.get(entry.getKey()));
+    }
+  }
+
+  @Test
+  public void testSingleColumnKeyValuesView() {
+    Types.StructType intType =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    Record template = GenericRecord.create(intType);
+
+    Map<StructLike, String> map = StructLikeMap.create(intType);
+    Collection<String> values = map.values();
+    for (int id = 0; id < 100; id += 1) {
+      map.put(template.copy("id", id), "v" + id);
+    }
+
+    Assert.assertEquals(100, values.size());
+    Assert.assertTrue(values.remove("v42"));
+    Assert.assertFalse(map.containsKey(template.copy("id", 42)));
+    Assert.assertEquals(99, map.size());
+
+    values.removeIf(value -> value.endsWith("0"));
+    Assert.assertEquals(89, map.size());
+    Assert.assertNull(map.get(template.copy("id", 10)));
+    Assert.assertEquals("v11", map.get(template.copy("id", 11)));
+  }
 }
@@ -18,10 +18,14 @@
  */
 package org.apache.iceberg.util;
 
+import java.util.Iterator;
 import java.util.Set;
+import org.apache.avro.util.Utf8;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
 import org.junit.Assert;
 import org.junit.Test;
@@ -67,4 +71,149 @@ public class TestStructLikeSet {
     boolean removed = set.remove(record3);
     Assert.assertTrue(removed);
   }
+
+  @Test
+  public void testSingleLongKeys() {
+    Types.StructType longType =
+        Types.StructType.of(Types.NestedField.optional(1, "id", Types.LongType.get()));
+    Record template = GenericRecord.create(longType);
+
+    Set<StructLike> set = StructLikeSet.create(longType);
+    for (long id = -1000; id < 1000; id += 1) {
+      Assert.assertTrue(set.add(template.copy("id", id)));
+    }
+
+    Assert.assertFalse(set.add(template.copy("id", 0L)));
+    Assert.assertTrue(set.add(template.copy("id", null)));
+    Assert.assertTrue(set.add(null));
+    Assert.assertEquals(2002, set.size());
+
+    Assert.assertTrue(set.contains(template.copy("id", 0L)));
+    Assert.assertTrue(set.contains(template.copy("id", null)));
+    Assert.assertTrue(set.contains(null));
+    Assert.assertFalse(set.contains(template.copy("id", 1000L)));
+
+    // remove every other key to exercise moving entries in the table
+    for (long id = -1000; id < 1000; id += 2) {
+      Assert.assertTrue(set.remove(template.copy("id", id)));
+    }
+
+    Assert.assertEquals(1002, set.size());
+    for (long id = -1000; id < 1000; id += 1) {
+      Assert.assertEquals(id % 2 != 0, set.contains(template.copy("id", id)));
+    }
+
+    Set<Long> ids = Sets.newHashSet();
+    for (StructLike key : set) {
+      if (key != null && key.get(0, Long.class) != null) {
+        ids.add(key.get(0, Long.class));
+      }
+    }
+
+    Assert.assertEquals(1000, ids.size());
+    Assert.assertTrue(ids.contains(999L));
+    Assert.assertFalse(ids.contains(998L));
+  }
+
+  @Test
+  public void testSingleIntKeys() {
+    Types.StructType intType =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+    Record template = GenericRecord.create(intType);
+
+    Set<StructLike> set = StructLikeSet.create(intType);
+    set.add(template.copy("id", 1));
+    set.add(template.copy("id", 0));
+
+    Assert.assertTrue(set.contains(template.copy("id", 1)));
+    Assert.assertTrue(set.contains(template.copy("id", 0)));
+    Assert.assertFalse(set.contains(template.copy("id", 2)));
+
+    Set<StructLike> other = StructLikeSet.create(intType);
+    other.add(template.copy("id", 0));
+    other.add(template.copy("id", 1));
+    Assert.assertEquals(set, other);
+    Assert.assertEquals(set.hashCode(), other.hashCode());
+  }
+
+  @Test
+  public void testSingleStringKeys() {
+    Types.StructType stringType =
+        Types.StructType.of(Types.NestedField.required(1, "data", Types.StringType.get()));
+    Record template = GenericRecord.create(stringType);
+
+    Set<StructLike> set = StructLikeSet.create(stringType);
+    set.add(template.copy("data", "a"));
+    set.add(template.copy("data", new Utf8("b")));
+
+    Assert.assertTrue(set.contains(template.copy("data", new Utf8("a"))));
+    Assert.assertTrue(set.contains(template.copy("data", "b")));
+    Assert.assertFalse(set.contains(template.copy("data", "c")));
+
+    Assert.assertTrue(set.remove(template.copy("data", new Utf8("a"))));
+    Assert.assertEquals(1, set.size());
+    Assert.assertEquals("b", set.iterator().next().get(0, CharSequence.class));
+  }
+
+  @Test
+  public void testSingleColumnKeysAreSerializable() throws Exception {
+    Types.StructType stringType =
+        Types.StructType.of(Types.NestedField.required(1, "data", Types.StringType.get()));
+    Record template = GenericRecord.create(stringType);
+
+    Set<StructLike> set = StructLikeSet.create(stringType);
+    set.add(template.copy("data", "a"));
+
+    StructLike copy = TestHelpers.roundTripSerialize(set.iterator().next());
+    Assert.assertEquals("a", copy.get(0, CharSequence.class));
+  }
+
+  @Test
+  public void testSingleLongKeysWithIntValues() {
+    Types.StructType longType =
+        Types.StructType.of(Types.NestedField.required(1, "id", Types.LongType.get()));
+    Record template = GenericRecord.create(longType);
+
+    Set<StructLike> set = StructLikeSet.create(longType);
+    Assert.assertTrue(set.add(template.copy("id", 1)));
+    Assert.assertFalse(set.add(template.copy("id", 1L)));
+    Assert.assertTrue(set.contains(template.copy("id", 1)));
+    Assert.assertEquals(1L, (long) set.iterator().next().get(0, Long.class));
+  }
+
+  @Test
+  public void testRemoveSingleColumnKeysWhileIterating() {
+    Types.StructType longType =
+        Types.StructType.of(Types.NestedField.optional(1, "id", Types.LongType.get()));
+    Record template = GenericRecord.create(longType);
+
+    Set<StructLike> set = StructLikeSet.create(longType);
+    for (long id = -1000; id < 1000; id += 1) {
+      set.add(template.copy("id", id));
+    }
+
+    set.add(template.copy("id", null));
+
+    Assert.assertTrue(
+        set.removeIf(key -> key.get(0, Long.class) == null || key.get(0, Long.class) % 3 == 0));
+
+    Set<Long> ids = Sets.newHashSet();
+    for (StructLike key : set) {
+      Assert.assertTrue("Should not return a key twice", ids.add(key.get(0, Long.class)));
+    }
+
+    Assert.assertEquals(set.size(), ids.size());
+    for (long id = -1000; id < 1000; id += 1) {
+      Assert.assertEquals(id % 3 != 0, set.contains(template.copy("id", id)));
+      Assert.assertEquals(id % 3 != 0, ids.contains(id));
+    }
+
+    Iterator<StructLike> iter = set.iterator();
+    while (iter.hasNext()) {
+      iter.next();
+      iter.remove();
+    }
+
+    Assert.assertTrue(set.isEmpty());
+  }
 }
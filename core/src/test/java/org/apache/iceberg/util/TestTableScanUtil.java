@@ -24,19 +24,26 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.iceberg.AssertHelpers;
 import org.apache.iceberg.BaseCombinedScanTask;
+import org.apache.iceberg.BaseFileScanTask;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MergeableScanTask;
 import org.apache.iceberg.MockFileScanTask;
 import org.apache.iceberg.PartitionScanTask;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
 import org.apache.iceberg.ScanTask;
 import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
 import org.apache.iceberg.SplittableScanTask;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -244,6 +251,41 @@ public class TestTableScanUtil {
         () -> TableScanUtil.planTaskGroups(tasks2, 128, 10, 4, SPEC2.partitionType()));
   }
 
+  @Test
+  public void testTaskGroupsWithSingleFieldPartitionAreSerializable() throws Exception {
+    PartitionSpec spec = PartitionSpec.builderFor(TEST_SCHEMA).identity("c1").build();
+    String schemaString = SchemaParser.toJson(TEST_SCHEMA);
+    String specString = PartitionSpecParser.toJson(spec);
+    ResidualEvaluator residuals = ResidualEvaluator.unpartitioned(Expressions.alwaysTrue());
+
+    List<FileScanTask> tasks = Lists.newArrayList();
+    for (int partition = 0; partition < 3; partition += 1) {
+      for (int file = 0; file < 2; file += 1) {
+        DataFile dataFile =
+            DataFiles.builder(spec)
+                .withPath(String.format("/path/to/data-%d-%d.parquet", partition, file))
+                .withFileSizeInBytes(64)
+                .withRecordCount(1)
+                .withPartitionPath("c1=" + partition)
+                .build();
+        tasks.add(new BaseFileScanTask(dataFile, null, schemaString, specString, residuals));
+      }
+    }
+
+    List<ScanTaskGroup<FileScanTask>> taskGroups =
+        TableScanUtil.planTaskGroups(tasks, 512, 10, 4, spec.partitionType());
+    Assert.assertEquals("Must have a task group per partition", 3, taskGroups.size());
+
+    for (ScanTaskGroup<FileScanTask> taskGroup : taskGroups) {
+      ScanTaskGroup<FileScanTask> copy = TestHelpers.roundTripSerialize(taskGroup);
+      Assert.assertEquals(
+          "Grouping key must survive serialization",
+          taskGroup.groupingKey().get(0, Integer.class),
+          copy.groupingKey().get(0, Integer.class));
+      Assert.assertEquals(2, copy.filesCount());
+    }
+  }
+
   private PartitionScanTask taskWithPartition(
       PartitionSpec spec, StructLike partition, long sizeBytes) {
     PartitionScanTask task = Mockito.mock(PartitionScanTask.class);
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericAppenderFactory;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A benchmark that writes Parquet data files with a rolling task writer and reports how close the
+ * written files are to the target file size.
+ *
+ * <p>Rows have a fixed-width string payload, so the benchmark covers both narrow rows, where the
+ * length of the current file was checked far more often than needed, and wide rows, where checking
+ * every 1000 rows overshot the target size. The number of files and the largest difference between
+ * a file size and the target size are reported as auxiliary counters.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-data:jmh
+ *       -PjmhIncludeRegex=RollingWriterBenchmark
+ *       -PjmhOutputPath=benchmark/rolling-writer-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+public class RollingWriterBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(RollingWriterBenchmark.class);
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "payload", Types.StringType.get()));
+
+  private static final long TARGET_FILE_SIZE = 32L * 1024 * 1024;
+  private static final long BYTES_TO_WRITE = 4 * TARGET_FILE_SIZE;
+  private static final int NUM_PAYLOADS = 1024;
+
+  @Param({"16", "256", "262144"})
+  private int payloadWidth;
+
+  private File tableDir;
+  private Table table;
+  private List<String> payloads;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.tableDir = Files.createTempDirectory("rolling-writer-bench").toFile();
+    this.table =
+        new HadoopTables(new Configuration())
+            .create(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                ImmutableMap.of(TableProperties.DEFAULT_FILE_FORMAT, "parquet"),
+                tableDir.getAbsolutePath());
+
+    // random payloads do not compress, so file sizes track the number of bytes written
+    Random random = new Random(42);
+    this.payloads = Lists.newArrayListWithExpectedSize(NUM_PAYLOADS);
+    char[] chars = new char[payloadWidth];
+    for (int i = 0; i < NUM_PAYLOADS; i += 1) {
+      for (int j = 0; j < payloadWidth; j += 1) {
+        chars[j] = (char) ('!' + random.nextInt(94));
+      }
+      payloads.add(new String(chars));
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() throws IOException {
+    try (Stream<Path> paths = Files.walk(tableDir.toPath())) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class FileCounters {
+    public long files = 0;
+    public long maxSizeDifferenceKb = 0;
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+      this.files = 0;
+      this.maxSizeDifferenceKb = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void writeRollingFiles(FileCounters counters) throws IOException {
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, System.nanoTime()).build();
+    TaskWriter<Record> writer =
+        new UnpartitionedWriter<>(
+            table.spec(),
+            FileFormat.PARQUET,
+            new GenericAppenderFactory(SCHEMA),
+            fileFactory,
+            table.io(),
+            TARGET_FILE_SIZE);
+
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    long numRows = BYTES_TO_WRITE / payloadWidth;
+    for (long id = 0; id < numRows; id += 1) {
+      record.set(0, id);
+      record.set(1, payloads.get((int) (id % NUM_PAYLOADS)));
+      writer.write(record);
+    }
+
+    DataFile[] dataFiles = writer.complete().dataFiles();
+    long maxDifference = 0;
+    // the last file holds the remaining rows and is expected to be smaller than the target
+    for (int i = 0; i < dataFiles.length - 1; i += 1) {
+      long difference = Math.abs(dataFiles[i].fileSizeInBytes() - TARGET_FILE_SIZE);
+      maxDifference = Math.max(maxDifference, difference);
+    }
+
+    LOG.info(
+        "Wrote {} files for payload width {}, max difference from target: {} bytes",
+        dataFiles.length,
+        payloadWidth,
+        maxDifference);
+
+    counters.files += dataFiles.length;
+    counters.maxSizeDifferenceKb = Math.max(counters.maxSizeDifferenceKb, maxDifference / 1024);
+
+    for (DataFile dataFile : dataFiles) {
+      table.io().deleteFile(dataFile.path().toString());
+    }
+  }
+}
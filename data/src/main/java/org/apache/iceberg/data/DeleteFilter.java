@@ -18,6 +18,10 @@
  */
 package org.apache.iceberg.data;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +33,8 @@ import org.apache.iceberg.FileContent;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.DataReader;
 import org.apache.iceberg.data.orc.GenericOrcReader;
@@ -36,13 +42,19 @@ import org.apache.iceberg.data.parquet.GenericParquetReaders;
 import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.deletes.Deletes;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.PositionDeleteIndexCache;
+import org.apache.iceberg.deletes.SpillableStructLikeSet;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -51,12 +63,14 @@ import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.LongHashSet;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.StructProjection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class DeleteFilter<T> {
+public abstract class DeleteFilter<T> implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(DeleteFilter.class);
   private static final long DEFAULT_SET_FILTER_THRESHOLD = 100_000L;
   private static final Schema POS_DELETE_SCHEMA =
@@ -71,10 +85,14 @@ public abstract class DeleteFilter<T> {
   private final boolean hasIsDeletedColumn;
   private final int isDeletedColumnPosition;
   private final DeleteCounter counter;
+  // equality delete sets that hold files, released when this filter is closed
+  private final CloseableGroup spilledDeleteSets = new CloseableGroup();
 
   private PositionDeleteIndex deleteRowPositions = null;
   private List<Predicate<T>> isInDeleteSets = null;
   private Predicate<T> eqDeleteRows = null;
+  private List<LongEqualityDeletes> longEqDeletes = null;
+  private boolean longEqDeletesLoaded = false;
 
   protected DeleteFilter(
       String filePath,
@@ -146,12 +164,95 @@ public abstract class DeleteFilter<T> {
 
   protected abstract InputFile getInputFile(String location);
 
+  /**
+   * Returns the properties of the table that is read, which configure how deletes are applied.
+   *
+   * <p>For example, {@link TableProperties#DELETE_EQUALITY_SPILL_ENABLED} limits the number of
+   * equality delete keys that are held in memory.
+   */
+  protected Map<String, String> tableProperties() {
+    return ImmutableMap.of();
+  }
+
+  /** Returns the scan metrics that are updated while deletes are loaded. */
+  protected ScanMetrics scanMetrics() {
+    return ScanMetrics.noop();
+  }
+
   protected long pos(T record) {
     return (Long) posAccessor.get(asStructLike(record));
   }
 
   public CloseableIterable<T> filter(CloseableIterable<T> records) {
-    return applyEqDeletes(applyPosDeletes(records));
+    return closeWith(applyEqDeletes(applyPosDeletes(records)));
+  }
+
+  /**
+   * Releases the resources held by this filter, such as equality delete keys that were spilled to
+   * disk.
+   *
+   * <p>Iterables returned by {@link #filter(CloseableIterable)} and {@link
+   * #findEqualityDeleteRows(CloseableIterable)} close this filter when they or their iterators are
+   * closed. Readers that apply deletes through {@link #eqDeletedRowFilter()} must close it.
+   *
+   * <p>A closed filter can still be used. Equality deletes that were spilled are loaded again when
+   * they are needed.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      spilledDeleteSets.close();
+    } finally {
+      if (eqDeleteSpillEnabled()) {
+        // the cached predicates may read closed sets
+        this.isInDeleteSets = null;
+        this.eqDeleteRows = null;
+      }
+    }
+  }
+
+  /**
+   * Returns an iterable that closes this filter when it or any of its iterators is closed.
+   *
+   * @param iterable an iterable that uses this filter
+   * @return an iterable that closes this filter after the given iterable
+   */
+  public <R> CloseableIterable<R> closeWith(CloseableIterable<R> iterable) {
+    return new CloseableIterable<R>() {
+      @Override
+      public CloseableIterator<R> iterator() {
+        CloseableIterator<R> iterator = iterable.iterator();
+        return new CloseableIterator<R>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public R next() {
+            return iterator.next();
+          }
+
+          @Override
+          public void close() throws IOException {
+            try {
+              iterator.close();
+            } finally {
+              DeleteFilter.this.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          iterable.close();
+        } finally {
+          DeleteFilter.this.close();
+        }
+      }
+    };
   }
 
   private List<Predicate<T>> applyEqDeletes() {
@@ -188,23 +289,68 @@ public abstract class DeleteFilter<T> {
       CloseableIterable<Record> records =
           CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy);
 
-      StructLikeSet deleteSet =
-          Deletes.toEqualitySet(
-              CloseableIterable.transform(records, wrapper::copyFor), deleteSchema.asStruct());
+      Predicate<T> isInDeleteSet;
+      if (eqDeleteSpillEnabled()) {
+        SpillableStructLikeSet deleteSet =
+            Deletes.toEqualitySet(
+                CloseableIterable.transform(records, wrapper::copyFor),
+                deleteSchema.asStruct(),
+                eqDeleteMaxInMemoryKeys(),
+                eqDeleteSpillDirectory());
+        spilledDeleteSets.addCloseable(deleteSet);
+        reportSpills(deleteSet);
+        isInDeleteSet = record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
+      } else {
+        StructLikeSet deleteSet =
+            Deletes.toEqualitySet(
+                CloseableIterable.transform(records, wrapper::copyFor), deleteSchema.asStruct());
+        isInDeleteSet = record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
+      }
 
-      Predicate<T> isInDeleteSet =
-          record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
       isInDeleteSets.add(isInDeleteSet);
     }
 
     return isInDeleteSets;
   }
 
+  private boolean eqDeleteSpillEnabled() {
+    return PropertyUtil.propertyAsBoolean(
+        tableProperties(),
+        TableProperties.DELETE_EQUALITY_SPILL_ENABLED,
+        TableProperties.DELETE_EQUALITY_SPILL_ENABLED_DEFAULT);
+  }
+
+  private long eqDeleteMaxInMemoryKeys() {
+    return PropertyUtil.propertyAsLong(
+        tableProperties(),
+        TableProperties.DELETE_EQUALITY_SPILL_MAX_IN_MEMORY_KEYS,
+        TableProperties.DELETE_EQUALITY_SPILL_MAX_IN_MEMORY_KEYS_DEFAULT);
+  }
+
+  private static File eqDeleteSpillDirectory() {
+    return new File(
+        System.getProperty(
+            SystemProperties.DELETES_SPILL_DIR, System.getProperty("java.io.tmpdir")));
+  }
+
+  private void reportSpills(SpillableStructLikeSet deleteSet) {
+    if (deleteSet.spillCount() > 0) {
+      LOG.info(
+          "Spilled {} equality delete keys for {} in {} runs ({} bytes)",
+          deleteSet.spilledKeys(),
+          filePath,
+          deleteSet.spillCount(),
+          deleteSet.spilledBytes());
+      scanMetrics().equalityDeleteSpills().increment(deleteSet.spillCount());
+      scanMetrics().equalityDeleteSpillBytes().increment(deleteSet.spilledBytes());
+    }
+  }
+
   public CloseableIterable<T> findEqualityDeleteRows(CloseableIterable<T> records) {
     // Predicate to test whether a row has been deleted by equality deletions.
     Predicate<T> deletedRows = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
 
-    return CloseableIterable.filter(records, deletedRows);
+    return closeWith(CloseableIterable.filter(records, deletedRows));
   }
 
   private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
@@ -226,32 +372,131 @@ public abstract class DeleteFilter<T> {
     return eqDeleteRows;
   }
 
+  /**
+   * Returns equality deletes as sets of primitive values, for readers that apply equality deletes
+   * to batches of rows column by column.
+   *
+   * <p>This is only possible when every equality delete uses a single top-level int or long column
+   * and equality deletes are not spilled to disk. Otherwise, this returns null and deletes must be
+   * applied using {@link #eqDeletedRowFilter()}.
+   *
+   * @return a list of {@link LongEqualityDeletes} or null if deletes cannot be applied by column
+   */
+  public List<LongEqualityDeletes> longEqDeletes() {
+    if (!longEqDeletesLoaded) {
+      this.longEqDeletes = loadLongEqDeletes();
+      this.longEqDeletesLoaded = true;
+    }
+
+    return longEqDeletes;
+  }
+
+  private List<LongEqualityDeletes> loadLongEqDeletes() {
+    if (eqDeleteSpillEnabled()) {
+      // primitive sets are always fully materialized, use the bounded row filter instead
+      return null;
+    }
+
+    Multimap<Integer, DeleteFile> filesByFieldId =
+        Multimaps.newMultimap(Maps.newHashMap(), Lists::newArrayList);
+    for (DeleteFile delete : eqDeletes) {
+      List<Integer> ids = delete.equalityFieldIds();
+      if (ids.size() != 1) {
+        return null;
+      }
+
+      filesByFieldId.put(ids.get(0), delete);
+    }
+
+    List<Types.NestedField> columns = requiredSchema.columns();
+    List<LongEqualityDeletes> result = Lists.newArrayList();
+    for (Map.Entry<Integer, Collection<DeleteFile>> entry : filesByFieldId.asMap().entrySet()) {
+      int fieldId = entry.getKey();
+      int columnIndex = -1;
+      for (int pos = 0; pos < columns.size(); pos += 1) {
+        if (columns.get(pos).fieldId() == fieldId) {
+          columnIndex = pos;
+          break;
+        }
+      }
+
+      if (columnIndex < 0) {
+        // nested equality fields are not supported
+        return null;
+      }
+
+      Types.NestedField field = columns.get(columnIndex);
+      switch (field.type().typeId()) {
+        case INTEGER:
+        case LONG:
+          break;
+        default:
+          return null;
+      }
+
+      Schema deleteSchema = new Schema(field);
+      Iterable<CloseableIterable<Record>> deleteRecords =
+          Iterables.transform(entry.getValue(), delete -> openDeletes(delete, deleteSchema));
+
+      LongHashSet deletedValues = new LongHashSet();
+      boolean deletesNull = false;
+      try (CloseableIterable<Record> records = CloseableIterable.concat(deleteRecords)) {
+        for (Record record : records) {
+          Object value = record.get(0);
+          if (value == null) {
+            deletesNull = true;
+          } else {
+            deletedValues.add(((Number) value).longValue());
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close equality delete source", e);
+      }
+
+      result.add(new LongEqualityDeletes(field, columnIndex, deletedValues, deletesNull));
+    }
+
+    return result;
+  }
+
   public PositionDeleteIndex deletedRowPositions() {
     if (posDeletes.isEmpty()) {
       return null;
     }
 
     if (deleteRowPositions == null) {
-      List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
-      deleteRowPositions = Deletes.toPositionIndex(filePath, deletes);
+      deleteRowPositions = loadPositionIndex();
     }
     return deleteRowPositions;
   }
 
+  private PositionDeleteIndex loadPositionIndex() {
+    // splits of the same data file share the index when they run in the same JVM
+    return PositionDeleteIndexCache.get()
+        .get(
+            filePath,
+            posDeletes,
+            () -> {
+              List<CloseableIterable<Record>> deletes =
+                  Lists.transform(posDeletes, this::openPosDeletes);
+              return Deletes.toPositionIndex(filePath, deletes);
+            });
+  }
+
   private CloseableIterable<T> applyPosDeletes(CloseableIterable<T> records) {
     if (posDeletes.isEmpty()) {
       return records;
     }
 
-    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
-
     // if there are fewer deletes than a reasonable number to keep in memory, use a set
     if (posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
-      PositionDeleteIndex positionIndex = Deletes.toPositionIndex(filePath, deletes);
+      PositionDeleteIndex positionIndex = deletedRowPositions();
       Predicate<T> isDeleted = record -> positionIndex.isDeleted(pos(record));
       return createDeleteIterable(records, isDeleted);
     }
 
+    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+
     return hasIsDeletedColumn
         ? Deletes.streamingMarker(
             records, this::pos, Deletes.deletePositions(filePath, deletes), this::markRowDeleted)
@@ -18,21 +18,34 @@
  */
 package org.apache.iceberg.data;
 
+import java.util.Map;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 
 public class GenericDeleteFilter extends DeleteFilter<Record> {
   private final FileIO io;
   private final InternalRecordWrapper asStructLike;
+  private final Map<String, String> tableProperties;
 
   public GenericDeleteFilter(
       FileIO io, FileScanTask task, Schema tableSchema, Schema requestedSchema) {
+    this(io, task, tableSchema, requestedSchema, ImmutableMap.of());
+  }
+
+  public GenericDeleteFilter(
+      FileIO io,
+      FileScanTask task,
+      Schema tableSchema,
+      Schema requestedSchema,
+      Map<String, String> tableProperties) {
     super(task.file().path().toString(), task.deletes(), tableSchema, requestedSchema);
     this.io = io;
     this.asStructLike = new InternalRecordWrapper(requiredSchema().asStruct());
+    this.tableProperties = tableProperties;
   }
 
   @Override
@@ -49,4 +62,9 @@ public class GenericDeleteFilter extends DeleteFilter<Record> {
   protected InputFile getInputFile(String location) {
     return io.newInputFile(location);
   }
+
+  @Override
+  protected Map<String, String> tableProperties() {
+    return tableProperties;
+  }
 }
@@ -47,6 +47,7 @@ import org.apache.iceberg.util.PartitionUtil;
 class GenericReader implements Serializable {
   private final FileIO io;
   private final Schema tableSchema;
+  private final Map<String, String> tableProperties;
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
@@ -54,6 +55,7 @@ class GenericReader implements Serializable {
   GenericReader(TableScan scan, boolean reuseContainers) {
     this.io = scan.table().io();
     this.tableSchema = scan.table().schema();
+    this.tableProperties = scan.table().properties();
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
@@ -70,7 +72,8 @@ class GenericReader implements Serializable {
   }
 
   public CloseableIterable<Record> open(FileScanTask task) {
-    DeleteFilter<Record> deletes = new GenericDeleteFilter(io, task, tableSchema, projection);
+    DeleteFilter<Record> deletes =
+        new GenericDeleteFilter(io, task, tableSchema, projection, tableProperties);
     Schema readSchema = deletes.requiredSchema();
 
     CloseableIterable<Record> records = openFile(task, readSchema);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.LongHashSet;
+
+/**
+ * Deleted values of an equality delete on a single top-level int or long column.
+ *
+ * <p>This allows vectorized readers to apply equality deletes by probing a primitive set with the
+ * values of one column, instead of evaluating a row predicate over a projection of each row.
+ */
+public class LongEqualityDeletes {
+  private final Types.NestedField field;
+  private final int columnIndex;
+  private final LongHashSet deletedValues;
+  private final boolean deletesNull;
+
+  LongEqualityDeletes(
+      Types.NestedField field, int columnIndex, LongHashSet deletedValues, boolean deletesNull) {
+    this.field = field;
+    this.columnIndex = columnIndex;
+    this.deletedValues = deletedValues;
+    this.deletesNull = deletesNull;
+  }
+
+  /** Returns the equality field. */
+  public Types.NestedField field() {
+    return field;
+  }
+
+  /** Returns the position of the equality field in the required schema of the delete filter. */
+  public int columnIndex() {
+    return columnIndex;
+  }
+
+  /** Returns whether rows with the given value in the equality column are deleted. */
+  public boolean isDeleted(long value) {
+    return deletedValues.contains(value);
+  }
+
+  /** Returns whether rows with a null value in the equality column are deleted. */
+  public boolean isNullDeleted() {
+    return deletesNull;
+  }
+
+  /** Returns the number of distinct deleted values, including null. */
+  public int size() {
+    return deletedValues.size() + (deletesNull ? 1 : 0);
+  }
+}
@@ -20,14 +20,28 @@ package org.apache.iceberg.data;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestHelpers.Row;
 import org.apache.iceberg.TestTables;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.StructLikeSet;
 import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
 
 public class TestGenericReaderDeletes extends DeleteReadTests {
 
@@ -60,4 +74,119 @@ public class TestGenericReaderDeletes extends DeleteReadTests {
   protected boolean expectPruned() {
     return false;
   }
+
+  @Test
+  public void testSpilledEqualityDeletesReleasedOnClose() throws IOException {
+    Assume.assumeTrue(
+        "Open files are listed in /proc/self/fd", new File("/proc/self/fd").isDirectory());
+
+    File spillDir = temp.newFolder();
+    String previousSpillDir =
+        System.setProperty(SystemProperties.DELETES_SPILL_DIR, spillDir.getAbsolutePath());
+    try {
+      spillEqualityDeletes();
+
+      try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build();
+          CloseableIterator<Record> rows = reader.iterator()) {
+        Assert.assertTrue("Should read a row", rows.hasNext());
+        Assert.assertTrue(
+            "Spilled deletes should be open while the file is read", openFiles(spillDir) > 0);
+
+        int count = 0;
+        while (rows.hasNext()) {
+          rows.next();
+          count += 1;
+        }
+
+        Assert.assertEquals("Should skip deleted rows", records.size() - 3, count);
+      }
+
+      Assert.assertEquals("Spilled deletes should be released", 0, openFiles(spillDir));
+
+    } finally {
+      if (previousSpillDir != null) {
+        System.setProperty(SystemProperties.DELETES_SPILL_DIR, previousSpillDir);
+      } else {
+        System.clearProperty(SystemProperties.DELETES_SPILL_DIR);
+      }
+    }
+  }
+
+  @Test
+  public void testReuseFilterAfterSpilledEqualityDeletesReleased() throws IOException {
+    Assume.assumeTrue(
+        "Open files are listed in /proc/self/fd", new File("/proc/self/fd").isDirectory());
+
+    File spillDir = temp.newFolder();
+    String previousSpillDir =
+        System.setProperty(SystemProperties.DELETES_SPILL_DIR, spillDir.getAbsolutePath());
+    try {
+      spillEqualityDeletes();
+
+      FileScanTask task = Iterables.getOnlyElement(table.newScan().planFiles());
+      GenericDeleteFilter deleteFilter =
+          new GenericDeleteFilter(
+              table.io(), task, table.schema(), table.schema(), table.properties());
+
+      for (int read = 0; read < 2; read += 1) {
+        try (CloseableIterable<Record> rows =
+            deleteFilter.filter(CloseableIterable.withNoopClose(records))) {
+          Assert.assertEquals("Should skip deleted rows", records.size() - 3, Iterables.size(rows));
+        }
+
+        Assert.assertEquals("Spilled deletes should be released", 0, openFiles(spillDir));
+      }
+
+    } finally {
+      if (previousSpillDir != null) {
+        System.setProperty(SystemProperties.DELETES_SPILL_DIR, previousSpillDir);
+      } else {
+        System.clearProperty(SystemProperties.DELETES_SPILL_DIR);
+      }
+    }
+  }
+
+  // adds equality deletes for 3 rows that are spilled to disk when they are read
+  private void spillEqualityDeletes() throws IOException {
+    table
+        .updateProperties()
+        .set(TableProperties.DELETE_EQUALITY_SPILL_ENABLED, "true")
+        .set(TableProperties.DELETE_EQUALITY_SPILL_MAX_IN_MEMORY_KEYS, "1")
+        .commit();
+
+    Schema deleteRowSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(deleteRowSchema);
+    List<Record> dataDeletes =
+        Lists.newArrayList(
+            dataDelete.copy("data", "a"), // id = 29
+            dataDelete.copy("data", "d"), // id = 89
+            dataDelete.copy("data", "g") // id = 122
+            );
+
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(
+            table, Files.localOutput(temp.newFile()), Row.of(0), dataDeletes, deleteRowSchema);
+
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+  }
+
+  // counts open file descriptors of this process for files in a directory, including unlinked files
+  private static long openFiles(File directory) throws IOException {
+    String prefix = directory.getCanonicalPath();
+    try (Stream<Path> descriptors = java.nio.file.Files.list(Paths.get("/proc/self/fd"))) {
+      return descriptors
+          .map(TestGenericReaderDeletes::target)
+          .filter(target -> target.startsWith(prefix))
+          .count();
+    }
+  }
+
+  private static String target(Path descriptor) {
+    try {
+      return java.nio.file.Files.readSymbolicLink(descriptor).toString();
+    } catch (IOException e) {
+      // the descriptor was closed while listing
+      return "";
+    }
+  }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data.parquet;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetPageSkipping {
+  private static final int NUM_RECORDS = 1000;
+  private static final String COLUMN_INDEX_FILTER = "parquet.filter.columnindex.enabled";
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "values", Types.ListType.ofRequired(4, Types.LongType.get())));
+
+  private static final Schema PROJECTION =
+      TypeUtil.join(SCHEMA, new Schema(MetadataColumns.ROW_POSITION));
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private File testFile = null;
+
+  @Before
+  public void writeFile() throws IOException {
+    this.testFile = temp.newFile();
+    Assertions.assertThat(testFile.delete()).isTrue();
+
+    try (FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(testFile))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "16384")
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "64")
+            .build()) {
+      for (int pos = 0; pos < NUM_RECORDS; pos += 1) {
+        appender.add(record(pos));
+      }
+    }
+  }
+
+  @Test
+  public void testFileHasMultiplePages() throws IOException {
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(
+            HadoopInputFile.fromPath(new Path(testFile.toURI()), new Configuration()))) {
+      for (BlockMetaData rowGroup : reader.getRowGroups()) {
+        OffsetIndex offsetIndex = reader.readOffsetIndex(rowGroup.getColumns().get(0));
+        Assertions.assertThat(offsetIndex.getPageCount())
+            .as("Should write multiple pages per row group")
+            .isGreaterThan(1);
+      }
+    }
+  }
+
+  @Test
+  public void testSkipPagesForRange() throws IOException {
+    List<Record> rows = read(and(greaterThanOrEqual("id", 500), lessThan("id", 510)), true);
+
+    assertRows(rows);
+    assertContainsIds(rows, IntStream.range(500, 510));
+    Assertions.assertThat(rows.size())
+        .as("Should skip pages without matching rows")
+        .isLessThan(NUM_RECORDS / 4);
+  }
+
+  @Test
+  public void testSkipPagesForDisjointRanges() throws IOException {
+    List<Record> rows = read(or(lessThan("id", 20), greaterThanOrEqual("id", 980)), true);
+
+    assertRows(rows);
+    assertContainsIds(rows, IntStream.range(0, 20));
+    assertContainsIds(rows, IntStream.range(980, NUM_RECORDS));
+    Assertions.assertThat(rows.size())
+        .as("Should skip pages without matching rows")
+        .isLessThan(NUM_RECORDS / 4);
+  }
+
+  @Test
+  public void testSkipAllPages() throws IOException {
+    Assertions.assertThat(read(equal("id", NUM_RECORDS + 1), true)).isEmpty();
+  }
+
+  @Test
+  public void testReadAllPagesForUnsupportedPredicate() throws IOException {
+    List<Record> rows = read(notEqual("id", 5), true);
+
+    assertRows(rows);
+    Assertions.assertThat(rows).hasSize(NUM_RECORDS);
+  }
+
+  @Test
+  public void testColumnIndexFilterDisabled() throws IOException {
+    List<Record> rows = read(and(greaterThanOrEqual("id", 500), lessThan("id", 510)), false);
+
+    assertRows(rows);
+    Assertions.assertThat(rows).hasSize(NUM_RECORDS);
+  }
+
+  private List<Record> read(Expression filter, boolean columnIndexFilter) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(testFile))
+            .project(PROJECTION)
+            .createReaderFunc(
+                fileSchema -> GenericParquetReaders.buildReader(PROJECTION, fileSchema))
+            .filter(filter)
+            .set(COLUMN_INDEX_FILTER, String.valueOf(columnIndexFilter))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private static void assertRows(List<Record> rows) {
+    for (Record row : rows) {
+      long pos = (Long) row.getField(MetadataColumns.ROW_POSITION.name());
+      Record expected = record((int) pos);
+      Assertions.assertThat(row.getField("id")).isEqualTo(expected.getField("id"));
+      Assertions.assertThat(row.getField("data")).isEqualTo(expected.getField("data"));
+      Assertions.assertThat(row.getField("values")).isEqualTo(expected.getField("values"));
+    }
+  }
+
+  private static void assertContainsIds(List<Record> rows, IntStream ids) {
+    List<Object> actualIds =
+        rows.stream().map(row -> row.getField("id")).collect(Collectors.toList());
+    Assertions.assertThat(actualIds).containsAll(ids.boxed().collect(Collectors.toList()));
+  }
+
+  private static Record record(int pos) {
+    Record record = GenericRecord.create(SCHEMA);
+    record.setField("id", pos);
+    record.setField("data", pos % 7 == 0 ? null : "data-" + pos);
+    List<Long> values = Lists.newArrayList();
+    for (int i = 0; i < pos % 4; i += 1) {
+      values.add(pos * 10L + i);
+    }
+
+    record.setField("values", values);
+    return record;
+  }
+}
@@ -32,6 +32,7 @@ import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.util.StructLikeSet;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -463,4 +464,44 @@ public abstract class TestPartitioningWriters<T> extends WriterTestBase<T> {
             toRow(1, "aaa"), toRow(2, "aaa"), toRow(3, "bbb"), toRow(4, "bbb"), toRow(5, "ccc"));
     Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
   }
+
+  @Test
+  public void testFanoutDataWriterBufferedBytesLimit() throws IOException {
+    Assume.assumeTrue("Avro writers do not buffer rows in memory", fileFormat != FileFormat.AVRO);
+
+    table.updateSpec().addField(Expressions.ref("data")).commit();
+
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    // any open file exceeds the limit, so only the most recently written file is kept open
+    FanoutDataWriter<T> writer =
+        new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), TARGET_FILE_SIZE, 1L);
+
+    PartitionSpec spec = table.spec();
+
+    writer.write(toRow(1, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(3, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(2, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(4, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(5, "ccc"), spec, partitionKey(spec, "ccc"));
+
+    Assert.assertEquals("Must keep only one writer open", 1, writer.openWriters());
+    Assert.assertEquals("Must track peak open writers", 2, writer.peakOpenWriters());
+    Assert.assertEquals("Must close writers early", 4, writer.evictedWriters());
+    Assert.assertTrue("Must track buffered bytes", writer.peakBufferedBytes() > 0);
+
+    writer.close();
+
+    DataWriteResult result = writer.result();
+    Assert.assertEquals("Must be 5 data files", 5, result.dataFiles().size());
+    Assert.assertEquals("Must be no open writers", 0, writer.openWriters());
+
+    RowDelta rowDelta = table.newRowDelta();
+    result.dataFiles().forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    List<T> expectedRows =
+        ImmutableList.of(
+            toRow(1, "aaa"), toRow(2, "aaa"), toRow(3, "bbb"), toRow(4, "bbb"), toRow(5, "ccc"));
+    Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
+  }
 }
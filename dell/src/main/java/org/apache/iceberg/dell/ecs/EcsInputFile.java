@@ -58,6 +58,8 @@ class EcsInputFile extends BaseEcsFile implements InputFile {
 
   @Override
   public SeekableInputStream newStream() {
-    return new EcsSeekableInputStream(client(), uri(), metrics());
+    // the length is cached with the file's metadata, so tail reads only send a ranged read when
+    // the length is already known
+    return new EcsSeekableInputStream(client(), uri(), metrics(), this::getLength);
   }
 }
@@ -22,11 +22,20 @@ import com.emc.object.Range;
 import com.emc.object.s3.S3Client;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 /**
  * A {@link SeekableInputStream} implementation that warp {@link S3Client#readObjectStream(String,
@@ -36,10 +45,10 @@ import org.apache.iceberg.metrics.MetricsContext.Unit;
  *   <li>The stream is only be loaded when start reading.
  *   <li>This class won't cache any bytes of content. It only maintains pos of {@link
  *       SeekableInputStream}
- *   <li>This class is not thread-safe.
+ *   <li>This class is not thread-safe, except for positional reads with {@link RangeReadable}.
  * </ol>
  */
-class EcsSeekableInputStream extends SeekableInputStream {
+class EcsSeekableInputStream extends SeekableInputStream implements RangeReadable {
 
   private final S3Client client;
   private final EcsURI uri;
@@ -54,9 +63,24 @@ class EcsSeekableInputStream extends SeekableInputStream {
   private final Counter readBytes;
   private final Counter readOperations;
 
+  /** Supplies the object length for tail reads, which are positional reads at the end */
+  private final LongSupplier objectLength;
+
+  private Long cachedObjectLength = null;
+
   EcsSeekableInputStream(S3Client client, EcsURI uri, MetricsContext metrics) {
+    this(
+        client,
+        uri,
+        metrics,
+        () -> client.getObjectMetadata(uri.bucket(), uri.name()).getContentLength());
+  }
+
+  EcsSeekableInputStream(
+      S3Client client, EcsURI uri, MetricsContext metrics, LongSupplier objectLength) {
     this.client = client;
     this.uri = uri;
+    this.objectLength = objectLength;
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
   }
@@ -113,6 +137,47 @@ class EcsSeekableInputStream extends SeekableInputStream {
     newPos = -1;
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    Range range = new Range(position, position + length - 1);
+    try (InputStream rangeStream = client.readObjectStream(uri.bucket(), uri.name(), range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
+
+    readBytes.increment(length);
+    readOperations.increment();
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    long size = objectLength();
+    int tailLength = (int) Math.min(size, length);
+    readFully(size - tailLength, buffer, offset, tailLength);
+
+    return tailLength;
+  }
+
+  private long objectLength() {
+    if (cachedObjectLength == null) {
+      this.cachedObjectLength = objectLength.getAsLong();
+    }
+
+    return cachedObjectLength;
+  }
+
+  /**
+   * Reads ranges by combining nearby ranges into a single ranged read and issuing the reads in
+   * parallel.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    return VectoredReads.readVectored(ranges, this::readFully);
+  }
+
   @Override
   public void close() throws IOException {
     if (internalStream != null) {
@@ -24,6 +24,7 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.configuration.description.Description;
 import org.apache.flink.configuration.description.TextElement;
 import org.apache.flink.table.api.TableEnvironment;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.flink.source.assigner.SplitAssignerType;
 import org.apache.iceberg.util.ThreadPools;
 
@@ -79,6 +80,19 @@ public class FlinkConfigOptions {
           .defaultValue(2048)
           .withDescription("The target number of records for Iceberg reader fetch batch.");
 
+  public static final ConfigOption<Boolean> TABLE_EXEC_ICEBERG_VECTORIZED_READS_ENABLED =
+      ConfigOptions.key("table.exec.iceberg.vectorized-reads.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Read Parquet files into Arrow batches in the FLIP-27 source instead of row by row.");
+
+  public static final ConfigOption<Integer> TABLE_EXEC_ICEBERG_VECTORIZED_READS_BATCH_SIZE =
+      ConfigOptions.key("table.exec.iceberg.vectorized-reads.batch-size")
+          .intType()
+          .defaultValue(TableProperties.PARQUET_BATCH_SIZE_DEFAULT)
+          .withDescription("The number of rows in each batch of vectorized Parquet reads.");
+
   public static final ConfigOption<Integer> TABLE_EXEC_ICEBERG_WORKER_POOL_SIZE =
       ConfigOptions.key("table.exec.iceberg.worker-pool-size")
           .intType()
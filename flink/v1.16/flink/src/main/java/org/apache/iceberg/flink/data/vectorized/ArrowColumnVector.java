@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.util.List;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.MapData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.columnar.ColumnarArrayData;
+import org.apache.flink.table.data.columnar.ColumnarMapData;
+import org.apache.flink.table.data.columnar.ColumnarRowData;
+import org.apache.flink.table.data.columnar.vector.ArrayColumnVector;
+import org.apache.flink.table.data.columnar.vector.BooleanColumnVector;
+import org.apache.flink.table.data.columnar.vector.BytesColumnVector;
+import org.apache.flink.table.data.columnar.vector.ColumnVector;
+import org.apache.flink.table.data.columnar.vector.DecimalColumnVector;
+import org.apache.flink.table.data.columnar.vector.DoubleColumnVector;
+import org.apache.flink.table.data.columnar.vector.FloatColumnVector;
+import org.apache.flink.table.data.columnar.vector.IntColumnVector;
+import org.apache.flink.table.data.columnar.vector.LongColumnVector;
+import org.apache.flink.table.data.columnar.vector.MapColumnVector;
+import org.apache.flink.table.data.columnar.vector.RowColumnVector;
+import org.apache.flink.table.data.columnar.vector.TimestampColumnVector;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+import org.apache.iceberg.arrow.vectorized.ArrowVectorAccessor;
+import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A Flink {@link ColumnVector} backed by an Arrow vector produced by the Iceberg vectorized
+ * Parquet readers.
+ *
+ * <p>Like Spark's IcebergArrowColumnVector, nullability of top-level columns is checked using the
+ * {@link NullabilityHolder} instead of the validity buffer of the Arrow vector. Fields of lists,
+ * maps and structs are read from the Arrow child vectors, which always set their validity buffers.
+ *
+ * <p>Values are converted to Flink's internal representation on access: times are returned as
+ * milliseconds of the day and timestamps as {@link TimestampData}.
+ */
+class ArrowColumnVector
+    implements BooleanColumnVector,
+        IntColumnVector,
+        LongColumnVector,
+        FloatColumnVector,
+        DoubleColumnVector,
+        DecimalColumnVector,
+        BytesColumnVector,
+        TimestampColumnVector,
+        ArrayColumnVector,
+        MapColumnVector,
+        RowColumnVector,
+        AutoCloseable {
+
+  private final Type type;
+  private final FieldVector vector;
+  private final NullabilityHolder nullabilityHolder;
+  private final ArrowVectorAccessor<DecimalData, byte[], ArrayData, ArrowColumnVector> accessor;
+  private ArrowColumnVector[] children = null;
+  private VectorizedColumnBatch structBatch = null;
+
+  ArrowColumnVector(VectorHolder holder) {
+    this.type = holder.icebergType();
+    this.vector = holder.vector();
+    this.nullabilityHolder = holder.nullabilityHolder();
+    this.accessor = type.isPrimitiveType() ? ArrowVectorAccessors.get(holder) : null;
+  }
+
+  private static ArrowColumnVector child(FieldVector childVector, Type childType) {
+    return new ArrowColumnVector(new VectorHolder.NestedVectorHolder(childVector, childType, null));
+  }
+
+  @Override
+  public boolean isNullAt(int rowId) {
+    if (nullabilityHolder != null) {
+      return nullabilityHolder.isNullAt(rowId) == 1;
+    }
+
+    return vector.isNull(rowId);
+  }
+
+  @Override
+  public boolean getBoolean(int rowId) {
+    return accessor.getBoolean(rowId);
+  }
+
+  @Override
+  public int getInt(int rowId) {
+    if (type.typeId() == Type.TypeID.TIME) {
+      // Flink represents times as milliseconds of the day
+      return (int) (accessor.getLong(rowId) / 1000);
+    }
+
+    return accessor.getInt(rowId);
+  }
+
+  @Override
+  public long getLong(int rowId) {
+    return accessor.getLong(rowId);
+  }
+
+  @Override
+  public float getFloat(int rowId) {
+    return accessor.getFloat(rowId);
+  }
+
+  @Override
+  public double getDouble(int rowId) {
+    return accessor.getDouble(rowId);
+  }
+
+  @Override
+  public DecimalData getDecimal(int rowId, int precision, int scale) {
+    return accessor.getDecimal(rowId, precision, scale);
+  }
+
+  @Override
+  public Bytes getBytes(int rowId) {
+    byte[] bytes =
+        type.typeId() == Type.TypeID.STRING
+            ? accessor.getUTF8String(rowId)
+            : accessor.getBinary(rowId);
+    return new Bytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public TimestampData getTimestamp(int rowId, int precision) {
+    long micros = accessor.getLong(rowId);
+    return TimestampData.fromEpochMillis(
+        Math.floorDiv(micros, 1000), (int) Math.floorMod(micros, 1000) * 1000);
+  }
+
+  @Override
+  public ArrayData getArray(int rowId) {
+    ListVector listVector = (ListVector) vector;
+    if (children == null) {
+      Type elementType = type.asListType().elementType();
+      this.children = new ArrowColumnVector[] {child(listVector.getDataVector(), elementType)};
+    }
+
+    int start = listVector.getElementStartIndex(rowId);
+    int end = listVector.getElementEndIndex(rowId);
+    return new ColumnarArrayData(children[0], start, end - start);
+  }
+
+  @Override
+  public MapData getMap(int rowId) {
+    MapVector mapVector = (MapVector) vector;
+    if (children == null) {
+      Types.MapType mapType = type.asMapType();
+      StructVector entries = (StructVector) mapVector.getDataVector();
+      this.children =
+          new ArrowColumnVector[] {
+            child((FieldVector) entries.getChildByOrdinal(0), mapType.keyType()),
+            child((FieldVector) entries.getChildByOrdinal(1), mapType.valueType())
+          };
+    }
+
+    int start = mapVector.getElementStartIndex(rowId);
+    int end = mapVector.getElementEndIndex(rowId);
+    return new ColumnarMapData(children[0], children[1], start, end - start);
+  }
+
+  @Override
+  public ColumnarRowData getRow(int rowId) {
+    if (structBatch == null) {
+      StructVector structVector = (StructVector) vector;
+      List<Types.NestedField> fields = type.asStructType().fields();
+      this.children = new ArrowColumnVector[fields.size()];
+      for (int pos = 0; pos < fields.size(); pos += 1) {
+        children[pos] =
+            child((FieldVector) structVector.getChildByOrdinal(pos), fields.get(pos).type());
+      }
+
+      this.structBatch = new VectorizedColumnBatch(children);
+    }
+
+    return new ColumnarRowData(structBatch, rowId);
+  }
+
+  @Override
+  public void close() {
+    // the Arrow vectors are owned and closed by the batch reader
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.iceberg.arrow.vectorized.ArrowVectorAccessor;
+import org.apache.iceberg.arrow.vectorized.GenericArrowVectorAccessorFactory;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * Creates accessors for Arrow vectors of primitive values that produce Flink's internal data
+ * structures. Strings are accessed as UTF-8 bytes, which Flink wraps without decoding.
+ *
+ * <p>Lists, maps and structs are exposed by {@link ArrowColumnVector} using the child vectors
+ * directly, so accessors for them are not supported.
+ */
+final class ArrowVectorAccessors
+    extends GenericArrowVectorAccessorFactory<DecimalData, byte[], ArrayData, ArrowColumnVector> {
+
+  private static final ArrowVectorAccessors INSTANCE = new ArrowVectorAccessors();
+
+  private ArrowVectorAccessors() {
+    super(
+        DecimalFactoryImpl::new,
+        StringFactoryImpl::new,
+        () -> {
+          throw new UnsupportedOperationException("Struct vectors are read by ArrowColumnVector");
+        },
+        () -> {
+          throw new UnsupportedOperationException("List vectors are read by ArrowColumnVector");
+        });
+  }
+
+  static ArrowVectorAccessor<DecimalData, byte[], ArrayData, ArrowColumnVector> get(
+      VectorHolder holder) {
+    return INSTANCE.getVectorAccessor(holder);
+  }
+
+  private static final class DecimalFactoryImpl implements DecimalFactory<DecimalData> {
+    @Override
+    public Class<DecimalData> getGenericClass() {
+      return DecimalData.class;
+    }
+
+    @Override
+    public DecimalData ofLong(long value, int precision, int scale) {
+      return DecimalData.fromUnscaledLong(value, precision, scale);
+    }
+
+    @Override
+    public DecimalData ofBigDecimal(BigDecimal value, int precision, int scale) {
+      return DecimalData.fromBigDecimal(value, precision, scale);
+    }
+  }
+
+  private static final class StringFactoryImpl implements StringFactory<byte[]> {
+    @Override
+    public Class<byte[]> getGenericClass() {
+      return byte[].class;
+    }
+
+    @Override
+    public byte[] ofRow(VarCharVector vector, int rowId) {
+      return vector.get(rowId);
+    }
+
+    @Override
+    public byte[] ofBytes(byte[] bytes) {
+      return bytes;
+    }
+
+    @Override
+    public byte[] ofByteBuffer(ByteBuffer byteBuffer) {
+      return ByteBuffers.toByteArray(byteBuffer);
+    }
+  }
+}
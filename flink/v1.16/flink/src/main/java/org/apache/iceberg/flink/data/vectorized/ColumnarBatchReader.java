@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.util.List;
+import org.apache.flink.table.data.columnar.vector.ColumnVector;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * {@link VectorizedReader} that returns Flink's {@link VectorizedColumnBatch} to support Flink's
+ * vectorized read path. The {@link VectorizedColumnBatch} returned is created by passing in the
+ * Arrow vectors populated via delegated read calls to {@linkplain VectorizedArrowReader
+ * VectorReader(s)}.
+ */
+public class ColumnarBatchReader extends BaseBatchReader<VectorizedColumnBatch> {
+
+  public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
+    super(readers);
+  }
+
+  @Override
+  public final VectorizedColumnBatch read(VectorizedColumnBatch reuse, int numRowsToRead) {
+    Preconditions.checkArgument(
+        numRowsToRead > 0, "Invalid number of rows to read: %s", numRowsToRead);
+
+    if (reuse == null) {
+      closeVectors();
+    }
+
+    ColumnVector[] columnVectors = new ColumnVector[readers.length];
+    for (int i = 0; i < readers.length; i += 1) {
+      vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
+      int numRowsInVector = vectorHolders[i].numValues();
+      Preconditions.checkState(
+          numRowsInVector == numRowsToRead,
+          "Number of rows in the vector %s didn't match expected %s ",
+          numRowsInVector,
+          numRowsToRead);
+      columnVectors[i] = columnVector(vectorHolders[i]);
+    }
+
+    VectorizedColumnBatch batch = new VectorizedColumnBatch(columnVectors);
+    batch.setNumRows(numRowsToRead);
+    return batch;
+  }
+
+  private static ColumnVector columnVector(VectorHolder holder) {
+    if (holder instanceof VectorHolder.ConstantVectorHolder) {
+      Object constant = ((VectorHolder.ConstantVectorHolder<?>) holder).getConstant();
+      return new ConstantColumnVector(constant);
+    }
+
+    return new ArrowColumnVector(holder);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.columnar.vector.BooleanColumnVector;
+import org.apache.flink.table.data.columnar.vector.BytesColumnVector;
+import org.apache.flink.table.data.columnar.vector.ColumnVector;
+import org.apache.flink.table.data.columnar.vector.DecimalColumnVector;
+import org.apache.flink.table.data.columnar.vector.DoubleColumnVector;
+import org.apache.flink.table.data.columnar.vector.FloatColumnVector;
+import org.apache.flink.table.data.columnar.vector.IntColumnVector;
+import org.apache.flink.table.data.columnar.vector.LongColumnVector;
+import org.apache.flink.table.data.columnar.vector.TimestampColumnVector;
+
+/**
+ * A Flink {@link ColumnVector} that returns the same value for every row, used for partition
+ * values and for columns that are missing from a data file.
+ *
+ * <p>Constants must already be converted to Flink's internal representation, see {@link
+ * org.apache.iceberg.flink.data.RowDataUtil#convertConstant}.
+ */
+class ConstantColumnVector
+    implements BooleanColumnVector,
+        IntColumnVector,
+        LongColumnVector,
+        FloatColumnVector,
+        DoubleColumnVector,
+        DecimalColumnVector,
+        BytesColumnVector,
+        TimestampColumnVector {
+
+  private final Object constant;
+  private final Bytes bytes;
+
+  ConstantColumnVector(Object constant) {
+    this.constant = constant;
+    if (constant instanceof StringData) {
+      byte[] utf8 = ((StringData) constant).toBytes();
+      this.bytes = new Bytes(utf8, 0, utf8.length);
+    } else if (constant instanceof byte[]) {
+      byte[] binary = (byte[]) constant;
+      this.bytes = new Bytes(binary, 0, binary.length);
+    } else {
+      this.bytes = null;
+    }
+  }
+
+  @Override
+  public boolean isNullAt(int rowId) {
+    return constant == null;
+  }
+
+  @Override
+  public boolean getBoolean(int rowId) {
+    return (Boolean) constant;
+  }
+
+  @Override
+  public int getInt(int rowId) {
+    return (Integer) constant;
+  }
+
+  @Override
+  public long getLong(int rowId) {
+    return (Long) constant;
+  }
+
+  @Override
+  public float getFloat(int rowId) {
+    return (Float) constant;
+  }
+
+  @Override
+  public double getDouble(int rowId) {
+    return (Double) constant;
+  }
+
+  @Override
+  public DecimalData getDecimal(int rowId, int precision, int scale) {
+    return (DecimalData) constant;
+  }
+
+  @Override
+  public Bytes getBytes(int rowId) {
+    if (bytes == null) {
+      throw new UnsupportedOperationException(
+          "Cannot read constant as bytes: " + constant.getClass().getName());
+    }
+
+    return bytes;
+  }
+
+  @Override
+  public TimestampData getTimestamp(int rowId, int precision) {
+    return (TimestampData) constant;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.arrow.vector.NullCheckingForGet;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.columnar.ColumnarRowData;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.vectorized.VectorizedReaderBuilder;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.schema.MessageType;
+
+public class VectorizedFlinkParquetReaders {
+
+  private VectorizedFlinkParquetReaders() {}
+
+  /**
+   * Builds a reader that returns Flink {@link VectorizedColumnBatch columnar batches} backed by
+   * Arrow vectors.
+   *
+   * @param expectedSchema the expected schema of the batches
+   * @param fileSchema the Parquet file schema
+   * @param idToConstant a map from field ID to constant values in Flink's internal representation
+   * @return a reader for Flink columnar batches
+   */
+  public static ColumnarBatchReader buildReader(
+      Schema expectedSchema, MessageType fileSchema, Map<Integer, ?> idToConstant) {
+    return (ColumnarBatchReader)
+        TypeWithSchemaVisitor.visit(
+            expectedSchema.asStruct(),
+            fileSchema,
+            new VectorizedReaderBuilder(
+                expectedSchema,
+                fileSchema,
+                NullCheckingForGet.NULL_CHECKING_ENABLED,
+                idToConstant,
+                ColumnarBatchReader::new));
+  }
+
+  /**
+   * Returns whether rows of a schema can be read by the vectorized reader.
+   *
+   * <p>The only metadata column that is supported is the row position, which is needed to apply
+   * position deletes.
+   *
+   * @param schema a read schema
+   * @return true if the schema can be read using {@link #buildReader(Schema, MessageType, Map)}
+   */
+  public static boolean isSupported(Schema schema) {
+    for (Types.NestedField field : schema.columns()) {
+      if (MetadataColumns.metadataFieldIds().contains(field.fieldId())
+          && field.fieldId() != MetadataColumns.ROW_POSITION.fieldId()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the rows of columnar batches.
+   *
+   * <p>The returned {@link ColumnarRowData} is reused and points into the current batch, so each
+   * row must be consumed or copied before the next call to {@code hasNext}.
+   *
+   * @param batches an iterable of columnar batches
+   * @return an iterable of the rows in the batches
+   */
+  public static CloseableIterable<RowData> rows(CloseableIterable<VectorizedColumnBatch> batches) {
+    return new CloseableIterable<RowData>() {
+      @Override
+      public CloseableIterator<RowData> iterator() {
+        return new RowIterator(batches.iterator());
+      }
+
+      @Override
+      public void close() throws IOException {
+        batches.close();
+      }
+    };
+  }
+
+  private static class RowIterator implements CloseableIterator<RowData> {
+    private final CloseableIterator<VectorizedColumnBatch> batches;
+    private final ColumnarRowData row = new ColumnarRowData();
+    private int numRows = 0;
+    private int rowId = 0;
+
+    private RowIterator(CloseableIterator<VectorizedColumnBatch> batches) {
+      this.batches = batches;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (rowId >= numRows) {
+        if (!batches.hasNext()) {
+          return false;
+        }
+
+        VectorizedColumnBatch batch = batches.next();
+        row.setVectorizedColumnBatch(batch);
+        this.numRows = batch.getNumRows();
+        this.rowId = 0;
+      }
+
+      return true;
+    }
+
+    @Override
+    public RowData next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      row.setRowId(rowId);
+      rowId += 1;
+      return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+      batches.close();
+    }
+  }
+}
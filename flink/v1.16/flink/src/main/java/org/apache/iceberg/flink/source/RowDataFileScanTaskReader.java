@@ -36,12 +36,14 @@ import org.apache.iceberg.flink.data.FlinkOrcReader;
 import org.apache.iceberg.flink.data.FlinkParquetReaders;
 import org.apache.iceberg.flink.data.RowDataProjection;
 import org.apache.iceberg.flink.data.RowDataUtil;
+import org.apache.iceberg.flink.data.vectorized.VectorizedFlinkParquetReaders;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
@@ -54,13 +56,36 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
   private final Schema projectedSchema;
   private final String nameMapping;
   private final boolean caseSensitive;
+  private final boolean vectorizedReads;
+  private final int batchSize;
 
   public RowDataFileScanTaskReader(
       Schema tableSchema, Schema projectedSchema, String nameMapping, boolean caseSensitive) {
+    this(tableSchema, projectedSchema, nameMapping, caseSensitive, false, 0);
+  }
+
+  /**
+   * Creates a reader that optionally reads Parquet files into Arrow batches.
+   *
+   * <p>When vectorized reads are enabled, the rows returned for Parquet files are {@link
+   * org.apache.flink.table.data.columnar.ColumnarRowData} instances that are reused and backed by
+   * the current batch, so callers must copy each row before advancing the iterator.
+   */
+  public RowDataFileScanTaskReader(
+      Schema tableSchema,
+      Schema projectedSchema,
+      String nameMapping,
+      boolean caseSensitive,
+      boolean vectorizedReads,
+      int batchSize) {
+    Preconditions.checkArgument(
+        !vectorizedReads || batchSize > 0, "Invalid batch size: %s", batchSize);
     this.tableSchema = tableSchema;
     this.projectedSchema = projectedSchema;
     this.nameMapping = nameMapping;
     this.caseSensitive = caseSensitive;
+    this.vectorizedReads = vectorizedReads;
+    this.batchSize = batchSize;
   }
 
   @Override
@@ -147,6 +172,10 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
       Schema schema,
       Map<Integer, ?> idToConstant,
       InputFilesDecryptor inputFilesDecryptor) {
+    if (vectorizedReads && VectorizedFlinkParquetReaders.isSupported(schema)) {
+      return newVectorizedParquetIterable(task, schema, idToConstant, inputFilesDecryptor);
+    }
+
     Parquet.ReadBuilder builder =
         Parquet.read(inputFilesDecryptor.getInputFile(task))
             .split(task.start(), task.length())
@@ -164,6 +193,31 @@ public class RowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
     return builder.build();
   }
 
+  private CloseableIterable<RowData> newVectorizedParquetIterable(
+      FileScanTask task,
+      Schema schema,
+      Map<Integer, ?> idToConstant,
+      InputFilesDecryptor inputFilesDecryptor) {
+    Parquet.ReadBuilder builder =
+        Parquet.read(inputFilesDecryptor.getInputFile(task))
+            .split(task.start(), task.length())
+            .project(schema)
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    VectorizedFlinkParquetReaders.buildReader(schema, fileSchema, idToConstant))
+            .recordsPerBatch(batchSize)
+            .filter(task.residual())
+            .caseSensitive(caseSensitive)
+            // rows are consumed before the next batch is read, so the Arrow vectors are reused
+            .reuseContainers();
+
+    if (nameMapping != null) {
+      builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+    }
+
+    return VectorizedFlinkParquetReaders.rows(builder.build());
+  }
+
   private CloseableIterable<RowData> newOrcIterable(
       FileScanTask task,
       Schema schema,
@@ -22,6 +22,7 @@ import org.apache.flink.configuration.ReadableConfig;
 import org.apache.flink.table.data.RowData;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.flink.FlinkConfigOptions;
 import org.apache.iceberg.flink.FlinkSchemaUtil;
 import org.apache.iceberg.flink.source.DataIterator;
 import org.apache.iceberg.flink.source.RowDataFileScanTaskReader;
@@ -36,6 +37,8 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
   private final boolean caseSensitive;
   private final FileIO io;
   private final EncryptionManager encryption;
+  private final boolean vectorizedReads;
+  private final int batchSize;
 
   public RowDataReaderFunction(
       ReadableConfig config,
@@ -56,12 +59,16 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
     this.caseSensitive = caseSensitive;
     this.io = io;
     this.encryption = encryption;
+    this.vectorizedReads =
+        config.get(FlinkConfigOptions.TABLE_EXEC_ICEBERG_VECTORIZED_READS_ENABLED);
+    this.batchSize = config.get(FlinkConfigOptions.TABLE_EXEC_ICEBERG_VECTORIZED_READS_BATCH_SIZE);
   }
 
   @Override
   public DataIterator<RowData> createDataIterator(IcebergSourceSplit split) {
     return new DataIterator<>(
-        new RowDataFileScanTaskReader(tableSchema, readSchema, nameMapping, caseSensitive),
+        new RowDataFileScanTaskReader(
+            tableSchema, readSchema, nameMapping, caseSensitive, vectorizedReads, batchSize),
         split.task(),
         io,
         encryption);
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.DataTest;
+import org.apache.iceberg.data.RandomGenericData;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.flink.FlinkSchemaUtil;
+import org.apache.iceberg.flink.TestHelpers;
+import org.apache.iceberg.flink.data.vectorized.VectorizedFlinkParquetReaders;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestFlinkVectorizedParquetReader extends DataTest {
+  private static final int NUM_RECORDS = 100;
+  // smaller than the number of records so that rows span several batches
+  private static final int BATCH_SIZE = 7;
+
+  @Test
+  public void testConstantsAndRowPositions() throws IOException {
+    Schema fileSchema =
+        new Schema(
+            required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+    List<Record> records = RandomGenericData.generate(fileSchema, NUM_RECORDS, 7L);
+    File testFile = writeFile(records, fileSchema);
+
+    Schema readSchema =
+        new Schema(
+            required(1, "id", Types.LongType.get()),
+            optional(3, "part", Types.StringType.get()),
+            optional(4, "missing", Types.IntegerType.get()),
+            MetadataColumns.ROW_POSITION);
+    Assert.assertTrue(
+        "Should support row positions", VectorizedFlinkParquetReaders.isSupported(readSchema));
+
+    Map<Integer, ?> idToConstant = ImmutableMap.of(3, StringData.fromString("a"));
+    try (CloseableIterable<RowData> reader =
+        VectorizedFlinkParquetReaders.rows(batches(testFile, readSchema, idToConstant))) {
+      Iterator<RowData> rows = reader.iterator();
+      for (int i = 0; i < NUM_RECORDS; i += 1) {
+        Assert.assertTrue("Should have expected number of rows", rows.hasNext());
+        RowData row = rows.next();
+        Assert.assertEquals("Should read id", records.get(i).getField("id"), row.getLong(0));
+        Assert.assertEquals("Should read constant", "a", row.getString(1).toString());
+        Assert.assertTrue("Should read missing column as null", row.isNullAt(2));
+        Assert.assertEquals("Should read row position", i, row.getLong(3));
+      }
+      Assert.assertFalse("Should not have extra rows", rows.hasNext());
+    }
+  }
+
+  @Test
+  public void testUnsupportedMetadataColumns() {
+    Schema schema = new Schema(required(1, "id", Types.LongType.get()), MetadataColumns.IS_DELETED);
+    Assert.assertFalse(
+        "Should not support the deleted flag", VectorizedFlinkParquetReaders.isSupported(schema));
+  }
+
+  private File writeFile(Iterable<Record> records, Schema schema) throws IOException {
+    File testFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", testFile.delete());
+
+    try (FileAppender<Record> writer =
+        Parquet.write(Files.localOutput(testFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .build()) {
+      writer.addAll(records);
+    }
+
+    return testFile;
+  }
+
+  private CloseableIterable<VectorizedColumnBatch> batches(
+      File testFile, Schema schema, Map<Integer, ?> idToConstant) {
+    return Parquet.read(Files.localInput(testFile))
+        .project(schema)
+        .createBatchedReaderFunc(
+            type -> VectorizedFlinkParquetReaders.buildReader(schema, type, idToConstant))
+        .recordsPerBatch(BATCH_SIZE)
+        .reuseContainers()
+        .build();
+  }
+
+  private void writeAndValidate(List<Record> records, Schema schema) throws IOException {
+    File testFile = writeFile(records, schema);
+
+    try (CloseableIterable<RowData> reader =
+        VectorizedFlinkParquetReaders.rows(batches(testFile, schema, ImmutableMap.of()))) {
+      Iterator<Record> expected = records.iterator();
+      Iterator<RowData> rows = reader.iterator();
+      LogicalType rowType = FlinkSchemaUtil.convert(schema);
+      for (int i = 0; i < NUM_RECORDS; i += 1) {
+        Assert.assertTrue("Should have expected number of rows", rows.hasNext());
+        TestHelpers.assertRowData(schema.asStruct(), rowType, expected.next(), rows.next());
+      }
+      Assert.assertFalse("Should not have extra rows", rows.hasNext());
+    }
+  }
+
+  @Override
+  protected void writeAndValidate(Schema schema) throws IOException {
+    writeAndValidate(RandomGenericData.generate(schema, NUM_RECORDS, 19981), schema);
+    writeAndValidate(
+        Lists.newArrayList(
+            RandomGenericData.generateDictionaryEncodableRecords(schema, NUM_RECORDS, 21124)),
+        schema);
+    writeAndValidate(
+        Lists.newArrayList(
+            RandomGenericData.generateFallbackRecords(
+                schema, NUM_RECORDS, 21124, NUM_RECORDS / 20)),
+        schema);
+  }
+}
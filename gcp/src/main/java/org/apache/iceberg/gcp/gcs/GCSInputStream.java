@@ -23,14 +23,19 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobSourceOption;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
@@ -43,7 +48,7 @@ import org.slf4j.LoggerFactory;
  * The GCSInputStream leverages native streaming channels from the GCS API for streaming uploads.
  * See <a href="https://cloud.google.com/storage/docs/streaming">Streaming Transfers</a>
  */
-class GCSInputStream extends SeekableInputStream {
+class GCSInputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(GCSInputStream.class);
 
   private final StackTraceElement[] createStack;
@@ -56,6 +61,7 @@ class GCSInputStream extends SeekableInputStream {
   private boolean closed = false;
   private final ByteBuffer singleByteBuffer = ByteBuffer.wrap(new byte[1]);
   private ByteBuffer byteBuffer;
+  private Long blobSize = null;
 
   private final Counter readBytes;
   private final Counter readOperations;
@@ -75,6 +81,10 @@ class GCSInputStream extends SeekableInputStream {
   }
 
   private void openStream() {
+    channel = newChannel();
+  }
+
+  private ReadChannel newChannel() {
     List<BlobSourceOption> sourceOptions = Lists.newArrayList();
 
     gcpProperties
@@ -84,9 +94,12 @@ class GCSInputStream extends SeekableInputStream {
         .userProject()
         .ifPresent(userProject -> sourceOptions.add(BlobSourceOption.userProject(userProject)));
 
-    channel = storage.reader(blobId, sourceOptions.toArray(new BlobSourceOption[0]));
+    ReadChannel newChannel =
+        storage.reader(blobId, sourceOptions.toArray(new BlobSourceOption[0]));
+
+    gcpProperties.channelReadChunkSize().ifPresent(newChannel::setChunkSize);
 
-    gcpProperties.channelReadChunkSize().ifPresent(channel::setChunkSize);
+    return newChannel;
   }
 
   @Override
@@ -136,6 +149,56 @@ class GCSInputStream extends SeekableInputStream {
     return bytesRead;
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    try (ReadChannel rangeChannel = newChannel()) {
+      rangeChannel.seek(position);
+      rangeChannel.limit(position + length);
+
+      ByteBuffer target = ByteBuffer.wrap(buffer, offset, length);
+      while (target.hasRemaining()) {
+        if (rangeChannel.read(target) < 0) {
+          throw new EOFException(
+              "Reached the end of stream with " + target.remaining() + " bytes left to read");
+        }
+      }
+    }
+
+    readBytes.increment(length);
+    readOperations.increment();
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    long size = blobSize();
+    int tailLength = (int) Math.min(size, length);
+    readFully(size - tailLength, buffer, offset, tailLength);
+
+    return tailLength;
+  }
+
+  /**
+   * Reads ranges by combining nearby ranges into a single ranged read and issuing the reads in
+   * parallel.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return VectoredReads.readVectored(ranges, this::readFully);
+  }
+
+  private long blobSize() {
+    if (blobSize == null) {
+      this.blobSize = storage.get(blobId).getSize();
+    }
+
+    return blobSize;
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
@@ -140,6 +140,16 @@ class OrcFileAppender<D> implements FileAppender<D> {
         Math.ceil(dataLength + (estimateMemory + (long) batch.size * avgRowByteSize) * 0.2);
   }
 
+  @Override
+  public long bufferedSize() {
+    if (isClosed) {
+      return 0L;
+    }
+
+    // the current stripe buffered by the ORC writer and the rows that are not added to it yet
+    return writer.estimateMemory() + (long) batch.size * avgRowByteSize;
+  }
+
   @Override
   public List<Long> splitOffsets() {
     Preconditions.checkState(isClosed, "File is not yet closed");
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * The byte ranges of projected column chunks in the row groups that will be read from a file.
+ *
+ * <p>Ranges are keyed by the offset of the first projected column chunk of each row group, which
+ * is where the Parquet reader seeks to when it starts reading the row group.
+ */
+class ColumnChunkRanges {
+  private volatile Map<Long, List<FileRange>> rangesByRowGroupStart = ImmutableMap.of();
+
+  void plan(List<BlockMetaData> rowGroups, boolean[] shouldSkip, MessageType projection) {
+    Set<ColumnPath> projectedColumns =
+        projection.getColumns().stream()
+            .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
+            .collect(Collectors.toSet());
+
+    ImmutableMap.Builder<Long, List<FileRange>> builder = ImmutableMap.builder();
+    for (int i = 0; i < rowGroups.size(); i += 1) {
+      if (shouldSkip[i]) {
+        continue;
+      }
+
+      List<ColumnChunkMetaData> chunks =
+          rowGroups.get(i).getColumns().stream()
+              .filter(chunk -> projectedColumns.contains(chunk.getPath()))
+              .collect(Collectors.toList());
+      boolean fitsInBuffers =
+          chunks.stream().allMatch(chunk -> chunk.getTotalSize() <= Integer.MAX_VALUE);
+      if (chunks.isEmpty() || !fitsInBuffers) {
+        continue;
+      }
+
+      List<FileRange> ranges =
+          chunks.stream()
+              .map(chunk -> new FileRange(chunk.getStartingPos(), (int) chunk.getTotalSize()))
+              .sorted(Comparator.comparingLong(FileRange::offset))
+              .collect(Collectors.toList());
+      builder.put(ranges.get(0).offset(), ranges);
+    }
+
+    this.rangesByRowGroupStart = builder.build();
+  }
+
+  /** Returns the column chunk ranges of the row group that starts at the offset, or null. */
+  List<FileRange> rowGroupStartingAt(long offset) {
+    return rangesByRowGroupStart.get(offset);
+  }
+}
@@ -18,12 +18,15 @@
  */
 package org.apache.iceberg.parquet;
 
+import org.apache.iceberg.parquet.FilteredPageReadStore.FilteredPageReader;
 import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.PageReader;
 import org.apache.parquet.io.api.Binary;
 
 public abstract class ColumnIterator<T> extends BaseColumnIterator implements TripleIterator<T> {
   @SuppressWarnings("unchecked")
-  static <T> ColumnIterator<T> newIterator(ColumnDescriptor desc, String writerVersion) {
+  public static <T> ColumnIterator<T> newIterator(ColumnDescriptor desc, String writerVersion) {
     switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
       case BOOLEAN:
         return (ColumnIterator<T>)
@@ -89,12 +92,45 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
   }
 
   private final PageIterator<T> pageIterator;
+  // set when only selected rows of the row group are read
+  private FilteredPageReader filteredPages = null;
 
   private ColumnIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc);
     this.pageIterator = PageIterator.newIterator(desc, writerVersion);
   }
 
+  @Override
+  public void setPageSource(PageReader source) {
+    if (source instanceof FilteredPageReader) {
+      this.filteredPages = (FilteredPageReader) source;
+      pageIterator.setRowRanges(filteredPages.rowRanges());
+    } else {
+      this.filteredPages = null;
+      pageIterator.setRowRanges(null);
+    }
+
+    super.setPageSource(source);
+  }
+
+  @Override
+  protected void advance() {
+    if (filteredPages == null) {
+      super.advance();
+      return;
+    }
+
+    // triples of rows that are not selected are skipped, so pages are read when exhausted
+    while (!pageIterator.hasNext()) {
+      DataPage page = filteredPages.readPage();
+      if (page == null) {
+        return;
+      }
+
+      pageIterator.setPage(page, filteredPages.firstRowIndex());
+    }
+  }
+
   @Override
   public int currentDefinitionLevel() {
     advance();
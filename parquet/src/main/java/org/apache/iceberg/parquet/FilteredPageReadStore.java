@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+
+/**
+ * A {@link PageReadStore} that returns only the pages of a row group that contain selected rows.
+ *
+ * <p>Pages that do not contain any row in {@link #rowRanges()} are skipped without being decoded.
+ * Page boundaries differ between columns, so pages that are returned may still contain rows that
+ * are not selected. Column readers use {@link
+ * FilteredPageReader#firstRowIndex()} to find the rows of a page and skip the ones that are not
+ * selected, which keeps all columns aligned on the selected rows.
+ */
+public class FilteredPageReadStore implements PageReadStore {
+  private final PageReadStore delegate;
+  private final RowRanges rowRanges;
+  private final Function<ColumnDescriptor, OffsetIndex> offsetIndexes;
+
+  FilteredPageReadStore(
+      PageReadStore delegate,
+      RowRanges rowRanges,
+      Function<ColumnDescriptor, OffsetIndex> offsetIndexes) {
+    this.delegate = delegate;
+    this.rowRanges = rowRanges;
+    this.offsetIndexes = offsetIndexes;
+  }
+
+  /**
+   * Returns pages of a row group that contain the selected rows.
+   *
+   * @param reader a reader for the file, used to read offset indexes
+   * @param rowGroup metadata for the row group
+   * @param pages all pages of the row group
+   * @param rowRanges rows to read, or null to read all rows
+   * @return a page store that returns pages containing the selected rows
+   */
+  static PageReadStore filter(
+      ParquetFileReader reader, BlockMetaData rowGroup, PageReadStore pages, RowRanges rowRanges) {
+    if (rowRanges == null) {
+      return pages;
+    }
+
+    Map<ColumnPath, ColumnChunkMetaData> columns = Maps.newHashMap();
+    for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+      columns.put(column.getPath(), column);
+    }
+
+    return new FilteredPageReadStore(
+        pages,
+        rowRanges,
+        desc -> {
+          ColumnChunkMetaData column = columns.get(ColumnPath.get(desc.getPath()));
+          try {
+            OffsetIndex offsetIndex = reader.readOffsetIndex(column);
+            Preconditions.checkState(offsetIndex != null, "Missing offset index: %s", column);
+            return offsetIndex;
+          } catch (IOException e) {
+            throw new RuntimeIOException(e, "Failed to read offset index for column: %s", column);
+          }
+        });
+  }
+
+  @Override
+  public PageReader getPageReader(ColumnDescriptor descriptor) {
+    return new FilteredPageReader(
+        delegate.getPageReader(descriptor),
+        offsetIndexes.apply(descriptor),
+        rowRanges,
+        delegate.getRowCount());
+  }
+
+  /** Returns the number of selected rows. */
+  @Override
+  public long getRowCount() {
+    return rowRanges.rowCount();
+  }
+
+  /** Returns the rows to read, relative to the start of the row group. */
+  public RowRanges rowRanges() {
+    return rowRanges;
+  }
+
+  /** A {@link PageReader} that skips the pages of a column that do not contain selected rows. */
+  public static class FilteredPageReader implements PageReader {
+    private final PageReader delegate;
+    private final OffsetIndex offsetIndex;
+    private final RowRanges rowRanges;
+    private final long rowGroupRowCount;
+    private int nextPage = 0;
+    private long firstRowIndex = -1L;
+
+    private FilteredPageReader(
+        PageReader delegate, OffsetIndex offsetIndex, RowRanges rowRanges, long rowGroupRowCount) {
+      this.delegate = delegate;
+      this.offsetIndex = offsetIndex;
+      this.rowRanges = rowRanges;
+      this.rowGroupRowCount = rowGroupRowCount;
+    }
+
+    @Override
+    public DictionaryPage readDictionaryPage() {
+      return delegate.readDictionaryPage();
+    }
+
+    /** Returns the number of values in all pages of the column chunk. */
+    @Override
+    public long getTotalValueCount() {
+      return delegate.getTotalValueCount();
+    }
+
+    @Override
+    public DataPage readPage() {
+      DataPage page = delegate.readPage();
+      while (page != null) {
+        int pageIndex = nextPage;
+        this.nextPage += 1;
+
+        long first = offsetIndex.getFirstRowIndex(pageIndex);
+        long last =
+            pageIndex + 1 < offsetIndex.getPageCount()
+                ? offsetIndex.getFirstRowIndex(pageIndex + 1) - 1
+                : rowGroupRowCount - 1;
+        if (rowRanges.overlaps(first, last)) {
+          this.firstRowIndex = first;
+          return page;
+        }
+
+        page = delegate.readPage();
+      }
+
+      return null;
+    }
+
+    /** Returns the index of the first row of the last page returned by {@link #readPage()}. */
+    public long firstRowIndex() {
+      return firstRowIndex;
+    }
+
+    /** Returns the rows to read, relative to the start of the row group. */
+    public RowRanges rowRanges() {
+      return rowRanges;
+    }
+  }
+}
@@ -100,10 +100,36 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     }
   }
 
+  // rows to read from the row group, null when all rows are read
+  private RowRanges rowRanges = null;
+  private int currentRange = 0;
+  private long currentRow = -1L;
+
   private PageIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc, writerVersion);
   }
 
+  /**
+   * Sets the rows to read from the current row group.
+   *
+   * @param ranges selected rows, or null to read all rows
+   */
+  void setRowRanges(RowRanges ranges) {
+    this.rowRanges = ranges;
+    this.currentRange = 0;
+  }
+
+  /**
+   * Sets the next page when reading selected rows.
+   *
+   * @param page a data page
+   * @param firstRowIndex the row group index of the first row in the page
+   */
+  void setPage(DataPage page, long firstRowIndex) {
+    this.currentRow = firstRowIndex - 1;
+    setPage(page);
+  }
+
   @Override
   public void setPage(DataPage page) {
     super.setPage(page);
@@ -124,9 +150,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public boolean nextBoolean() {
-    advance();
     try {
-      return values.readBoolean();
+      boolean value = values.readBoolean();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -134,9 +161,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public int nextInteger() {
-    advance();
     try {
-      return values.readInteger();
+      int value = values.readInteger();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -144,9 +172,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public long nextLong() {
-    advance();
     try {
-      return values.readLong();
+      long value = values.readLong();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -154,9 +183,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public float nextFloat() {
-    advance();
     try {
-      return values.readFloat();
+      float value = values.readFloat();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -164,9 +194,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public double nextDouble() {
-    advance();
     try {
-      return values.readDouble();
+      double value = values.readDouble();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -174,9 +205,10 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public Binary nextBinary() {
-    advance();
     try {
-      return values.readBytes();
+      Binary value = values.readBytes();
+      advance();
+      return value;
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
@@ -191,10 +223,11 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   private void advance() {
     if (triplesRead < triplesCount) {
-      this.currentDL = definitionLevels.nextInt();
-      this.currentRL = repetitionLevels.nextInt();
-      this.triplesRead += 1;
-      this.hasNext = true;
+      readLevels();
+      if (rowRanges != null && currentRL == 0) {
+        this.currentRow += 1;
+        skipUnselectedRows();
+      }
     } else {
       this.currentDL = -1;
       this.currentRL = -1;
@@ -202,6 +235,44 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     }
   }
 
+  private void readLevels() {
+    this.currentDL = definitionLevels.nextInt();
+    this.currentRL = repetitionLevels.nextInt();
+    this.triplesRead += 1;
+    this.hasNext = true;
+  }
+
+  /** Skips rows that are not selected, starting with the row of the current triple. */
+  private void skipUnselectedRows() {
+    while (!isSelected(currentRow)) {
+      // skip all triples of the current row
+      do {
+        if (currentDL == desc.getMaxDefinitionLevel()) {
+          values.skip();
+        }
+
+        if (triplesRead >= triplesCount) {
+          this.currentDL = -1;
+          this.currentRL = -1;
+          this.hasNext = false;
+          return;
+        }
+
+        readLevels();
+      } while (currentRL != 0);
+
+      this.currentRow += 1;
+    }
+  }
+
+  private boolean isSelected(long row) {
+    while (currentRange < rowRanges.size() && rowRanges.end(currentRange) < row) {
+      this.currentRange += 1;
+    }
+
+    return currentRange < rowRanges.size() && rowRanges.start(currentRange) <= row;
+  }
+
   RuntimeException handleRuntimeException(RuntimeException exception) {
     if (CorruptDeltaByteArrays.requiresSequentialReads(writerVersion, valueEncoding)
         && exception instanceof ArrayIndexOutOfBoundsException) {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+/**
+ * Compresses Parquet pages on a shared worker pool.
+ *
+ * <p>Compressors are not thread-safe, so this keeps one compressor per concurrent compression. The
+ * number of pages that are being compressed at the same time is limited to the number of
+ * compressors, and callers block until a compressor is available. This bounds the memory used by
+ * uncompressed copies of pages that are waiting to be compressed.
+ */
+class ParallelCompressor implements Closeable {
+  private final ExecutorService workerPool;
+  private final CompressionCodecName codec;
+  private final Semaphore available;
+  private final Queue<CodecFactory.BytesCompressor> compressors = new ConcurrentLinkedQueue<>();
+
+  ParallelCompressor(
+      Configuration conf,
+      CompressionCodecName codec,
+      int pageSize,
+      int parallelism,
+      ExecutorService workerPool) {
+    Preconditions.checkArgument(parallelism > 0, "Invalid parallelism: %s", parallelism);
+    this.workerPool = workerPool;
+    this.codec = codec;
+    this.available = new Semaphore(parallelism);
+    for (int i = 0; i < parallelism; i += 1) {
+      // each codec factory creates its own compressor instances
+      compressors.add(new CodecFactory(conf, pageSize).getCompressor(codec));
+    }
+  }
+
+  CompressionCodecName codec() {
+    return codec;
+  }
+
+  /**
+   * Starts compressing the given bytes.
+   *
+   * <p>The bytes are copied before this method returns, so the caller may reuse its buffers.
+   *
+   * @param bytes uncompressed bytes
+   * @return a future for the compressed bytes
+   */
+  CompletableFuture<BytesInput> compress(BytesInput bytes) {
+    BytesInput uncompressed = copy(bytes);
+
+    try {
+      available.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for a compressor", e);
+    }
+
+    try {
+      return CompletableFuture.supplyAsync(() -> compressWithAvailable(uncompressed), workerPool);
+    } catch (RejectedExecutionException e) {
+      available.release();
+      throw e;
+    }
+  }
+
+  private BytesInput compressWithAvailable(BytesInput uncompressed) {
+    CodecFactory.BytesCompressor compressor = compressors.poll();
+    try {
+      // compressors reuse their output buffer
+      return copy(compressor.compress(uncompressed));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compress page", e);
+    } finally {
+      compressors.add(compressor);
+      available.release();
+    }
+  }
+
+  private static BytesInput copy(BytesInput bytes) {
+    try {
+      return BytesInput.copy(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to copy page bytes", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    CodecFactory.BytesCompressor compressor;
+    while ((compressor = compressors.poll()) != null) {
+      compressor.release();
+    }
+  }
+}
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriteStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriter;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.io.ParquetEncodingException;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * A {@link PageWriteStore} for one row group that compresses pages using a {@link
+ * ParallelCompressor}.
+ *
+ * <p>Pages are handed to the compressor as soon as they are written, so pages of different columns
+ * are compressed concurrently while the caller keeps encoding rows. Column chunks are written to
+ * the file in schema order and pages in the order they were written, so the layout of the row
+ * group does not depend on the order in which compression finishes.
+ *
+ * <p>The buffered size of a column waits for its pending pages and counts the same bytes as the
+ * serial Parquet page store: compressed data pages and their headers, but not the dictionary page.
+ * Row groups are therefore split at the same records as with serial compression.
+ *
+ * <p>Only V1 data pages are supported.
+ */
+class ParallelPageWriteStore implements PageWriteStore, BloomFilterWriteStore {
+  private static final ParquetMetadataConverter METADATA_CONVERTER =
+      new ParquetMetadataConverter();
+
+  private final Map<ColumnDescriptor, ColumnPageWriter> writers = Maps.newLinkedHashMap();
+
+  ParallelPageWriteStore(MessageType schema, ParallelCompressor compressor) {
+    for (ColumnDescriptor path : schema.getColumns()) {
+      writers.put(path, new ColumnPageWriter(path, compressor));
+    }
+  }
+
+  @Override
+  public PageWriter getPageWriter(ColumnDescriptor path) {
+    return writers.get(path);
+  }
+
+  @Override
+  public BloomFilterWriter getBloomFilterWriter(ColumnDescriptor path) {
+    return writers.get(path);
+  }
+
+  /**
+   * Writes the column chunks of this row group to a file writer.
+   *
+   * <p>The file writer must have started a block.
+   *
+   * @param writer a Parquet file writer
+   * @throws IOException if a column chunk cannot be written
+   */
+  void flushToFileWriter(ParquetFileWriter writer) throws IOException {
+    for (ColumnPageWriter columnWriter : writers.values()) {
+      columnWriter.writeToFileWriter(writer);
+    }
+  }
+
+  private static BytesInput join(CompletableFuture<BytesInput> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  private static class ColumnPageWriter implements PageWriter, BloomFilterWriter {
+    private final ColumnDescriptor path;
+    private final ParallelCompressor compressor;
+    private final List<DataPage> pages = Lists.newArrayList();
+    private CompressedDictionaryPage dictionaryPage = null;
+    private BloomFilter bloomFilter = null;
+    private long totalValueCount = 0L;
+    private long uncompressedBytes = 0L;
+    private long compressedBytes = 0L;
+    private int compressedPages = 0;
+
+    private ColumnPageWriter(ColumnDescriptor path, ParallelCompressor compressor) {
+      this.path = path;
+      this.compressor = compressor;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding) {
+      throw new UnsupportedOperationException("Cannot write a data page without a row count");
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding) {
+      int uncompressedSize = toIntSize(bytes.size());
+      CompletableFuture<BytesInput> compressed = compressor.compress(bytes);
+      pages.add(
+          new DataPage(
+              compressed,
+              uncompressedSize,
+              valueCount,
+              rowCount,
+              statistics,
+              rlEncoding,
+              dlEncoding,
+              valuesEncoding));
+      this.totalValueCount += valueCount;
+      this.uncompressedBytes += uncompressedSize;
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics) {
+      throw new UnsupportedOperationException(
+          "Cannot write V2 data pages with parallel compression");
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage page) {
+      Preconditions.checkState(dictionaryPage == null, "Only one dictionary page is allowed");
+      int uncompressedSize = toIntSize(page.getBytes().size());
+      this.dictionaryPage =
+          new CompressedDictionaryPage(
+              compressor.compress(page.getBytes()),
+              uncompressedSize,
+              page.getDictionarySize(),
+              page.getEncoding());
+      this.uncompressedBytes += uncompressedSize;
+    }
+
+    @Override
+    public void writeBloomFilter(BloomFilter filter) {
+      this.bloomFilter = filter;
+    }
+
+    /**
+     * Returns the size of the buffered data pages and their headers, waiting for pending
+     * compressions.
+     */
+    @Override
+    public long getMemSize() {
+      for (; compressedPages < pages.size(); compressedPages += 1) {
+        DataPage page = pages.get(compressedPages);
+        BytesInput compressed = join(page.compressed);
+        compressedBytes += headerSize(page, compressed) + compressed.size();
+      }
+
+      return compressedBytes;
+    }
+
+    private int headerSize(DataPage page, BytesInput compressed) {
+      try {
+        // the file writer adds a page checksum by default, as does the serial page store
+        CRC32 crc = new CRC32();
+        crc.update(compressed.toByteArray());
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        METADATA_CONVERTER.writeDataPageV1Header(
+            page.uncompressedSize,
+            toIntSize(compressed.size()),
+            page.valueCount,
+            page.rlEncoding,
+            page.dlEncoding,
+            page.valuesEncoding,
+            (int) crc.getValue(),
+            header);
+        return header.size();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to write page header", e);
+      }
+    }
+
+    @Override
+    public long allocatedSize() {
+      return uncompressedBytes;
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      return String.format("%s %s %,d bytes", prefix, path, uncompressedBytes);
+    }
+
+    private void writeToFileWriter(ParquetFileWriter writer) throws IOException {
+      writer.startColumn(path, totalValueCount, compressor.codec());
+
+      if (dictionaryPage != null) {
+        writer.writeDictionaryPage(
+            new DictionaryPage(
+                join(dictionaryPage.compressed),
+                dictionaryPage.uncompressedSize,
+                dictionaryPage.dictionarySize,
+                dictionaryPage.encoding));
+      }
+
+      for (DataPage page : pages) {
+        writer.writeDataPage(
+            page.valueCount,
+            page.uncompressedSize,
+            join(page.compressed),
+            page.statistics,
+            page.rowCount,
+            page.rlEncoding,
+            page.dlEncoding,
+            page.valuesEncoding);
+      }
+
+      writer.endColumn();
+
+      if (bloomFilter != null) {
+        writer.addBloomFilter(String.join(".", path.getPath()), bloomFilter);
+      }
+    }
+
+    private int toIntSize(long size) {
+      if (size > Integer.MAX_VALUE) {
+        throw new ParquetEncodingException(
+            "Cannot write page larger than Integer.MAX_VALUE bytes: " + size);
+      }
+
+      return (int) size;
+    }
+  }
+
+  private static class DataPage {
+    private final CompletableFuture<BytesInput> compressed;
+    private final int uncompressedSize;
+    private final int valueCount;
+    private final int rowCount;
+    private final Statistics<?> statistics;
+    private final Encoding rlEncoding;
+    private final Encoding dlEncoding;
+    private final Encoding valuesEncoding;
+
+    private DataPage(
+        CompletableFuture<BytesInput> compressed,
+        int uncompressedSize,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding) {
+      this.compressed = compressed;
+      this.uncompressedSize = uncompressedSize;
+      this.valueCount = valueCount;
+      this.rowCount = rowCount;
+      this.statistics = statistics;
+      this.rlEncoding = rlEncoding;
+      this.dlEncoding = dlEncoding;
+      this.valuesEncoding = valuesEncoding;
+    }
+  }
+
+  private static class CompressedDictionaryPage {
+    private final CompletableFuture<BytesInput> compressed;
+    private final int uncompressedSize;
+    private final int dictionarySize;
+    private final Encoding encoding;
+
+    private CompressedDictionaryPage(
+        CompletableFuture<BytesInput> compressed,
+        int uncompressedSize,
+        int dictionarySize,
+        Encoding encoding) {
+      this.compressed = compressed;
+      this.uncompressedSize = uncompressedSize;
+      this.dictionarySize = dictionarySize;
+      this.encoding = encoding;
+    }
+  }
+}
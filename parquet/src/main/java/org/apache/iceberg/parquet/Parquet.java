@@ -20,6 +20,7 @@ package org.apache.iceberg.parquet;
 
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_COMPRESSION;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_COMPRESSION_LEVEL;
+import static org.apache.iceberg.TableProperties.DELETE_PARQUET_COMPRESSION_PARALLELISM;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_PAGE_ROW_LIMIT;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_PAGE_SIZE_BYTES;
@@ -33,6 +34,8 @@ import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_PARALLELISM;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_PARALLELISM_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
@@ -98,6 +101,7 @@ import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.ParquetProperties.WriterVersion;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.api.ReadSupport;
@@ -247,6 +251,7 @@ public class Parquet {
       int dictionaryPageSize = context.dictionaryPageSize();
       String compressionLevel = context.compressionLevel();
       CompressionCodecName codec = context.codec();
+      int compressionParallelism = context.compressionParallelism();
       int rowGroupCheckMinRecordCount = context.rowGroupCheckMinRecordCount();
       int rowGroupCheckMaxRecordCount = context.rowGroupCheckMaxRecordCount();
       int bloomFilterMaxBytes = context.bloomFilterMaxBytes();
@@ -309,7 +314,8 @@ public class Parquet {
             codec,
             parquetProperties,
             metricsConfig,
-            writeMode);
+            writeMode,
+            compressionParallelism);
       } else {
         ParquetWriteBuilder<D> parquetWriteBuilder =
             new ParquetWriteBuilder<D>(ParquetIO.file(file))
@@ -342,6 +348,7 @@ public class Parquet {
       private final int dictionaryPageSize;
       private final CompressionCodecName codec;
       private final String compressionLevel;
+      private final int compressionParallelism;
       private final int rowGroupCheckMinRecordCount;
       private final int rowGroupCheckMaxRecordCount;
       private final int bloomFilterMaxBytes;
@@ -354,6 +361,7 @@ public class Parquet {
           int dictionaryPageSize,
           CompressionCodecName codec,
           String compressionLevel,
+          int compressionParallelism,
           int rowGroupCheckMinRecordCount,
           int rowGroupCheckMaxRecordCount,
           int bloomFilterMaxBytes,
@@ -364,6 +372,7 @@ public class Parquet {
         this.dictionaryPageSize = dictionaryPageSize;
         this.codec = codec;
         this.compressionLevel = compressionLevel;
+        this.compressionParallelism = compressionParallelism;
         this.rowGroupCheckMinRecordCount = rowGroupCheckMinRecordCount;
         this.rowGroupCheckMaxRecordCount = rowGroupCheckMaxRecordCount;
         this.bloomFilterMaxBytes = bloomFilterMaxBytes;
@@ -398,6 +407,12 @@ public class Parquet {
         String compressionLevel =
             config.getOrDefault(PARQUET_COMPRESSION_LEVEL, PARQUET_COMPRESSION_LEVEL_DEFAULT);
 
+        int compressionParallelism =
+            PropertyUtil.propertyAsInt(
+                config, PARQUET_COMPRESSION_PARALLELISM, PARQUET_COMPRESSION_PARALLELISM_DEFAULT);
+        Preconditions.checkArgument(
+            compressionParallelism > 0, "Compression parallelism must be > 0");
+
         int rowGroupCheckMinRecordCount =
             PropertyUtil.propertyAsInt(
                 config,
@@ -432,6 +447,7 @@ public class Parquet {
             dictionaryPageSize,
             codec,
             compressionLevel,
+            compressionParallelism,
             rowGroupCheckMinRecordCount,
             rowGroupCheckMaxRecordCount,
             bloomFilterMaxBytes,
@@ -469,6 +485,14 @@ public class Parquet {
         String compressionLevel =
             config.getOrDefault(DELETE_PARQUET_COMPRESSION_LEVEL, dataContext.compressionLevel());
 
+        int compressionParallelism =
+            PropertyUtil.propertyAsInt(
+                config,
+                DELETE_PARQUET_COMPRESSION_PARALLELISM,
+                dataContext.compressionParallelism());
+        Preconditions.checkArgument(
+            compressionParallelism > 0, "Compression parallelism must be > 0");
+
         int rowGroupCheckMinRecordCount =
             PropertyUtil.propertyAsInt(
                 config,
@@ -503,6 +527,7 @@ public class Parquet {
             dictionaryPageSize,
             codec,
             compressionLevel,
+            compressionParallelism,
             rowGroupCheckMinRecordCount,
             rowGroupCheckMaxRecordCount,
             bloomFilterMaxBytes,
@@ -541,6 +566,10 @@ public class Parquet {
         return compressionLevel;
       }
 
+      int compressionParallelism() {
+        return compressionParallelism;
+      }
+
       int rowGroupCheckMinRecordCount() {
         return rowGroupCheckMinRecordCount;
       }
@@ -1023,6 +1052,13 @@ public class Parquet {
           optionsBuilder.set(entry.getKey(), entry.getValue());
         }
 
+        String columnIndexFilterEnabled =
+            properties.get(ParquetInputFormat.COLUMN_INDEX_FILTERING_ENABLED);
+        if (columnIndexFilterEnabled != null) {
+          // skipping pages with the column index is only configured from Hadoop conf by default
+          optionsBuilder.useColumnIndexFilter(Boolean.parseBoolean(columnIndexFilterEnabled));
+        }
+
         if (start != null) {
           optionsBuilder.withRange(start, start + length);
         }
@@ -29,6 +29,7 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -42,6 +43,14 @@ class ParquetIO {
   private ParquetIO() {}
 
   static InputFile file(org.apache.iceberg.io.InputFile file) {
+    return file(file, null);
+  }
+
+  /**
+   * Returns a Parquet {@link InputFile} that reads the given column chunk ranges with vectored
+   * reads if the file's streams are {@link RangeReadable}.
+   */
+  static InputFile file(org.apache.iceberg.io.InputFile file, ColumnChunkRanges ranges) {
     // TODO: use reflection to avoid depending on classes from iceberg-hadoop
     // TODO: use reflection to avoid depending on classes from hadoop
     if (file instanceof HadoopInputFile) {
@@ -53,7 +62,7 @@ class ParquetIO {
         throw new RuntimeIOException(e, "Failed to create Parquet input file for %s", file);
       }
     }
-    return new ParquetInputFile(file);
+    return new ParquetInputFile(file, ranges);
   }
 
   static OutputFile file(org.apache.iceberg.io.OutputFile file) {
@@ -164,9 +173,11 @@ class ParquetIO {
 
   private static class ParquetInputFile implements InputFile {
     private final org.apache.iceberg.io.InputFile file;
+    private final ColumnChunkRanges ranges;
 
-    private ParquetInputFile(org.apache.iceberg.io.InputFile file) {
+    private ParquetInputFile(org.apache.iceberg.io.InputFile file, ColumnChunkRanges ranges) {
       this.file = file;
+      this.ranges = ranges;
     }
 
     @Override
@@ -176,7 +187,12 @@ class ParquetIO {
 
     @Override
     public SeekableInputStream newStream() throws IOException {
-      return stream(file.newStream());
+      org.apache.iceberg.io.SeekableInputStream stream = file.newStream();
+      if (ranges != null && stream instanceof RangeReadable) {
+        return new VectoredInputStreamAdapter(stream, ranges);
+      }
+
+      return stream(stream);
     }
   }
 }
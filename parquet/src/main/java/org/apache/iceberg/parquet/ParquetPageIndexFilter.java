@@ -0,0 +1,439 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Selects the rows of a row group that may match an expression using the Parquet page indexes.
+ *
+ * <p>Each predicate selects the rows of the pages whose column index bounds may match. Rows
+ * selected by predicates are intersected for {@code and} and combined for {@code or}. Predicates on
+ * columns without a column index or offset index select all rows.
+ */
+class ParquetPageIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  ParquetPageIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Returns the rows of a row group that may match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param rowGroup metadata for a row group
+   * @param reader a reader for the file, used to read page indexes
+   * @return ranges of rows that may match the expression, relative to the start of the row group
+   */
+  RowRanges rowRanges(MessageType fileSchema, BlockMetaData rowGroup, ParquetFileReader reader) {
+    return new PageIndexEvalVisitor(fileSchema, rowGroup, reader).eval();
+  }
+
+  private class PageIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private final MessageType fileSchema;
+    private final BlockMetaData rowGroup;
+    private final ParquetFileReader reader;
+    private final RowRanges allRows;
+    private final Map<Integer, ColumnChunkMetaData> columns = Maps.newHashMap();
+    private final Map<Integer, PageIndex> pageIndexes = Maps.newHashMap();
+
+    private PageIndexEvalVisitor(
+        MessageType fileSchema, BlockMetaData rowGroup, ParquetFileReader reader) {
+      this.fileSchema = fileSchema;
+      this.rowGroup = rowGroup;
+      this.reader = reader;
+      this.allRows = RowRanges.all(rowGroup.getRowCount());
+    }
+
+    private RowRanges eval() {
+      for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        String[] path = col.getPath().toArray();
+        PrimitiveType colType = fileSchema.getType(path).asPrimitiveType();
+        // pages of repeated columns do not map values to rows one to one
+        if (colType.getId() != null && fileSchema.getMaxRepetitionLevel(path) == 0) {
+          columns.put(colType.getId().intValue(), col);
+        }
+      }
+
+      return ExpressionVisitors.visitEvaluator(expr, this);
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows;
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.empty();
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // not is rewritten before binding and cannot be evaluated using row ranges
+      return allRows;
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return leftResult.intersect(rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return leftResult.union(rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      return select(
+          ref,
+          index -> page -> {
+            Long nullCount = index.nullCount(page);
+            return nullCount == null || nullCount > 0 || index.isNullPage(page);
+          });
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(ref.fieldId()) instanceof Type.NestedType) {
+        return allRows;
+      }
+
+      return select(ref, index -> page -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      return select(ref, index -> page -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      return selectByBounds(
+          ref, index -> page -> lit.comparator().compare(index.min(page), lit.value()) < 0);
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectByBounds(
+          ref, index -> page -> lit.comparator().compare(index.min(page), lit.value()) <= 0);
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      return selectByBounds(
+          ref, index -> page -> lit.comparator().compare(index.max(page), lit.value()) > 0);
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectByBounds(
+          ref, index -> page -> lit.comparator().compare(index.max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(ref.fieldId()) instanceof Type.NestedType) {
+        return allRows;
+      }
+
+      return selectByBounds(
+          ref, index -> page -> index.mayContain(page, lit.value(), lit.comparator()));
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(ref.fieldId()) instanceof Type.NestedType) {
+        return allRows;
+      }
+
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows;
+      }
+
+      return selectByBounds(
+          ref,
+          index ->
+              page -> {
+                for (T value : literalSet) {
+                  if (index.mayContain(page, value, ref.comparator())) {
+                    return true;
+                  }
+                }
+
+                return false;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return selectByBounds(
+          ref,
+          index ->
+              page -> {
+                // truncate bounds so that their length is not greater than the length of prefix
+                ByteBuffer lower = index.minBytes(page);
+                int lowerLength = Math.min(prefix.remaining(), lower.remaining());
+                if (comparator.compare(BinaryUtil.truncateBinary(lower, lowerLength), prefix) > 0) {
+                  return false;
+                }
+
+                ByteBuffer upper = index.maxBytes(page);
+                int upperLength = Math.min(prefix.remaining(), upper.remaining());
+                return comparator.compare(BinaryUtil.truncateBinary(upper, upperLength), prefix)
+                    >= 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      return allRows;
+    }
+
+    /** Selects the rows of non-null pages with bounds that may match. */
+    private RowRanges selectByBounds(
+        BoundReference<?> ref, Function<PageIndex, IntPredicate> mayMatch) {
+      return select(
+          ref,
+          index -> {
+            IntPredicate boundsMayMatch = mayMatch.apply(index);
+            return page ->
+                !index.isNullPage(page) && (!index.hasBounds(page) || boundsMayMatch.test(page));
+          });
+    }
+
+    private RowRanges select(BoundReference<?> ref, Function<PageIndex, IntPredicate> mayMatch) {
+      PageIndex index = pageIndex(ref.fieldId());
+      if (index == null) {
+        return allRows;
+      }
+
+      IntPredicate pageMayMatch = mayMatch.apply(index);
+      RowRanges.Builder builder = new RowRanges.Builder();
+      for (int page = 0; page < index.pageCount(); page += 1) {
+        if (pageMayMatch.test(page)) {
+          builder.add(index.firstRowIndex(page), index.lastRowIndex(page));
+        }
+      }
+
+      return builder.build();
+    }
+
+    private PageIndex pageIndex(int id) {
+      if (!pageIndexes.containsKey(id)) {
+        pageIndexes.put(id, readPageIndex(id));
+      }
+
+      return pageIndexes.get(id);
+    }
+
+    private PageIndex readPageIndex(int id) {
+      ColumnChunkMetaData column = columns.get(id);
+      if (column == null
+          || column.getColumnIndexReference() == null
+          || column.getOffsetIndexReference() == null) {
+        return null;
+      }
+
+      try {
+        ColumnIndex columnIndex = reader.readColumnIndex(column);
+        OffsetIndex offsetIndex = reader.readOffsetIndex(column);
+        if (columnIndex == null || offsetIndex == null) {
+          return null;
+        }
+
+        PrimitiveType colType = fileSchema.getType(column.getPath().toArray()).asPrimitiveType();
+        return new PageIndex(
+            colType,
+            ParquetConversions.converterFromParquet(colType, schema.findType(id)),
+            columnIndex,
+            offsetIndex,
+            rowGroup.getRowCount());
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to read page index for column: %s", column);
+      }
+    }
+  }
+
+  /** Page bounds and row indexes of a column chunk. */
+  private static class PageIndex {
+    private final PrimitiveType type;
+    private final Function<Object, Object> conversion;
+    private final ColumnIndex columnIndex;
+    private final OffsetIndex offsetIndex;
+    private final long rowCount;
+
+    private PageIndex(
+        PrimitiveType type,
+        Function<Object, Object> conversion,
+        ColumnIndex columnIndex,
+        OffsetIndex offsetIndex,
+        long rowCount) {
+      this.type = type;
+      this.conversion = conversion;
+      this.columnIndex = columnIndex;
+      this.offsetIndex = offsetIndex;
+      this.rowCount = rowCount;
+    }
+
+    int pageCount() {
+      return offsetIndex.getPageCount();
+    }
+
+    long firstRowIndex(int page) {
+      return offsetIndex.getFirstRowIndex(page);
+    }
+
+    long lastRowIndex(int page) {
+      return page + 1 < pageCount() ? offsetIndex.getFirstRowIndex(page + 1) - 1 : rowCount - 1;
+    }
+
+    boolean isNullPage(int page) {
+      return columnIndex.getNullPages().get(page);
+    }
+
+    Long nullCount(int page) {
+      return columnIndex.getNullCounts() != null ? columnIndex.getNullCounts().get(page) : null;
+    }
+
+    /** Returns false if the bounds of a page are not usable, like INT96 or NaN bounds. */
+    boolean hasBounds(int page) {
+      switch (type.getPrimitiveTypeName()) {
+        case FLOAT:
+        case DOUBLE:
+          return !isNaN(fromBytes(minBytes(page))) && !isNaN(fromBytes(maxBytes(page)));
+        case INT96:
+          return false;
+        default:
+          return true;
+      }
+    }
+
+    ByteBuffer minBytes(int page) {
+      return columnIndex.getMinValues().get(page).duplicate();
+    }
+
+    ByteBuffer maxBytes(int page) {
+      return columnIndex.getMaxValues().get(page).duplicate();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T min(int page) {
+      return (T) conversion.apply(fromBytes(minBytes(page)));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T max(int page) {
+      return (T) conversion.apply(fromBytes(maxBytes(page)));
+    }
+
+    <T> boolean mayContain(int page, T value, Comparator<T> comparator) {
+      return comparator.compare(min(page), value) <= 0 && comparator.compare(max(page), value) >= 0;
+    }
+
+    /** Decodes a plain encoded column index bound. */
+    private Object fromBytes(ByteBuffer bytes) {
+      ByteBuffer buffer = bytes.order(ByteOrder.LITTLE_ENDIAN);
+      int pos = buffer.position();
+      switch (type.getPrimitiveTypeName()) {
+        case BOOLEAN:
+          return buffer.get(pos) != 0;
+        case INT32:
+          return buffer.getInt(pos);
+        case INT64:
+          return buffer.getLong(pos);
+        case FLOAT:
+          return buffer.getFloat(pos);
+        case DOUBLE:
+          return buffer.getDouble(pos);
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+          return Binary.fromConstantByteBuffer(buffer);
+        default:
+          throw new UnsupportedOperationException("Cannot decode page bound for type: " + type);
+      }
+    }
+
+    private static boolean isNaN(Object value) {
+      return (value instanceof Float && ((Float) value).isNaN())
+          || (value instanceof Double && ((Double) value).isNaN());
+    }
+  }
+}
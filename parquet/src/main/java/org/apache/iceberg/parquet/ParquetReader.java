@@ -96,6 +96,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private static class FileIterator<T> implements CloseableIterator<T> {
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final RowRanges[] rowRanges;
     private final ParquetValueReader<T> model;
     private final long totalValues;
     private final boolean reuseContainers;
@@ -109,6 +110,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     FileIterator(ReadConf<T> conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
+      this.rowRanges = conf.rowRanges();
       this.model = conf.model();
       this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
@@ -149,6 +151,10 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
         throw new RuntimeIOException(e);
       }
 
+      pages =
+          FilteredPageReadStore.filter(
+              reader, reader.getRowGroups().get(nextRowGroup), pages, rowRanges[nextRowGroup]);
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
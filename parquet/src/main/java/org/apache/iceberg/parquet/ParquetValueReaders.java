@@ -27,6 +27,7 @@ import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -181,9 +182,15 @@ public class ParquetValueReaders {
   static class PositionReader implements ParquetValueReader<Long> {
     private long rowOffset = -1;
     private long rowGroupStart;
+    // indexes of the selected rows, null when all rows are read
+    private PrimitiveIterator.OfLong rowIndexes = null;
 
     @Override
     public Long read(Long reuse) {
+      if (rowIndexes != null) {
+        return rowGroupStart + rowIndexes.nextLong();
+      }
+
       rowOffset = rowOffset + 1;
       return rowGroupStart + rowOffset;
     }
@@ -202,6 +209,11 @@ public class ParquetValueReaders {
     public void setPageSource(PageReadStore pageStore, long rowPosition) {
       this.rowGroupStart = rowPosition;
       this.rowOffset = -1;
+      if (pageStore instanceof FilteredPageReadStore) {
+        this.rowIndexes = ((FilteredPageReadStore) pageStore).rowRanges().rowIndexes();
+      } else {
+        this.rowIndexes = null;
+      }
     }
   }
 
@@ -34,6 +34,7 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ParquetProperties;
@@ -68,6 +69,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final Map<String, String> metadata;
   private final ParquetProperties props;
   private final CodecFactory.BytesCompressor compressor;
+  private final ParallelCompressor parallelCompressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
   private final MetricsConfig metricsConfig;
@@ -77,6 +79,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final Configuration conf;
 
   private DynMethods.BoundMethod flushPageStoreToWriter;
+  private ParallelPageWriteStore parallelPageStore;
   private ColumnWriteStore writeStore;
   private long recordCount = 0;
   private long nextCheckRecordCount = 10;
@@ -97,11 +100,24 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       CompressionCodecName codec,
       ParquetProperties properties,
       MetricsConfig metricsConfig,
-      ParquetFileWriter.Mode writeMode) {
+      ParquetFileWriter.Mode writeMode,
+      int compressionParallelism) {
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
     this.metadata = ImmutableMap.copyOf(metadata);
-    this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+    if (useParallelCompression(compressionParallelism, codec, properties)) {
+      this.compressor = null;
+      this.parallelCompressor =
+          new ParallelCompressor(
+              conf,
+              codec,
+              props.getPageSizeThreshold(),
+              compressionParallelism,
+              ThreadPools.getWorkerPool());
+    } else {
+      this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+      this.parallelCompressor = null;
+    }
     this.parquetSchema = ParquetSchemaUtil.convert(schema, "table");
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(parquetSchema);
     this.metricsConfig = metricsConfig;
@@ -114,6 +130,14 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     startRowGroup();
   }
 
+  private static boolean useParallelCompression(
+      int parallelism, CompressionCodecName codec, ParquetProperties properties) {
+    // the parallel page store writes only V1 data pages
+    return parallelism > 1
+        && codec != CompressionCodecName.UNCOMPRESSED
+        && properties.getWriterVersion() == ParquetProperties.WriterVersion.PARQUET_1_0;
+  }
+
   private void ensureWriterInitialized() {
     if (writer == null) {
       try {
@@ -180,6 +204,16 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     }
   }
 
+  /**
+   * Returns the size of the current row group that is buffered in memory.
+   *
+   * <p>Row groups that were already flushed to the output file are not included.
+   */
+  @Override
+  public long bufferedSize() {
+    return !closed && recordCount > 0 ? writeStore.getBufferedSize() : 0L;
+  }
+
   @Override
   public List<Long> splitOffsets() {
     if (writer != null) {
@@ -213,7 +247,11 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
         ensureWriterInitialized();
         writer.startBlock(recordCount);
         writeStore.flush();
-        flushPageStoreToWriter.invoke(writer);
+        if (parallelPageStore != null) {
+          parallelPageStore.flushToFileWriter(writer);
+        } else {
+          flushPageStoreToWriter.invoke(writer);
+        }
         writer.endBlock();
         if (!finished) {
           writeStore.close();
@@ -234,13 +272,20 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
             props.getMaxRowCountForPageSizeCheck());
     this.recordCount = 0;
 
-    PageWriteStore pageStore =
-        pageStoreCtorParquet.newInstance(
-            compressor, parquetSchema, props.getAllocator(), this.columnIndexTruncateLength);
+    if (parallelCompressor != null) {
+      ParallelPageWriteStore pageStore =
+          new ParallelPageWriteStore(parquetSchema, parallelCompressor);
+      this.parallelPageStore = pageStore;
+      this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
+    } else {
+      PageWriteStore pageStore =
+          pageStoreCtorParquet.newInstance(
+              compressor, parquetSchema, props.getAllocator(), this.columnIndexTruncateLength);
 
-    this.flushPageStoreToWriter = flushToWriter.bind(pageStore);
-    this.writeStore =
-        props.newColumnWriteStore(parquetSchema, pageStore, (BloomFilterWriteStore) pageStore);
+      this.flushPageStoreToWriter = flushToWriter.bind(pageStore);
+      this.writeStore =
+          props.newColumnWriteStore(parquetSchema, pageStore, (BloomFilterWriteStore) pageStore);
+    }
 
     model.setColumnStore(writeStore);
   }
@@ -257,6 +302,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       if (compressor != null) {
         compressor.release();
       }
+      if (parallelCompressor != null) {
+        parallelCompressor.close();
+      }
     }
   }
 }
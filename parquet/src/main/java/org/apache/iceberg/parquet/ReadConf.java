@@ -50,11 +50,13 @@ class ReadConf<T> {
   private final ParquetFileReader reader;
   private final InputFile file;
   private final ParquetReadOptions options;
+  private final ColumnChunkRanges columnChunkRanges;
   private final MessageType projection;
   private final ParquetValueReader<T> model;
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
+  private final RowRanges[] rowRanges;
   private final long totalValues;
   private final boolean reuseContainers;
   private final Integer batchSize;
@@ -77,7 +79,8 @@ class ReadConf<T> {
       Integer bSize) {
     this.file = file;
     this.options = options;
-    this.reader = newReader(file, options);
+    this.columnChunkRanges = new ColumnChunkRanges();
+    this.reader = newReader(file, options, columnChunkRanges);
     MessageType fileSchema = reader.getFileMetaData().getSchema();
 
     MessageType typeWithIds;
@@ -94,6 +97,7 @@ class ReadConf<T> {
 
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
+    this.rowRanges = new RowRanges[rowGroups.size()];
     this.startRowPositions = new long[rowGroups.size()];
 
     // Fetch all row groups starting positions to compute the row offsets of the filtered row groups
@@ -102,10 +106,14 @@ class ReadConf<T> {
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
     ParquetBloomRowGroupFilter bloomFilter = null;
+    ParquetPageIndexFilter pageIndexFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
+      if (options.useColumnIndexFilter()) {
+        pageIndexFilter = new ParquetPageIndexFilter(expectedSchema, filter, caseSensitive);
+      }
     }
 
     long computedTotalValues = 0L;
@@ -120,13 +128,27 @@ class ReadConf<T> {
                       typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))
                   && bloomFilter.shouldRead(
                       typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
+      if (shouldRead && pageIndexFilter != null && hasOffsetIndexes(rowGroup)) {
+        RowRanges ranges = pageIndexFilter.rowRanges(typeWithIds, rowGroup, reader);
+        if (ranges.isEmpty()) {
+          shouldRead = false;
+        } else if (ranges.rowCount() < rowGroup.getRowCount()) {
+          this.rowRanges[i] = ranges;
+        }
+      }
+
       this.shouldSkip[i] = !shouldRead;
-      if (shouldRead) {
+      if (rowRanges[i] != null) {
+        computedTotalValues += rowRanges[i].rowCount();
+      } else if (shouldRead) {
         computedTotalValues += rowGroup.getRowCount();
       }
     }
 
     this.totalValues = computedTotalValues;
+    // row groups that will be read are fetched with vectored reads from now on
+    columnChunkRanges.plan(rowGroups, shouldSkip, projection);
+
     if (readerFunc != null) {
       this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
       this.vectorizedModel = null;
@@ -145,10 +167,12 @@ class ReadConf<T> {
     this.reader = null;
     this.file = toCopy.file;
     this.options = toCopy.options;
+    this.columnChunkRanges = toCopy.columnChunkRanges;
     this.projection = toCopy.projection;
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
+    this.rowRanges = toCopy.rowRanges;
     this.totalValues = toCopy.totalValues;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
@@ -163,7 +187,7 @@ class ReadConf<T> {
       return reader;
     }
 
-    ParquetFileReader newReader = newReader(file, options);
+    ParquetFileReader newReader = newReader(file, options, columnChunkRanges);
     newReader.setRequestedSchema(projection);
     return newReader;
   }
@@ -180,12 +204,18 @@ class ReadConf<T> {
     return shouldSkip;
   }
 
+  /** Returns the rows to read from each row group, or null for row groups that are fully read. */
+  RowRanges[] rowRanges() {
+    return rowRanges;
+  }
+
   private Map<Long, Long> generateOffsetToStartPos(Schema schema) {
     if (schema.findField(MetadataColumns.ROW_POSITION.fieldId()) == null) {
       return null;
     }
 
-    try (ParquetFileReader fileReader = newReader(file, ParquetReadOptions.builder().build())) {
+    try (ParquetFileReader fileReader =
+        newReader(file, ParquetReadOptions.builder().build(), null)) {
       Map<Long, Long> offsetToStartPos = Maps.newHashMap();
 
       long curRowCount = 0;
@@ -226,14 +256,26 @@ class ReadConf<T> {
     return new ReadConf<>(this);
   }
 
-  private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
+  private static ParquetFileReader newReader(
+      InputFile file, ParquetReadOptions options, ColumnChunkRanges ranges) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return ParquetFileReader.open(ParquetIO.file(file, ranges), options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
+  /** Returns whether pages of all projected columns can be matched to rows to skip pages. */
+  private boolean hasOffsetIndexes(BlockMetaData rowGroup) {
+    Set<ColumnPath> projectedColumns =
+        projection.getColumns().stream()
+            .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
+            .collect(Collectors.toSet());
+    return rowGroup.getColumns().stream()
+        .filter(column -> projectedColumns.contains(column.getPath()))
+        .allMatch(column -> column.getOffsetIndexReference() != null);
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
     Set<ColumnPath> projectedColumns =
         projection.getColumns().stream()
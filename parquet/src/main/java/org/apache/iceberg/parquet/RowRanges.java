@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A sorted set of disjoint row index ranges in a Parquet row group.
+ *
+ * <p>Row ranges are produced by filtering the pages of a row group using its page indexes. Row
+ * indexes are relative to the start of the row group and range bounds are inclusive.
+ */
+public final class RowRanges {
+  private static final RowRanges EMPTY = new RowRanges(new long[0], new long[0], 0);
+
+  private final long[] starts;
+  private final long[] ends;
+  private final int size;
+
+  private RowRanges(long[] starts, long[] ends, int size) {
+    this.starts = starts;
+    this.ends = ends;
+    this.size = size;
+  }
+
+  static RowRanges empty() {
+    return EMPTY;
+  }
+
+  static RowRanges all(long rowCount) {
+    if (rowCount <= 0) {
+      return EMPTY;
+    }
+
+    return new RowRanges(new long[] {0}, new long[] {rowCount - 1}, 1);
+  }
+
+  /** Returns the number of disjoint ranges. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the first row index of the range at the given position. */
+  public long start(int index) {
+    return starts[index];
+  }
+
+  /** Returns the last row index of the range at the given position. */
+  public long end(int index) {
+    return ends[index];
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Returns the total number of rows in all ranges. */
+  public long rowCount() {
+    long count = 0;
+    for (int i = 0; i < size; i += 1) {
+      count += ends[i] - starts[i] + 1;
+    }
+
+    return count;
+  }
+
+  /** Returns whether any row in {@code [from, to]} is in these ranges. */
+  public boolean overlaps(long from, long to) {
+    // find the first range that ends at or after from
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ends[mid] < from) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low < size && starts[low] <= to;
+  }
+
+  /** Returns an iterator over all row indexes in these ranges, in ascending order. */
+  public PrimitiveIterator.OfLong rowIndexes() {
+    return new PrimitiveIterator.OfLong() {
+      private int range = 0;
+      private long next = size > 0 ? starts[0] : 0;
+
+      @Override
+      public boolean hasNext() {
+        return range < size;
+      }
+
+      @Override
+      public long nextLong() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        long current = next;
+        if (current < ends[range]) {
+          this.next = current + 1;
+        } else {
+          this.range += 1;
+          this.next = range < size ? starts[range] : 0;
+        }
+
+        return current;
+      }
+    };
+  }
+
+  RowRanges union(RowRanges other) {
+    Builder builder = new Builder(size + other.size);
+    int left = 0;
+    int right = 0;
+    while (left < size || right < other.size) {
+      if (right >= other.size || (left < size && starts[left] <= other.starts[right])) {
+        builder.add(starts[left], ends[left]);
+        left += 1;
+      } else {
+        builder.add(other.starts[right], other.ends[right]);
+        right += 1;
+      }
+    }
+
+    return builder.build();
+  }
+
+  RowRanges intersect(RowRanges other) {
+    Builder builder = new Builder(Math.max(size, other.size));
+    int left = 0;
+    int right = 0;
+    while (left < size && right < other.size) {
+      long start = Math.max(starts[left], other.starts[right]);
+      long end = Math.min(ends[left], other.ends[right]);
+      if (start <= end) {
+        builder.add(start, end);
+      }
+
+      if (ends[left] < other.ends[right]) {
+        left += 1;
+      } else {
+        right += 1;
+      }
+    }
+
+    return builder.build();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i += 1) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+
+      sb.append(starts[i]).append('-').append(ends[i]);
+    }
+
+    return sb.append(']').toString();
+  }
+
+  /** Builds row ranges from ranges added in ascending order of their start, merging overlaps. */
+  static class Builder {
+    private long[] starts;
+    private long[] ends;
+    private int size = 0;
+
+    Builder() {
+      this(8);
+    }
+
+    private Builder(int expectedSize) {
+      this.starts = new long[Math.max(expectedSize, 1)];
+      this.ends = new long[Math.max(expectedSize, 1)];
+    }
+
+    Builder add(long start, long end) {
+      Preconditions.checkArgument(start <= end, "Invalid row range: %s-%s", start, end);
+      if (size > 0) {
+        Preconditions.checkArgument(
+            start >= starts[size - 1], "Row ranges must be added in order: %s-%s", start, end);
+        if (start <= ends[size - 1] + 1) {
+          // overlapping or adjacent
+          ends[size - 1] = Math.max(ends[size - 1], end);
+          return this;
+        }
+      }
+
+      if (size == starts.length) {
+        this.starts = Arrays.copyOf(starts, size * 2);
+        this.ends = Arrays.copyOf(ends, size * 2);
+      }
+
+      starts[size] = start;
+      ends[size] = end;
+      size += 1;
+      return this;
+    }
+
+    RowRanges build() {
+      if (size == 0) {
+        return EMPTY;
+      }
+
+      return new RowRanges(starts, ends, size);
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.parquet.io.SeekableInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adapts a {@link RangeReadable} stream to Parquet and fetches the projected column chunks of a
+ * row group with a single vectored read.
+ *
+ * <p>When the Parquet reader seeks to the start of a planned row group, all of its column chunk
+ * ranges are requested with {@link RangeReadable#readVectored(List)}. Reads within those ranges
+ * are then served from the fetched buffers, and each buffer is released once it was read to the
+ * end. All other reads, like the footer or dictionaries used for filtering, go to the stream
+ * directly.
+ */
+class VectoredInputStreamAdapter extends SeekableInputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(VectoredInputStreamAdapter.class);
+
+  private final org.apache.iceberg.io.SeekableInputStream delegate;
+  private final RangeReadable rangeReadable;
+  private final ColumnChunkRanges ranges;
+  private final NavigableMap<Long, Fetched> fetched = new TreeMap<>();
+  private long pos = 0L;
+
+  VectoredInputStreamAdapter(
+      org.apache.iceberg.io.SeekableInputStream delegate, ColumnChunkRanges ranges) {
+    this.delegate = delegate;
+    this.rangeReadable = (RangeReadable) delegate;
+    this.ranges = ranges;
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void seek(long newPos) throws IOException {
+    this.pos = newPos;
+    if (current() == null) {
+      List<FileRange> rowGroupRanges = ranges.rowGroupStartingAt(newPos);
+      if (rowGroupRanges != null) {
+        fetch(rowGroupRanges);
+      }
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    int bytesRead = read(single, 0, 1);
+    return bytesRead < 0 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+
+    ByteBuffer buffer = current();
+    if (buffer != null) {
+      int bytesRead = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, bytesRead);
+      advance(bytesRead);
+      return bytesRead;
+    }
+
+    if (delegate.getPos() != pos) {
+      delegate.seek(pos);
+    }
+
+    int bytesRead = delegate.read(bytes, offset, length);
+    if (bytesRead > 0) {
+      advance(bytesRead);
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public void readFully(byte[] bytes) throws IOException {
+    readFully(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public void readFully(byte[] bytes, int offset, int length) throws IOException {
+    int bytesRead = 0;
+    while (bytesRead < length) {
+      int result = read(bytes, offset + bytesRead, length - bytesRead);
+      if (result < 0) {
+        throw new EOFException(
+            "Reached the end of stream with " + (length - bytesRead) + " bytes left to read");
+      }
+
+      bytesRead += result;
+    }
+  }
+
+  @Override
+  public int read(ByteBuffer buf) throws IOException {
+    if (!buf.hasRemaining()) {
+      return 0;
+    }
+
+    if (buf.hasArray()) {
+      int bytesRead = read(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+      if (bytesRead > 0) {
+        ((Buffer) buf).position(buf.position() + bytesRead);
+      }
+
+      return bytesRead;
+    }
+
+    byte[] bytes = new byte[Math.min(buf.remaining(), 8192)];
+    int bytesRead = read(bytes, 0, bytes.length);
+    if (bytesRead > 0) {
+      buf.put(bytes, 0, bytesRead);
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public void readFully(ByteBuffer buf) throws IOException {
+    while (buf.hasRemaining()) {
+      if (read(buf) < 0) {
+        throw new EOFException(
+            "Reached the end of stream with " + buf.remaining() + " bytes left to read");
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    releaseAll();
+    delegate.close();
+  }
+
+  /** Releases all fetched buffers and cancels the reads of ranges that were not read yet. */
+  private void releaseAll() {
+    fetched.values().forEach(Fetched::cancel);
+    fetched.clear();
+  }
+
+  private void fetch(List<FileRange> rowGroupRanges) {
+    // buffers of the previous row group are no longer needed
+    releaseAll();
+
+    List<CompletableFuture<ByteBuffer>> futures = rangeReadable.readVectored(rowGroupRanges);
+    for (int i = 0; i < rowGroupRanges.size(); i += 1) {
+      FileRange range = rowGroupRanges.get(i);
+      fetched.put(range.offset(), new Fetched(range, futures.get(i)));
+    }
+  }
+
+  /**
+   * Returns the fetched buffer that contains the current position, positioned at the current
+   * position, or null if the position is not in a fetched range.
+   */
+  private ByteBuffer current() {
+    Map.Entry<Long, Fetched> entry = fetched.floorEntry(pos);
+    if (entry == null || pos >= entry.getValue().range.end()) {
+      return null;
+    }
+
+    Fetched range = entry.getValue();
+    ByteBuffer buffer = range.buffer();
+    if (buffer == null) {
+      // the vectored read failed, read the range directly
+      fetched.remove(entry.getKey());
+      return null;
+    }
+
+    ((Buffer) buffer).position((int) (pos - range.range.offset()));
+    return buffer;
+  }
+
+  private void advance(int bytesRead) {
+    this.pos += bytesRead;
+    Map.Entry<Long, Fetched> entry = fetched.floorEntry(pos - 1);
+    if (entry != null && pos == entry.getValue().range.end()) {
+      // the range was read to the end, release its buffer
+      fetched.remove(entry.getKey());
+    }
+  }
+
+  private static class Fetched {
+    private final FileRange range;
+    private final CompletableFuture<ByteBuffer> future;
+    private ByteBuffer buffer = null;
+    private boolean failed = false;
+
+    private Fetched(FileRange range, CompletableFuture<ByteBuffer> future) {
+      this.range = range;
+      this.future = future;
+    }
+
+    private void cancel() {
+      future.cancel(false);
+    }
+
+    private ByteBuffer buffer() {
+      if (buffer == null && !failed) {
+        try {
+          this.buffer = future.join().duplicate();
+        } catch (CompletionException | CancellationException e) {
+          LOG.warn("Failed to read range {}, falling back to a direct read", range, e);
+          this.failed = true;
+        }
+      }
+
+      return buffer;
+    }
+  }
+}
@@ -104,6 +104,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private static class FileIterator<T> implements CloseableIterator<T> {
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final RowRanges[] rowRanges;
     private final VectorizedReader<T> model;
     private final long totalValues;
     private final int batchSize;
@@ -114,10 +115,15 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private long valuesRead = 0;
     private T last = null;
     private final long[] rowGroupsStartRowPos;
+    // selected rows of the current row group, null when all rows are read
+    private RowRanges currentRanges = null;
+    private int currentRange = 0;
+    private long currentRangeRowsRead = 0;
 
     FileIterator(ReadConf conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
+      this.rowRanges = conf.rowRanges();
       this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
       this.model = conf.vectorizedModel();
@@ -143,6 +149,10 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
       // batchSize is an integer, so casting to integer is safe
       int numValuesToRead = (int) Math.min(nextRowGroupStart - valuesRead, batchSize);
+      if (currentRanges != null) {
+        numValuesToRead = nextRangeBatchSize(numValuesToRead);
+      }
+
       if (reuseContainers) {
         this.last = model.read(last, numValuesToRead);
       } else {
@@ -165,12 +175,35 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
         throw new RuntimeIOException(e);
       }
 
+      this.currentRanges = rowRanges[nextRowGroup];
+      this.currentRange = 0;
+      this.currentRangeRowsRead = 0;
+      pages =
+          FilteredPageReadStore.filter(
+              reader, reader.getRowGroups().get(nextRowGroup), pages, currentRanges);
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
       model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup), rowPosition);
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
     }
 
+    /**
+     * Limits a batch to the rows left in the current selected range. Vectorized column readers
+     * also end batches at the end of a range, so the rows of a batch are contiguous.
+     */
+    private int nextRangeBatchSize(int numValuesToRead) {
+      long rangeSize = currentRanges.end(currentRange) - currentRanges.start(currentRange) + 1;
+      int batch = (int) Math.min(numValuesToRead, rangeSize - currentRangeRowsRead);
+      this.currentRangeRowsRead += batch;
+      if (currentRangeRowsRead >= rangeSize) {
+        this.currentRange += 1;
+        this.currentRangeRowsRead = 0;
+      }
+
+      return batch;
+    }
+
     @Override
     public void close() throws IOException {
       model.close();
@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.Files.localOutput;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
@@ -31,6 +32,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -38,7 +40,9 @@ import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -48,6 +52,9 @@ import org.apache.iceberg.util.Pair;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.MessageType;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -119,6 +126,51 @@ public class TestParquet {
     Assert.assertEquals(expectedSize, actualSize);
   }
 
+  @Test
+  public void testBufferedSizeExcludesFlushedRowGroups() throws IOException {
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+
+    File file = createTempFile(temp);
+    FileAppender<GenericData.Record> writer =
+        Parquet.write(localOutput(file))
+            .schema(schema)
+            .set(PARQUET_ROW_GROUP_SIZE_BYTES, Integer.toString(4 * Integer.BYTES))
+            .set(PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "1")
+            .set(PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "2")
+            .createWriterFunc(ParquetAvroWriter::buildWriter)
+            .build();
+
+    try {
+      GenericData.Record first = new GenericData.Record(avroSchema);
+      first.put("intCol", 0);
+      writer.add(first);
+      Assert.assertTrue("Must buffer the first record", writer.bufferedSize() > 0);
+
+      for (int i = 1; i <= 5; i++) {
+        GenericData.Record record = new GenericData.Record(avroSchema);
+        record.put("intCol", i);
+        writer.add(record);
+        Assert.assertTrue(
+            "Buffered size must not exceed the file length",
+            writer.bufferedSize() <= writer.length());
+      }
+
+      // 4 bytes are the magic at the start of the file, the rest are flushed row groups
+      Assert.assertTrue(
+          "Must not count flushed row groups as buffered",
+          writer.length() - writer.bufferedSize() > 4);
+    } finally {
+      writer.close();
+    }
+
+    Assert.assertEquals("Must not buffer after close", 0, writer.bufferedSize());
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      Assert.assertTrue("Must flush multiple row groups", reader.getRowGroups().size() > 1);
+    }
+  }
+
   @Test
   public void testTwoLevelList() throws IOException {
     Schema schema =
@@ -158,6 +210,173 @@ public class TestParquet {
     Assert.assertEquals(expectedBinary, recordRead.get("topbytes"));
   }
 
+  @Test
+  public void testParallelCompression() throws IOException {
+    Schema schema =
+        new Schema(
+            optional(1, "intCol", IntegerType.get()),
+            optional(2, "longCol", Types.LongType.get()),
+            optional(3, "stringCol", Types.StringType.get()));
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+
+    int recordCount = 20_000;
+    List<GenericData.Record> records = Lists.newArrayListWithCapacity(recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("longCol", i % 7 == 0 ? null : (long) i * i);
+      record.put("stringCol", "value-" + (i % 100)); // dictionary encoded
+      records.add(record);
+    }
+
+    Map<String, String> properties =
+        ImmutableMap.<String, String>builder()
+            .put(TableProperties.PARQUET_COMPRESSION, "gzip")
+            .put(TableProperties.PARQUET_PAGE_SIZE_BYTES, "4096")
+            .put(PARQUET_ROW_GROUP_SIZE_BYTES, Integer.toString(64 * 1024))
+            .put(TableProperties.PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "intCol", "true")
+            .build();
+
+    // the default page store compresses pages serially on the writing thread
+    File serialFile = createTempFile(temp);
+    write(
+        serialFile,
+        schema,
+        properties,
+        ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[] {}));
+
+    File parallelFile = createTempFile(temp);
+    write(
+        parallelFile,
+        schema,
+        ImmutableMap.<String, String>builder()
+            .putAll(properties)
+            .put(TableProperties.PARQUET_COMPRESSION_PARALLELISM, "4")
+            .build(),
+        ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[] {}));
+
+    try (ParquetFileReader serialReader =
+            ParquetFileReader.open(ParquetIO.file(localInput(serialFile)));
+        ParquetFileReader reader =
+            ParquetFileReader.open(ParquetIO.file(localInput(parallelFile)))) {
+      List<BlockMetaData> serialRowGroups = serialReader.getRowGroups();
+      List<BlockMetaData> rowGroups = reader.getRowGroups();
+      Assert.assertTrue("Should write multiple row groups", serialRowGroups.size() > 1);
+      Assert.assertEquals(
+          "Should write the same number of row groups", serialRowGroups.size(), rowGroups.size());
+
+      for (int i = 0; i < rowGroups.size(); i += 1) {
+        BlockMetaData serialRowGroup = serialRowGroups.get(i);
+        BlockMetaData rowGroup = rowGroups.get(i);
+        Assert.assertEquals(
+            "Row groups should have the same row count",
+            serialRowGroup.getRowCount(),
+            rowGroup.getRowCount());
+        Assert.assertEquals(
+            "Row groups should have the same size",
+            serialRowGroup.getTotalByteSize(),
+            rowGroup.getTotalByteSize());
+        Assert.assertEquals(
+            "Row groups should have the same compressed size",
+            serialRowGroup.getCompressedSize(),
+            rowGroup.getCompressedSize());
+        Assert.assertEquals(
+            "Row groups should start at the same offset",
+            serialRowGroup.getStartingPos(),
+            rowGroup.getStartingPos());
+
+        for (int j = 0; j < schema.columns().size(); j += 1) {
+          ColumnChunkMetaData serialColumn = serialRowGroup.getColumns().get(j);
+          ColumnChunkMetaData column = rowGroup.getColumns().get(j);
+          assertSameColumnChunk(serialReader, serialColumn, reader, column);
+        }
+
+        ColumnChunkMetaData intColumn = rowGroup.getColumns().get(0);
+        Assert.assertNotNull("Should write bloom filter", reader.readBloomFilter(intColumn));
+        Assert.assertNotNull("Should write column index", reader.readColumnIndex(intColumn));
+      }
+    }
+
+    List<GenericData.Record> serialRecords =
+        Lists.newArrayList(
+            Parquet.read(Files.localInput(serialFile)).project(schema).callInit().build());
+    List<GenericData.Record> actual =
+        Lists.newArrayList(
+            Parquet.read(Files.localInput(parallelFile)).project(schema).callInit().build());
+    Assert.assertEquals("Should read all records", recordCount, actual.size());
+    for (int i = 0; i < recordCount; i += 1) {
+      Assert.assertEquals(
+          "Should read the written record", records.get(i).toString(), actual.get(i).toString());
+      Assert.assertEquals(
+          "Should read the same record as serial compression",
+          serialRecords.get(i).toString(),
+          actual.get(i).toString());
+    }
+  }
+
+  private static void assertSameColumnChunk(
+      ParquetFileReader expectedReader,
+      ColumnChunkMetaData expected,
+      ParquetFileReader actualReader,
+      ColumnChunkMetaData actual)
+      throws IOException {
+    String column = expected.getPath().toDotString();
+    Assert.assertEquals("Should write the same column", expected.getPath(), actual.getPath());
+    Assert.assertEquals(
+        "Should use the same codec for " + column, expected.getCodec(), actual.getCodec());
+    Assert.assertEquals(
+        "Should use the same encodings for " + column,
+        expected.getEncodings(),
+        actual.getEncodings());
+    Assert.assertEquals(
+        "Should write the same number of values for " + column,
+        expected.getValueCount(),
+        actual.getValueCount());
+    Assert.assertEquals(
+        "Should write the same compressed size for " + column,
+        expected.getTotalSize(),
+        actual.getTotalSize());
+    Assert.assertEquals(
+        "Should write the same uncompressed size for " + column,
+        expected.getTotalUncompressedSize(),
+        actual.getTotalUncompressedSize());
+    Assert.assertEquals(
+        "Should write the dictionary page at the same offset for " + column,
+        expected.getDictionaryPageOffset(),
+        actual.getDictionaryPageOffset());
+    Assert.assertEquals(
+        "Should write the first data page at the same offset for " + column,
+        expected.getFirstDataPageOffset(),
+        actual.getFirstDataPageOffset());
+    Assert.assertEquals(
+        "Should write the same statistics for " + column,
+        expected.getStatistics(),
+        actual.getStatistics());
+
+    OffsetIndex expectedPages = expectedReader.readOffsetIndex(expected);
+    OffsetIndex actualPages = actualReader.readOffsetIndex(actual);
+    Assert.assertEquals(
+        "Should write the same number of pages for " + column,
+        expectedPages.getPageCount(),
+        actualPages.getPageCount());
+    for (int page = 0; page < expectedPages.getPageCount(); page += 1) {
+      Assert.assertEquals(
+          "Should write pages at the same offset for " + column,
+          expectedPages.getOffset(page),
+          actualPages.getOffset(page));
+      Assert.assertEquals(
+          "Should write pages with the same size for " + column,
+          expectedPages.getCompressedPageSize(page),
+          actualPages.getCompressedPageSize(page));
+      Assert.assertEquals(
+          "Should write pages with the same first row for " + column,
+          expectedPages.getFirstRowIndex(page),
+          actualPages.getFirstRowIndex(page));
+    }
+  }
+
   private Pair<File, Long> generateFile(
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       int desiredRecordCount,
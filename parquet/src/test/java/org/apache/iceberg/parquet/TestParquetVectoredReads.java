@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetVectoredReads {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "extra", Types.LongType.get()));
+  private static final Schema PROJECTION = SCHEMA.select("id", "data");
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testReadProjectedColumnChunksWithVectoredReads() throws IOException {
+    File file = writeFile(500);
+    int rowGroups;
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      rowGroups = reader.getRowGroups().size();
+    }
+
+    Assertions.assertThat(rowGroups).as("Should write multiple row groups").isGreaterThan(1);
+
+    RangeReadableFile rangeReadableFile = new RangeReadableFile(file);
+    List<GenericData.Record> expected = read(localInput(file));
+    List<GenericData.Record> actual = read(rangeReadableFile);
+
+    Assertions.assertThat(actual).hasSize(500).isEqualTo(expected);
+    Assertions.assertThat(rangeReadableFile.vectoredReads())
+        .as("Should read each row group with one vectored read")
+        .isEqualTo(rowGroups);
+    Assertions.assertThat(rangeReadableFile.rangesRead())
+        .as("Should read only the projected column chunks")
+        .isEqualTo(2 * rowGroups);
+  }
+
+  @Test
+  public void testCloseCancelsPendingVectoredReads() throws IOException {
+    File file = writeFile(100);
+    ColumnChunkRanges ranges = new ColumnChunkRanges();
+    long rowGroupStart;
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      List<BlockMetaData> rowGroups = reader.getRowGroups();
+      ranges.plan(rowGroups, new boolean[rowGroups.size()], reader.getFileMetaData().getSchema());
+      rowGroupStart = rowGroups.get(0).getStartingPos();
+    }
+
+    RangeReadableFile rangeReadableFile = new RangeReadableFile(file, true /* hold reads */);
+    VectoredInputStreamAdapter stream =
+        new VectoredInputStreamAdapter(rangeReadableFile.newStream(), ranges);
+    stream.seek(rowGroupStart);
+
+    List<CompletableFuture<ByteBuffer>> heldReads = rangeReadableFile.heldReads();
+    Assertions.assertThat(heldReads).hasSize(3).noneMatch(CompletableFuture::isDone);
+
+    stream.close();
+    Assertions.assertThat(heldReads)
+        .as("Should cancel the reads of ranges that were not read")
+        .allMatch(CompletableFuture::isCancelled);
+  }
+
+  private List<GenericData.Record> read(InputFile file) throws IOException {
+    try (CloseableIterable<GenericData.Record> reader =
+        Parquet.read(file)
+            .project(PROJECTION)
+            .createReaderFunc(
+                fileSchema -> ParquetAvroValueReaders.buildReader(PROJECTION, fileSchema))
+            .build()) {
+      List<GenericData.Record> records = Lists.newArrayList();
+      reader.forEach(records::add);
+      return records;
+    }
+  }
+
+  private File writeFile(int recordCount) throws IOException {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA.asStruct());
+    List<GenericData.Record> records = Lists.newArrayListWithCapacity(recordCount);
+    for (int i = 0; i < recordCount; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i);
+      record.put("data", "data-" + i);
+      record.put("extra", (long) i * 31);
+      records.add(record);
+    }
+
+    File file = createTempFile(temp);
+    write(
+        file,
+        SCHEMA,
+        ImmutableMap.of(
+            PARQUET_ROW_GROUP_SIZE_BYTES, "1024",
+            PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "50",
+            PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "50"),
+        ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[0]));
+
+    return file;
+  }
+
+  /** An in-memory file with streams that count vectored reads and can hold them. */
+  private static class RangeReadableFile implements InputFile {
+    private final String location;
+    private final byte[] content;
+    private final AtomicInteger vectoredReads = new AtomicInteger(0);
+    private final AtomicInteger rangesRead = new AtomicInteger(0);
+    private final boolean holdReads;
+    private final List<CompletableFuture<ByteBuffer>> heldReads = Lists.newArrayList();
+
+    private RangeReadableFile(File file) throws IOException {
+      this(file, false);
+    }
+
+    private RangeReadableFile(File file, boolean holdReads) throws IOException {
+      this.location = file.toString();
+      this.content = Files.readAllBytes(file.toPath());
+      this.holdReads = holdReads;
+    }
+
+    /** Returns the futures of vectored reads that were never completed. */
+    List<CompletableFuture<ByteBuffer>> heldReads() {
+      return heldReads;
+    }
+
+    int vectoredReads() {
+      return vectoredReads.get();
+    }
+
+    int rangesRead() {
+      return rangesRead.get();
+    }
+
+    @Override
+    public long getLength() {
+      return content.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new RangeReadableStream();
+    }
+
+    @Override
+    public String location() {
+      return location;
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    private class RangeReadableStream extends SeekableInputStream implements RangeReadable {
+      private long pos = 0L;
+
+      @Override
+      public long getPos() {
+        return pos;
+      }
+
+      @Override
+      public void seek(long newPos) {
+        this.pos = newPos;
+      }
+
+      @Override
+      public int read() {
+        if (pos >= content.length) {
+          return -1;
+        }
+
+        int value = content[(int) pos] & 0xFF;
+        pos += 1;
+        return value;
+      }
+
+      @Override
+      public int read(byte[] bytes, int offset, int length) {
+        if (pos >= content.length) {
+          return -1;
+        }
+
+        int bytesRead = (int) Math.min(length, content.length - pos);
+        System.arraycopy(content, (int) pos, bytes, offset, bytesRead);
+        pos += bytesRead;
+        return bytesRead;
+      }
+
+      @Override
+      public void readFully(long position, byte[] buffer, int offset, int length) {
+        System.arraycopy(content, (int) position, buffer, offset, length);
+      }
+
+      @Override
+      public int readTail(byte[] buffer, int offset, int length) {
+        int tailLength = Math.min(length, content.length);
+        System.arraycopy(content, content.length - tailLength, buffer, offset, tailLength);
+        return tailLength;
+      }
+
+      @Override
+      public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+        vectoredReads.incrementAndGet();
+        rangesRead.addAndGet(ranges.size());
+        if (holdReads) {
+          List<CompletableFuture<ByteBuffer>> futures = Lists.newArrayList();
+          ranges.forEach(range -> futures.add(new CompletableFuture<>()));
+          heldReads.addAll(futures);
+          return futures;
+        }
+
+        return RangeReadable.super.readVectored(ranges);
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestRowRanges {
+
+  @Test
+  public void testBuilderMergesOverlappingAndAdjacentRanges() {
+    RowRanges ranges = new RowRanges.Builder().add(0, 9).add(5, 14).add(15, 19).add(30, 39).build();
+
+    Assertions.assertThat(ranges.toString()).isEqualTo("[0-19, 30-39]");
+    Assertions.assertThat(ranges.size()).isEqualTo(2);
+    Assertions.assertThat(ranges.rowCount()).isEqualTo(30);
+  }
+
+  @Test
+  public void testBuilderRejectsUnorderedRanges() {
+    RowRanges.Builder builder = new RowRanges.Builder().add(10, 19);
+    Assertions.assertThatThrownBy(() -> builder.add(0, 5))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Row ranges must be added in order");
+  }
+
+  @Test
+  public void testUnion() {
+    RowRanges left = new RowRanges.Builder().add(0, 9).add(40, 49).build();
+    RowRanges right = new RowRanges.Builder().add(5, 19).add(60, 69).build();
+
+    Assertions.assertThat(left.union(right).toString()).isEqualTo("[0-19, 40-49, 60-69]");
+    Assertions.assertThat(left.union(RowRanges.empty()).toString()).isEqualTo("[0-9, 40-49]");
+  }
+
+  @Test
+  public void testIntersect() {
+    RowRanges left = new RowRanges.Builder().add(0, 9).add(40, 49).build();
+    RowRanges right = new RowRanges.Builder().add(5, 44).add(60, 69).build();
+
+    Assertions.assertThat(left.intersect(right).toString()).isEqualTo("[5-9, 40-44]");
+    Assertions.assertThat(left.intersect(RowRanges.all(100)).toString()).isEqualTo("[0-9, 40-49]");
+    Assertions.assertThat(left.intersect(RowRanges.empty()).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testOverlaps() {
+    RowRanges ranges = new RowRanges.Builder().add(10, 19).add(40, 49).build();
+
+    Assertions.assertThat(ranges.overlaps(0, 9)).isFalse();
+    Assertions.assertThat(ranges.overlaps(0, 10)).isTrue();
+    Assertions.assertThat(ranges.overlaps(20, 39)).isFalse();
+    Assertions.assertThat(ranges.overlaps(45, 100)).isTrue();
+    Assertions.assertThat(ranges.overlaps(50, 100)).isFalse();
+  }
+
+  @Test
+  public void testRowIndexes() {
+    RowRanges ranges = new RowRanges.Builder().add(1, 3).add(7, 8).build();
+
+    List<Long> indexes = Lists.newArrayList();
+    ranges.rowIndexes().forEachRemaining((long index) -> indexes.add(index));
+    Assertions.assertThat(indexes).containsExactly(1L, 2L, 3L, 7L, 8L);
+  }
+}
@@ -18,11 +18,16 @@
  */
 package org.apache.iceberg.spark.data.vectorized;
 
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.vectorized.VectorizedReaderBuilder;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 
 public class VectorizedSparkParquetReaders {
@@ -43,11 +48,33 @@ public class VectorizedSparkParquetReaders {
         TypeWithSchemaVisitor.visit(
             expectedSchema.asStruct(),
             fileSchema,
-            new VectorizedReaderBuilder(
+            new ReaderBuilder(
                 expectedSchema,
                 fileSchema,
                 setArrowValidityVector,
                 idToConstant,
                 ColumnarBatchReader::new));
   }
+
+  private static class ReaderBuilder extends VectorizedReaderBuilder {
+    ReaderBuilder(
+        Schema expectedSchema,
+        MessageType parquetSchema,
+        boolean setArrowValidityVector,
+        Map<Integer, ?> idToConstant,
+        Function<List<VectorizedReader<?>>, VectorizedReader<?>> readerFactory) {
+      super(expectedSchema, parquetSchema, setArrowValidityVector, idToConstant, readerFactory);
+    }
+
+    @Override
+    public VectorizedReader<?> struct(
+        Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
+      // the column vectors of this Spark version cannot read nested Arrow vectors
+      if (expected != null) {
+        throw new UnsupportedOperationException(
+            "Vectorized reads are not supported yet for struct fields");
+      }
+      return null;
+    }
+  }
 }
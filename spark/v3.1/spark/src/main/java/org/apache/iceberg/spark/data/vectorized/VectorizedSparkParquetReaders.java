@@ -27,6 +27,8 @@ import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.spark.sql.catalyst.InternalRow;
 
@@ -48,12 +50,13 @@ public class VectorizedSparkParquetReaders {
         TypeWithSchemaVisitor.visit(
             expectedSchema.asStruct(),
             fileSchema,
-            new VectorizedReaderBuilder(
+            new ReaderBuilder(
                 expectedSchema,
                 fileSchema,
                 setArrowValidityVector,
                 idToConstant,
-                ColumnarBatchReader::new));
+                ColumnarBatchReader::new,
+                null));
   }
 
   public static ColumnarBatchReader buildReader(
@@ -97,5 +100,16 @@ public class VectorizedSparkParquetReaders {
       }
       return reader;
     }
+
+    @Override
+    public VectorizedReader<?> struct(
+        Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
+      // the column vectors of this Spark version cannot read nested Arrow vectors
+      if (expected != null) {
+        throw new UnsupportedOperationException(
+            "Vectorized reads are not supported yet for struct fields");
+      }
+      return null;
+    }
   }
 }
@@ -21,11 +21,13 @@ package org.apache.iceberg.spark.data.vectorized;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
 import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.parquet.FilteredPageReadStore;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.Pair;
@@ -45,6 +47,9 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  // indexes of the selected rows in the row group, null when all rows are read
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long rowGroupStart = 0;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
@@ -57,6 +62,12 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
     super.setRowGroupInfo(pageStore, metaData, rowPosition);
     this.rowStartPosInBatch = rowPosition;
+    this.rowGroupStart = rowPosition;
+    if (pageStore instanceof FilteredPageReadStore) {
+      this.rowIndexes = ((FilteredPageReadStore) pageStore).rowRanges().rowIndexes();
+    } else {
+      this.rowIndexes = null;
+    }
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
@@ -69,6 +80,14 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       closeVectors();
     }
 
+    if (rowIndexes != null) {
+      // rows of a batch are contiguous when only selected rows of the row group are read
+      this.rowStartPosInBatch = rowGroupStart + rowIndexes.nextLong();
+      for (int i = 1; i < numRowsToRead; i += 1) {
+        rowIndexes.nextLong();
+      }
+    }
+
     ColumnarBatch columnarBatch = new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
     rowStartPosInBatch += numRowsToRead;
     return columnarBatch;
@@ -33,6 +33,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.expressions.Expression;
@@ -204,6 +205,64 @@ public class TestSparkParquetReadMetadataColumns {
     validate(expectedRowsAfterDelete, builder);
   }
 
+  @Test
+  public void testReadRowNumbersWithDeleteAndSkippedPages() throws IOException {
+    Assume.assumeTrue(vectorized);
+
+    File pagedFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", pagedFile.delete());
+    StructType struct = SparkSchemaUtil.convert(DATA_SCHEMA);
+    try (FileAppender<InternalRow> writer =
+        Parquet.write(Files.localOutput(pagedFile))
+            .createWriterFunc(msgType -> SparkParquetWriters.buildWriter(struct, msgType))
+            .schema(DATA_SCHEMA)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, Integer.toString(RECORDS_PER_BATCH))
+            .build()) {
+      writer.addAll(DATA_ROWS);
+    }
+
+    DeleteFilter deleteFilter = mock(DeleteFilter.class);
+    when(deleteFilter.hasPosDeletes()).thenReturn(true);
+    PositionDeleteIndex deletedRowPos = new CustomizedPositionDeleteIndex();
+    // delete rows at positions 605 to 612, which cross a page boundary in the selected pages
+    deletedRowPos.delete(605, 613);
+    when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
+
+    // ids in [1200, 1300) are stored at positions [600, 650), so the other pages are skipped
+    Parquet.ReadBuilder builder =
+        Parquet.read(Files.localInput(pagedFile))
+            .project(PROJECTION_SCHEMA)
+            .filter(
+                Expressions.and(
+                    Expressions.greaterThanOrEqual("id", 1200), Expressions.lessThan("id", 1300)))
+            .set("parquet.filter.columnindex.enabled", "true")
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    VectorizedSparkParquetReaders.buildReader(
+                        PROJECTION_SCHEMA,
+                        fileSchema,
+                        NullCheckingForGet.NULL_CHECKING_ENABLED,
+                        Maps.newHashMap(),
+                        deleteFilter))
+            .recordsPerBatch(RECORDS_PER_BATCH);
+
+    Set<Long> positions = Sets.newHashSet();
+    try (CloseableIterable<InternalRow> reader = batchesToRows(builder.build())) {
+      for (InternalRow row : reader) {
+        long pos = row.getLong(2);
+        InternalRow expected = EXPECTED_ROWS.get((int) pos).copy();
+        expected.update(3, deletedRowPos.isDeleted(pos));
+        TestHelpers.assertEquals(PROJECTION_SCHEMA, expected, row);
+        positions.add(pos);
+      }
+    }
+
+    Assert.assertTrue("Should skip pages", positions.size() < NUM_ROWS);
+    for (long pos = 600; pos < 650; pos += 1) {
+      Assert.assertTrue("Should read selected row " + pos, positions.contains(pos));
+    }
+  }
+
   private class CustomizedPositionDeleteIndex implements PositionDeleteIndex {
     private final Set<Long> deleteIndex;
 
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.spark.source;
 
+import static org.apache.iceberg.TableProperties.ORC_VECTORIZATION_ENABLED;
 import static org.apache.iceberg.TableProperties.PARQUET_VECTORIZATION_ENABLED;
 import static org.apache.iceberg.TableProperties.SPLIT_OPEN_FILE_COST;
 import static org.apache.iceberg.types.Types.NestedField.optional;
@@ -85,6 +86,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "false");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "false");
     withTableProperties(
         tableProperties,
         () -> {
@@ -100,6 +102,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "false");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "false");
     withTableProperties(
         tableProperties,
         () -> {
@@ -116,6 +119,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "false");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "false");
     withTableProperties(
         tableProperties,
         () -> {
@@ -132,6 +136,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "true");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "true");
     withTableProperties(
         tableProperties,
         () -> {
@@ -147,6 +152,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "true");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "true");
     withTableProperties(
         tableProperties,
         () -> {
@@ -163,6 +169,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> tableProperties = Maps.newHashMap();
     tableProperties.put(SPLIT_OPEN_FILE_COST, Integer.toString(128 * 1024 * 1024));
     tableProperties.put(PARQUET_VECTORIZATION_ENABLED, "true");
+    tableProperties.put(ORC_VECTORIZATION_ENABLED, "true");
     withTableProperties(
         tableProperties,
         () -> {
@@ -205,6 +212,7 @@ public abstract class IcebergSourceDeleteBenchmark extends IcebergSourceBenchmar
     Map<String, String> properties = Maps.newHashMap();
     properties.put(TableProperties.METADATA_COMPRESSION, "gzip");
     properties.put(TableProperties.FORMAT_VERSION, "2");
+    properties.put(TableProperties.DEFAULT_FILE_FORMAT, fileFormat().name());
     return tables.create(schema, partitionSpec, properties, newTableLocation());
   }
 
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.source.parquet;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.LongHashSet;
+import org.apache.iceberg.util.StructLikeSet;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares how equality deletes on a single long column are applied to a batch
+ * by the vectorized Spark reader: row by row through a {@link StructLikeSet}, as for multi-column
+ * keys, or column-wise by probing a {@link LongHashSet} with the values of the Arrow vector.
+ *
+ * <p>The end-to-end effect on reads is measured by {@link IcebergSourceParquetEqDeleteBenchmark}.
+ * To run this benchmark for spark-3.3: <code>
+ *   ./gradlew -DsparkVersions=3.3 :iceberg-spark:iceberg-spark-3.3:jmh
+ *       -PjmhIncludeRegex=ParquetEqDeleteApplyBenchmark
+ *       -PjmhOutputPath=benchmark/parquet-eq-delete-apply-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParquetEqDeleteApplyBenchmark {
+  private static final int NUM_ROWS = 10 * 1000 * 1000;
+  private static final int BATCH_SIZE = 5000;
+  private static final Types.StructType KEY_TYPE =
+      Types.StructType.of(Types.NestedField.required(1, "longCol", Types.LongType.get()));
+
+  @Param({"0.000001", "0.05", "0.25"})
+  private double percentDeleteRow;
+
+  private BufferAllocator allocator;
+  private BigIntVector[] batches;
+  private StructLikeSet deleteSet;
+  private LongHashSet deleteValues;
+
+  @Setup
+  public void setupBenchmark() {
+    this.allocator = new RootAllocator(Long.MAX_VALUE);
+    this.batches = new BigIntVector[NUM_ROWS / BATCH_SIZE];
+    for (int batch = 0; batch < batches.length; batch += 1) {
+      BigIntVector vector = new BigIntVector("longCol", allocator);
+      vector.allocateNew(BATCH_SIZE);
+      for (int row = 0; row < BATCH_SIZE; row += 1) {
+        vector.set(row, (long) batch * BATCH_SIZE + row);
+      }
+      vector.setValueCount(BATCH_SIZE);
+      batches[batch] = vector;
+    }
+
+    Set<Long> deleted = Sets.newHashSet();
+    while (deleted.size() < NUM_ROWS * percentDeleteRow) {
+      deleted.add(ThreadLocalRandom.current().nextLong(NUM_ROWS));
+    }
+
+    this.deleteSet = StructLikeSet.create(KEY_TYPE);
+    this.deleteValues = new LongHashSet(deleted.size());
+    for (long value : deleted) {
+      deleteSet.add(new LongKey(value));
+      deleteValues.add(value);
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    for (BigIntVector vector : batches) {
+      vector.close();
+    }
+    allocator.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void applyRowByRow(Blackhole blackhole) {
+    int[] rowIdMapping = new int[BATCH_SIZE];
+    RowKey key = new RowKey();
+    for (BigIntVector vector : batches) {
+      ColumnarBatch batch =
+          new ColumnarBatch(new ColumnVector[] {new ArrowColumnVector(vector)}, BATCH_SIZE);
+      Iterator<InternalRow> rows = batch.rowIterator();
+      int rowId = 0;
+      int currentRowId = 0;
+      while (rows.hasNext()) {
+        if (!deleteSet.contains(key.wrap(rows.next()))) {
+          rowIdMapping[currentRowId] = rowId;
+          currentRowId += 1;
+        }
+        rowId += 1;
+      }
+
+      blackhole.consume(currentRowId);
+    }
+
+    blackhole.consume(rowIdMapping);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void applyColumnWise(Blackhole blackhole) {
+    int[] rowIdMapping = new int[BATCH_SIZE];
+    for (BigIntVector vector : batches) {
+      ArrowBuf values = vector.getDataBuffer();
+      int currentRowId = 0;
+      for (int rowId = 0; rowId < BATCH_SIZE; rowId += 1) {
+        long value = values.getLong((long) rowId * BigIntVector.TYPE_WIDTH);
+        if (!deleteValues.contains(value)) {
+          rowIdMapping[currentRowId] = rowId;
+          currentRowId += 1;
+        }
+      }
+
+      blackhole.consume(currentRowId);
+    }
+
+    blackhole.consume(rowIdMapping);
+  }
+
+  private static class LongKey implements StructLike {
+    private final long value;
+
+    private LongKey(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(value);
+    }
+
+    @Override
+    public <T> void set(int pos, T newValue) {
+      throw new UnsupportedOperationException("Cannot modify a key");
+    }
+  }
+
+  /** A StructLike view of the first column of a row, like the wrapper used by delete filters. */
+  private static class RowKey implements StructLike {
+    private InternalRow row = null;
+
+    private RowKey wrap(InternalRow newRow) {
+      this.row = newRow;
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(row.getLong(pos));
+    }
+
+    @Override
+    public <T> void set(int pos, T newValue) {
+      throw new UnsupportedOperationException("Cannot modify a key");
+    }
+  }
+}
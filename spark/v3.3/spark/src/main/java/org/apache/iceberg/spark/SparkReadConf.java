@@ -129,6 +129,15 @@ public class SparkReadConf {
         .parse();
   }
 
+  public boolean parquetLateMaterializationEnabled() {
+    return confParser
+        .booleanConf()
+        .option(SparkReadOptions.LATE_MATERIALIZATION_ENABLED)
+        .tableProperty(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED)
+        .defaultValue(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT)
+        .parse();
+  }
+
   public boolean orcVectorizationEnabled() {
     return confParser
         .booleanConf()
@@ -162,6 +162,15 @@ public class SparkWriteConf {
         .parse();
   }
 
+  public long fanoutWriterMaxBufferedBytes() {
+    return confParser
+        .longConf()
+        .option(SparkWriteOptions.FANOUT_MAX_BUFFERED_BYTES)
+        .tableProperty(TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_MAX_BUFFERED_BYTES)
+        .defaultValue(TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_MAX_BUFFERED_BYTES_DEFAULT)
+        .parse();
+  }
+
   public FileFormat deleteFileFormat() {
     String valueAsString =
         confParser
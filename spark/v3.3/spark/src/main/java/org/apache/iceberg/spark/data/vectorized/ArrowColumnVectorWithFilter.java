@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.data.vectorized;
+
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+/**
+ * An {@link ArrowColumnVector} for a child of a struct column that maps row ids of a filtered
+ * batch to row ids of the underlying Arrow vector, like {@link ColumnVectorWithFilter}.
+ */
+class ArrowColumnVectorWithFilter extends ArrowColumnVector {
+  private final ValueVector vector;
+  private final int[] rowIdMapping;
+  private ArrowColumnVectorWithFilter[] children = null;
+
+  ArrowColumnVectorWithFilter(ValueVector vector, int[] rowIdMapping) {
+    super(vector);
+    this.vector = vector;
+    this.rowIdMapping = rowIdMapping;
+  }
+
+  @Override
+  public boolean isNullAt(int rowId) {
+    return super.isNullAt(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public boolean getBoolean(int rowId) {
+    return super.getBoolean(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public byte getByte(int rowId) {
+    return super.getByte(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public short getShort(int rowId) {
+    return super.getShort(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public int getInt(int rowId) {
+    return super.getInt(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public long getLong(int rowId) {
+    return super.getLong(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public float getFloat(int rowId) {
+    return super.getFloat(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public double getDouble(int rowId) {
+    return super.getDouble(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public Decimal getDecimal(int rowId, int precision, int scale) {
+    return super.getDecimal(rowIdMapping[rowId], precision, scale);
+  }
+
+  @Override
+  public UTF8String getUTF8String(int rowId) {
+    return super.getUTF8String(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public byte[] getBinary(int rowId) {
+    return super.getBinary(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public ColumnarArray getArray(int rowId) {
+    return super.getArray(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public ColumnarMap getMap(int rowId) {
+    return super.getMap(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public ArrowColumnVector getChild(int ordinal) {
+    StructVector struct = (StructVector) vector;
+    if (children == null) {
+      this.children = new ArrowColumnVectorWithFilter[struct.size()];
+    }
+
+    if (children[ordinal] == null) {
+      children[ordinal] =
+          new ArrowColumnVectorWithFilter(struct.getChildByOrdinal(ordinal), rowIdMapping);
+    }
+
+    return children[ordinal];
+  }
+}
@@ -18,13 +18,17 @@
  */
 package org.apache.iceberg.spark.data.vectorized;
 
+import org.apache.arrow.vector.complex.StructVector;
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
 import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ArrowColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
 import org.apache.spark.unsafe.types.UTF8String;
 
 public class ColumnVectorWithFilter extends IcebergArrowColumnVector {
   private final int[] rowIdMapping;
+  private ArrowColumnVectorWithFilter[] children = null;
 
   public ColumnVectorWithFilter(VectorHolder holder, int[] rowIdMapping) {
     super(holder);
@@ -69,6 +73,29 @@ public class ColumnVectorWithFilter extends IcebergArrowColumnVector {
     return accessor().getArray(rowIdMapping[rowId]);
   }
 
+  @Override
+  public ColumnarMap getMap(int rowId) {
+    if (isNullAt(rowId)) {
+      return null;
+    }
+    return mapAt(rowIdMapping[rowId]);
+  }
+
+  @Override
+  public ArrowColumnVector getChild(int ordinal) {
+    StructVector struct = (StructVector) accessor().getVector();
+    if (children == null) {
+      this.children = new ArrowColumnVectorWithFilter[struct.size()];
+    }
+
+    if (children[ordinal] == null) {
+      children[ordinal] =
+          new ArrowColumnVectorWithFilter(struct.getChildByOrdinal(ordinal), rowIdMapping);
+    }
+
+    return children[ordinal];
+  }
+
   @Override
   public Decimal getDecimal(int rowId, int precision, int scale) {
     if (isNullAt(rowId)) {
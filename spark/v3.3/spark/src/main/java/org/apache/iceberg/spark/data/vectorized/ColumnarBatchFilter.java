@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.data.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.vectorized.ColumnVector;
+
+/**
+ * Evaluates a residual filter against the rows of a columnar batch.
+ *
+ * <p>The filter is evaluated using only the top-level columns that it references, so that a batch
+ * reader can read those columns before the rest of the batch.
+ */
+class ColumnarBatchFilter {
+  private final Evaluator evaluator;
+  private final int[] filterColumns;
+  private final ColumnVectorRow row;
+
+  private ColumnarBatchFilter(Evaluator evaluator, int[] filterColumns, Types.StructType struct) {
+    this.evaluator = evaluator;
+    this.filterColumns = filterColumns;
+    this.row = new ColumnVectorRow(struct);
+  }
+
+  /**
+   * Creates a filter for batches with the columns of a schema.
+   *
+   * @param schema the schema of the batches
+   * @param residual a residual filter expression
+   * @param caseSensitive whether the filter is bound case sensitively
+   * @return a batch filter, or null if the residual matches all rows or references nested fields or
+   *     columns that cannot be read by the filter
+   */
+  static ColumnarBatchFilter create(Schema schema, Expression residual, boolean caseSensitive) {
+    if (residual == null || residual.op() == Expression.Operation.TRUE) {
+      return null;
+    }
+
+    Set<Integer> referencedIds;
+    try {
+      referencedIds =
+          Binder.boundReferences(schema.asStruct(), ImmutableList.of(residual), caseSensitive);
+    } catch (ValidationException e) {
+      // the residual references a column that is not projected
+      return null;
+    }
+
+    List<Types.NestedField> columns = schema.columns();
+    int[] filterColumns = new int[referencedIds.size()];
+    int numFilterColumns = 0;
+    for (int pos = 0; pos < columns.size(); pos += 1) {
+      Types.NestedField column = columns.get(pos);
+      if (referencedIds.contains(column.fieldId())) {
+        if (!isSupported(column.type())) {
+          return null;
+        }
+
+        filterColumns[numFilterColumns] = pos;
+        numFilterColumns += 1;
+      }
+    }
+
+    if (numFilterColumns != filterColumns.length) {
+      // the residual references nested fields
+      return null;
+    }
+
+    Evaluator evaluator = new Evaluator(schema.asStruct(), residual, caseSensitive);
+    return new ColumnarBatchFilter(evaluator, filterColumns, schema.asStruct());
+  }
+
+  private static boolean isSupported(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case DATE:
+      case TIMESTAMP:
+      case STRING:
+      case DECIMAL:
+      case BINARY:
+      case FIXED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Returns the positions of the columns that are referenced by the filter. */
+  int[] filterColumns() {
+    return filterColumns;
+  }
+
+  /**
+   * Filters the selected rows of a batch.
+   *
+   * @param vectors the column vectors of the batch; only the filter columns are accessed
+   * @param rowIdMapping the ids of the selected rows, which is compacted in place to the ids of the
+   *     rows that match the filter
+   * @param numRows the number of selected rows
+   * @return the number of selected rows that match the filter
+   */
+  int filter(ColumnVector[] vectors, int[] rowIdMapping, int numRows) {
+    row.setVectors(vectors);
+    int currentRowId = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      int originalRowId = rowIdMapping[rowId];
+      if (evaluator.eval(row.setRowId(originalRowId))) {
+        rowIdMapping[currentRowId] = originalRowId;
+        currentRowId += 1;
+      }
+    }
+
+    return currentRowId;
+  }
+
+  /** Exposes a row of column vectors with Iceberg's in-memory representation of values. */
+  private static class ColumnVectorRow implements StructLike {
+    private final Type[] types;
+    private ColumnVector[] vectors = null;
+    private int rowId = 0;
+
+    private ColumnVectorRow(Types.StructType struct) {
+      this.types = struct.fields().stream().map(Types.NestedField::type).toArray(Type[]::new);
+    }
+
+    private void setVectors(ColumnVector[] newVectors) {
+      this.vectors = newVectors;
+    }
+
+    private ColumnVectorRow setRowId(int newRowId) {
+      this.rowId = newRowId;
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return types.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      ColumnVector vector = vectors[pos];
+      if (vector.isNullAt(rowId)) {
+        return null;
+      }
+
+      return javaClass.cast(value(vector, types[pos]));
+    }
+
+    private Object value(ColumnVector vector, Type type) {
+      switch (type.typeId()) {
+        case BOOLEAN:
+          return vector.getBoolean(rowId);
+        case INTEGER:
+        case DATE:
+          return vector.getInt(rowId);
+        case LONG:
+        case TIMESTAMP:
+          return vector.getLong(rowId);
+        case FLOAT:
+          return vector.getFloat(rowId);
+        case DOUBLE:
+          return vector.getDouble(rowId);
+        case STRING:
+          return vector.getUTF8String(rowId).toString();
+        case DECIMAL:
+          Types.DecimalType decimal = (Types.DecimalType) type;
+          return vector.getDecimal(rowId, decimal.precision(), decimal.scale()).toJavaBigDecimal();
+        case BINARY:
+        case FIXED:
+          return ByteBuffer.wrap(vector.getBinary(rowId));
+        default:
+          throw new UnsupportedOperationException("Cannot filter on column of type: " + type);
+      }
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot update a column vector row");
+    }
+  }
+}
@@ -21,13 +21,26 @@ package org.apache.iceberg.spark.data.vectorized;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
+import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
+import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.arrow.vectorized.VectorHolder.ConstantVectorHolder;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
 import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.data.LongEqualityDeletes;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.parquet.FilteredPageReadStore;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.util.Pair;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
@@ -45,6 +58,14 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  // indexes of the selected rows in the row group, null when all rows are read
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long rowGroupStart = 0;
+  // evaluates the residual filter before the columns it does not reference are read, or null
+  private ColumnarBatchFilter residualFilter = null;
+  private boolean[] isFilterColumn = null;
+  // types of the columns, used for placeholder vectors of columns that are skipped
+  private Type[] columnTypes = null;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
@@ -57,18 +78,67 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
     super.setRowGroupInfo(pageStore, metaData, rowPosition);
     this.rowStartPosInBatch = rowPosition;
+    this.rowGroupStart = rowPosition;
+    if (pageStore instanceof FilteredPageReadStore) {
+      this.rowIndexes = ((FilteredPageReadStore) pageStore).rowRanges().rowIndexes();
+    } else {
+      this.rowIndexes = null;
+    }
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
     this.deletes = deleteFilter;
   }
 
+  /**
+   * Sets a residual filter that is evaluated while reading batches.
+   *
+   * <p>For each batch, the columns referenced by the filter are read first and rows that do not
+   * match are removed from the batch. The other columns are read only when at least one row
+   * matches and are skipped without being decoded otherwise. The filter is ignored if it cannot be
+   * evaluated on top-level columns of the schema.
+   *
+   * @param schema the schema of the batches produced by this reader
+   * @param residual a residual filter expression
+   * @param caseSensitive whether the filter is bound case sensitively
+   */
+  public void setResidualFilter(Schema schema, Expression residual, boolean caseSensitive) {
+    Preconditions.checkArgument(
+        schema.columns().size() == readers.length,
+        "Schema does not match readers: %s columns, %s readers",
+        schema.columns().size(),
+        readers.length);
+    this.residualFilter = ColumnarBatchFilter.create(schema, residual, caseSensitive);
+    if (residualFilter != null) {
+      this.isFilterColumn = new boolean[readers.length];
+      for (int pos : residualFilter.filterColumns()) {
+        isFilterColumn[pos] = true;
+      }
+
+      this.columnTypes = new Type[readers.length];
+      for (int pos = 0; pos < readers.length; pos += 1) {
+        columnTypes[pos] = schema.columns().get(pos).type();
+      }
+    } else {
+      this.isFilterColumn = null;
+      this.columnTypes = null;
+    }
+  }
+
   @Override
   public final ColumnarBatch read(ColumnarBatch reuse, int numRowsToRead) {
     if (reuse == null) {
       closeVectors();
     }
 
+    if (rowIndexes != null) {
+      // rows of a batch are contiguous when only selected rows of the row group are read
+      this.rowStartPosInBatch = rowGroupStart + rowIndexes.nextLong();
+      for (int i = 1; i < numRowsToRead; i += 1) {
+        rowIndexes.nextLong();
+      }
+    }
+
     ColumnarBatch columnarBatch = new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
     rowStartPosInBatch += numRowsToRead;
     return columnarBatch;
@@ -95,6 +165,10 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
     ColumnarBatch loadDataToColumnBatch() {
       int numRowsUndeleted = initRowIdMapping();
 
+      if (useResidualFilter()) {
+        return loadFilteredDataToColumnBatch(numRowsUndeleted);
+      }
+
       ColumnVector[] arrowColumnVectors = readDataToColumnVectors();
 
       ColumnarBatch newColumnarBatch = new ColumnarBatch(arrowColumnVectors);
@@ -120,22 +194,84 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
 
       ColumnVectorBuilder columnVectorBuilder = new ColumnVectorBuilder();
       for (int i = 0; i < readers.length; i += 1) {
-        vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
-        int numRowsInVector = vectorHolders[i].numValues();
-        Preconditions.checkState(
-            numRowsInVector == numRowsToRead,
-            "Number of rows in the vector %s didn't match expected %s ",
-            numRowsInVector,
-            numRowsToRead);
-
+        readDataToVectorHolder(i);
         arrowColumnVectors[i] =
             columnVectorBuilder
                 .withDeletedRows(rowIdMapping, isDeleted)
-                .build(vectorHolders[i], numRowsInVector);
+                .build(vectorHolders[i], numRowsToRead);
       }
       return arrowColumnVectors;
     }
 
+    void readDataToVectorHolder(int pos) {
+      vectorHolders[pos] = readers[pos].read(vectorHolders[pos], numRowsToRead);
+      int numRowsInVector = vectorHolders[pos].numValues();
+      Preconditions.checkState(
+          numRowsInVector == numRowsToRead,
+          "Number of rows in the vector %s didn't match expected %s ",
+          numRowsInVector,
+          numRowsToRead);
+    }
+
+    // rows removed by the residual filter must be kept when the _deleted column is projected and
+    // equality deletes are evaluated on all columns, so the filter is only used without them
+    boolean useResidualFilter() {
+      return residualFilter != null && !hasIsDeletedColumn && !hasEqDeletes();
+    }
+
+    /**
+     * Reads the columns referenced by the residual filter and removes the rows that do not match
+     * from the row id mapping, before reading the other columns. When no rows match, the other
+     * columns are skipped without being decoded and an empty batch is returned.
+     *
+     * @param numRowsUndeleted the number of rows that are not deleted
+     * @return a batch with the rows that are not deleted and match the residual filter
+     */
+    ColumnarBatch loadFilteredDataToColumnBatch(int numRowsUndeleted) {
+      ColumnVector[] filterVectors = new ColumnVector[readers.length];
+      ColumnVectorBuilder filterVectorBuilder = new ColumnVectorBuilder();
+      for (int pos : residualFilter.filterColumns()) {
+        readDataToVectorHolder(pos);
+        filterVectors[pos] = filterVectorBuilder.build(vectorHolders[pos], numRowsToRead);
+      }
+
+      boolean hasDeletes = rowIdMapping != null;
+      if (!hasDeletes) {
+        this.rowIdMapping = new int[numRowsToRead];
+        for (int i = 0; i < numRowsToRead; i += 1) {
+          rowIdMapping[i] = i;
+        }
+      }
+
+      int numRowsMatched = residualFilter.filter(filterVectors, rowIdMapping, numRowsUndeleted);
+      if (!hasDeletes && numRowsMatched == numRowsToRead) {
+        // all rows match, so there is no need to map row ids
+        this.rowIdMapping = null;
+      }
+
+      ColumnVector[] arrowColumnVectors = new ColumnVector[readers.length];
+      ColumnVectorBuilder columnVectorBuilder =
+          new ColumnVectorBuilder().withDeletedRows(rowIdMapping, null);
+      for (int i = 0; i < readers.length; i += 1) {
+        if (!isFilterColumn[i]) {
+          if (numRowsMatched == 0) {
+            readers[i].skip(numRowsToRead);
+            // the batch is empty, but the vector must match the column type in the read schema
+            arrowColumnVectors[i] = new ConstantColumnVector(columnTypes[i], 0, null);
+            continue;
+          }
+
+          readDataToVectorHolder(i);
+        }
+
+        arrowColumnVectors[i] = columnVectorBuilder.build(vectorHolders[i], numRowsToRead);
+      }
+
+      ColumnarBatch newColumnarBatch = new ColumnarBatch(arrowColumnVectors);
+      newColumnarBatch.setNumRows(numRowsMatched);
+      return newColumnarBatch;
+    }
+
     boolean hasEqDeletes() {
       return deletes != null && deletes.hasEqDeletes();
     }
@@ -222,6 +358,12 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
      * @param columnarBatch the {@link ColumnarBatch} to apply the equality delete
      */
     void applyEqDelete(ColumnarBatch columnarBatch) {
+      List<LongEqualityDeletes> longEqDeletes = deletes.longEqDeletes();
+      if (longEqDeletes != null) {
+        applyLongEqDeletes(columnarBatch, longEqDeletes);
+        return;
+      }
+
       Iterator<InternalRow> it = columnarBatch.rowIterator();
       int rowId = 0;
       int currentRowId = 0;
@@ -245,5 +387,87 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
 
       columnarBatch.setNumRows(currentRowId);
     }
+
+    /**
+     * Filter out equality deleted rows column by column. For each equality delete, the values of
+     * its column are probed against a primitive set for the rows that are still selected, and the
+     * row id mapping is compacted to the rows that are not deleted.
+     *
+     * @param columnarBatch the {@link ColumnarBatch} to apply the equality deletes
+     * @param longEqDeletes equality deletes on single int or long columns
+     */
+    void applyLongEqDeletes(ColumnarBatch columnarBatch, List<LongEqualityDeletes> longEqDeletes) {
+      int numRows = columnarBatch.numRows();
+      for (LongEqualityDeletes eqDeletes : longEqDeletes) {
+        numRows = applyLongEqDeletes(vectorHolders[eqDeletes.columnIndex()], eqDeletes, numRows);
+      }
+
+      columnarBatch.setNumRows(numRows);
+    }
+
+    private int applyLongEqDeletes(
+        VectorHolder holder, LongEqualityDeletes eqDeletes, int numRows) {
+      if (holder instanceof ConstantVectorHolder) {
+        Object constant = ((ConstantVectorHolder<?>) holder).getConstant();
+        boolean deleted =
+            constant == null
+                ? eqDeletes.isNullDeleted()
+                : eqDeletes.isDeleted(((Number) constant).longValue());
+        return deleted ? markAllDeleted(numRows) : numRows;
+      }
+
+      FieldVector vector = holder.vector();
+      NullabilityHolder nulls = holder.nullabilityHolder();
+      boolean isLong = eqDeletes.field().type().typeId() == Type.TypeID.LONG;
+      ColumnVector fallback = null;
+      if (holder.isDictionaryEncoded()
+          || !(isLong ? vector instanceof BigIntVector : vector instanceof IntVector)) {
+        fallback = new IcebergArrowColumnVector(holder);
+      }
+
+      ArrowBuf values = fallback == null ? vector.getDataBuffer() : null;
+      int currentRowId = 0;
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        int originalRowId = rowIdMapping[rowId];
+        boolean deleted;
+        if (nulls.isNullAt(originalRowId) == 1) {
+          deleted = eqDeletes.isNullDeleted();
+        } else if (values != null) {
+          long value =
+              isLong
+                  ? values.getLong((long) originalRowId * BigIntVector.TYPE_WIDTH)
+                  : values.getInt((long) originalRowId * IntVector.TYPE_WIDTH);
+          deleted = eqDeletes.isDeleted(value);
+        } else {
+          long value = isLong ? fallback.getLong(originalRowId) : fallback.getInt(originalRowId);
+          deleted = eqDeletes.isDeleted(value);
+        }
+
+        if (deleted) {
+          markDeleted(originalRowId);
+        } else {
+          rowIdMapping[currentRowId] = originalRowId;
+          currentRowId += 1;
+        }
+      }
+
+      return currentRowId;
+    }
+
+    private int markAllDeleted(int numRows) {
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        markDeleted(rowIdMapping[rowId]);
+      }
+
+      return 0;
+    }
+
+    private void markDeleted(int originalRowId) {
+      if (hasIsDeletedColumn) {
+        isDeleted[originalRowId] = true;
+      }
+
+      deletes.incrementDeleteCount();
+    }
   }
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.iceberg.spark.data.vectorized;
 
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
 import org.apache.iceberg.arrow.vectorized.ArrowVectorAccessor;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
@@ -39,6 +41,8 @@ public class IcebergArrowColumnVector extends ColumnVector {
 
   private final ArrowVectorAccessor<Decimal, UTF8String, ColumnarArray, ArrowColumnVector> accessor;
   private final NullabilityHolder nullabilityHolder;
+  private ArrowColumnVector mapKeys = null;
+  private ArrowColumnVector mapValues = null;
 
   public IcebergArrowColumnVector(VectorHolder holder) {
     super(SparkSchemaUtil.convert(holder.icebergType()));
@@ -119,7 +123,24 @@ public class IcebergArrowColumnVector extends ColumnVector {
 
   @Override
   public ColumnarMap getMap(int rowId) {
-    throw new UnsupportedOperationException("Unsupported type - map");
+    if (isNullAt(rowId)) {
+      return null;
+    }
+    return mapAt(rowId);
+  }
+
+  /** Returns the map stored at a row of the underlying Arrow vector. */
+  protected ColumnarMap mapAt(int vectorRowId) {
+    MapVector mapVector = (MapVector) accessor.getVector();
+    if (mapKeys == null) {
+      StructVector entries = (StructVector) mapVector.getDataVector();
+      this.mapKeys = new ArrowColumnVector(entries.getChildByOrdinal(0));
+      this.mapValues = new ArrowColumnVector(entries.getChildByOrdinal(1));
+    }
+
+    int start = mapVector.getElementStartIndex(vectorRowId);
+    int end = mapVector.getElementEndIndex(vectorRowId);
+    return new ColumnarMap(mapKeys, mapValues, start, end - start);
   }
 
   @Override
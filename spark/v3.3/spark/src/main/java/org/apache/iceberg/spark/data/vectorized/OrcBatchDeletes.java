@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.data.vectorized;
+
+import java.util.Iterator;
+import java.util.List;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.data.LongEqualityDeletes;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.types.Type;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+/**
+ * Applies position and equality deletes to batches produced by the vectorized ORC reader.
+ *
+ * <p>Like {@link ColumnarBatchReader} does for Parquet, deleted rows are removed by building a row
+ * id mapping for each batch instead of copying the live rows: position deletes are checked using
+ * the {@link PositionDeleteIndex} and equality deletes on a single int or long column are probed
+ * column by column. Other equality deletes are evaluated row by row on the remaining rows. When
+ * the {@code _deleted} metadata column is projected, no rows are removed and the column is set
+ * instead.
+ */
+class OrcBatchDeletes {
+  private final DeleteFilter<InternalRow> deletes;
+  private final int isDeletedPos;
+
+  OrcBatchDeletes(Schema schema, DeleteFilter<InternalRow> deletes) {
+    this.deletes = deletes;
+    this.isDeletedPos = schema.columns().indexOf(MetadataColumns.IS_DELETED);
+  }
+
+  /**
+   * Returns a batch without the deleted rows of the given vectors.
+   *
+   * @param vectors the column vectors of a batch, in the order of the required schema
+   * @param numRows the number of rows in the vectors
+   * @param batchOffsetInFile the position of the first row of the batch in the data file
+   * @return a batch of the rows that are not deleted
+   */
+  ColumnarBatch apply(ColumnVector[] vectors, int numRows, long batchOffsetInFile) {
+    int[] rowIdMapping = new int[numRows];
+    boolean[] isDeleted = isDeletedPos >= 0 ? new boolean[numRows] : null;
+
+    int numLiveRows = applyPosDeletes(rowIdMapping, isDeleted, numRows, batchOffsetInFile);
+    if (deletes.hasEqDeletes()) {
+      numLiveRows = applyEqDeletes(vectors, rowIdMapping, isDeleted, numLiveRows);
+    }
+
+    if (isDeleted != null) {
+      // deleted rows are kept and marked using the _deleted column
+      vectors[isDeletedPos] = new DeletedColumnVector(MetadataColumns.IS_DELETED.type(), isDeleted);
+      return batch(vectors, numRows);
+    }
+
+    if (numLiveRows == numRows) {
+      return batch(vectors, numRows);
+    }
+
+    ColumnVector[] filtered = new ColumnVector[vectors.length];
+    for (int i = 0; i < vectors.length; i += 1) {
+      filtered[i] = new FilteredColumnVector(vectors[i], rowIdMapping);
+    }
+
+    return batch(filtered, numLiveRows);
+  }
+
+  private int applyPosDeletes(
+      int[] rowIdMapping, boolean[] isDeleted, int numRows, long batchOffsetInFile) {
+    PositionDeleteIndex deletedPositions =
+        deletes.hasPosDeletes() ? deletes.deletedRowPositions() : null;
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      if (deletedPositions != null && deletedPositions.isDeleted(batchOffsetInFile + rowId)) {
+        markDeleted(isDeleted, rowId);
+      } else {
+        rowIdMapping[numLiveRows] = rowId;
+        numLiveRows += 1;
+      }
+    }
+
+    return numLiveRows;
+  }
+
+  private int applyEqDeletes(
+      ColumnVector[] vectors, int[] rowIdMapping, boolean[] isDeleted, int numRows) {
+    List<LongEqualityDeletes> longEqDeletes = deletes.longEqDeletes();
+    if (longEqDeletes == null) {
+      return applyEqDeleteFilter(vectors, rowIdMapping, isDeleted, numRows);
+    }
+
+    int numLiveRows = numRows;
+    for (LongEqualityDeletes eqDeletes : longEqDeletes) {
+      ColumnVector vector = vectors[eqDeletes.columnIndex()];
+      boolean isLong = eqDeletes.field().type().typeId() == Type.TypeID.LONG;
+      int currentRowId = 0;
+      for (int rowId = 0; rowId < numLiveRows; rowId += 1) {
+        int originalRowId = rowIdMapping[rowId];
+        boolean deleted;
+        if (vector.isNullAt(originalRowId)) {
+          deleted = eqDeletes.isNullDeleted();
+        } else {
+          long value = isLong ? vector.getLong(originalRowId) : vector.getInt(originalRowId);
+          deleted = eqDeletes.isDeleted(value);
+        }
+
+        if (deleted) {
+          markDeleted(isDeleted, originalRowId);
+        } else {
+          rowIdMapping[currentRowId] = originalRowId;
+          currentRowId += 1;
+        }
+      }
+
+      numLiveRows = currentRowId;
+    }
+
+    return numLiveRows;
+  }
+
+  private int applyEqDeleteFilter(
+      ColumnVector[] vectors, int[] rowIdMapping, boolean[] isDeleted, int numRows) {
+    ColumnVector[] filtered = new ColumnVector[vectors.length];
+    for (int i = 0; i < vectors.length; i += 1) {
+      filtered[i] = new FilteredColumnVector(vectors[i], rowIdMapping);
+    }
+
+    // rows are read before their mapping is overwritten, so the mapping is compacted in place
+    Iterator<InternalRow> rows = batch(filtered, numRows).rowIterator();
+    int rowId = 0;
+    int currentRowId = 0;
+    while (rows.hasNext()) {
+      InternalRow row = rows.next();
+      int originalRowId = rowIdMapping[rowId];
+      if (deletes.eqDeletedRowFilter().test(row)) {
+        rowIdMapping[currentRowId] = originalRowId;
+        currentRowId += 1;
+      } else {
+        markDeleted(isDeleted, originalRowId);
+      }
+
+      rowId += 1;
+    }
+
+    return currentRowId;
+  }
+
+  private void markDeleted(boolean[] isDeleted, int originalRowId) {
+    if (isDeleted != null) {
+      isDeleted[originalRowId] = true;
+    }
+
+    deletes.incrementDeleteCount();
+  }
+
+  private static ColumnarBatch batch(ColumnVector[] vectors, int numRows) {
+    ColumnarBatch batch = new ColumnarBatch(vectors);
+    batch.setNumRows(numRows);
+    return batch;
+  }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.stream.IntStream;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.orc.OrcBatchReader;
 import org.apache.iceberg.orc.OrcSchemaWithTypeVisitor;
 import org.apache.iceberg.orc.OrcValueReader;
@@ -37,6 +38,7 @@ import org.apache.orc.storage.ql.exec.vector.ListColumnVector;
 import org.apache.orc.storage.ql.exec.vector.MapColumnVector;
 import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.types.Decimal;
 import org.apache.spark.sql.vectorized.ColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarArray;
@@ -50,8 +52,30 @@ public class VectorizedSparkOrcReaders {
 
   public static OrcBatchReader<ColumnarBatch> buildReader(
       Schema expectedSchema, TypeDescription fileSchema, Map<Integer, ?> idToConstant) {
+    return buildReader(expectedSchema, fileSchema, idToConstant, null);
+  }
+
+  /**
+   * Builds a reader for Spark columnar batches from ORC.
+   *
+   * <p>If a delete filter is passed, deleted rows are removed from each batch using a row id
+   * mapping, or marked in the {@code _deleted} metadata column if it is projected.
+   *
+   * @param expectedSchema the expected schema of the batches, including columns required by deletes
+   * @param fileSchema the ORC file schema
+   * @param idToConstant a map from field ID to constant values
+   * @param deleteFilter a filter for deleted rows, or null if there are no deletes
+   * @return a reader for Spark columnar batches
+   */
+  public static OrcBatchReader<ColumnarBatch> buildReader(
+      Schema expectedSchema,
+      TypeDescription fileSchema,
+      Map<Integer, ?> idToConstant,
+      DeleteFilter<InternalRow> deleteFilter) {
     Converter converter =
         OrcSchemaWithTypeVisitor.visit(expectedSchema, fileSchema, new ReadBuilder(idToConstant));
+    OrcBatchDeletes deletes =
+        deleteFilter != null ? new OrcBatchDeletes(expectedSchema, deleteFilter) : null;
 
     return new OrcBatchReader<ColumnarBatch>() {
       private long batchOffsetInFile;
@@ -62,11 +86,16 @@ public class VectorizedSparkOrcReaders {
             (BaseOrcColumnVector)
                 converter.convert(
                     new StructColumnVector(batch.size, batch.cols), batch.size, batchOffsetInFile);
-        ColumnarBatch columnarBatch =
-            new ColumnarBatch(
-                IntStream.range(0, expectedSchema.columns().size())
-                    .mapToObj(cv::getChild)
-                    .toArray(ColumnVector[]::new));
+        ColumnVector[] columnVectors =
+            IntStream.range(0, expectedSchema.columns().size())
+                .mapToObj(cv::getChild)
+                .toArray(ColumnVector[]::new);
+
+        if (deletes != null) {
+          return deletes.apply(columnVectors, batch.size, batchOffsetInFile);
+        }
+
+        ColumnarBatch columnarBatch = new ColumnarBatch(columnVectors);
         columnarBatch.setNumRows(batch.size);
         return columnarBatch;
       }
@@ -25,6 +25,7 @@ import org.apache.arrow.vector.NullCheckingForGet;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.vectorized.VectorizedReaderBuilder;
 import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -113,17 +114,48 @@ public class VectorizedSparkParquetReaders {
       MessageType fileSchema,
       Map<Integer, ?> idToConstant,
       DeleteFilter<InternalRow> deleteFilter) {
-    return (ColumnarBatchReader)
-        TypeWithSchemaVisitor.visit(
-            expectedSchema.asStruct(),
-            fileSchema,
-            new ReaderBuilder(
-                expectedSchema,
+    return buildReader(expectedSchema, fileSchema, idToConstant, deleteFilter, null, true);
+  }
+
+  /**
+   * Builds a reader for Spark columnar batches.
+   *
+   * <p>If a residual filter is passed, the columns it references are read first for each batch and
+   * the rows that do not match are removed from the batch. When no rows match, the other columns
+   * of the batch are skipped without being decoded.
+   *
+   * @param expectedSchema the expected schema of the batches
+   * @param fileSchema the Parquet file schema
+   * @param idToConstant a map from field ID to constant values
+   * @param deleteFilter a filter for deleted rows, or null if there are no deletes
+   * @param residual a residual filter to evaluate while reading, or null to return all rows
+   * @param caseSensitive whether the residual filter is bound case sensitively
+   * @return a reader for Spark columnar batches
+   */
+  public static ColumnarBatchReader buildReader(
+      Schema expectedSchema,
+      MessageType fileSchema,
+      Map<Integer, ?> idToConstant,
+      DeleteFilter<InternalRow> deleteFilter,
+      Expression residual,
+      boolean caseSensitive) {
+    ColumnarBatchReader reader =
+        (ColumnarBatchReader)
+            TypeWithSchemaVisitor.visit(
+                expectedSchema.asStruct(),
                 fileSchema,
-                NullCheckingForGet.NULL_CHECKING_ENABLED,
-                idToConstant,
-                ColumnarBatchReader::new,
-                deleteFilter));
+                new ReaderBuilder(
+                    expectedSchema,
+                    fileSchema,
+                    NullCheckingForGet.NULL_CHECKING_ENABLED,
+                    idToConstant,
+                    ColumnarBatchReader::new,
+                    deleteFilter));
+    if (residual != null) {
+      reader.setResidualFilter(expectedSchema, residual, caseSensitive);
+    }
+
+    return reader;
   }
 
   // enables unsafe memory access to avoid costly checks to see if index is within bounds
@@ -39,15 +39,18 @@ import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBatch, T> {
   private final int batchSize;
+  private final boolean lateMaterialization;
 
   BaseBatchReader(
       Table table,
       ScanTaskGroup<T> taskGroup,
       Schema expectedSchema,
       boolean caseSensitive,
-      int batchSize) {
+      int batchSize,
+      boolean lateMaterialization) {
     super(table, taskGroup, expectedSchema, caseSensitive);
     this.batchSize = batchSize;
+    this.lateMaterialization = lateMaterialization;
   }
 
   protected CloseableIterable<ColumnarBatch> newBatchIterable(
@@ -63,7 +66,7 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
         return newParquetIterable(inputFile, start, length, residual, idToConstant, deleteFilter);
 
       case ORC:
-        return newOrcIterable(inputFile, start, length, residual, idToConstant);
+        return newOrcIterable(inputFile, start, length, residual, idToConstant, deleteFilter);
 
       default:
         throw new UnsupportedOperationException(
@@ -80,6 +83,8 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
       SparkDeleteFilter deleteFilter) {
     // get required schema if there are deletes
     Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema();
+    // when enabled, the residual is also evaluated by the reader to skip decoding filtered rows
+    Expression rowFilter = lateMaterialization ? residual : null;
 
     return Parquet.read(inputFile)
         .project(requiredSchema)
@@ -87,7 +92,12 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
         .createBatchedReaderFunc(
             fileSchema ->
                 VectorizedSparkParquetReaders.buildReader(
-                    requiredSchema, fileSchema, idToConstant, deleteFilter))
+                    requiredSchema,
+                    fileSchema,
+                    idToConstant,
+                    deleteFilter,
+                    rowFilter,
+                    caseSensitive()))
         .recordsPerBatch(batchSize)
         .filter(residual)
         .caseSensitive(caseSensitive())
@@ -104,20 +114,24 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
       long start,
       long length,
       Expression residual,
-      Map<Integer, ?> idToConstant) {
+      Map<Integer, ?> idToConstant,
+      SparkDeleteFilter deleteFilter) {
+    // get required schema if there are deletes
+    Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema();
     Set<Integer> constantFieldIds = idToConstant.keySet();
     Set<Integer> metadataFieldIds = MetadataColumns.metadataFieldIds();
     Sets.SetView<Integer> constantAndMetadataFieldIds =
         Sets.union(constantFieldIds, metadataFieldIds);
     Schema schemaWithoutConstantAndMetadataFields =
-        TypeUtil.selectNot(expectedSchema(), constantAndMetadataFieldIds);
+        TypeUtil.selectNot(requiredSchema, constantAndMetadataFieldIds);
 
     return ORC.read(inputFile)
         .project(schemaWithoutConstantAndMetadataFields)
         .split(start, length)
         .createBatchedReaderFunc(
             fileSchema ->
-                VectorizedSparkOrcReaders.buildReader(expectedSchema(), fileSchema, idToConstant))
+                VectorizedSparkOrcReaders.buildReader(
+                    requiredSchema, fileSchema, idToConstant, deleteFilter))
         .recordsPerBatch(batchSize)
         .filter(residual)
         .caseSensitive(caseSensitive())
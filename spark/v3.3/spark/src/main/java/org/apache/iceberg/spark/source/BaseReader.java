@@ -48,6 +48,8 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.spark.SparkSchemaUtil;
@@ -79,6 +81,7 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
   private final ScanTaskGroup<TaskT> taskGroup;
   private final Iterator<TaskT> tasks;
   private final DeleteCounter counter;
+  private final ScanMetrics scanMetrics;
 
   private Map<String, InputFile> lazyInputFiles;
   private CloseableIterator<T> currentIterator;
@@ -97,6 +100,7 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     this.nameMapping =
         nameMappingString != null ? NameMappingParser.fromJson(nameMappingString) : null;
     this.counter = new DeleteCounter();
+    this.scanMetrics = ScanMetrics.of(new DefaultMetricsContext());
   }
 
   protected abstract CloseableIterator<T> open(TaskT task);
@@ -123,6 +127,10 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     return counter;
   }
 
+  protected ScanMetrics scanMetrics() {
+    return scanMetrics;
+  }
+
   public boolean next() throws IOException {
     try {
       while (true) {
@@ -266,6 +274,16 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
       return BaseReader.this.getInputFile(location);
     }
 
+    @Override
+    protected Map<String, String> tableProperties() {
+      return table.properties();
+    }
+
+    @Override
+    protected ScanMetrics scanMetrics() {
+      return BaseReader.this.scanMetrics();
+    }
+
     @Override
     protected void markRowDeleted(InternalRow row) {
       if (!row.getBoolean(columnIsDeletedPosition())) {
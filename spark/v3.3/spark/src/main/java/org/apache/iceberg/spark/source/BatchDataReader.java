@@ -25,9 +25,12 @@ import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.spark.source.metrics.TaskEqualityDeleteSpillBytes;
+import org.apache.iceberg.spark.source.metrics.TaskEqualityDeleteSpills;
 import org.apache.iceberg.spark.source.metrics.TaskNumDeletes;
 import org.apache.iceberg.spark.source.metrics.TaskNumSplits;
 import org.apache.spark.rdd.InputFileBlockHolder;
@@ -44,13 +47,14 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
 
   private final long numSplits;
 
-  BatchDataReader(SparkInputPartition partition, int batchSize) {
+  BatchDataReader(SparkInputPartition partition, int batchSize, boolean lateMaterialization) {
     this(
         partition.table(),
         partition.taskGroup(),
         partition.expectedSchema(),
         partition.isCaseSensitive(),
-        batchSize);
+        batchSize,
+        lateMaterialization);
   }
 
   BatchDataReader(
@@ -59,7 +63,17 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
       Schema expectedSchema,
       boolean caseSensitive,
       int size) {
-    super(table, taskGroup, expectedSchema, caseSensitive, size);
+    this(table, taskGroup, expectedSchema, caseSensitive, size, false);
+  }
+
+  BatchDataReader(
+      Table table,
+      ScanTaskGroup<FileScanTask> taskGroup,
+      Schema expectedSchema,
+      boolean caseSensitive,
+      int size,
+      boolean lateMaterialization) {
+    super(table, taskGroup, expectedSchema, caseSensitive, size, lateMaterialization);
 
     numSplits = taskGroup.tasks().size();
     LOG.debug("Reading {} file split(s) for table {}", numSplits, table.name());
@@ -68,7 +82,10 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
   @Override
   public CustomTaskMetric[] currentMetricsValues() {
     return new CustomTaskMetric[] {
-      new TaskNumSplits(numSplits), new TaskNumDeletes(counter().get())
+      new TaskNumSplits(numSplits),
+      new TaskNumDeletes(counter().get()),
+      new TaskEqualityDeleteSpills(scanMetrics().equalityDeleteSpills().value()),
+      new TaskEqualityDeleteSpillBytes(scanMetrics().equalityDeleteSpillBytes().value())
     };
   }
 
@@ -95,14 +112,17 @@ class BatchDataReader extends BaseBatchReader<FileScanTask>
             ? null
             : new SparkDeleteFilter(filePath, task.deletes(), counter());
 
-    return newBatchIterable(
+    CloseableIterable<ColumnarBatch> batches =
+        newBatchIterable(
             inputFile,
             task.file().format(),
             task.start(),
             task.length(),
             task.residual(),
             idToConstant,
-            deleteFilter)
-        .iterator();
+            deleteFilter);
+
+    // batch readers apply deletes through the filter, release its delete sets with the file
+    return deleteFilter != null ? deleteFilter.closeWith(batches).iterator() : batches.iterator();
   }
 }
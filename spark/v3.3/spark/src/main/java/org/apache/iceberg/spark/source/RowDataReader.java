@@ -30,6 +30,8 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.spark.source.metrics.TaskEqualityDeleteSpillBytes;
+import org.apache.iceberg.spark.source.metrics.TaskEqualityDeleteSpills;
 import org.apache.iceberg.spark.source.metrics.TaskNumDeletes;
 import org.apache.iceberg.spark.source.metrics.TaskNumSplits;
 import org.apache.spark.rdd.InputFileBlockHolder;
@@ -67,7 +69,10 @@ class RowDataReader extends BaseRowReader<FileScanTask> implements PartitionRead
   @Override
   public CustomTaskMetric[] currentMetricsValues() {
     return new CustomTaskMetric[] {
-      new TaskNumSplits(numSplits), new TaskNumDeletes(counter().get())
+      new TaskNumSplits(numSplits),
+      new TaskNumDeletes(counter().get()),
+      new TaskEqualityDeleteSpills(scanMetrics().equalityDeleteSpills().value()),
+      new TaskEqualityDeleteSpillBytes(scanMetrics().equalityDeleteSpillBytes().value())
     };
   }
 
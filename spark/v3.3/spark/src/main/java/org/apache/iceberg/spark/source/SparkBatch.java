@@ -98,7 +98,8 @@ class SparkBatch implements Batch {
   public PartitionReaderFactory createReaderFactory() {
     if (useParquetBatchReads()) {
       int batchSize = readConf.parquetBatchSize();
-      return new SparkColumnarReaderFactory(batchSize);
+      boolean lateMaterialization = readConf.parquetLateMaterializationEnabled();
+      return new SparkColumnarReaderFactory(batchSize, lateMaterialization);
 
     } else if (useOrcBatchReads()) {
       int batchSize = readConf.orcBatchSize();
@@ -112,12 +113,10 @@ class SparkBatch implements Batch {
   // conditions for using Parquet batch reads:
   // - Parquet vectorization is enabled
   // - at least one column is projected
-  // - only primitives are projected
   // - all tasks are of FileScanTask type and read only Parquet files
   private boolean useParquetBatchReads() {
     return readConf.parquetVectorizationEnabled()
         && expectedSchema.columns().size() > 0
-        && expectedSchema.columns().stream().allMatch(c -> c.type().isPrimitiveType())
         && taskGroups.stream().allMatch(this::supportsParquetBatchReads);
   }
 
@@ -137,7 +136,7 @@ class SparkBatch implements Batch {
 
   // conditions for using ORC batch reads:
   // - ORC vectorization is enabled
-  // - all tasks are of type FileScanTask and read only ORC files with no delete files
+  // - all tasks are of type FileScanTask and read only ORC files
   private boolean useOrcBatchReads() {
     return readConf.orcVectorizationEnabled()
         && taskGroups.stream().allMatch(this::supportsOrcBatchReads);
@@ -150,7 +149,7 @@ class SparkBatch implements Batch {
 
     } else if (task.isFileScanTask() && !task.isDataTask()) {
       FileScanTask fileScanTask = task.asFileScanTask();
-      return fileScanTask.file().format() == FileFormat.ORC && fileScanTask.deletes().isEmpty();
+      return fileScanTask.file().format() == FileFormat.ORC;
 
     } else {
       return false;
@@ -28,10 +28,16 @@ import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 class SparkColumnarReaderFactory implements PartitionReaderFactory {
   private final int batchSize;
+  private final boolean lateMaterialization;
 
   SparkColumnarReaderFactory(int batchSize) {
+    this(batchSize, false);
+  }
+
+  SparkColumnarReaderFactory(int batchSize, boolean lateMaterialization) {
     Preconditions.checkArgument(batchSize > 1, "Batch size must be > 1");
     this.batchSize = batchSize;
+    this.lateMaterialization = lateMaterialization;
   }
 
   @Override
@@ -49,7 +55,7 @@ class SparkColumnarReaderFactory implements PartitionReaderFactory {
     SparkInputPartition partition = (SparkInputPartition) inputPartition;
 
     if (partition.allTasksOfType(FileScanTask.class)) {
-      return new BatchDataReader(partition, batchSize);
+      return new BatchDataReader(partition, batchSize, lateMaterialization);
 
     } else {
       throw new UnsupportedOperationException(
@@ -561,7 +561,12 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       long targetFileSize = context.targetDataFileSize();
 
       if (table.spec().isPartitioned() && context.fanoutWriterEnabled()) {
-        return new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), targetFileSize);
+        return new FanoutDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            targetFileSize,
+            context.fanoutWriterMaxBufferedBytes());
       } else {
         return new ClusteredDataWriter<>(writerFactory, fileFactory, table.io(), targetFileSize);
       }
@@ -576,7 +581,12 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
 
       if (table.spec().isPartitioned()) {
         // use a fanout writer for partitioned tables to write updates as they may be out of order
-        return new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), targetFileSize);
+        return new FanoutDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            targetFileSize,
+            context.fanoutWriterMaxBufferedBytes());
       } else {
         return new ClusteredDataWriter<>(writerFactory, fileFactory, table.io(), targetFileSize);
       }
@@ -661,6 +671,7 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
     private final FileFormat deleteFileFormat;
     private final long targetDeleteFileSize;
     private final boolean fanoutWriterEnabled;
+    private final long fanoutWriterMaxBufferedBytes;
     private final String queryId;
 
     Context(Schema dataSchema, SparkWriteConf writeConf, ExtendedLogicalWriteInfo info) {
@@ -673,6 +684,7 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       this.targetDeleteFileSize = writeConf.targetDeleteFileSize();
       this.metadataSparkType = info.metadataSchema();
       this.fanoutWriterEnabled = writeConf.fanoutWriterEnabled();
+      this.fanoutWriterMaxBufferedBytes = writeConf.fanoutWriterMaxBufferedBytes();
       this.queryId = info.queryId();
     }
 
@@ -712,6 +724,10 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       return fanoutWriterEnabled;
     }
 
+    long fanoutWriterMaxBufferedBytes() {
+      return fanoutWriterMaxBufferedBytes;
+    }
+
     String queryId() {
       return queryId;
     }
@@ -33,6 +33,8 @@ import org.apache.iceberg.spark.Spark3Util;
 import org.apache.iceberg.spark.SparkReadConf;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.SparkUtil;
+import org.apache.iceberg.spark.source.metrics.EqualityDeleteSpillBytes;
+import org.apache.iceberg.spark.source.metrics.EqualityDeleteSpills;
 import org.apache.iceberg.spark.source.metrics.NumDeletes;
 import org.apache.iceberg.spark.source.metrics.NumSplits;
 import org.apache.iceberg.types.Types;
@@ -172,6 +174,11 @@ abstract class SparkScan implements Scan, SupportsReportStatistics {
 
   @Override
   public CustomMetric[] supportedCustomMetrics() {
-    return new CustomMetric[] {new NumSplits(), new NumDeletes()};
+    return new CustomMetric[] {
+      new NumSplits(),
+      new NumDeletes(),
+      new EqualityDeleteSpills(),
+      new EqualityDeleteSpillBytes()
+    };
   }
 }
@@ -68,6 +68,12 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.spark.CommitMetadata;
 import org.apache.iceberg.spark.FileRewriteCoordinator;
 import org.apache.iceberg.spark.SparkWriteConf;
+import org.apache.iceberg.spark.source.metrics.EvictedFanoutWriters;
+import org.apache.iceberg.spark.source.metrics.PeakFanoutBufferedBytes;
+import org.apache.iceberg.spark.source.metrics.PeakOpenFanoutWriters;
+import org.apache.iceberg.spark.source.metrics.TaskEvictedFanoutWriters;
+import org.apache.iceberg.spark.source.metrics.TaskPeakFanoutBufferedBytes;
+import org.apache.iceberg.spark.source.metrics.TaskPeakOpenFanoutWriters;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -80,6 +86,8 @@ import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.connector.distributions.Distribution;
 import org.apache.spark.sql.connector.expressions.SortOrder;
+import org.apache.spark.sql.connector.metric.CustomMetric;
+import org.apache.spark.sql.connector.metric.CustomTaskMetric;
 import org.apache.spark.sql.connector.write.BatchWrite;
 import org.apache.spark.sql.connector.write.DataWriter;
 import org.apache.spark.sql.connector.write.DataWriterFactory;
@@ -110,6 +118,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
   private final StructType dsSchema;
   private final Map<String, String> extraSnapshotMetadata;
   private final boolean partitionedFanoutEnabled;
+  private final long fanoutMaxBufferedBytes;
   private final Distribution requiredDistribution;
   private final SortOrder[] requiredOrdering;
 
@@ -138,6 +147,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     this.dsSchema = dsSchema;
     this.extraSnapshotMetadata = writeConf.extraSnapshotMetadata();
     this.partitionedFanoutEnabled = writeConf.fanoutWriterEnabled();
+    this.fanoutMaxBufferedBytes = writeConf.fanoutWriterMaxBufferedBytes();
     this.requiredDistribution = requiredDistribution;
     this.requiredOrdering = requiredOrdering;
   }
@@ -152,6 +162,13 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     return requiredOrdering;
   }
 
+  @Override
+  public CustomMetric[] supportedCustomMetrics() {
+    return new CustomMetric[] {
+      new PeakOpenFanoutWriters(), new PeakFanoutBufferedBytes(), new EvictedFanoutWriters()
+    };
+  }
+
   BatchWrite asBatchAppend() {
     return new BatchAppend();
   }
@@ -192,7 +209,8 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         targetFileSize,
         writeSchema,
         dsSchema,
-        partitionedFanoutEnabled);
+        partitionedFanoutEnabled,
+        fanoutMaxBufferedBytes);
   }
 
   private void commitOperation(SnapshotUpdate<?> operation, String description) {
@@ -639,6 +657,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     private final Schema writeSchema;
     private final StructType dsSchema;
     private final boolean partitionedFanoutEnabled;
+    private final long fanoutMaxBufferedBytes;
     private final String queryId;
 
     protected WriterFactory(
@@ -648,13 +667,15 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         long targetFileSize,
         Schema writeSchema,
         StructType dsSchema,
-        boolean partitionedFanoutEnabled) {
+        boolean partitionedFanoutEnabled,
+        long fanoutMaxBufferedBytes) {
       this.tableBroadcast = tableBroadcast;
       this.format = format;
       this.targetFileSize = targetFileSize;
       this.writeSchema = writeSchema;
       this.dsSchema = dsSchema;
       this.partitionedFanoutEnabled = partitionedFanoutEnabled;
+      this.fanoutMaxBufferedBytes = fanoutMaxBufferedBytes;
       this.queryId = queryId;
     }
 
@@ -693,7 +714,8 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
             writeSchema,
             dsSchema,
             targetFileSize,
-            partitionedFanoutEnabled);
+            partitionedFanoutEnabled,
+            fanoutMaxBufferedBytes);
       }
     }
   }
@@ -752,6 +774,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
 
   private static class PartitionedDataWriter implements DataWriter<InternalRow> {
     private final PartitioningWriter<InternalRow, DataWriteResult> delegate;
+    private final FanoutDataWriter<InternalRow> fanoutWriter;
     private final FileIO io;
     private final PartitionSpec spec;
     private final PartitionKey partitionKey;
@@ -765,10 +788,15 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         Schema dataSchema,
         StructType dataSparkType,
         long targetFileSize,
-        boolean fanoutEnabled) {
+        boolean fanoutEnabled,
+        long fanoutMaxBufferedBytes) {
       if (fanoutEnabled) {
-        this.delegate = new FanoutDataWriter<>(writerFactory, fileFactory, io, targetFileSize);
+        this.fanoutWriter =
+            new FanoutDataWriter<>(
+                writerFactory, fileFactory, io, targetFileSize, fanoutMaxBufferedBytes);
+        this.delegate = fanoutWriter;
       } else {
+        this.fanoutWriter = null;
         this.delegate = new ClusteredDataWriter<>(writerFactory, fileFactory, io, targetFileSize);
       }
       this.io = io;
@@ -783,6 +811,19 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
       delegate.write(row, spec, partitionKey);
     }
 
+    @Override
+    public CustomTaskMetric[] currentMetricsValues() {
+      if (fanoutWriter == null) {
+        return new CustomTaskMetric[0];
+      }
+
+      return new CustomTaskMetric[] {
+        new TaskPeakOpenFanoutWriters(fanoutWriter.peakOpenWriters()),
+        new TaskPeakFanoutBufferedBytes(fanoutWriter.peakBufferedBytes()),
+        new TaskEvictedFanoutWriters(fanoutWriter.evictedWriters())
+      };
+    }
+
     @Override
     public WriterCommitMessage commit() throws IOException {
       close();
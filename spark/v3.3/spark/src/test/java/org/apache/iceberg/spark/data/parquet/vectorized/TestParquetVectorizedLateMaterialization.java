@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.data.parquet.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.spark.data.TestHelpers;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetVectorizedLateMaterialization {
+  private static final int NUM_ROWS = 20_000;
+  private static final int BATCH_SIZE = 1_000;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "value", Types.DoubleType.get()),
+          optional(
+              4,
+              "location",
+              Types.StructType.of(required(5, "lat", Types.FloatType.get()))));
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private final List<GenericData.Record> records = Lists.newArrayList();
+  private File testFile = null;
+
+  @Before
+  public void writeTestFile() throws IOException {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA.asStruct(), "test");
+    org.apache.avro.Schema locationSchema =
+        avroSchema.getField("location").schema().getTypes().get(1);
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", (long) i);
+      record.put("data", i % 11 == 0 ? null : "data-" + i);
+      record.put("value", i % 13 == 0 ? null : i * 1.5);
+      GenericData.Record location = new GenericData.Record(locationSchema);
+      location.put("lat", (float) (i % 90));
+      record.put("location", location);
+      records.add(record);
+    }
+
+    this.testFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", testFile.delete());
+    try (FileAppender<GenericData.Record> writer =
+        Parquet.write(Files.localOutput(testFile))
+            .schema(SCHEMA)
+            .named("test")
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "300")
+            .build()) {
+      writer.addAll(records);
+    }
+  }
+
+  @Test
+  public void testSelectiveRangeFilter() throws IOException {
+    Expression filter =
+        Expressions.and(
+            Expressions.greaterThanOrEqual("id", 4_250L), Expressions.lessThan("id", 4_310L));
+    assertFilteredRows(filter, record -> id(record) >= 4_250L && id(record) < 4_310L, false);
+    assertFilteredRows(filter, record -> id(record) >= 4_250L && id(record) < 4_310L, true);
+  }
+
+  @Test
+  public void testFilterOnOptionalColumns() throws IOException {
+    Expression filter =
+        Expressions.or(
+            Expressions.startsWith("data", "data-123"), Expressions.lessThan("value", 30.0));
+    Predicate<GenericData.Record> matches =
+        record -> {
+          Object data = record.get("data");
+          Double value = (Double) record.get("value");
+          return (data != null && data.toString().startsWith("data-123"))
+              || (value != null && value < 30.0);
+        };
+
+    assertFilteredRows(filter, matches, false);
+    assertFilteredRows(filter, matches, true);
+  }
+
+  @Test
+  public void testFilterWithoutMatches() throws IOException {
+    Expression filter = Expressions.equal("data", "no-such-value");
+    Assert.assertEquals("Should read no rows", 0, countRows(filter, false));
+    Assert.assertEquals("Should read no rows", 0, countRows(filter, true));
+  }
+
+  @Test
+  public void testSkippedColumnsKeepTheirTypes() throws IOException {
+    // only one batch has a matching row, the other batches skip the columns that are not filtered
+    Expression filter = Expressions.equal("id", 4_250L);
+    int numBatches = 0;
+    try (CloseableIterable<ColumnarBatch> batches = read(filter, false)) {
+      for (ColumnarBatch batch : batches) {
+        for (int i = 0; i < SCHEMA.columns().size(); i += 1) {
+          Assert.assertEquals(
+              "Column type should match the schema",
+              SparkSchemaUtil.convert(SCHEMA.columns().get(i).type()),
+              batch.column(i).dataType());
+        }
+
+        numBatches += 1;
+      }
+    }
+
+    Assert.assertEquals("Should read all batches", NUM_ROWS / BATCH_SIZE, numBatches);
+  }
+
+  @Test
+  public void testFilterMatchingAllRows() throws IOException {
+    Expression filter = Expressions.greaterThanOrEqual("id", 0L);
+    assertFilteredRows(filter, record -> true, false);
+  }
+
+  @Test
+  public void testNestedFieldFilterIsIgnored() throws IOException {
+    // filters on nested fields are not evaluated by the reader and all rows are returned
+    Expression filter = Expressions.lessThan("location.lat", 1.0F);
+    Assert.assertEquals("Should read all rows", NUM_ROWS, countRows(filter, false));
+  }
+
+  private void assertFilteredRows(
+      Expression filter, Predicate<GenericData.Record> matches, boolean pushDown)
+      throws IOException {
+    List<GenericData.Record> expected = Lists.newArrayList();
+    for (GenericData.Record record : records) {
+      if (matches.test(record)) {
+        expected.add(record);
+      }
+    }
+
+    int numRows = 0;
+    Iterator<GenericData.Record> expectedIter = expected.iterator();
+    try (CloseableIterable<ColumnarBatch> batches = read(filter, pushDown)) {
+      for (ColumnarBatch batch : batches) {
+        TestHelpers.assertEqualsBatch(SCHEMA.asStruct(), expectedIter, batch, false);
+        numRows += batch.numRows();
+      }
+    }
+
+    Assert.assertEquals("Should read only matching rows", expected.size(), numRows);
+  }
+
+  private int countRows(Expression filter, boolean pushDown) throws IOException {
+    int numRows = 0;
+    try (CloseableIterable<ColumnarBatch> batches = read(filter, pushDown)) {
+      for (ColumnarBatch batch : batches) {
+        numRows += batch.numRows();
+      }
+    }
+
+    return numRows;
+  }
+
+  private CloseableIterable<ColumnarBatch> read(Expression filter, boolean pushDown) {
+    Parquet.ReadBuilder builder =
+        Parquet.read(Files.localInput(testFile))
+            .project(SCHEMA)
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    VectorizedSparkParquetReaders.buildReader(
+                        SCHEMA, fileSchema, ImmutableMap.of(), null, filter, true))
+            .recordsPerBatch(BATCH_SIZE)
+            .reuseContainers();
+    if (pushDown) {
+      // row groups and pages that cannot match are also skipped using stats and page indexes
+      builder.filter(filter);
+    }
+
+    return builder.build();
+  }
+
+  private static long id(GenericData.Record record) {
+    return (Long) record.get("id");
+  }
+}
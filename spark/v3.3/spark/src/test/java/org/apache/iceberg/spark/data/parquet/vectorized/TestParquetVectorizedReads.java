@@ -42,9 +42,6 @@ import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.parquet.column.ParquetProperties;
-import org.apache.parquet.schema.GroupType;
-import org.apache.parquet.schema.MessageType;
-import org.apache.parquet.schema.Type;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 import org.junit.Assert;
 import org.junit.Assume;
@@ -182,21 +179,6 @@ public class TestParquetVectorizedReads extends AvroDataTest {
     }
   }
 
-  @Override
-  @Test
-  @Ignore
-  public void testArray() {}
-
-  @Override
-  @Test
-  @Ignore
-  public void testArrayOfStructs() {}
-
-  @Override
-  @Test
-  @Ignore
-  public void testMap() {}
-
   @Override
   @Test
   @Ignore
@@ -207,32 +189,6 @@ public class TestParquetVectorizedReads extends AvroDataTest {
   @Ignore
   public void testComplexMapKey() {}
 
-  @Override
-  @Test
-  @Ignore
-  public void testMapOfStructs() {}
-
-  @Override
-  @Test
-  @Ignore
-  public void testMixedTypes() {}
-
-  @Test
-  @Override
-  public void testNestedStruct() {
-    AssertHelpers.assertThrows(
-        "Vectorized reads are not supported yet for struct fields",
-        UnsupportedOperationException.class,
-        "Vectorized reads are not supported yet for struct fields",
-        () ->
-            VectorizedSparkParquetReaders.buildReader(
-                TypeUtil.assignIncreasingFreshIds(
-                    new Schema(required(1, "struct", SUPPORTED_PRIMITIVES))),
-                new MessageType(
-                    "struct", new GroupType(Type.Repetition.OPTIONAL, "struct").withId(1)),
-                false));
-  }
-
   @Test
   public void testMostlyNullsForOptionalFields() throws IOException {
     writeAndValidate(
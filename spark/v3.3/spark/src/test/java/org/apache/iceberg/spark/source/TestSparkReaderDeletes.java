@@ -109,6 +109,7 @@ public class TestSparkReaderDeletes extends DeleteReadTests {
       new Object[] {"parquet", false},
       new Object[] {"parquet", true},
       new Object[] {"orc", false},
+      new Object[] {"orc", true},
       new Object[] {"avro", false}
     };
   }